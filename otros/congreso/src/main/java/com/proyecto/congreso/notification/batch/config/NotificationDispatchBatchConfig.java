@@ -0,0 +1,160 @@
+package com.proyecto.congreso.notification.batch.config;
+
+import com.proyecto.congreso.notification.batch.partition.NotificationChannelPartitioner;
+import com.proyecto.congreso.notification.batch.service.DueNotificationCursorReader;
+import com.proyecto.congreso.notification.batch.service.NotificationDispatchWriter;
+import com.proyecto.congreso.notification.channel.NotificationChannelRouter;
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.notification.service.NotificationClaims;
+import com.proyecto.congreso.notification.service.NotificationRetryPolicy;
+import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Job: dispatchNotificationsJob - envía las notificaciones PENDING y los reintentos vencidos.
+ *
+ * Step 1: releaseStaleNotificationClaimsStep - devuelve a RETRY las que quedaron SENDING con
+ * un reclamo vencido (NotificationClaims.releaseStale), así este mismo job las reenvía.
+ *
+ * Step 2: dispatchNotificationsPartitionedStep - una partición por canal, todas en paralelo.
+ * Cada worker (dispatchNotificationsWorkerStep) lee su canal con un cursor de MongoDB y por
+ * chunk reclama, envía y escribe los estados en bloque (NotificationDispatchWriter).
+ *
+ * Restart: el reader no guarda posición (lo enviado ya no cumple el filtro). Lo reclamado por
+ * una ejecución caída queda SENDING hasta que vence el reclamo y lo libera el step 1.
+ *
+ * JobParameters: chunkSize (opcional) y time, que fija el corte de nextAttemptAt.
+ */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDispatchBatchConfig {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MongoTemplate mongoTemplate;
+    private final NotificationChannelRouter channelRouter;
+    private final NotificationRetryPolicy retryPolicy;
+    private final NotificationClaims notificationClaims;
+    private final MeterRegistry meterRegistry;
+    private final StepMetricsListener stepMetricsListener;
+
+    @Autowired(required = false)
+    private BatchJobExecutionMongoListener batchJobExecutionMongoListener;
+
+    @Bean
+    public Job dispatchNotificationsJob() {
+        JobBuilder jobBuilder = new JobBuilder("dispatchNotificationsJob", jobRepository);
+
+        if (batchJobExecutionMongoListener != null) {
+            jobBuilder.listener(batchJobExecutionMongoListener);
+        }
+
+        return jobBuilder
+                .start(releaseStaleNotificationClaimsStep())
+                .next(dispatchNotificationsPartitionedStep())
+                .build();
+    }
+
+    @Bean
+    public Step releaseStaleNotificationClaimsStep() {
+        return new StepBuilder("releaseStaleNotificationClaimsStep", jobRepository)
+                .tasklet(releaseStaleNotificationClaimsTasklet(), transactionManager)
+                .listener((StepExecutionListener) stepMetricsListener)
+                .build();
+    }
+
+    @Bean
+    public Step dispatchNotificationsPartitionedStep() {
+        return new StepBuilder("dispatchNotificationsPartitionedStep", jobRepository)
+                .partitioner("dispatchNotificationsWorkerStep", new NotificationChannelPartitioner())
+                .step(dispatchNotificationsWorkerStep())
+                .gridSize(Notification.NotificationChannel.values().length)
+                .taskExecutor(notificationPartitionExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step dispatchNotificationsWorkerStep() {
+        return new StepBuilder("dispatchNotificationsWorkerStep", jobRepository)
+                .<Notification, Notification>chunk(notificationChunkPolicy(null), transactionManager)
+                .reader(dueNotificationsReader(null, null))
+                .writer(notificationDispatchWriter())
+                .listener((StepExecutionListener) stepMetricsListener)
+                .build();
+    }
+
+    // Un hilo por canal
+    @Bean
+    public ThreadPoolTaskExecutor notificationPartitionExecutor() {
+        int channels = Notification.NotificationChannel.values().length;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(channels);
+        executor.setMaxPoolSize(channels);
+        executor.setThreadNamePrefix("notification-partition-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    @StepScope
+    public SimpleCompletionPolicy notificationChunkPolicy(
+            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new SimpleCompletionPolicy(chunkSize != null ? chunkSize.intValue() : DEFAULT_CHUNK_SIZE);
+    }
+
+    // El corte sale del JobParameter "time": un restart ve los mismos reintentos vencidos
+    @Bean
+    @StepScope
+    public DueNotificationCursorReader dueNotificationsReader(
+            @Value("#{stepExecutionContext['channel']}") String channel,
+            @Value("#{jobParameters['time']}") Long time) {
+        LocalDateTime asOf = time != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault())
+                : LocalDateTime.now();
+        return new DueNotificationCursorReader(mongoTemplate, Notification.NotificationChannel.valueOf(channel),
+                asOf, retryPolicy.maxAttempts());
+    }
+
+    @Bean
+    public Tasklet releaseStaleNotificationClaimsTasklet() {
+        return (contribution, chunkContext) -> {
+            contribution.incrementWriteCount(notificationClaims.releaseStale());
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public NotificationDispatchWriter notificationDispatchWriter() {
+        return new NotificationDispatchWriter(mongoTemplate, channelRouter, retryPolicy, notificationClaims,
+                meterRegistry);
+    }
+}
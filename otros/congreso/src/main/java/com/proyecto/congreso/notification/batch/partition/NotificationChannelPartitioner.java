@@ -0,0 +1,32 @@
+package com.proyecto.congreso.notification.batch.partition;
+
+import com.proyecto.congreso.notification.model.Notification;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Una partición por canal (EMAIL, SMS, PUSH, IN_APP), sin importar gridSize.
+ *
+ * Cada canal tiene su propio proveedor, rate limit y circuit breaker en
+ * NotificationChannelRouter: un proveedor lento o caído solo frena a su partición.
+ */
+public class NotificationChannelPartitioner implements Partitioner {
+
+    public static final String CHANNEL = "channel";
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Notification.NotificationChannel[] channels = Notification.NotificationChannel.values();
+        Map<String, ExecutionContext> result = new HashMap<>(channels.length);
+
+        for (Notification.NotificationChannel channel : channels) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(CHANNEL, channel.name());
+            result.put("channel-" + channel.name(), context);
+        }
+        return result;
+    }
+}
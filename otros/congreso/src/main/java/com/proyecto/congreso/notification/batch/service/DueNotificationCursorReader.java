@@ -0,0 +1,50 @@
+package com.proyecto.congreso.notification.batch.service;
+
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.notification.service.NotificationClaims;
+import org.springframework.batch.item.data.MongoCursorItemReader;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Cursor de MongoDB sobre las notificaciones por enviar de un canal:
+ * PENDING, o RETRY / FAILED con el backoff vencido (nextAttemptAt <= asOf) y sin agotar
+ * maxAttempts. Las de canal null se envían por EMAIL (igual que NotificationChannelRouter).
+ *
+ * No guarda estado: lo que se envía o reclama deja de cumplir el filtro, así que un restart
+ * vuelve a abrir el cursor y solo encuentra lo que falta.
+ */
+public class DueNotificationCursorReader extends MongoCursorItemReader<Notification> {
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    public DueNotificationCursorReader(MongoTemplate mongoTemplate,
+                                       Notification.NotificationChannel channel,
+                                       LocalDateTime asOf,
+                                       int maxAttempts) {
+        setName("dueNotificationsReader");
+        setTemplate(mongoTemplate);
+        setTargetType(Notification.class);
+        setQuery(query(channel, asOf, maxAttempts).cursorBatchSize(CURSOR_BATCH_SIZE));
+        setSaveState(false);
+    }
+
+    public static Query query(Notification.NotificationChannel channel, LocalDateTime asOf, int maxAttempts) {
+        Criteria byChannel = channel == Notification.NotificationChannel.EMAIL
+                ? where("channel").in(channel, null)
+                : where("channel").is(channel);
+
+        return new Query(byChannel
+                .and("status").in(NotificationClaims.DISPATCHABLE)
+                .orOperator(
+                        where("status").is(Notification.NotificationStatus.PENDING),
+                        where("attemptCount").not().gte(maxAttempts).orOperator(
+                                where("nextAttemptAt").is(null),
+                                where("nextAttemptAt").lte(asOf))));
+    }
+}
@@ -0,0 +1,96 @@
+package com.proyecto.congreso.notification.batch.service;
+
+import com.proyecto.congreso.notification.channel.ChannelSendResult;
+import com.proyecto.congreso.notification.channel.NotificationChannelRouter;
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.notification.service.NotificationClaims;
+import com.proyecto.congreso.notification.service.NotificationRetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Writer de dispatchNotificationsJob. Por chunk:
+ *
+ * 1. Reclama las notificaciones con NotificationClaims (status SENDING y un dispatchClaim
+ *    propio del chunk), igual que el motor en memoria y los endpoints de envío. Solo se
+ *    reclaman las que siguen PENDING / RETRY / FAILED.
+ * 2. Envía las reclamadas en paralelo por NotificationChannelRouter y aplica NotificationRetryPolicy.
+ * 3. Escribe los resultados en un bulkWrite (updateOne por _id + dispatchClaim).
+ *
+ * Si el proceso se cae entre 1 y 3 las notificaciones quedan SENDING: el reader ya no las
+ * lee y el restart no las reenvía enseguida. Cuando vence el reclamo las devuelve a RETRY
+ * el primer step del job (NotificationClaims.releaseStale) o el arranque del dispatcher.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationDispatchWriter implements ItemWriter<Notification> {
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationChannelRouter channelRouter;
+    private final NotificationRetryPolicy retryPolicy;
+    private final NotificationClaims notificationClaims;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void write(Chunk<? extends Notification> chunk) {
+        List<Notification> claimed = notificationClaims.claimAll(new ArrayList<>(chunk.getItems()));
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<ChannelSendResult> results = channelRouter.sendAll(claimed);
+
+        int sent = 0;
+        int failed = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class);
+        for (int i = 0; i < claimed.size(); i++) {
+            Notification notification = claimed.get(i);
+            apply(notification, results.get(i));
+            if (notification.getStatus() == Notification.NotificationStatus.SENT) {
+                sent++;
+            } else if (notification.getStatus() == Notification.NotificationStatus.FAILED) {
+                failed++;
+            }
+            bulk.updateOne(new Query(where("_id").is(notification.getId())
+                            .and("dispatchClaim").is(notification.getDispatchClaim())),
+                    notificationClaims.completed(notification));
+        }
+        bulk.execute();
+
+        String channel = channelOf(claimed.get(0)).name();
+        int deferred = claimed.size() - sent - failed;
+        meterRegistry.counter("notifications.dispatch.sent", "channel", channel).increment(sent);
+        meterRegistry.counter("notifications.dispatch.failed", "channel", channel).increment(failed);
+        meterRegistry.counter("notifications.dispatch.deferred", "channel", channel).increment(deferred);
+        log.info("📨 Chunk {}: {} enviadas, {} fallidas, {} reprogramadas ({} leídas)",
+                channel, sent, failed, deferred, chunk.size());
+    }
+
+    private void apply(Notification notification, ChannelSendResult result) {
+        switch (result.outcome()) {
+            case SENT -> retryPolicy.markSent(notification);
+            case FAILED -> {
+                retryPolicy.markFailed(notification, result.errorMessage());
+                log.warn("Failed to send notification: {} (intento {}): {}",
+                        notification.getId(), notification.getAttemptCount(), result.errorMessage());
+            }
+            case THROTTLED, CIRCUIT_OPEN ->
+                    retryPolicy.markDeferred(notification, result.retryAt(), result.errorMessage());
+        }
+    }
+
+    private Notification.NotificationChannel channelOf(Notification notification) {
+        return notification.getChannel() != null ? notification.getChannel() : Notification.NotificationChannel.EMAIL;
+    }
+}
@@ -0,0 +1,83 @@
+package com.proyecto.congreso.notification.channel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker de un canal.
+ *
+ * CLOSED: pasan todos los envíos; `failureThreshold` fallas seguidas lo abren.
+ * OPEN: se rechaza sin llamar al proveedor hasta que pasa `openDuration`.
+ * HALF_OPEN: se deja pasar un solo envío de prueba; si funciona vuelve a CLOSED,
+ * si falla vuelve a OPEN.
+ */
+public class ChannelCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    public ChannelCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * Devuelve un permiso que no se usó (p. ej. el envío quedó frenado por el rate limit).
+     */
+    public synchronized void releasePermission() {
+        trialInFlight = false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Momento a partir del cual vuelve a dejar pasar un envío de prueba.
+     */
+    public synchronized Instant retryAt() {
+        return state == State.OPEN ? openedAt.plus(openDuration) : clock.instant();
+    }
+}
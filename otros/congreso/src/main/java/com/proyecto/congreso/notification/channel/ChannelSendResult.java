@@ -0,0 +1,26 @@
+package com.proyecto.congreso.notification.channel;
+
+import java.time.Instant;
+
+/**
+ * Resultado de un envío a través de NotificationChannelRouter.
+ *
+ * THROTTLED y CIRCUIT_OPEN no llegaron al proveedor: no cuentan como intento y traen
+ * el momento sugerido para volver a probar (retryAt).
+ */
+public record ChannelSendResult(Outcome outcome, Instant retryAt, String errorMessage) {
+
+    public enum Outcome { SENT, FAILED, THROTTLED, CIRCUIT_OPEN }
+
+    public static ChannelSendResult sent() {
+        return new ChannelSendResult(Outcome.SENT, null, null);
+    }
+
+    public static ChannelSendResult failed(String errorMessage) {
+        return new ChannelSendResult(Outcome.FAILED, null, errorMessage);
+    }
+
+    public static ChannelSendResult deferred(Outcome outcome, Instant retryAt, String reason) {
+        return new ChannelSendResult(outcome, retryAt, reason);
+    }
+}
@@ -0,0 +1,104 @@
+package com.proyecto.congreso.notification.channel;
+
+import com.proyecto.congreso.notification.model.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Proveedor local simulado para todos los canales.
+ *
+ * Permite inyectar latencia y una tasa de fallas por canal (por configuración o en caliente
+ * con setLatencyMs / setFailureRate) para probar rate limit, circuit breaker y backoff
+ * sin un proveedor real. Tiene la menor precedencia: cualquier proveedor real lo reemplaza.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class FakeNotificationProvider implements NotificationChannelSender {
+
+    private final Map<Notification.NotificationChannel, Long> latencyMs =
+            new EnumMap<>(Notification.NotificationChannel.class);
+    private final Map<Notification.NotificationChannel, Double> failureRate =
+            new EnumMap<>(Notification.NotificationChannel.class);
+
+    public FakeNotificationProvider(@Value("${congreso.notifications.simulated-latency-ms:100}") long latencyMs,
+                                    @Value("${congreso.notifications.simulated-failure-rate:0}") double failureRate) {
+        for (Notification.NotificationChannel channel : Notification.NotificationChannel.values()) {
+            this.latencyMs.put(channel, Math.max(0, latencyMs));
+            this.failureRate.put(channel, failureRate);
+        }
+    }
+
+    @Override
+    public boolean supports(Notification.NotificationChannel channel) {
+        return true;
+    }
+
+    public synchronized void setLatencyMs(Notification.NotificationChannel channel, long latencyMs) {
+        this.latencyMs.put(channel, Math.max(0, latencyMs));
+    }
+
+    public synchronized void setFailureRate(Notification.NotificationChannel channel, double failureRate) {
+        this.failureRate.put(channel, Math.min(1.0, Math.max(0.0, failureRate)));
+    }
+
+    @Override
+    public boolean send(Notification notification) {
+        Notification.NotificationChannel channel = notification.getChannel();
+        long latency;
+        double failure;
+        synchronized (this) {
+            latency = latencyMs.get(channel);
+            failure = failureRate.get(channel);
+        }
+
+        // Simulate sending delay
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        if (failure > 0 && ThreadLocalRandom.current().nextDouble() < failure) {
+            throw new IllegalStateException("Simulated " + channel + " provider failure");
+        }
+
+        // Simulate sending based on channel with polimorfismo
+        return switch (channel) {
+            case EMAIL -> simulateEmailSend(notification);
+            case SMS -> simulateSmsSend(notification);
+            case PUSH -> simulatePushSend(notification);
+            case IN_APP -> simulateInAppSend(notification);
+        };
+    }
+
+    private boolean simulateEmailSend(Notification notification) {
+        log.info("📧 EMAIL sent to {}: {}", notification.getParticipantEmail(), notification.getSubject());
+        return true;
+    }
+
+    private boolean simulateSmsSend(Notification notification) {
+        log.info("📱 SMS sent: {}", notification.getMessage());
+        return true;
+    }
+
+    private boolean simulatePushSend(Notification notification) {
+        log.info("🔔 PUSH notification sent: {}", notification.getSubject());
+        return true;
+    }
+
+    private boolean simulateInAppSend(Notification notification) {
+        log.info("💬 IN-APP notification created: {}", notification.getMessage());
+        return true;
+    }
+}
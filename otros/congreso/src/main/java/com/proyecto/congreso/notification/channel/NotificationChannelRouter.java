@@ -0,0 +1,208 @@
+package com.proyecto.congreso.notification.channel;
+
+import com.proyecto.congreso.notification.model.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envía cada notificación por el proveedor de su canal, pasando antes por el circuit breaker
+ * y el token bucket del canal.
+ *
+ * Configuración por canal (email, sms, push, in_app):
+ *   congreso.notifications.channels.<canal>.rate-per-second
+ *   congreso.notifications.channels.<canal>.burst
+ *   congreso.notifications.channels.<canal>.failure-threshold
+ *   congreso.notifications.channels.<canal>.open-duration-ms
+ *   congreso.notifications.channels.<canal>.max-in-flight
+ * y congreso.notifications.channels.acquire-timeout-ms para la espera máxima de un token.
+ *
+ * sendAll envía un lote en paralelo con como máximo max-in-flight envíos abiertos por canal
+ * (un pool propio por canal). El techo de un canal es
+ *   min(rate-per-second, max-in-flight * 1000 / latencia del proveedor en ms)
+ * por segundo, sin importar cuántos workers lo alimenten: con la latencia simulada de 100 ms
+ * y max-in-flight 32 son 320/s. Drenar 50.000 en 10 s (5.000/s) pide max-in-flight >= 500 y
+ * un rate-per-second a la par; con los rate limits por defecto manda el rate limit.
+ */
+@Slf4j
+@Component
+public class NotificationChannelRouter {
+
+    private static final String PREFIX = "congreso.notifications.channels.";
+
+    private final Map<Notification.NotificationChannel, ChannelState> channels =
+            new EnumMap<>(Notification.NotificationChannel.class);
+    private final MeterRegistry meterRegistry;
+    private final long acquireTimeoutMs;
+
+    @Autowired
+    public NotificationChannelRouter(List<NotificationChannelSender> senders,
+                                     MeterRegistry meterRegistry,
+                                     Environment environment) {
+        this(senders, meterRegistry, environment, Clock.systemUTC());
+    }
+
+    NotificationChannelRouter(List<NotificationChannelSender> senders,
+                              MeterRegistry meterRegistry,
+                              Environment environment,
+                              Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.acquireTimeoutMs = environment.getProperty(PREFIX + "acquire-timeout-ms", Long.class, 200L);
+
+        for (Notification.NotificationChannel channel : Notification.NotificationChannel.values()) {
+            String key = PREFIX + channel.name().toLowerCase(Locale.ROOT) + ".";
+
+            // La lista llega ordenada por @Order: gana el proveedor de mayor precedencia
+            NotificationChannelSender sender = senders.stream()
+                    .filter(s -> s.supports(channel))
+                    .findFirst()
+                    .orElse(null);
+
+            TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+                    environment.getProperty(key + "rate-per-second", Double.class, 50.0),
+                    environment.getProperty(key + "burst", Integer.class, 100));
+
+            ChannelCircuitBreaker breaker = new ChannelCircuitBreaker(
+                    environment.getProperty(key + "failure-threshold", Integer.class, 5),
+                    Duration.ofMillis(environment.getProperty(key + "open-duration-ms", Long.class, 30_000L)),
+                    clock);
+
+            int maxInFlight = Math.max(1, environment.getProperty(key + "max-in-flight", Integer.class,
+                    environment.getProperty(PREFIX + "max-in-flight", Integer.class, 32)));
+            ThreadPoolExecutor sendPool = new ThreadPoolExecutor(maxInFlight, maxInFlight,
+                    30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new CustomizableThreadFactory("notification-send-" + channel.name().toLowerCase(Locale.ROOT) + "-"));
+            sendPool.allowCoreThreadTimeOut(true);
+
+            channels.put(channel, new ChannelState(sender, limiter, breaker, sendPool));
+
+            Tags tags = Tags.of("channel", channel.name());
+            meterRegistry.gauge("notifications.channel.tokens", tags, limiter, TokenBucketRateLimiter::availableTokens);
+            meterRegistry.gauge("notifications.channel.circuit.state", tags, breaker, b -> b.getState().ordinal());
+
+            log.info("📡 Canal {}: proveedor {}, {} envíos en paralelo", channel,
+                    sender != null ? sender.getClass().getSimpleName() : "ninguno", maxInFlight);
+        }
+    }
+
+    /**
+     * Envía el lote en paralelo (acotado por max-in-flight de cada canal) y espera a que
+     * terminen todos. Los resultados vienen en el mismo orden que el lote.
+     */
+    public List<ChannelSendResult> sendAll(List<Notification> notifications) {
+        if (notifications.size() == 1) {
+            return List.of(send(notifications.get(0)));
+        }
+
+        List<Future<ChannelSendResult>> futures = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            futures.add(channels.get(channelOf(notification)).sendPool().submit(() -> send(notification)));
+        }
+
+        // Aunque interrumpan al worker se esperan los envíos ya lanzados: su estado hay que escribirlo
+        boolean interrupted = false;
+        List<ChannelSendResult> results = new ArrayList<>(futures.size());
+        for (Future<ChannelSendResult> future : futures) {
+            while (true) {
+                try {
+                    results.add(future.get());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    results.add(ChannelSendResult.failed(e.getCause().getMessage()));
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    public ChannelSendResult send(Notification notification) {
+        Notification.NotificationChannel channel = channelOf(notification);
+        ChannelState state = channels.get(channel);
+
+        if (state.sender() == null) {
+            return ChannelSendResult.failed("No provider configured for channel " + channel);
+        }
+
+        ChannelCircuitBreaker breaker = state.breaker();
+        if (!breaker.tryAcquirePermission()) {
+            reject(channel, "circuit_open");
+            return ChannelSendResult.deferred(ChannelSendResult.Outcome.CIRCUIT_OPEN, breaker.retryAt(),
+                    "Circuit open for channel " + channel);
+        }
+
+        if (!acquireToken(state.limiter())) {
+            breaker.releasePermission();
+            reject(channel, "rate_limited");
+            return ChannelSendResult.deferred(ChannelSendResult.Outcome.THROTTLED,
+                    breaker.retryAt().plusMillis(acquireTimeoutMs), "Rate limit reached for channel " + channel);
+        }
+
+        try {
+            if (state.sender().send(notification)) {
+                breaker.onSuccess();
+                return ChannelSendResult.sent();
+            }
+            breaker.onFailure();
+            return ChannelSendResult.failed("Failed to send notification");
+        } catch (Exception e) {
+            breaker.onFailure();
+            return ChannelSendResult.failed(e.getMessage());
+        }
+    }
+
+    public ChannelCircuitBreaker.State circuitState(Notification.NotificationChannel channel) {
+        return channels.get(channel).breaker().getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(state -> state.sendPool().shutdown());
+    }
+
+    private Notification.NotificationChannel channelOf(Notification notification) {
+        return notification.getChannel() != null ? notification.getChannel() : Notification.NotificationChannel.EMAIL;
+    }
+
+    private boolean acquireToken(TokenBucketRateLimiter limiter) {
+        try {
+            return limiter.tryAcquire(acquireTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(Notification.NotificationChannel channel, String reason) {
+        meterRegistry.counter("notifications.channel.rejected", "channel", channel.name(), "reason", reason).increment();
+    }
+
+    private record ChannelState(NotificationChannelSender sender,
+                                TokenBucketRateLimiter limiter,
+                                ChannelCircuitBreaker breaker,
+                                ThreadPoolExecutor sendPool) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.proyecto.congreso.notification.channel;
+
+import com.proyecto.congreso.notification.model.Notification;
+
+/**
+ * SPI de proveedores de envío (SMTP, SMS gateway, push, etc.).
+ *
+ * Cada bean declara qué canales atiende; si varios soportan el mismo canal se usa el de
+ * mayor precedencia (@Order). Un envío fallido puede devolver false o lanzar excepción:
+ * en ambos casos cuenta como falla para el circuit breaker y el backoff.
+ */
+public interface NotificationChannelSender {
+
+    boolean supports(Notification.NotificationChannel channel);
+
+    boolean send(Notification notification);
+}
@@ -0,0 +1,29 @@
+package com.proyecto.congreso.notification.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Respuestas de exportación NDJSON: el cuerpo se escribe en un hilo async de MVC mientras
+ * se lee el cursor, sin armar la lista completa en memoria.
+ */
+final class NdjsonResponses {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private NdjsonResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String baseName, boolean gzip, StreamingResponseBody body) {
+        String filename = baseName + (gzip ? ".ndjson.gz" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(gzip ? APPLICATION_GZIP : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
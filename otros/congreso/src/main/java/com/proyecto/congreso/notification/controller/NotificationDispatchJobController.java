@@ -0,0 +1,89 @@
+package com.proyecto.congreso.notification.controller;
+
+import com.proyecto.congreso.pases.batch.service.AsyncJobLauncher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lanza dispatchNotificationsJob en segundo plano: envía todas las PENDING y los reintentos
+ * vencidos, una partición por canal. El avance se consulta en /api/batch/executions/{id}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+@Profile("!test")
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDispatchJobController {
+
+    private final AsyncJobLauncher asyncJobLauncher;
+    private final Job dispatchNotificationsJob;
+
+    public NotificationDispatchJobController(AsyncJobLauncher asyncJobLauncher,
+                                             @Qualifier("dispatchNotificationsJob") Job dispatchNotificationsJob) {
+        this.asyncJobLauncher = asyncJobLauncher;
+        this.dispatchNotificationsJob = dispatchNotificationsJob;
+    }
+
+    @PostMapping("/dispatch-job")
+    public ResponseEntity<Map<String, Object>> runDispatchNotificationsJob(
+            @RequestParam(required = false) Integer chunkSize) {
+        if (chunkSize != null && chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize debe ser mayor que 0");
+        }
+        log.info("🚀 Manual trigger: Dispatch Notifications Job (chunkSize={})", chunkSize);
+
+        try {
+            JobParametersBuilder parametersBuilder = new JobParametersBuilder()
+                    .addString("timestamp", LocalDateTime.now().toString())
+                    .addLong("time", System.currentTimeMillis());
+            if (chunkSize != null) {
+                parametersBuilder.addLong("chunkSize", chunkSize.longValue());
+            }
+
+            JobExecution execution = asyncJobLauncher.launch(dispatchNotificationsJob, parametersBuilder.toJobParameters());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Dispatch notifications job encolado");
+            response.put("timestamp", LocalDateTime.now());
+            response.put("status", execution.getStatus().toString());
+            response.put("jobExecutionId", execution.getId());
+            response.put("jobName", dispatchNotificationsJob.getName());
+            response.put("progressUrl", "/api/batch/executions/" + execution.getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (TaskRejectedException e) {
+            log.warn("⚠️ Job rechazado: {}", e.getMessage());
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Too many batch jobs queued");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+
+        } catch (Exception e) {
+            log.error("❌ Error ejecutando Dispatch Notifications Job", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to execute dispatch notifications job");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+}
@@ -1,42 +1,55 @@
-package com.proyecto.congreso.notification.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-import java.time.LocalDateTime;
-import java.util.Map;
-
-@Document(collection = "movement_logs")
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class MovementPointsLog {
-    @Id
-    private String id;
-
-    private String movementId;
-
-    private Long participantId;
-
-    private Long passId;
-
-    private String movementType;
-
-    private Integer points;
-
-    private Integer balancePoints;
-
-    private String status;
-
-    private LocalDateTime timestamp;
-
-    private Map<String, Object> metadata;
-
-    private String description;
-
-}
+package com.proyecto.congreso.notification.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Document(collection = "movement_logs")
+// Índices según las consultas de MovementPointsLogRepository (los crea MongoIndexBootstrap al arrancar)
+@CompoundIndex(name = "pass_timestamp_idx", def = "{'passId': 1, 'timestamp': -1}")
+@CompoundIndex(name = "participant_timestamp_idx", def = "{'participantId': 1, 'timestamp': -1}")
+// Paginación por keyset (más nuevos primero) por pase y por participante
+@CompoundIndex(name = "pass_id_idx", def = "{'passId': 1, '_id': -1}")
+@CompoundIndex(name = "participant_id_idx", def = "{'participantId': 1, '_id': -1}")
+// Conteos y listados por tipo de movimiento. Sin índices propios para status ni points: con tan
+// pocos valores distintos el índice no evita leer gran parte de la colección y encarece cada insert
+@CompoundIndex(name = "movement_type_status_idx", def = "{'movementType': 1, 'status': 1}")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MovementPointsLog {
+    @Id
+    private String id;
+
+    private String movementId;
+
+    private Long participantId;
+
+    private Long passId;
+
+    private String movementType;
+
+    private Integer points;
+
+    private Integer balancePoints;
+
+    private String status;
+
+    @Indexed(name = "timestamp_idx", direction = IndexDirection.DESCENDING)
+    private LocalDateTime timestamp;
+
+    private Map<String, Object> metadata;
+
+    private String description;
+
+}
@@ -1,74 +1,98 @@
-package com.proyecto.congreso.notification.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-import java.time.LocalDateTime;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Document(collection = "notifications")
-public class Notification {
-
-    @Id
-    private String id;
-
-    private Long participantId;
-    private String participantEmail;
-    private NotificationType type;
-    private NotificationChannel channel;
-    private String subject;
-    private String message;
-    private NotificationStatus status;
-    private LocalDateTime createdAt;
-    private LocalDateTime sentAt;
-    private String errorMessage;
-
-    // Metadata fields
-    private Long passId;
-    private String movementType;
-    private Integer puntos;
-
-    public Notification(Long participantId, String participantEmail, NotificationType notificationType, NotificationChannel notificationChannel, String paseCreadoExitosamente, String format) {
-    }
-
-    public enum NotificationType {
-        PASS_CREATED,
-        PASS_CLOSED,
-        ASSISTANCE,
-        EXCHANGE,
-        CERTIFICATE_REACHED,
-        SPECIAL_ACCESS_REACHED,
-        PARTICIPANT_REGISTERED,
-        PARTICIPANT_UPDATED
-    }
-
-    public enum NotificationChannel {
-        EMAIL,
-        SMS,
-        PUSH,
-        IN_APP
-    }
-
-    public enum NotificationStatus {
-        PENDING,
-        SENT,
-        FAILED,
-        RETRY
-    }
-
-    public Notification(Long participantId, String participantEmail, NotificationType type, NotificationChannel channel, String subject, String message, NotificationStatus status, LocalDateTime createdAt) {
-        this.participantId = participantId;
-        this.participantEmail = participantEmail;
-        this.type = type;
-        this.channel = channel;
-        this.subject = subject;
-        this.message = message;
-        this.status = status;
-        this.createdAt = createdAt;
-    }
-}
+package com.proyecto.congreso.notification.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "notifications")
+// Índices según las consultas de NotificationRepository (los crea MongoIndexBootstrap al arrancar)
+// Sin índices de un solo campo de baja cardinalidad (type, channel, status): participantId + type usa
+// participant_created_idx y status / channel van como prefijo de los compuestos
+@CompoundIndex(name = "participant_created_idx", def = "{'participantId': 1, 'createdAt': -1}")
+@CompoundIndex(name = "status_created_idx", def = "{'status': 1, 'createdAt': 1}")
+@CompoundIndex(name = "status_next_attempt_idx", def = "{'status': 1, 'nextAttemptAt': 1}")
+// Paginación por keyset (más nuevas primero) por participante y por pase
+@CompoundIndex(name = "participant_id_idx", def = "{'participantId': 1, '_id': -1}")
+@CompoundIndex(name = "pass_id_idx", def = "{'passId': 1, '_id': -1}")
+// dispatchNotificationsJob: una partición por canal que lee las PENDING / RETRY / FAILED de ese canal
+@CompoundIndex(name = "channel_status_idx", def = "{'channel': 1, 'status': 1}")
+public class Notification {
+
+    @Id
+    private String id;
+
+    private Long participantId;
+    private String participantEmail;
+    private NotificationType type;
+    private NotificationChannel channel;
+    private String subject;
+    private String message;
+    private NotificationStatus status;
+    // Exportación de auditoría por rango de fechas
+    @Indexed(name = "created_at_idx")
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+    private String errorMessage;
+
+    // Metadata fields
+    private Long passId;
+    private String movementType;
+    private Integer puntos;
+
+    // Reintentos con backoff exponencial
+    private Integer attemptCount;
+    private LocalDateTime nextAttemptAt;
+
+    // Reclamo de dispatchNotificationsJob (status SENDING) mientras el envío está en curso
+    private String dispatchClaim;
+    private LocalDateTime claimedAt;
+
+    public Notification(Long participantId, String participantEmail, NotificationType notificationType, NotificationChannel notificationChannel, String paseCreadoExitosamente, String format) {
+    }
+
+    public enum NotificationType {
+        PASS_CREATED,
+        PASS_CLOSED,
+        ASSISTANCE,
+        EXCHANGE,
+        CERTIFICATE_REACHED,
+        SPECIAL_ACCESS_REACHED,
+        PARTICIPANT_REGISTERED,
+        PARTICIPANT_UPDATED
+    }
+
+    public enum NotificationChannel {
+        EMAIL,
+        SMS,
+        PUSH,
+        IN_APP
+    }
+
+    public enum NotificationStatus {
+        PENDING,
+        SENT,
+        FAILED,
+        RETRY,
+        SENDING
+    }
+
+    public Notification(Long participantId, String participantEmail, NotificationType type, NotificationChannel channel, String subject, String message, NotificationStatus status, LocalDateTime createdAt) {
+        this.participantId = participantId;
+        this.participantEmail = participantEmail;
+        this.type = type;
+        this.channel = channel;
+        this.subject = subject;
+        this.message = message;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+}
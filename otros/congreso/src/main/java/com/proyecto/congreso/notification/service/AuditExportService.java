@@ -0,0 +1,92 @@
+package com.proyecto.congreso.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.congreso.notification.model.MovementPointsLog;
+import com.proyecto.congreso.notification.model.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Exportación de auditoría en NDJSON (un documento JSON por línea), opcionalmente gzip.
+ *
+ * Lee con un cursor de MongoDB (mongoTemplate.stream) y escribe cada documento directo a la
+ * respuesta: la memoria no depende del rango de fechas y el primer byte sale con el primer
+ * documento. Si el cliente corta la conexión, el IOException cierra el cursor.
+ */
+@Slf4j
+@Service
+@Profile("!test")
+@RequiredArgsConstructor
+public class AuditExportService {
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+    private static final int FLUSH_EVERY = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void validateRange(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || start.isAfter(end)) {
+            throw new IllegalArgumentException("Rango de fechas inválido: startDate debe ser anterior a endDate");
+        }
+    }
+
+    public long exportMovementLogs(LocalDateTime start, LocalDateTime end, boolean gzip, OutputStream out)
+            throws IOException {
+        validateRange(start, end);
+        Query query = new Query(where("timestamp").gte(start).lte(end))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"));
+        return export(query, MovementPointsLog.class, gzip, out);
+    }
+
+    public long exportNotifications(LocalDateTime start, LocalDateTime end, boolean gzip, OutputStream out)
+            throws IOException {
+        validateRange(start, end);
+        Query query = new Query(where("createdAt").gte(start).lte(end))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        return export(query, Notification.class, gzip, out);
+    }
+
+    private <T> long export(Query query, Class<T> type, boolean gzip, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        // syncFlush: cada flush() empuja al cliente lo ya comprimido
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192, true) : out;
+        long count = 0;
+
+        try (Stream<T> cursor = mongoTemplate.stream(query.cursorBatchSize(CURSOR_BATCH_SIZE), type)) {
+            Iterator<T> documents = cursor.iterator();
+            while (documents.hasNext()) {
+                target.write(objectMapper.writeValueAsBytes(documents.next()));
+                target.write('\n');
+                if (++count == 1 || count % FLUSH_EVERY == 0) {
+                    target.flush();
+                }
+            }
+        }
+
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        target.flush();
+
+        log.info("📤 Exportados {} documentos de {} en {} ms{}", count,
+                mongoTemplate.getCollectionName(type),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), gzip ? " (gzip)" : "");
+        return count;
+    }
+}
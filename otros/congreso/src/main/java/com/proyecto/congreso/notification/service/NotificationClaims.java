@@ -0,0 +1,184 @@
+package com.proyecto.congreso.notification.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.proyecto.congreso.notification.model.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Reclamo de notificaciones antes de enviarlas: PENDING / RETRY / FAILED → SENDING con un
+ * dispatchClaim propio. Todo el que envía (NotificationDispatcher, los endpoints de envío y
+ * reintento, dispatchNotificationsJob) pasa por acá, así una notificación sale una sola vez.
+ *
+ * El resultado del envío se escribe filtrando por ese dispatchClaim y lo borra (completed).
+ * Las notificaciones nuevas se dan de alta ya reclamadas (claimNew): nadie más las ve hasta
+ * que llegan a MongoDB y para entonces ya están SENDING.
+ *
+ * Un reclamo cuyo resultado nunca se escribió (caída entre el envío y el flush, job
+ * interrumpido) lo devuelve a RETRY releaseStale, pasado claimTimeout desde claimedAt.
+ */
+@Slf4j
+@Component
+public class NotificationClaims {
+
+    public static final List<Notification.NotificationStatus> DISPATCHABLE = List.of(
+            Notification.NotificationStatus.PENDING,
+            Notification.NotificationStatus.RETRY,
+            Notification.NotificationStatus.FAILED);
+
+    private static final int CLAIM_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationRetryPolicy retryPolicy;
+    private final Duration claimTimeout;
+
+    public NotificationClaims(MongoTemplate mongoTemplate,
+                              NotificationRetryPolicy retryPolicy,
+                              @Value("${congreso.notifications.dispatch.claim-timeout-ms:600000}") long claimTimeoutMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.retryPolicy = retryPolicy;
+        this.claimTimeout = Duration.ofMillis(Math.max(1000, claimTimeoutMs));
+    }
+
+    /**
+     * Marca en memoria una notificación que todavía no se guardó.
+     */
+    public void claimNew(Notification notification) {
+        mark(notification, newClaim(), LocalDateTime.now());
+    }
+
+    /**
+     * Reclama una notificación guardada con un findAndModify. Vacío si ya no está por enviar.
+     */
+    public Optional<Notification> claim(String id) {
+        String claim = newClaim();
+        LocalDateTime claimedAt = LocalDateTime.now();
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                new Query(where("_id").is(id).and("status").in(DISPATCHABLE)),
+                claimUpdate(claim, claimedAt),
+                FindAndModifyOptions.options().returnNew(true),
+                Notification.class));
+    }
+
+    /**
+     * Reclama un lote con la misma condición que claim, en un updateMulti por cada
+     * CLAIM_BATCH_SIZE; solo si alguna cambió desde la lectura se consulta cuáles quedaron
+     * con el reclamo. Devuelve las reclamadas, ya marcadas.
+     */
+    public List<Notification> claimAll(List<Notification> candidates) {
+        List<Notification> claimed = new ArrayList<>(candidates.size());
+        for (int from = 0; from < candidates.size(); from += CLAIM_BATCH_SIZE) {
+            claimed.addAll(claimBatch(candidates.subList(from, Math.min(candidates.size(), from + CLAIM_BATCH_SIZE))));
+        }
+        return claimed;
+    }
+
+    /**
+     * Cambios del resultado del envío (NotificationRetryPolicy) más el fin del reclamo.
+     * Se aplican con la precondición dispatchClaim = el reclamo del envío.
+     */
+    public Update completed(Notification notification) {
+        return retryPolicy.changes(notification)
+                .unset("dispatchClaim")
+                .unset("claimedAt");
+    }
+
+    /**
+     * Devuelve la notificación al estado que tenía antes del reclamo (p. ej. cola llena).
+     */
+    public Update released(Notification.NotificationStatus previousStatus) {
+        return new Update()
+                .set("status", previousStatus)
+                .unset("dispatchClaim")
+                .unset("claimedAt");
+    }
+
+    /**
+     * Devuelve a RETRY, vencidas ya, las notificaciones SENDING reclamadas hace más de
+     * claimTimeout, y borra su reclamo: un resultado tardío del envío original ya no las pisa.
+     * Puede reenviar una que sí salió pero cuyo resultado se perdió (como mucho dos envíos,
+     * ninguna perdida). claimTimeout tiene que superar la espera en cola del dispatcher.
+     * Devuelve cuántas se liberaron.
+     */
+    public long releaseStale() {
+        LocalDateTime now = LocalDateTime.now();
+
+        UpdateResult result = mongoTemplate.updateMulti(
+                new Query(where("status").is(Notification.NotificationStatus.SENDING)
+                        .and("claimedAt").lt(now.minus(claimTimeout))),
+                new Update()
+                        .set("status", Notification.NotificationStatus.RETRY)
+                        .set("nextAttemptAt", now)
+                        .unset("dispatchClaim")
+                        .unset("claimedAt"),
+                Notification.class);
+
+        if (result.getModifiedCount() > 0) {
+            log.warn("⚠️ {} notificaciones con reclamo vencido (más de {} s en SENDING) vuelven a RETRY",
+                    result.getModifiedCount(), claimTimeout.toSeconds());
+        }
+        return result.getModifiedCount();
+    }
+
+    private List<Notification> claimBatch(List<Notification> candidates) {
+        List<String> ids = candidates.stream().map(Notification::getId).toList();
+        String claim = newClaim();
+        LocalDateTime claimedAt = LocalDateTime.now();
+
+        UpdateResult result = mongoTemplate.updateMulti(
+                new Query(where("_id").in(ids).and("status").in(DISPATCHABLE)),
+                claimUpdate(claim, claimedAt),
+                Notification.class);
+
+        List<Notification> claimed;
+        if (result.getModifiedCount() == ids.size()) {
+            claimed = new ArrayList<>(candidates);
+        } else {
+            Query mine = new Query(where("_id").in(ids).and("dispatchClaim").is(claim));
+            mine.fields().include("_id");
+            Set<String> claimedIds = mongoTemplate.find(mine, Notification.class).stream()
+                    .map(Notification::getId)
+                    .collect(Collectors.toSet());
+            log.debug("{} de {} notificaciones ya no estaban por enviar", ids.size() - claimedIds.size(), ids.size());
+            claimed = candidates.stream().filter(n -> claimedIds.contains(n.getId())).collect(Collectors.toList());
+        }
+
+        claimed.forEach(notification -> mark(notification, claim, claimedAt));
+        return Collections.unmodifiableList(claimed);
+    }
+
+    private Update claimUpdate(String claim, LocalDateTime claimedAt) {
+        return new Update()
+                .set("status", Notification.NotificationStatus.SENDING)
+                .set("dispatchClaim", claim)
+                .set("claimedAt", claimedAt);
+    }
+
+    private void mark(Notification notification, String claim, LocalDateTime claimedAt) {
+        notification.setStatus(Notification.NotificationStatus.SENDING);
+        notification.setDispatchClaim(claim);
+        notification.setClaimedAt(claimedAt);
+    }
+
+    private String newClaim() {
+        return new ObjectId().toHexString();
+    }
+}
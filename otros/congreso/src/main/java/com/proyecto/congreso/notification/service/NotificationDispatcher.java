@@ -0,0 +1,236 @@
+package com.proyecto.congreso.notification.service;
+
+import com.proyecto.congreso.notification.channel.ChannelSendResult;
+import com.proyecto.congreso.notification.channel.NotificationChannelRouter;
+import com.proyecto.congreso.notification.model.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Motor de envío asíncrono de notificaciones.
+ *
+ * - Una cola acotada por canal (EMAIL, SMS, PUSH, IN_APP): un proveedor lento no frena a los demás.
+ * - N workers por canal; cada worker toma hasta batchSize notificaciones de su cola, las envía
+ *   en paralelo con NotificationChannelRouter.sendAll y deja los estados resultantes en el
+ *   NotificationWriteBuffer (un bulkWrite por flush). El paralelismo real lo fija
+ *   max-in-flight del canal, no la cantidad de workers (ver NotificationChannelRouter).
+ * - Cada envío pasa por NotificationChannelRouter (rate limit + circuit breaker del canal); las
+ *   fallas y rechazos se reprograman con NotificationRetryPolicy.
+ * - Solo recibe notificaciones reclamadas (NotificationClaims); el resultado se escribe filtrando
+ *   por el reclamo, así que ningún otro envío lo pisa.
+ * - Backpressure: submit espera como máximo offerTimeoutMs a que haya lugar en la cola. Si no lo
+ *   hay, quien llamó suelta el reclamo y la recogen sendPendingNotifications / retryFailed.
+ * - Al arrancar devuelve a RETRY los reclamos vencidos (NotificationClaims.releaseStale): lo que
+ *   estaba en cola o en envío cuando se cayó el proceso anterior.
+ *
+ * Los listeners de eventos solo encolan, nunca esperan el envío.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class NotificationDispatcher {
+
+    private final NotificationWriteBuffer writeBuffer;
+    private final NotificationChannelRouter channelRouter;
+    private final NotificationRetryPolicy retryPolicy;
+    private final NotificationClaims notificationClaims;
+    private final MeterRegistry meterRegistry;
+    private final int workersPerChannel;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+
+    private final Map<Notification.NotificationChannel, BlockingQueue<Notification>> queues =
+            new EnumMap<>(Notification.NotificationChannel.class);
+
+    // Ids encolados o en envío. El reclamo (NotificationClaims) ya evita los duplicados entre
+    // procesos; esto solo protege la cola de un submit repetido del mismo objeto
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public NotificationDispatcher(NotificationWriteBuffer writeBuffer,
+                                  NotificationChannelRouter channelRouter,
+                                  NotificationRetryPolicy retryPolicy,
+                                  NotificationClaims notificationClaims,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${congreso.notifications.dispatch.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${congreso.notifications.dispatch.workers-per-channel:4}") int workersPerChannel,
+                                  @Value("${congreso.notifications.dispatch.batch-size:100}") int batchSize,
+                                  @Value("${congreso.notifications.dispatch.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.writeBuffer = writeBuffer;
+        this.channelRouter = channelRouter;
+        this.retryPolicy = retryPolicy;
+        this.notificationClaims = notificationClaims;
+        this.meterRegistry = meterRegistry;
+        this.workersPerChannel = Math.max(1, workersPerChannel);
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutMs = Math.max(0, offerTimeoutMs);
+
+        for (Notification.NotificationChannel channel : Notification.NotificationChannel.values()) {
+            BlockingQueue<Notification> queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+            queues.put(channel, queue);
+            meterRegistry.gauge("notifications.dispatch.queue.size",
+                    Tags.of("channel", channel.name()), queue, Collection::size);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            notificationClaims.releaseStale();
+        } catch (RuntimeException e) {
+            log.error("❌ No se pudieron liberar los reclamos vencidos; los libera dispatchNotificationsJob", e);
+        }
+
+        int channels = queues.size();
+        workers = Executors.newFixedThreadPool(channels * workersPerChannel,
+                new CustomizableThreadFactory("notification-dispatch-"));
+        running = true;
+
+        queues.forEach((channel, queue) -> {
+            for (int i = 0; i < workersPerChannel; i++) {
+                workers.submit(() -> workerLoop(channel, queue));
+            }
+        });
+        log.info("📨 NotificationDispatcher iniciado: {} canales x {} workers, batch {}",
+                channels, workersPerChannel, batchSize);
+    }
+
+    /**
+     * Encola una notificación reclamada con NotificationClaims (con id y dispatchClaim).
+     * Devuelve false si la cola del canal sigue llena después de offerTimeoutMs o si ya
+     * estaba encolada; el reclamo lo suelta quien llamó.
+     */
+    public boolean submit(Notification notification) {
+        if (!running || notification.getId() == null || notification.getDispatchClaim() == null) {
+            return false;
+        }
+        if (!inFlight.add(notification.getId())) {
+            return false;
+        }
+
+        Notification.NotificationChannel channel = notification.getChannel() != null
+                ? notification.getChannel() : Notification.NotificationChannel.EMAIL;
+
+        try {
+            if (queues.get(channel).offer(notification, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        inFlight.remove(notification.getId());
+        meterRegistry.counter("notifications.dispatch.rejected", "channel", channel.name()).increment();
+        log.warn("⚠️ Cola {} llena. Notificación {} queda PENDING para reintento",
+                channel, notification.getId());
+        return false;
+    }
+
+    public int queuedCount() {
+        return queues.values().stream().mapToInt(Collection::size).sum();
+    }
+
+    private void workerLoop(Notification.NotificationChannel channel, BlockingQueue<Notification> queue) {
+        List<Notification> batch = new ArrayList<>(batchSize);
+
+        // Al apagar se termina de vaciar la cola antes de salir
+        while (running || !queue.isEmpty()) {
+            try {
+                Notification first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                dispatchBatch(channel, batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ Error en worker de notificaciones {}", channel, e);
+            } finally {
+                batch.forEach(n -> inFlight.remove(n.getId()));
+                batch.clear();
+            }
+        }
+    }
+
+    void dispatchBatch(Notification.NotificationChannel channel, List<Notification> batch) {
+        int sent = 0;
+        int failed = 0;
+
+        List<ChannelSendResult> results = channelRouter.sendAll(batch);
+
+        for (int i = 0; i < batch.size(); i++) {
+            Notification notification = batch.get(i);
+            apply(notification, results.get(i));
+            if (notification.getStatus() == Notification.NotificationStatus.SENT) {
+                sent++;
+            } else if (notification.getStatus() == Notification.NotificationStatus.FAILED) {
+                failed++;
+            }
+            // Filtrado por el reclamo, para que ningún otro envío lo pise
+            writeBuffer.update(notification.getId(),
+                    Collections.singletonMap("dispatchClaim", notification.getDispatchClaim()),
+                    notificationClaims.completed(notification));
+        }
+
+        int deferred = batch.size() - sent - failed;
+        meterRegistry.counter("notifications.dispatch.sent", "channel", channel.name()).increment(sent);
+        meterRegistry.counter("notifications.dispatch.failed", "channel", channel.name()).increment(failed);
+        meterRegistry.counter("notifications.dispatch.deferred", "channel", channel.name()).increment(deferred);
+        log.debug("Lote {} enviado: {} enviadas, {} fallidas, {} reprogramadas", channel, sent, failed, deferred);
+    }
+
+    private void apply(Notification notification, ChannelSendResult result) {
+        switch (result.outcome()) {
+            case SENT -> {
+                retryPolicy.markSent(notification);
+                log.info("Notification sent successfully: {} via {}", notification.getId(), notification.getChannel());
+            }
+            case FAILED -> {
+                retryPolicy.markFailed(notification, result.errorMessage());
+                log.error("Failed to send notification: {} (intento {}): {}",
+                        notification.getId(), notification.getAttemptCount(), result.errorMessage());
+            }
+            case THROTTLED, CIRCUIT_OPEN -> {
+                retryPolicy.markDeferred(notification, result.retryAt(), result.errorMessage());
+                log.debug("Notification {} reprogramada para {}: {}",
+                        notification.getId(), notification.getNextAttemptAt(), result.errorMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("⚠️ NotificationDispatcher: quedaron {} notificaciones sin enviar (quedan SENDING hasta que venza su reclamo)",
+                        queuedCount());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+}
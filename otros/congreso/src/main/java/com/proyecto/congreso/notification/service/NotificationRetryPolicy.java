@@ -0,0 +1,96 @@
+package com.proyecto.congreso.notification.service;
+
+import com.proyecto.congreso.notification.model.Notification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Calendario de reintentos guardado en la propia notificación (attemptCount, nextAttemptAt).
+ *
+ * - Falla del proveedor: cuenta como intento y se reprograma con backoff exponencial
+ *   (base * 2^(intento-1), tope maxBackoffMs, jitter de hasta 50 %). Al llegar a maxAttempts
+ *   queda FAILED sin nextAttemptAt y ya no se reintenta.
+ * - Rate limit o circuito abierto: no llegó al proveedor, no cuenta como intento.
+ */
+@Component
+public class NotificationRetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final int batchLimit;
+
+    public NotificationRetryPolicy(@Value("${congreso.notifications.retry.max-attempts:5}") int maxAttempts,
+                                   @Value("${congreso.notifications.retry.base-backoff-ms:1000}") long baseBackoffMs,
+                                   @Value("${congreso.notifications.retry.max-backoff-ms:300000}") long maxBackoffMs,
+                                   @Value("${congreso.notifications.retry.batch-limit:500}") int batchLimit) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = Math.max(1, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+        this.batchLimit = Math.max(1, batchLimit);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    // Máximo de notificaciones que toma cada ejecución de retryFailedNotifications
+    public int batchLimit() {
+        return batchLimit;
+    }
+
+    public void markSent(Notification notification) {
+        notification.setStatus(Notification.NotificationStatus.SENT);
+        notification.setSentAt(LocalDateTime.now());
+        notification.setErrorMessage(null);
+        notification.setNextAttemptAt(null);
+        notification.setAttemptCount(attempts(notification) + 1);
+    }
+
+    public void markFailed(Notification notification, String errorMessage) {
+        int attempt = attempts(notification) + 1;
+        notification.setAttemptCount(attempt);
+        notification.setStatus(Notification.NotificationStatus.FAILED);
+        notification.setErrorMessage(errorMessage);
+        notification.setNextAttemptAt(attempt >= maxAttempts
+                ? null
+                : LocalDateTime.now().plus(Duration.ofMillis(backoffMs(attempt))));
+    }
+
+    public void markDeferred(Notification notification, Instant retryAt, String reason) {
+        notification.setStatus(Notification.NotificationStatus.RETRY);
+        notification.setErrorMessage(reason);
+        notification.setNextAttemptAt(retryAt != null
+                ? LocalDateTime.ofInstant(retryAt, ZoneId.systemDefault())
+                : LocalDateTime.now());
+    }
+
+    /**
+     * Campos que tocan markSent / markFailed / markDeferred, para escribirlos sin reemplazar el documento.
+     */
+    public Update changes(Notification notification) {
+        return new Update()
+                .set("status", notification.getStatus())
+                .set("sentAt", notification.getSentAt())
+                .set("errorMessage", notification.getErrorMessage())
+                .set("attemptCount", notification.getAttemptCount())
+                .set("nextAttemptAt", notification.getNextAttemptAt());
+    }
+
+    long backoffMs(int attempt) {
+        long exponential = baseBackoffMs << Math.min(attempt - 1, 30);
+        long capped = exponential <= 0 ? maxBackoffMs : Math.min(maxBackoffMs, exponential);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private int attempts(Notification notification) {
+        return notification.getAttemptCount() != null ? notification.getAttemptCount() : 0;
+    }
+}
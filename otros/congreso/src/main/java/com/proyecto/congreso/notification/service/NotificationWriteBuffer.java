@@ -0,0 +1,346 @@
+package com.proyecto.congreso.notification.service;
+
+import com.proyecto.congreso.notification.model.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Buffer write-behind para los cambios de estado de la colección notifications.
+ *
+ * Guarda por id lo que falta escribir: $set / $unset de campos sueltos con una precondición
+ * de igualdad sobre el documento guardado (p. ej. status = PENDING). Nunca se reemplaza el
+ * documento entero, así que no se pisan los campos que cambió otro escritor.
+ *
+ * Las altas no pasan por aquí: NotificationServiceImpl las inserta de forma síncrona, porque
+ * los listeners del outbox dan el evento por completado al volver y un alta solo en memoria
+ * se perdería con una caída antes del flush.
+ *
+ * Varios cambios de la misma notificación antes del flush se combinan sumando sus campos y
+ * precondiciones. Un cambio cuya precondición ya no se cumple con lo acumulado se descarta,
+ * igual que lo haría MongoDB al no encontrar el documento.
+ *
+ * Todo va en un único bulkWrite UNORDERED (updateOne sin upsert). El flush ocurre al juntar
+ * flushSize documentos, cada flushIntervalMs y, de forma síncrona, al apagar.
+ *
+ * Lecturas: find aplica lo pendiente sobre el documento guardado; las consultas por listado
+ * de NotificationServiceImpl leen MongoDB y ven lo pendiente recién después del flush.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class NotificationWriteBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int flushSize;
+    private final long flushIntervalMs;
+
+    private final Object bufferLock = new Object();
+    // Serializa los flush: un lote viejo nunca pisa a uno más nuevo
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public NotificationWriteBuffer(MongoTemplate mongoTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${congreso.notifications.write-buffer.flush-size:500}") int flushSize,
+                                   @Value("${congreso.notifications.write-buffer.flush-interval-ms:200}") long flushIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.flushSize = Math.max(1, flushSize);
+        this.flushIntervalMs = Math.max(10, flushIntervalMs);
+
+        meterRegistry.gauge("notifications.buffer.pending", this, NotificationWriteBuffer::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("notification-write-buffer-"));
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("💾 NotificationWriteBuffer iniciado: flush cada {} docs o {} ms", flushSize, flushIntervalMs);
+    }
+
+    /**
+     * Registra un cambio de campos ($set / $unset de changes) que solo se aplica si el
+     * documento tiene los valores de expected (p. ej. Map.of("status", PENDING)).
+     * Devuelve false si lo acumulado para esa notificación ya contradice la precondición.
+     */
+    public boolean update(String id, Map<String, Object> expected, Update changes) {
+        Document expectedDoc = new Document();
+        expected.forEach((field, value) -> expectedDoc.put(field, toMongo(value)));
+
+        Document set = new Document();
+        Document updateObject = changes.getUpdateObject();
+        Document setObject = updateObject.get("$set", Document.class);
+        if (setObject != null) {
+            setObject.forEach((field, value) -> set.put(field, toMongo(value)));
+        }
+        Document unsetObject = updateObject.get("$unset", Document.class);
+        Set<String> unset = unsetObject != null ? new LinkedHashSet<>(unsetObject.keySet()) : new LinkedHashSet<>();
+
+        boolean flushNow;
+        synchronized (bufferLock) {
+            PendingWrite current = pending.get(id);
+            if (current == null) {
+                pending.put(id, PendingWrite.update(expectedDoc, set, unset));
+            } else if (current.merge(expectedDoc, set, unset)) {
+                meterRegistry.counter("notifications.buffer.coalesced").increment();
+            } else {
+                meterRegistry.counter("notifications.buffer.conflicts").increment();
+                log.debug("Cambio de la notificación {} descartado: no cumple {}", id, expected);
+                return false;
+            }
+            flushNow = pending.size() >= flushSize;
+        }
+
+        if (flushNow) {
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * Estado de la notificación con lo pendiente aplicado (read-your-writes para getNotificationById).
+     * Vacío si no hay nada pendiente para ese id: el llamador lee MongoDB directamente.
+     */
+    public Optional<Notification> find(String id) {
+        PendingWrite write;
+        synchronized (bufferLock) {
+            PendingWrite current = pending.get(id);
+            write = current != null ? current.copy() : null;
+        }
+        if (write == null) {
+            return Optional.empty();
+        }
+
+        Document doc = mongoTemplate.findById(id, Document.class, mongoTemplate.getCollectionName(Notification.class));
+        if (doc == null) {
+            return Optional.empty();
+        }
+        if (write.matches(doc)) {
+            write.applyTo(doc);
+        }
+        return Optional.of(mongoTemplate.getConverter().read(Notification.class, doc));
+    }
+
+    public boolean contains(String id) {
+        synchronized (bufferLock) {
+            return pending.containsKey(id);
+        }
+    }
+
+    /**
+     * Borra la notificación: descarta lo pendiente y la elimina de MongoDB.
+     * Devuelve false si no existía en MongoDB.
+     */
+    public boolean delete(String id) {
+        synchronized (bufferLock) {
+            pending.remove(id);
+        }
+        return mongoTemplate.remove(new Query(where("_id").is(id)), Notification.class).getDeletedCount() > 0;
+    }
+
+    public int size() {
+        synchronized (bufferLock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Escribe todo lo pendiente en un solo bulkWrite. Devuelve cuántos documentos se enviaron.
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<String, PendingWrite> batch;
+            synchronized (bufferLock) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+
+            List<Map.Entry<String, PendingWrite>> entries = new ArrayList<>(batch.entrySet());
+            try {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class);
+                for (Map.Entry<String, PendingWrite> entry : entries) {
+                    bulk.updateOne(entry.getValue().filter(entry.getKey()), entry.getValue().toUpdate());
+                }
+                bulk.execute();
+
+                meterRegistry.counter("notifications.buffer.flushes").increment();
+                meterRegistry.counter("notifications.buffer.written").increment(entries.size());
+                log.debug("💾 Flush de {} notificaciones", entries.size());
+                return entries.size();
+
+            } catch (BulkOperationException e) {
+                // Solo se devuelven las que fallaron
+                List<Map.Entry<String, PendingWrite>> failed = e.getErrors().stream()
+                        .map(error -> entries.get(error.getIndex()))
+                        .toList();
+                requeue(failed);
+                meterRegistry.counter("notifications.buffer.flush.errors").increment();
+                throw e;
+
+            } catch (RuntimeException e) {
+                requeue(entries);
+                meterRegistry.counter("notifications.buffer.flush.errors").increment();
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Lo que falló va antes que lo que llegó mientras tanto para la misma notificación
+    private void requeue(List<Map.Entry<String, PendingWrite>> failed) {
+        synchronized (bufferLock) {
+            for (Map.Entry<String, PendingWrite> entry : failed) {
+                PendingWrite newer = pending.put(entry.getKey(), entry.getValue());
+                if (newer != null && !entry.getValue().merge(newer.expected, newer.set, newer.unset)) {
+                    meterRegistry.counter("notifications.buffer.conflicts").increment();
+                }
+            }
+        }
+    }
+
+    private Object toMongo(Object value) {
+        return value != null ? mongoTemplate.getConverter().convertToMongoType(value) : null;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("❌ Error al hacer flush de notificaciones, se reintenta en el siguiente ciclo", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Flush final síncrono: el dispatcher (que depende de este bean) ya se detuvo y drenó sus colas
+        try {
+            int written = flush();
+            log.info("💾 NotificationWriteBuffer detenido. Flush final: {} notificaciones", written);
+        } catch (Exception e) {
+            log.error("❌ Flush final fallido: {} notificaciones no se guardaron", size(), e);
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private final Document expected;
+        private final Document set;
+        private final Set<String> unset;
+
+        private PendingWrite(Document expected, Document set, Set<String> unset) {
+            this.expected = expected;
+            this.set = set;
+            this.unset = unset;
+        }
+
+        static PendingWrite update(Document expected, Document set, Set<String> unset) {
+            return new PendingWrite(expected, set, unset);
+        }
+
+        PendingWrite copy() {
+            return new PendingWrite(new Document(expected), new Document(set), new LinkedHashSet<>(unset));
+        }
+
+        /**
+         * Suma un cambio posterior. Cada campo de su precondición se compara con el valor que
+         * deja lo acumulado; si lo acumulado no toca el campo, la condición pasa al filtro.
+         */
+        boolean merge(Document laterExpected, Document laterSet, Set<String> laterUnset) {
+            Document extra = new Document();
+            for (Map.Entry<String, Object> condition : laterExpected.entrySet()) {
+                String field = condition.getKey();
+                Object known;
+                if (set.containsKey(field)) {
+                    known = set.get(field);
+                } else if (unset.contains(field)) {
+                    known = null;
+                } else if (expected.containsKey(field)) {
+                    known = expected.get(field);
+                } else {
+                    extra.put(field, condition.getValue());
+                    continue;
+                }
+                if (!Objects.equals(known, condition.getValue())) {
+                    return false;
+                }
+            }
+
+            expected.putAll(extra);
+            laterSet.keySet().forEach(unset::remove);
+            set.putAll(laterSet);
+            laterUnset.forEach(field -> {
+                set.remove(field);
+                unset.add(field);
+            });
+            return true;
+        }
+
+        boolean matches(Document doc) {
+            return expected.entrySet().stream()
+                    .allMatch(condition -> Objects.equals(doc.get(condition.getKey()), condition.getValue()));
+        }
+
+        void applyTo(Document doc) {
+            doc.putAll(set);
+            unset.forEach(doc::remove);
+        }
+
+        Query filter(String id) {
+            Criteria criteria = where("_id").is(id);
+            expected.forEach((field, value) -> criteria.and(field).is(value));
+            return new Query(criteria);
+        }
+
+        Update toUpdate() {
+            Update update = new Update();
+            set.forEach(update::set);
+            unset.forEach(update::unset);
+            return update;
+        }
+    }
+}
@@ -1,39 +1,39 @@
-package com.proyecto.congreso.participantes.dto;
-
-import jakarta.persistence.Column;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class ParticipantRequest {
-
-    @NotBlank(message = "Name is required")
-    private String name;
-
-    @Column(nullable = false)
-    private String lastName;
-
-    @NotBlank(message = "Email is required")
-    @Email(message = "Email should be valid")
-    private String email;
-
-    @NotBlank(message = "Phone is required")
-    @Pattern(regexp = "^\\d{10}$", message = "Phone must be 10 digits")
-    private String phone;
-
-    @Column (nullable = false)
-    private String nacionality;
-
-    @Column (nullable = false)
-    private Integer age;
-
-    @Column (nullable = false)
-    private String area;
-
-}
+package com.proyecto.congreso.participantes.dto;
+
+import jakarta.persistence.Column;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantRequest {
+
+    @NotBlank(message = "Name is required")
+    private String name;
+
+    @Column(nullable = false)
+    private String lastName;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    private String email;
+
+    @NotBlank(message = "Phone is required")
+    @Pattern(regexp = "^\\d{10}$", message = "Phone must be 10 digits")
+    private String phone;
+
+    @Column (nullable = false)
+    private String nacionality;
+
+    @Column (nullable = false)
+    private Integer age;
+
+    @Column (nullable = false)
+    private String area;
+
+}
@@ -1,69 +1,69 @@
-package com.proyecto.congreso.participantes.model;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.RequiredArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "participantes")
-@Data
-@RequiredArgsConstructor
-@AllArgsConstructor
-public class Participant {
-    @Id
-    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
-    private Long participantId;
-
-    @NotBlank(message = "Name is required")
-    @Column(nullable = false)
-    private String name;
-
-    @Column (nullable = false)
-    private String lastName;
-
-    @NotBlank(message = "Email is required")
-    @Email(message = "Email should be valid")
-    @Column(nullable = false, unique = true, length = 100)
-    private String email;
-
-    @NotBlank(message = "Phone is required")
-    @Pattern(regexp = "^\\d{10}$", message = "Phone must be 10 digits")
-    @Column(nullable = false, length = 10)
-    private String phone;
-
-    @Column (nullable = false)
-    private String nacionality;
-
-    @Column (nullable = false)
-    private Integer age;
-
-    @Column (nullable = false)
-    private String area;
-
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
-    private ParticipantStatus status = ParticipantStatus.ACTIVE;
-
-    @CreationTimestamp
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-
-    @UpdateTimestamp
-    @Column(name = "updated_at")
-    private LocalDateTime updatedAt;
-
-
-    public enum ParticipantStatus {
-        ACTIVE,
-        INACTIVE
-    }
-
-}
+package com.proyecto.congreso.participantes.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "participantes")
+@Data
+@RequiredArgsConstructor
+@AllArgsConstructor
+public class Participant {
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long participantId;
+
+    @NotBlank(message = "Name is required")
+    @Column(nullable = false)
+    private String name;
+
+    @Column (nullable = false)
+    private String lastName;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    @Column(nullable = false, unique = true, length = 100)
+    private String email;
+
+    @NotBlank(message = "Phone is required")
+    @Pattern(regexp = "^\\d{10}$", message = "Phone must be 10 digits")
+    @Column(nullable = false, length = 10)
+    private String phone;
+
+    @Column (nullable = false)
+    private String nacionality;
+
+    @Column (nullable = false)
+    private Integer age;
+
+    @Column (nullable = false)
+    private String area;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ParticipantStatus status = ParticipantStatus.ACTIVE;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+
+    public enum ParticipantStatus {
+        ACTIVE,
+        INACTIVE
+    }
+
+}
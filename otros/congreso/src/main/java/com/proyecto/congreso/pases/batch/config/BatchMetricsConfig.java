@@ -0,0 +1,45 @@
+package com.proyecto.congreso.pases.batch.config;
+
+import com.proyecto.congreso.pases.batch.listener.DbRoundTripCounter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Engancha DbRoundTripCounter al MongoClient y al DataSource para que StepMetricsListener
+ * pueda registrar cuántas idas a base de datos hace cada step.
+ *
+ * Apagado por defecto: se enciende con congreso.batch.metrics.db-round-trips=true. El DataSource
+ * envuelto pasa cada llamada JDBC de toda la aplicación (también las peticiones HTTP) por un
+ * proxy dinámico, así que es para diagnosticar un job, no para dejarlo encendido.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class BatchMetricsConfig {
+
+    @Bean
+    @ConditionalOnClass(name = "com.mongodb.client.MongoClient")
+    @ConditionalOnProperty(name = "congreso.batch.metrics.db-round-trips", havingValue = "true")
+    public MongoClientSettingsBuilderCustomizer batchMongoRoundTripCustomizer() {
+        return settings -> settings.addCommandListener(DbRoundTripCounter.mongoCommandListener());
+    }
+
+    // static: los BeanPostProcessor se crean antes que el resto de la configuración
+    @Bean
+    @ConditionalOnProperty(name = "congreso.batch.metrics.db-round-trips", havingValue = "true")
+    public static BeanPostProcessor batchSqlRoundTripPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? DbRoundTripCounter.countingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.proyecto.congreso.pases.batch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.congreso.pases.batch.dto.CheckInRecord;
+import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import com.proyecto.congreso.pases.batch.service.CheckInFileReader;
+import com.proyecto.congreso.pases.batch.service.CheckInImportWriter;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
+import com.proyecto.congreso.points.calculator.service.ConferenceCatalogCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Job: importCheckInFileJob - carga los volcados offline de los escáneres (CSV / NDJSON).
+ *
+ * Step 1: importCheckInFileStep - lee el archivo por streaming (CheckInFileReader), valida la
+ *         conferencia contra el catálogo en memoria e inserta asistencias PENDIENTE por chunk
+ *         con un bulkWrite, descartando las que ya existen (CheckInImportWriter).
+ *         Las líneas mal formadas se saltan hasta congreso.batch.import.skip-limit.
+ * Step 2: processAssistancesStep - el mismo step de processAssistancePointsJob: suma los puntos
+ *         de las asistencias PENDIENTE, actualiza el leaderboard y, tras cada commit, las marca
+ *         PROCESADA y recalcula su pass_summary (AssistancePointsBatchWriter).
+ *
+ * Está en AsyncJobLauncher.ASSISTANCE_POINTS_JOBS: no arranca si otro job que suma puntos de
+ * asistencias está en curso, ni otro de esos arranca mientras corre la importación.
+ *
+ * JobParameters: filePath (ruta ya validada dentro de congreso.batch.import.dir), chunkSize, pageSize.
+ * Restartable: el reader continúa desde el último offset confirmado.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class CheckInImportBatchConfig {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final AsistenciaRepository asistenciaRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ConferenceCatalogCache conferenceCatalog;
+    private final ObjectMapper objectMapper;
+    private final StepMetricsListener stepMetricsListener;
+
+    @Autowired(required = false)
+    private BatchJobExecutionMongoListener batchJobExecutionMongoListener;
+
+    @Value("${congreso.batch.import.buffer-size-bytes:1048576}")
+    private int bufferSize;
+
+    @Value("${congreso.batch.import.skip-limit:1000}")
+    private int skipLimit;
+
+    @Bean
+    public Job importCheckInFileJob(@Qualifier("processAssistancesStep") Step processAssistancesStep) {
+        JobBuilder jobBuilder = new JobBuilder("importCheckInFileJob", jobRepository);
+
+        if (batchJobExecutionMongoListener != null) {
+            jobBuilder.listener(batchJobExecutionMongoListener);
+        }
+
+        return jobBuilder
+                .start(importCheckInFileStep())
+                .next(processAssistancesStep)
+                .build();
+    }
+
+    @Bean
+    public Step importCheckInFileStep() {
+        CheckInImportWriter writer = checkInImportWriter();
+        return new StepBuilder("importCheckInFileStep", jobRepository)
+                .<CheckInRecord, Asistencia>chunk(checkInImportChunkPolicy(null), transactionManager)
+                .reader(checkInFileReader(null))
+                .processor(checkInRecordProcessor())
+                .writer(writer)
+                .faultTolerant()
+                .skip(FlatFileParseException.class)
+                .skipLimit(skipLimit)
+                .listener(writer)
+                .listener((StepExecutionListener) stepMetricsListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public SimpleCompletionPolicy checkInImportChunkPolicy(
+            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new SimpleCompletionPolicy(chunkSize != null ? chunkSize.intValue() : DEFAULT_CHUNK_SIZE);
+    }
+
+    @Bean
+    @StepScope
+    public CheckInFileReader checkInFileReader(
+            @Value("#{jobParameters['filePath']}") String filePath) {
+        Path path = Path.of(filePath);
+        return new CheckInFileReader(path, CheckInFileReader.Format.of(path), objectMapper, bufferSize);
+    }
+
+    // Conferencia inexistente: se filtra (filterCount) en lugar de fallar el chunk
+    @Bean
+    public ItemProcessor<CheckInRecord, Asistencia> checkInRecordProcessor() {
+        return record -> conferenceCatalog.findById(record.conferenciaId())
+                .map(conferencia -> {
+                    Asistencia asistencia = new Asistencia();
+                    asistencia.setPassId(record.passId());
+                    asistencia.setConferenciaId(record.conferenciaId());
+                    asistencia.setTituloConferencia(conferencia.getTitulo());
+                    asistencia.setPuntosOtorgados(conferencia.getPuntos());
+                    asistencia.setFechaAsistencia(record.timestamp() != null ? record.timestamp() : LocalDateTime.now());
+                    asistencia.setStatus("PENDIENTE");
+                    return asistencia;
+                })
+                .orElseGet(() -> {
+                    log.warn("⚠️ Línea {}: conferencia {} no encontrada. Omitiendo check-in.",
+                            record.lineNumber(), record.conferenciaId());
+                    return null;
+                });
+    }
+
+    @Bean
+    public CheckInImportWriter checkInImportWriter() {
+        return new CheckInImportWriter(asistenciaRepository, mongoTemplate);
+    }
+}
@@ -0,0 +1,88 @@
+package com.proyecto.congreso.pases.batch.config;
+
+import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import com.proyecto.congreso.pases.batch.service.AssistanceDeadLetterQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Job: reprocessDeadLettersJob - vuelve a procesar las asistencias de la dead-letter.
+ *
+ * Step 1: requeueDeadLettersStep - en páginas de requeuePageSize cartas regresa las asistencias
+ *         FALLIDA a PENDIENTE (un updateMulti por página) y marca las cartas REQUEUED.
+ *         Las que ya fallaron maxAttempts veces se quedan en la dead-letter.
+ * Step 2: processAssistancesStep - el mismo step de processAssistancePointsJob; lo que vuelva
+ *         a fallar regresa a la dead-letter con attempts + 1.
+ *
+ * JobParameters: maxAttempts, requeuePageSize, chunkSize (opcionales).
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadLetterBatchConfig {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final AssistanceDeadLetterQueue assistanceDeadLetterQueue;
+    private final StepMetricsListener stepMetricsListener;
+
+    @Autowired(required = false)
+    private BatchJobExecutionMongoListener batchJobExecutionMongoListener;
+
+    @Bean
+    public Job reprocessDeadLettersJob(@Qualifier("processAssistancesStep") Step processAssistancesStep) {
+        JobBuilder jobBuilder = new JobBuilder("reprocessDeadLettersJob", jobRepository);
+
+        if (batchJobExecutionMongoListener != null) {
+            jobBuilder.listener(batchJobExecutionMongoListener);
+        }
+
+        return jobBuilder
+                .start(requeueDeadLettersStep())
+                .next(processAssistancesStep)
+                .build();
+    }
+
+    @Bean
+    public Step requeueDeadLettersStep() {
+        return new StepBuilder("requeueDeadLettersStep", jobRepository)
+                .tasklet(requeueDeadLettersTasklet(null, null), transactionManager)
+                .listener((StepExecutionListener) stepMetricsListener)
+                .build();
+    }
+
+    // Una página por iteración: cada página queda confirmada en el JobRepository
+    @Bean
+    @StepScope
+    public Tasklet requeueDeadLettersTasklet(
+            @Value("#{jobParameters['maxAttempts']}") Long maxAttempts,
+            @Value("#{jobParameters['requeuePageSize']}") Long pageSize) {
+        int attempts = maxAttempts != null ? maxAttempts.intValue() : DEFAULT_MAX_ATTEMPTS;
+        int page = pageSize != null ? pageSize.intValue() : DEFAULT_PAGE_SIZE;
+
+        return (contribution, chunkContext) -> {
+            int requeued = assistanceDeadLetterQueue.requeuePage(attempts, page);
+            contribution.incrementWriteCount(requeued);
+            return requeued == page ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+}
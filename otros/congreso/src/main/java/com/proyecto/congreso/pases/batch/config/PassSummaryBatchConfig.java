@@ -0,0 +1,139 @@
+package com.proyecto.congreso.pases.batch.config;
+
+import com.mongodb.client.result.DeleteResult;
+import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import com.proyecto.congreso.pases.batch.service.PassKeysetReader;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.model.PassSummary;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.pases.service.PassSummaryProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Job: rebuildPassSummaryJob - reconstruye la proyección pass_summary desde cero.
+ *
+ * Step 1: rebuildPassSummaryStep - lee los Pases por keyset y por cada chunk arma los
+ *         resúmenes (una consulta por fuente) y los reemplaza con un bulkWrite.
+ * Step 2: purgeStalePassSummaryStep - borra los resúmenes que nadie actualizó desde el
+ *         inicio del job (Pases que ya no existen).
+ *
+ * El inicio se toma del JobParameter "time", así un restart no borra lo ya reconstruido.
+ */
+@Slf4j
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class PassSummaryBatchConfig {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PassRepository passRepository;
+    private final PassSummaryProjector projector;
+    private final MongoTemplate mongoTemplate;
+    private final StepMetricsListener stepMetricsListener;
+
+    @Autowired(required = false)
+    private BatchJobExecutionMongoListener batchJobExecutionMongoListener;
+
+    @Bean
+    public Job rebuildPassSummaryJob() {
+        JobBuilder jobBuilder = new JobBuilder("rebuildPassSummaryJob", jobRepository);
+
+        if (batchJobExecutionMongoListener != null) {
+            jobBuilder.listener(batchJobExecutionMongoListener);
+        }
+
+        return jobBuilder
+                .start(rebuildPassSummaryStep())
+                .next(purgeStalePassSummaryStep())
+                .build();
+    }
+
+    @Bean
+    public Step rebuildPassSummaryStep() {
+        return new StepBuilder("rebuildPassSummaryStep", jobRepository)
+                .<Pass, Pass>chunk(passSummaryChunkPolicy(null), transactionManager)
+                .reader(passSummaryReader(null))
+                .writer(passSummaryWriter())
+                .listener((StepExecutionListener) stepMetricsListener)
+                .build();
+    }
+
+    @Bean
+    public Step purgeStalePassSummaryStep() {
+        return new StepBuilder("purgeStalePassSummaryStep", jobRepository)
+                .tasklet(purgeStalePassSummaryTasklet(null), transactionManager)
+                .listener((StepExecutionListener) stepMetricsListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public SimpleCompletionPolicy passSummaryChunkPolicy(
+            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new SimpleCompletionPolicy(chunkSize != null ? chunkSize.intValue() : DEFAULT_CHUNK_SIZE);
+    }
+
+    // La página del reader coincide con el chunk: una consulta a MySQL por chunk
+    @Bean
+    @StepScope
+    public PassKeysetReader passSummaryReader(
+            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new PassKeysetReader(passRepository, chunkSize != null ? chunkSize.intValue() : DEFAULT_CHUNK_SIZE);
+    }
+
+    @Bean
+    public ItemWriter<Pass> passSummaryWriter() {
+        return chunk -> projector.save(projector.buildSummaries(List.<Pass>copyOf(chunk.getItems())));
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet purgeStalePassSummaryTasklet(
+            @Value("#{jobParameters['time']}") Long startedAtMillis) {
+        return (contribution, chunkContext) -> {
+            if (startedAtMillis == null) {
+                log.warn("⚠️ rebuildPassSummaryJob sin parámetro 'time': no se purgan resúmenes");
+                return RepeatStatus.FINISHED;
+            }
+            LocalDateTime startedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(startedAtMillis), ZoneId.systemDefault());
+            DeleteResult result = mongoTemplate.remove(
+                    new Query(where("updatedAt").lt(startedAt)), PassSummary.class);
+            contribution.incrementWriteCount(result.getDeletedCount());
+            log.info("🧹 Resúmenes de Pases obsoletos eliminados: {}", result.getDeletedCount());
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
@@ -1,32 +1,43 @@
 package com.proyecto.congreso.pases.batch.config;
 
 import com.proyecto.congreso.points.assistance.model.Asistencia;
-import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
 import com.proyecto.congreso.points.assistance.dto.AsistenciaPointsData;
 import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
-import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import com.proyecto.congreso.pases.batch.partition.PassIdPartitioner;
+import com.proyecto.congreso.pases.batch.service.AssistanceDeadLetterQueue;
+import com.proyecto.congreso.pases.batch.service.AssistancePointsBatchWriter;
+import com.proyecto.congreso.pases.batch.service.AssistanceSkipPolicy;
+import com.proyecto.congreso.pases.batch.service.PendingAssistanceKeysetReader;
+import com.proyecto.congreso.pases.batch.service.PoisonAssistanceException;
 import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.pases.service.PassSummaryProjector;
+import com.proyecto.congreso.pases.service.PointsLeaderboard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.Optional;
 
 /**
  * Configuración de Spring Batch para el procesamiento diario de puntos.
@@ -60,11 +71,37 @@ public class PointsBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final PassRepository passRepository;
-    private final AsistenciaRepository asistenciaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final PointsLeaderboard leaderboard;
+    private final StepMetricsListener stepMetricsListener;
 
     @Autowired(required = false)
     private BatchJobExecutionMongoListener batchJobExecutionMongoListener;
 
+    @Autowired(required = false)
+    private PassSummaryProjector passSummaryProjector;
+
+    // Valores por defecto; cada ejecución puede sobreescribirlos con los JobParameters
+    // chunkSize, pageSize y partitionCount (ver BatchJobController)
+    public static final int DEFAULT_CHUNK_SIZE = 10;
+    public static final int DEFAULT_PAGE_SIZE = 10;
+
+    @Value("${congreso.batch.max-partitions:8}")
+    private int maxPartitions;
+
+    @Value("${congreso.batch.assistance.retry-limit:3}")
+    private int retryLimit;
+
+    @Value("${congreso.batch.assistance.retry-initial-interval-ms:200}")
+    private long retryInitialIntervalMs;
+
+    @Value("${congreso.batch.assistance.retry-max-interval-ms:5000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${congreso.batch.assistance.skip-limit:1000}")
+    private long skipLimit;
+
     // ========== JOB DEFINITION ==========
 
     /**
@@ -84,34 +121,133 @@ public class PointsBatchConfig {
                 .build();
     }
 
+    /**
+     * Variante particionada: reparte las asistencias pendientes por passId entre
+     * varios hilos (una partición por hilo). Pensada para backlogs grandes.
+     */
+    @Bean
+    public Job processAssistancePointsPartitionedJob() {
+        JobBuilder jobBuilder = new JobBuilder("processAssistancePointsPartitionedJob", jobRepository);
+
+        if (batchJobExecutionMongoListener != null) {
+            jobBuilder.listener(batchJobExecutionMongoListener);
+        }
+
+        return jobBuilder
+                .start(processAssistancesPartitionedStep())
+                .build();
+    }
+
     // ========== STEP: PROCESS ASSISTANCES ==========
 
     @Bean
     public Step processAssistancesStep() {
-        return new StepBuilder("processAssistancesStep", jobRepository)
-                .<Asistencia, AsistenciaPointsData>chunk(10, transactionManager)  // ← CAMBIO: AsistenciaPointsData
-                .reader(pendingAssistancesReader())
+        return assistanceStep("processAssistancesStep");
+    }
+
+    /**
+     * Chunk step tolerante a fallas (lo usan el step simple y el worker de cada partición):
+     * - Errores transitorios de MySQL / Mongo: se reintenta el chunk con backoff exponencial.
+     * - Asistencias poison y errores no transitorios: se saltan y van a la dead-letter
+     *   (AssistanceSkipPolicy / AssistanceDeadLetterQueue).
+     * processorNonTransactional: al reintentar o aislar el item que falla en la escritura no se
+     * vuelve a consultar el Pass de cada asistencia ya procesada.
+     */
+    private Step assistanceStep(String name) {
+        ExponentialBackOffPolicy backOff = new ExponentialBackOffPolicy();
+        backOff.setInitialInterval(retryInitialIntervalMs);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+
+        FaultTolerantStepBuilder<Asistencia, AsistenciaPointsData> builder = new StepBuilder(name, jobRepository)
+                .<Asistencia, AsistenciaPointsData>chunk(assistanceChunkPolicy(null), transactionManager)
+                .reader(pendingAssistancesReader(null, null, null))
                 .processor(assistancePointsProcessor())
                 .writer(pointsUpdaterWriter())
+                .faultTolerant()
+                .processorNonTransactional()
+                .retryLimit(retryLimit)
+                .backOffPolicy(backOff)
+                .skipPolicy(new AssistanceSkipPolicy(skipLimit))
+                .listener(assistanceDeadLetterQueue());
+        AssistanceSkipPolicy.TRANSIENT_EXCEPTIONS.forEach(builder::retry);
+
+        return builder
+                .listener((StepExecutionListener) stepMetricsListener)
                 .build();
     }
 
-    // ---------- READER: Lee asistencias pendientes de MongoDB -----------
+    // ========== STEP PARTICIONADO: MANAGER + WORKER ==========
 
     @Bean
-    public RepositoryItemReader<Asistencia> pendingAssistancesReader() {
-        return new RepositoryItemReaderBuilder<Asistencia>()
-                .name("pendingAssistancesReader")
-                .repository(asistenciaRepository)
-                .methodName("findByStatus") // Busca asistencias "PENDIENTE"
-                .arguments("PENDIENTE")
-                .sorts(Collections.singletonMap("fechaAsistencia", Sort.Direction.ASC))
-                .pageSize(10)
+    public Step processAssistancesPartitionedStep() {
+        return new StepBuilder("processAssistancesPartitionedStep", jobRepository)
+                .partitioner("processAssistancesWorkerStep", new PassIdPartitioner())
+                .partitionHandler(assistancePartitionHandler(null))
                 .build();
     }
 
-    // ---------- PROCESSOR: Valida Pass y prepara datos -----------
+    // El worker es el mismo chunk step; el reader toma su partición del stepExecutionContext
+    @Bean
+    public Step processAssistancesWorkerStep() {
+        return assistanceStep("processAssistancesWorkerStep");
+    }
+
+    // gridSize (número de particiones) se decide en cada ejecución
+    @Bean
+    @StepScope
+    public TaskExecutorPartitionHandler assistancePartitionHandler(
+            @Value("#{jobParameters['partitionCount']}") Long partitionCount) {
+        int gridSize = partitionCount != null ? partitionCount.intValue() : maxPartitions;
+
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(processAssistancesWorkerStep());
+        handler.setTaskExecutor(assistancePartitionExecutor());
+        handler.setGridSize(Math.min(Math.max(gridSize, 1), maxPartitions));
+        return handler;
+    }
 
+    @Bean
+    public ThreadPoolTaskExecutor assistancePartitionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxPartitions);
+        executor.setMaxPoolSize(maxPartitions);
+        executor.setThreadNamePrefix("assistance-partition-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Tamaño de chunk configurable por ejecución
+    @Bean
+    @StepScope
+    public SimpleCompletionPolicy assistanceChunkPolicy(
+            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new SimpleCompletionPolicy(chunkSize != null ? chunkSize.intValue() : DEFAULT_CHUNK_SIZE);
+    }
+
+    // ---------- READER: Lee asistencias pendientes de MongoDB -----------
+
+    /**
+     * Lectura por keyset sobre _id, restartable desde el último _id confirmado.
+     * Sin partición (processAssistancesStep) lee todas las pendientes; dentro de una
+     * partición filtra con passId % partitionCount == partitionIndex.
+     */
+    @Bean
+    @StepScope
+    public PendingAssistanceKeysetReader pendingAssistancesReader(
+            @Value("#{stepExecutionContext['partitionIndex']}") Integer partitionIndex,
+            @Value("#{stepExecutionContext['partitionCount']}") Integer partitionCount,
+            @Value("#{jobParameters['pageSize']}") Long pageSize) {
+        return new PendingAssistanceKeysetReader(
+                mongoTemplate,
+                pageSize != null ? pageSize.intValue() : DEFAULT_PAGE_SIZE,
+                partitionIndex,
+                partitionCount);
+    }
+
+    // ---------- PROCESSOR: Valida el payload y prepara datos -----------
+
+    // Solo valida la asistencia en sí (puntos inválidos = poison). Sin lecturas por item: el writer
+    // bloquea los Pass del chunk en una consulta y manda los inexistentes / no activos a la dead-letter
     @Bean
     public ItemProcessor<Asistencia, AsistenciaPointsData> assistancePointsProcessor() {
         return asistencia -> {
@@ -120,99 +256,32 @@ public class PointsBatchConfig {
                     asistencia.getConferenciaId(),
                     asistencia.getPuntosOtorgados());
 
-            // Validar que el Pass existe y está activo
-            Optional<Pass> optionalPass = passRepository.findById(asistencia.getPassId());
-            if (optionalPass.isEmpty()) {
-                log.error("❌ Pass ID {} no encontrado. Omitiendo asistencia.",
-                        asistencia.getPassId());
-                return null; // Skip this item
+            if (asistencia.getPuntosOtorgados() == null || asistencia.getPuntosOtorgados() < 0) {
+                throw new PoisonAssistanceException("Puntos inválidos: " + asistencia.getPuntosOtorgados());
             }
 
-            Pass pass = optionalPass.get();
-            if (pass.getStatus() != Pass.PassStatus.ACTIVE) {
-                log.warn("⚠️ Pass ID {} no está activo. Estado: {}. Omitiendo.",
-                        pass.getPassId(), pass.getStatus());
-                return null; // Skip this item
-            }
-
-            // Preparar datos para el writer
+            // Preparar datos para el writer (el balance lo resuelve el writer al aplicar el chunk)
             return new AsistenciaPointsData(
                     asistencia.getId(),
                     asistencia.getPassId(),
                     asistencia.getConferenciaId(),
                     asistencia.getPuntosOtorgados(),
-                    pass.getPointsBalance(),
-                    pass.getPointsBalance() + asistencia.getPuntosOtorgados()
+                    null,
+                    null
             );
         };
     }
 
-    // ---------- WRITER: Suma puntos en MySQL y marca como procesada -----------
+    // ---------- WRITER: Suma puntos por chunk (JDBC batch) y marca procesadas (bulkWrite) -----------
 
     @Bean
     public ItemWriter<AsistenciaPointsData> pointsUpdaterWriter() {
-        return items -> {
-            for (AsistenciaPointsData data : items) {
-                if (data == null) continue;
-
-                try {
-                    // 1. Actualizar Pass en MySQL
-                    Pass pass = passRepository.findById(data.getPassId())
-                            .orElseThrow(() -> new IllegalStateException(
-                                    "Pass not found: " + data.getPassId()));
-
-                    Integer balanceAnterior = pass.getPointsBalance();
-                    Integer nuevoBalance = balanceAnterior + data.getPointsAwarded();
-
-                    pass.setPointsBalance(nuevoBalance);
-                    pass.setPointsAdd(Pass.PointsMovementAdd.ADD);
-                    pass.setUpdatedAt(LocalDateTime.now());
-
-                    // Verificar logros
-                    checkAchievements(pass, balanceAnterior, nuevoBalance);
-
-                    passRepository.save(pass);
-
-                    // 2. Marcar asistencia como PROCESADA en MongoDB
-                    Asistencia asistencia = asistenciaRepository.findById(data.getAsistenciaId())
-                            .orElseThrow(() -> new IllegalStateException(
-                                    "Asistencia not found: " + data.getAsistenciaId()));
-
-                    asistencia.setStatus("PROCESADA");
-                    asistencia.setParticipantId(pass.getParticipantId()); // Actualizar participantId
-                    asistenciaRepository.save(asistencia);
-
-                    log.info("✅ Asistencia procesada exitosamente: Pass={}, Puntos añadidos={}, Nuevo balance={}",
-                            data.getPassId(), data.getPointsAwarded(), nuevoBalance);
-
-                } catch (Exception e) {
-                    log.error("❌ Error procesando asistencia: {}", data, e);
-
-                    // Marcar como FALLIDA
-                    asistenciaRepository.findById(data.getAsistenciaId()).ifPresent(a -> {
-                        a.setStatus("FALLIDA");
-                        asistenciaRepository.save(a);
-                    });
-                }
-            }
-        };
+        return new AssistancePointsBatchWriter(jdbcTemplate, passRepository, mongoTemplate, leaderboard,
+                assistanceDeadLetterQueue(), passSummaryProjector);
     }
 
-    // ---------- HELPER: Verificar logros -----------
-
-    private void checkAchievements(Pass pass, Integer oldBalance, Integer newBalance) {
-        // Certificado (25 puntos)
-        if (oldBalance < pass.getPointsCertificate() &&
-                newBalance >= pass.getPointsCertificate()) {
-            pass.setCertificateStatus(Pass.CertificateStatus.REACHED);
-            log.info("🏆 Certificado alcanzado: Pass ID {}", pass.getPassId());
-        }
-
-        // Acceso Especial (30 puntos)
-        if (oldBalance < pass.getPointsSpecialAccess() &&
-                newBalance >= pass.getPointsSpecialAccess()) {
-            pass.setAccessStatus(Pass.AccessStatus.REACHED);
-            log.info("🏆 Acceso Especial alcanzado: Pass ID {}", pass.getPassId());
-        }
+    @Bean
+    public AssistanceDeadLetterQueue assistanceDeadLetterQueue() {
+        return new AssistanceDeadLetterQueue(mongoTemplate);
     }
 }
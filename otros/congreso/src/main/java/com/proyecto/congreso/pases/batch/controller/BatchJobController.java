@@ -1,68 +1,343 @@
-package com.proyecto.congreso.pases.batch.controller;
-
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
-
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * Controller para ejecutar batch jobs manualmente.
- */
-@Slf4j
-@RestController
-@RequestMapping("/api/batch")
-@RequiredArgsConstructor
-@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
-
-public class BatchJobController {
-
-    private final JobLauncher jobLauncher;
-
-    @Qualifier("processAssistancePointsJob")
-    private final Job processAssistancePointsJob;
-
-    @PostMapping("/process-assistances")
-    public ResponseEntity<Map<String, Object>> runAssistancePointsJob() {
-        log.info("🚀 Manual trigger: Process Assistance Points Job");
-
-        try {
-            // Parámetros únicos para cada ejecución
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("timestamp", LocalDateTime.now().toString())
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
-
-            jobLauncher.run(processAssistancePointsJob, jobParameters);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Assistance points job ejecutado exitosamente");
-            response.put("timestamp", LocalDateTime.now());
-            response.put("status", "STARTED");
-            response.put("description", "Procesando asistencias pendientes y sumando puntos");
-
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("❌ Error ejecutando Assistance Points Job", e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "Failed to execute assistance points job");
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", LocalDateTime.now());
-
-            return ResponseEntity.status(500).body(errorResponse);
-        }
-    }
-}
\ No newline at end of file
+package com.proyecto.congreso.pases.batch.controller;
+
+import com.proyecto.congreso.pases.batch.dto.JobProgress;
+import com.proyecto.congreso.pases.batch.service.AsyncJobLauncher;
+import com.proyecto.congreso.pases.batch.service.CheckInFileReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller para ejecutar batch jobs manualmente.
+ *
+ * Los jobs se lanzan en segundo plano (AsyncJobLauncher): la respuesta es 202 con el
+ * executionId y la URL para consultar el avance en /api/batch/executions/{id}. Los jobs que
+ * suman puntos de asistencias no corren dos a la vez: mientras uno sigue en curso la respuesta es 409.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+
+public class BatchJobController {
+
+    private final AsyncJobLauncher asyncJobLauncher;
+
+    @Qualifier("processAssistancePointsJob")
+    private final Job processAssistancePointsJob;
+
+    @Qualifier("processAssistancePointsPartitionedJob")
+    private final Job processAssistancePointsPartitionedJob;
+
+    @Qualifier("importCheckInFileJob")
+    private final Job importCheckInFileJob;
+
+    @Qualifier("reprocessDeadLettersJob")
+    private final Job reprocessDeadLettersJob;
+
+    // Directorio donde se copian los volcados de los escáneres; solo se importan archivos de aquí
+    @Value("${congreso.batch.import.dir:imports}")
+    private String importDir;
+
+    /**
+     * chunkSize, pageSize y partitionCount son opcionales. Con partitionCount > 1 se ejecuta
+     * la variante particionada por passId (un hilo por partición).
+     */
+    @PostMapping("/process-assistances")
+    public ResponseEntity<Map<String, Object>> runAssistancePointsJob(
+            @RequestParam(required = false) Integer chunkSize,
+            @RequestParam(required = false) Integer pageSize,
+            @RequestParam(required = false) Integer partitionCount) {
+        log.info("🚀 Manual trigger: Process Assistance Points Job (chunkSize={}, pageSize={}, partitions={})",
+                chunkSize, pageSize, partitionCount);
+
+        boolean partitioned = partitionCount != null && partitionCount > 1;
+        Job job = partitioned ? processAssistancePointsPartitionedJob : processAssistancePointsJob;
+
+        try {
+            validatePositive("chunkSize", chunkSize);
+            validatePositive("pageSize", pageSize);
+            validatePositive("partitionCount", partitionCount);
+
+            // Parámetros únicos para cada ejecución
+            JobParametersBuilder parametersBuilder = new JobParametersBuilder()
+                    .addString("timestamp", LocalDateTime.now().toString())
+                    .addLong("time", System.currentTimeMillis());
+
+            if (chunkSize != null) {
+                parametersBuilder.addLong("chunkSize", chunkSize.longValue());
+            }
+            if (pageSize != null) {
+                parametersBuilder.addLong("pageSize", pageSize.longValue());
+            }
+            if (partitioned) {
+                parametersBuilder.addLong("partitionCount", partitionCount.longValue());
+            }
+
+            JobExecution execution = asyncJobLauncher.launch(job, parametersBuilder.toJobParameters());
+
+            Map<String, Object> response = accepted(execution, job.getName());
+            response.put("message", "Assistance points job encolado");
+            response.put("description", "Procesando asistencias pendientes y sumando puntos");
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (TaskRejectedException e) {
+            return busy(e);
+        } catch (JobExecutionAlreadyRunningException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (Exception e) {
+            log.error("❌ Error ejecutando Assistance Points Job", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to execute assistance points job");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
+    /**
+     * Importa un volcado offline de escáner (CSV / NDJSON) ya copiado en congreso.batch.import.dir
+     * y luego suma los puntos de las asistencias PENDIENTE (importCheckInFileJob).
+     */
+    @PostMapping("/import-check-ins")
+    public ResponseEntity<Map<String, Object>> runImportCheckInFileJob(
+            @RequestParam String fileName,
+            @RequestParam(required = false) Integer chunkSize,
+            @RequestParam(required = false) Integer pageSize) {
+        log.info("🚀 Manual trigger: Import Check-In File Job (fileName={}, chunkSize={}, pageSize={})",
+                fileName, chunkSize, pageSize);
+
+        try {
+            validatePositive("chunkSize", chunkSize);
+            validatePositive("pageSize", pageSize);
+            Path file = resolveImportFile(fileName);
+
+            JobParametersBuilder parametersBuilder = new JobParametersBuilder()
+                    .addString("filePath", file.toString())
+                    .addString("timestamp", LocalDateTime.now().toString())
+                    .addLong("time", System.currentTimeMillis());
+
+            if (chunkSize != null) {
+                parametersBuilder.addLong("chunkSize", chunkSize.longValue());
+            }
+            if (pageSize != null) {
+                parametersBuilder.addLong("pageSize", pageSize.longValue());
+            }
+
+            JobExecution execution = asyncJobLauncher.launch(importCheckInFileJob, parametersBuilder.toJobParameters());
+
+            Map<String, Object> response = accepted(execution, importCheckInFileJob.getName());
+            response.put("message", "Import check-in file job encolado");
+            response.put("file", file.getFileName().toString());
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (TaskRejectedException e) {
+            return busy(e);
+        } catch (JobExecutionAlreadyRunningException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (Exception e) {
+            log.error("❌ Error ejecutando Import Check-In File Job", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to execute import check-in file job");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
+    /**
+     * Regresa a PENDIENTE las asistencias de la dead-letter con menos de maxAttempts fallos
+     * y las vuelve a procesar (reprocessDeadLettersJob).
+     */
+    @PostMapping("/reprocess-dead-letters")
+    public ResponseEntity<Map<String, Object>> runReprocessDeadLettersJob(
+            @RequestParam(required = false) Integer maxAttempts,
+            @RequestParam(required = false) Integer chunkSize) {
+        log.info("🚀 Manual trigger: Reprocess Dead Letters Job (maxAttempts={}, chunkSize={})", maxAttempts, chunkSize);
+
+        try {
+            validatePositive("maxAttempts", maxAttempts);
+            validatePositive("chunkSize", chunkSize);
+
+            JobParametersBuilder parametersBuilder = new JobParametersBuilder()
+                    .addString("timestamp", LocalDateTime.now().toString())
+                    .addLong("time", System.currentTimeMillis());
+
+            if (maxAttempts != null) {
+                parametersBuilder.addLong("maxAttempts", maxAttempts.longValue());
+            }
+            if (chunkSize != null) {
+                parametersBuilder.addLong("chunkSize", chunkSize.longValue());
+            }
+
+            JobExecution execution = asyncJobLauncher.launch(reprocessDeadLettersJob, parametersBuilder.toJobParameters());
+
+            Map<String, Object> response = accepted(execution, reprocessDeadLettersJob.getName());
+            response.put("message", "Reprocess dead letters job encolado");
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (TaskRejectedException e) {
+            return busy(e);
+        } catch (JobExecutionAlreadyRunningException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (Exception e) {
+            log.error("❌ Error ejecutando Reprocess Dead Letters Job", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to execute reprocess dead letters job");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
+    // ========== EJECUCIONES ==========
+
+    // Últimas ejecuciones, opcionalmente de un solo job
+    @GetMapping("/executions")
+    public ResponseEntity<List<JobProgress>> listExecutions(
+            @RequestParam(required = false) String jobName,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(asyncJobLauncher.listExecutions(jobName, limit));
+    }
+
+    // Estado, contadores, throughput, porcentaje y ETA (por step y del job)
+    @GetMapping("/executions/{executionId}")
+    public ResponseEntity<JobProgress> getExecution(@PathVariable Long executionId) {
+        return ResponseEntity.ok(asyncJobLauncher.getProgress(executionId));
+    }
+
+    @PostMapping("/executions/{executionId}/stop")
+    public ResponseEntity<JobProgress> stopExecution(@PathVariable Long executionId) {
+        asyncJobLauncher.stop(executionId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(asyncJobLauncher.getProgress(executionId));
+    }
+
+    // Reinicia una ejecución FAILED o STOPPED; continúa desde el último chunk confirmado
+    @PostMapping("/executions/{executionId}/restart")
+    public ResponseEntity<Map<String, Object>> restartExecution(@PathVariable Long executionId) {
+        log.info("🔁 Manual restart: executionId={}", executionId);
+        try {
+            JobExecution execution = asyncJobLauncher.restart(executionId);
+            Map<String, Object> response = accepted(execution, execution.getJobInstance().getJobName());
+            response.put("message", "Job reiniciado");
+            response.put("restartedFrom", executionId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (TaskRejectedException e) {
+            return busy(e);
+        } catch (JobExecutionAlreadyRunningException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (Exception e) {
+            log.error("❌ Error reiniciando la ejecución {}", executionId, e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to restart job execution");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
+    private Map<String, Object> accepted(JobExecution execution, String jobName) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", execution.getStatus().toString());
+        response.put("jobExecutionId", execution.getId());
+        response.put("jobName", jobName);
+        response.put("progressUrl", "/api/batch/executions/" + execution.getId());
+        return response;
+    }
+
+    // Pool y cola del launcher llenos
+    private ResponseEntity<Map<String, Object>> busy(TaskRejectedException e) {
+        log.warn("⚠️ Job rechazado: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Too many batch jobs queued");
+        errorResponse.put("message", e.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    // Otro job que suma puntos de asistencias sigue en curso (AsyncJobLauncher.ASSISTANCE_POINTS_JOBS)
+    private ResponseEntity<Map<String, Object>> conflict(JobExecutionAlreadyRunningException e) {
+        log.warn("⚠️ Job rechazado: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Batch job already running");
+        errorResponse.put("message", e.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // Parámetros inválidos o ejecución que no se puede reiniciar
+    private ResponseEntity<Map<String, Object>> badRequest(IllegalArgumentException e) {
+        log.warn("⚠️ Petición inválida: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Invalid batch job request");
+        errorResponse.put("message", e.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // El nombre no puede salir del directorio de importación (../, rutas absolutas)
+    private Path resolveImportFile(String fileName) {
+        Path base = Path.of(importDir).toAbsolutePath().normalize();
+        Path file = base.resolve(fileName).normalize();
+        if (!file.startsWith(base) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Archivo no encontrado en el directorio de importación: " + fileName);
+        }
+        CheckInFileReader.Format.of(file);
+        return file;
+    }
+
+    private void validatePositive(String name, Integer value) {
+        if (value != null && value < 1) {
+            throw new IllegalArgumentException(name + " debe ser mayor que 0");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.proyecto.congreso.pases.batch.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Una línea del volcado offline de un escáner: (passId, conferenciaId, timestamp).
+ * timestamp puede venir vacío; lineNumber sirve para reportar errores del archivo.
+ */
+public record CheckInRecord(
+        long lineNumber,
+        Long passId,
+        String conferenciaId,
+        LocalDateTime timestamp
+) {
+}
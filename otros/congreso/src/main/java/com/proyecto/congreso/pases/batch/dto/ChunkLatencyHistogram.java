@@ -0,0 +1,119 @@
+package com.proyecto.congreso.pases.batch.dto;
+
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Histograma de latencia por chunk (lectura + proceso + escritura + commit) de un step.
+ *
+ * Cubetas fijas en milisegundos (BUCKET_BOUNDS_MS + una de desbordamiento) para poder comparar
+ * ejecuciones con distinto chunkSize / pageSize. Los percentiles son aproximados: el límite
+ * superior de la cubeta donde caen, acotado por el máximo real.
+ *
+ * Lo usa un solo hilo (el del step); se guarda en el ExecutionContext del step al terminar.
+ */
+public final class ChunkLatencyHistogram {
+
+    public static final long[] BUCKET_BOUNDS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    static final String COUNTS_KEY = "metrics.chunkLatencyCounts";
+    static final String TOTAL_NANOS_KEY = "metrics.chunkLatencyTotalNanos";
+    static final String MIN_NANOS_KEY = "metrics.chunkLatencyMinNanos";
+    static final String MAX_NANOS_KEY = "metrics.chunkLatencyMaxNanos";
+
+    private final long[] counts = new long[BUCKET_BOUNDS_MS.length + 1];
+    private long count;
+    private long totalNanos;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos;
+
+    public void record(long nanos) {
+        long ms = nanos / 1_000_000;
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && ms > BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        counts[bucket]++;
+        count++;
+        totalNanos += nanos;
+        minNanos = Math.min(minNanos, nanos);
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Double minMs() {
+        return count == 0 ? null : toMs(minNanos);
+    }
+
+    public Double maxMs() {
+        return count == 0 ? null : toMs(maxNanos);
+    }
+
+    public Double meanMs() {
+        return count == 0 ? null : toMs(totalNanos / count);
+    }
+
+    // p en (0, 1]: límite de la primera cubeta que acumula p * count chunks
+    public Double percentileMs(double p) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(p * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min((double) BUCKET_BOUNDS_MS[i], maxMs());
+            }
+        }
+        return maxMs();
+    }
+
+    // Etiqueta = límite superior de la cubeta ("5ms", ..., "+Inf"); conserva el orden
+    public Map<String, Long> buckets() {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            buckets.put(BUCKET_BOUNDS_MS[i] + "ms", counts[i]);
+        }
+        buckets.put("+Inf", counts[BUCKET_BOUNDS_MS.length]);
+        return buckets;
+    }
+
+    public void writeTo(ExecutionContext context) {
+        List<Long> values = new ArrayList<>(counts.length);
+        for (long c : counts) {
+            values.add(c);
+        }
+        context.put(COUNTS_KEY, values);
+        context.putLong(TOTAL_NANOS_KEY, totalNanos);
+        context.putLong(MIN_NANOS_KEY, count == 0 ? 0 : minNanos);
+        context.putLong(MAX_NANOS_KEY, maxNanos);
+    }
+
+    public static ChunkLatencyHistogram readFrom(ExecutionContext context) {
+        ChunkLatencyHistogram histogram = new ChunkLatencyHistogram();
+        Object stored = context.get(COUNTS_KEY);
+        if (!(stored instanceof List<?> values) || values.size() != histogram.counts.length) {
+            return histogram;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            histogram.counts[i] = ((Number) values.get(i)).longValue();
+            histogram.count += histogram.counts[i];
+        }
+        histogram.totalNanos = context.getLong(TOTAL_NANOS_KEY, 0L);
+        histogram.minNanos = histogram.count == 0 ? Long.MAX_VALUE : context.getLong(MIN_NANOS_KEY, 0L);
+        histogram.maxNanos = context.getLong(MAX_NANOS_KEY, 0L);
+        return histogram;
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.proyecto.congreso.pases.batch.dto;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Avance de una ejecución de job leído del JobRepository (se actualiza en cada commit de chunk).
+ *
+ * El porcentaje y la ETA de un step salen de su ExecutionContext:
+ * - TOTAL_ITEMS_KEY: items esperados en esta ejecución del step; avance = read + readSkip.
+ * - TOTAL_BYTES_KEY / DONE_BYTES_KEY: bytes por leer y leídos en esta ejecución (imports de archivos).
+ * Sin esas claves el step solo reporta contadores. La ETA del job es la del step en curso más lento.
+ */
+public record JobProgress(
+        Long executionId,
+        String jobName,
+        String status,
+        String exitCode,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long readCount,
+        long writeCount,
+        long filterCount,
+        long skipCount,
+        long durationMs,
+        double itemsPerSecond,
+        Long etaMs,
+        List<StepProgress> steps
+) {
+
+    public static final String TOTAL_ITEMS_KEY = "progress.totalItems";
+    public static final String TOTAL_BYTES_KEY = "progress.totalBytes";
+    public static final String DONE_BYTES_KEY = "progress.doneBytes";
+
+    public record StepProgress(
+            String stepName,
+            String status,
+            long readCount,
+            long writeCount,
+            long filterCount,
+            long skipCount,
+            long commitCount,
+            long durationMs,
+            double itemsPerSecond,
+            Double percentComplete,
+            Long etaMs
+    ) {
+
+        static StepProgress of(StepExecution step, LocalDateTime now) {
+            long durationMs = elapsedMs(step.getStartTime(), step.getEndTime(), now);
+            Double percent = null;
+            Long eta = null;
+
+            ExecutionContext context = step.getExecutionContext();
+            long done = -1;
+            long total = -1;
+            if (context.containsKey(TOTAL_BYTES_KEY) && context.containsKey(DONE_BYTES_KEY)) {
+                done = context.getLong(DONE_BYTES_KEY);
+                total = context.getLong(TOTAL_BYTES_KEY);
+            } else if (context.containsKey(TOTAL_ITEMS_KEY)) {
+                done = step.getReadCount() + step.getReadSkipCount();
+                total = context.getLong(TOTAL_ITEMS_KEY);
+            }
+
+            if (step.getStatus().isRunning() && total >= 0) {
+                percent = total == 0 ? 100.0 : Math.min(100.0, done * 100.0 / total);
+                eta = done > 0 ? Math.max(0, (total - done)) * durationMs / done : null;
+            } else if (step.getStatus() == BatchStatus.COMPLETED) {
+                percent = 100.0;
+                eta = 0L;
+            }
+
+            return new StepProgress(
+                    step.getStepName(),
+                    step.getStatus().toString(),
+                    step.getReadCount(),
+                    step.getWriteCount(),
+                    step.getFilterCount(),
+                    step.getSkipCount(),
+                    step.getCommitCount(),
+                    durationMs,
+                    JobThroughput.itemsPerSecond(step.getWriteCount(), durationMs),
+                    percent,
+                    eta
+            );
+        }
+    }
+
+    public static JobProgress of(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StepProgress> steps = execution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(StepExecution::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(step -> StepProgress.of(step, now))
+                .toList();
+
+        long read = 0;
+        long written = 0;
+        long filtered = 0;
+        long skipped = 0;
+        for (StepExecution step : JobThroughput.countedSteps(execution)) {
+            read += step.getReadCount();
+            written += step.getWriteCount();
+            filtered += step.getFilterCount();
+            skipped += step.getSkipCount();
+        }
+
+        LocalDateTime start = execution.getStartTime() != null ? execution.getStartTime() : execution.getCreateTime();
+        long durationMs = elapsedMs(start, execution.getEndTime(), now);
+
+        Long eta = null;
+        if (execution.getStatus() == BatchStatus.COMPLETED) {
+            eta = 0L;
+        } else if (execution.isRunning()) {
+            eta = steps.stream()
+                    .filter(step -> step.etaMs() != null && !BatchStatus.COMPLETED.toString().equals(step.status()))
+                    .map(StepProgress::etaMs)
+                    .max(Long::compare)
+                    .orElse(null);
+        }
+
+        return new JobProgress(
+                execution.getId(),
+                execution.getJobInstance() != null ? execution.getJobInstance().getJobName() : null,
+                execution.getStatus().toString(),
+                execution.getExitStatus().getExitCode(),
+                execution.getStartTime(),
+                execution.getEndTime(),
+                read,
+                written,
+                filtered,
+                skipped,
+                durationMs,
+                JobThroughput.itemsPerSecond(written, durationMs),
+                eta,
+                steps
+        );
+    }
+
+    private static long elapsedMs(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        if (start == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(start, end != null ? end : now).toMillis());
+    }
+}
@@ -0,0 +1,70 @@
+package com.proyecto.congreso.pases.batch.dto;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resumen de rendimiento de una ejecución de job: items leídos / escritos / filtrados
+ * y throughput en items por segundo (sobre los items escritos).
+ *
+ * En jobs particionados el step manager acumula los contadores de sus workers; solo se
+ * suman los workers (countedSteps) para no contar dos veces.
+ */
+public record JobThroughput(
+        long readCount,
+        long writeCount,
+        long filterCount,
+        long durationMs,
+        double itemsPerSecond
+) {
+
+    // Separador de SimpleStepExecutionSplitter entre el step worker y el nombre de la partición
+    private static final String PARTITION_SEPARATOR = ":";
+
+    public static JobThroughput of(JobExecution jobExecution) {
+        long read = 0;
+        long written = 0;
+        long filtered = 0;
+        for (StepExecution step : countedSteps(jobExecution)) {
+            read += step.getReadCount();
+            written += step.getWriteCount();
+            filtered += step.getFilterCount();
+        }
+
+        LocalDateTime start = jobExecution.getStartTime() != null
+                ? jobExecution.getStartTime() : jobExecution.getCreateTime();
+        LocalDateTime end = jobExecution.getEndTime() != null
+                ? jobExecution.getEndTime() : LocalDateTime.now();
+        long durationMs = start != null ? Math.max(0, Duration.between(start, end).toMillis()) : 0;
+
+        return new JobThroughput(read, written, filtered, durationMs, itemsPerSecond(written, durationMs));
+    }
+
+    // Steps con trabajo propio: todos menos los managers de partición ("step" con workers "step:partitionN")
+    public static List<StepExecution> countedSteps(JobExecution jobExecution) {
+        Collection<StepExecution> steps = jobExecution.getStepExecutions();
+        return steps.stream()
+                .filter(step -> steps.stream().noneMatch(other ->
+                        other.getStepName().startsWith(step.getStepName() + PARTITION_SEPARATOR)))
+                .toList();
+    }
+
+    // Duración de un step; si aún no termina, hasta ahora
+    public static long durationMs(StepExecution step) {
+        if (step.getStartTime() == null) {
+            return 0;
+        }
+        LocalDateTime end = step.getEndTime() != null ? step.getEndTime() : LocalDateTime.now();
+        return Math.max(0, Duration.between(step.getStartTime(), end).toMillis());
+    }
+
+    public static double itemsPerSecond(long items, long durationMs) {
+        // Redondeado a 2 decimales; una duración de 0 ms se toma como 1 ms
+        return Math.round(items * 1000.0 / Math.max(1, durationMs) * 100.0) / 100.0;
+    }
+}
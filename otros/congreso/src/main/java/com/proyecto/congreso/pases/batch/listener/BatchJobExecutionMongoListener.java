@@ -1,76 +1,105 @@
-package com.proyecto.congreso.pases.batch.listener;
-
-import com.proyecto.congreso.pases.batch.model.BatchJobExecutionLog;
-import com.proyecto.congreso.pases.batch.repository.BatchJobExecutionLogRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.JobExecutionListener;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.stereotype.Component;
-
-/**
- * Listener que registra la ejecución de batch jobs en MongoDB.
- */
-@Slf4j
-@Component
-@RequiredArgsConstructor
-@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
-@ConditionalOnBean(name = "mongoTemplate")
-public class BatchJobExecutionMongoListener implements JobExecutionListener {
-
-    private final BatchJobExecutionLogRepository logRepository;
-
-    @Override
-    public void beforeJob(JobExecution jobExecution) {
-        log.info("🚀 Starting batch job: {} (ID: {})",
-                jobExecution.getJobInstance().getJobName(),
-                jobExecution.getId());
-
-        BatchJobExecutionLog executionLog = BatchJobExecutionLog.started(
-                jobExecution.getId(),
-                jobExecution.getJobInstance().getJobName()
-        );
-
-        logRepository.save(executionLog);
-    }
-
-    @Override
-    public void afterJob(JobExecution jobExecution) {
-        BatchJobExecutionLog log = logRepository.findByJobExecutionId(jobExecution.getId());
-
-        if (log == null) {
-            this.log.warn("No execution log found for job execution: {}", jobExecution.getId());
-            return;
-        }
-
-        if (jobExecution.getStatus().isUnsuccessful()) {
-            String errorMessage = jobExecution.getAllFailureExceptions().stream()
-                    .map(Throwable::getMessage)
-                    .reduce((a, b) -> a + "; " + b)
-                    .orElse("Unknown error");
-
-            log.failed(errorMessage);
-            this.log.error("❌ Batch job failed: {} - {}", jobExecution.getJobInstance().getJobName(), errorMessage);
-        } else {
-            // Get statistics from job context
-            Integer totalPass = (Integer) jobExecution.getExecutionContext().get("totalPass");
-            Integer passWithAdd = (Integer) jobExecution.getExecutionContext().get("passWithAdd");
-            Integer passWithUse = (Integer) jobExecution.getExecutionContext().get("passWithUse");
-
-            log.completed(
-                    totalPass != null ? totalPass : 0,
-                    passWithAdd != null ? passWithAdd : 0,
-                    passWithUse != null ? passWithUse : 0
-                    );
-
-            this.log.info("✅ Batch job completed: {} (Duration: {}ms, Pass: {}",
-                    jobExecution.getJobInstance().getJobName(),
-                    log.getDuration(),
-                    totalPass);
-        }
-
-        logRepository.save(log);
-    }
-}
+package com.proyecto.congreso.pases.batch.listener;
+
+import com.proyecto.congreso.pases.batch.dto.JobThroughput;
+import com.proyecto.congreso.pases.batch.model.BatchJobExecutionLog;
+import com.proyecto.congreso.pases.batch.model.StepMetrics;
+import com.proyecto.congreso.pases.batch.repository.BatchJobExecutionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Listener que registra la ejecución de batch jobs en MongoDB.
+ *
+ * Las estadísticas de pases (TOTAL_PASS_KEY, PASS_WITH_ADD_KEY, PASS_WITH_USE_KEY) las acumulan
+ * los writers en el ExecutionContext de su step; aquí se suman los de todos los steps (una
+ * partición = un step). Las métricas por step vienen de StepMetricsListener.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnBean(name = "mongoTemplate")
+public class BatchJobExecutionMongoListener implements JobExecutionListener {
+
+    public static final String TOTAL_PASS_KEY = "totalPass";
+    public static final String PASS_WITH_ADD_KEY = "passWithAdd";
+    public static final String PASS_WITH_USE_KEY = "passWithUse";
+
+    private final BatchJobExecutionLogRepository logRepository;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        log.info("🚀 Starting batch job: {} (ID: {})",
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getId());
+
+        BatchJobExecutionLog executionLog = BatchJobExecutionLog.started(
+                jobExecution.getId(),
+                jobExecution.getJobInstance().getJobName()
+        );
+
+        logRepository.save(executionLog);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        BatchJobExecutionLog log = logRepository.findByJobExecutionId(jobExecution.getId());
+
+        if (log == null) {
+            this.log.warn("No execution log found for job execution: {}", jobExecution.getId());
+            return;
+        }
+
+        JobThroughput throughput = JobThroughput.of(jobExecution);
+        log.recordThroughput(throughput);
+        log.recordSteps(JobThroughput.countedSteps(jobExecution).stream()
+                .sorted(Comparator.comparing(StepExecution::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(StepMetrics::of)
+                .toList());
+
+        if (jobExecution.getStatus().isUnsuccessful()) {
+            String errorMessage = jobExecution.getAllFailureExceptions().stream()
+                    .map(Throwable::getMessage)
+                    .reduce((a, b) -> a + "; " + b)
+                    .orElse("Unknown error");
+
+            log.failed(errorMessage);
+            this.log.error("❌ Batch job failed: {} - {}", jobExecution.getJobInstance().getJobName(), errorMessage);
+        } else {
+            int totalPass = sumStatistic(jobExecution, TOTAL_PASS_KEY);
+            int passWithAdd = sumStatistic(jobExecution, PASS_WITH_ADD_KEY);
+            int passWithUse = sumStatistic(jobExecution, PASS_WITH_USE_KEY);
+
+            log.completed(totalPass, passWithAdd, passWithUse);
+
+            this.log.info("✅ Batch job completed: {} (Duration: {}ms, Pass: {}, Items: {}, Items/sec: {}, Chunks: {}, SQL: {}, Mongo: {})",
+                    jobExecution.getJobInstance().getJobName(),
+                    log.getDuration(),
+                    totalPass,
+                    throughput.writeCount(),
+                    throughput.itemsPerSecond(),
+                    log.getChunkCount(),
+                    log.getSqlStatements(),
+                    log.getMongoCommands());
+        }
+
+        logRepository.save(log);
+    }
+
+    // Contexto del job (si algún step lo promovió) + contexto de cada step
+    private int sumStatistic(JobExecution jobExecution, String key) {
+        long total = jobExecution.getExecutionContext().getLong(key, 0L);
+        for (StepExecution step : jobExecution.getStepExecutions()) {
+            total += step.getExecutionContext().getLong(key, 0L);
+        }
+        return (int) total;
+    }
+}
@@ -0,0 +1,115 @@
+package com.proyecto.congreso.pases.batch.listener;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Cuenta las idas a base de datos (sentencias SQL ejecutadas y comandos de MongoDB)
+ * del hilo actual mientras un step está en curso (ver StepMetricsListener).
+ *
+ * Fuera de un step no se cuenta nada, pero el DataSource envuelto paga igual un proxy
+ * reflexivo por cada llamada JDBC; por eso BatchMetricsConfig solo lo engancha si
+ * congreso.batch.metrics.db-round-trips=true. Apagado, los steps registran 0 idas.
+ * Un JDBC batch (executeBatch) y un getMore de un cursor cuentan como una ida cada uno.
+ * Incluye las actualizaciones del JobRepository en cada commit de chunk.
+ */
+public final class DbRoundTripCounter {
+
+    public record DbRoundTrips(long sqlStatements, long mongoCommands) {
+    }
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+    private static final ClassLoader LOADER = DbRoundTripCounter.class.getClassLoader();
+
+    private DbRoundTripCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new long[2]);
+    }
+
+    public static DbRoundTrips stop() {
+        long[] counts = CURRENT.get();
+        CURRENT.remove();
+        return counts == null ? new DbRoundTrips(0, 0) : new DbRoundTrips(counts[0], counts[1]);
+    }
+
+    static void sqlStatement() {
+        long[] counts = CURRENT.get();
+        if (counts != null) {
+            counts[0]++;
+        }
+    }
+
+    static void mongoCommand() {
+        long[] counts = CURRENT.get();
+        if (counts != null) {
+            counts[1]++;
+        }
+    }
+
+    // Se registra en el MongoClient; el driver síncrono avisa en el hilo que ejecuta el comando
+    public static CommandListener mongoCommandListener() {
+        return new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                mongoCommand();
+            }
+        };
+    }
+
+    // Envuelve el DataSource para contar los execute* de los Statement que entrega
+    public static DataSource countingDataSource(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return countingConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(LOADER, new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> countingStatement(Statement.class, result);
+                case "prepareStatement" -> countingStatement(PreparedStatement.class, result);
+                case "prepareCall" -> countingStatement(CallableStatement.class, result);
+                default -> result;
+            };
+        });
+    }
+
+    private static Object countingStatement(Class<?> type, Object statement) {
+        return Proxy.newProxyInstance(LOADER, new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                sqlStatement();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
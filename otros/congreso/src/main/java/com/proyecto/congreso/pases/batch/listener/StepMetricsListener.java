@@ -0,0 +1,87 @@
+package com.proyecto.congreso.pases.batch.listener;
+
+import com.proyecto.congreso.pases.batch.dto.ChunkLatencyHistogram;
+import com.proyecto.congreso.pases.batch.dto.JobThroughput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Listener de step y de chunk que mide cada step de los jobs batch:
+ * - latencia de cada chunk en un histograma (ChunkLatencyHistogram)
+ * - idas a base de datos del hilo del step (DbRoundTripCounter)
+ *
+ * Al terminar el step guarda ambos en su ExecutionContext; BatchJobExecutionMongoListener
+ * los copia a batch_job_executions junto con los contadores read / write / filter / skip.
+ * Se comparte entre las particiones: el estado va por StepExecution, no en campos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class StepMetricsListener implements StepExecutionListener, ChunkListener {
+
+    public static final String SQL_STATEMENTS_KEY = "metrics.sqlStatements";
+    public static final String MONGO_COMMANDS_KEY = "metrics.mongoCommands";
+
+    private static final String CHUNK_START_ATTRIBUTE = "metrics.chunkStartNanos";
+
+    private final Map<Long, ChunkLatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        histograms.put(stepExecution.getId(), new ChunkLatencyHistogram());
+        DbRoundTripCounter.start();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(CHUNK_START_ATTRIBUTE, System.nanoTime());
+    }
+
+    // Solo chunks confirmados; los que hacen rollback quedan en rollbackCount
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Object start = context.removeAttribute(CHUNK_START_ATTRIBUTE);
+        ChunkLatencyHistogram histogram = histograms.get(context.getStepContext().getStepExecution().getId());
+        if (start instanceof Long startNanos && histogram != null) {
+            histogram.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        context.removeAttribute(CHUNK_START_ATTRIBUTE);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ChunkLatencyHistogram histogram = histograms.remove(stepExecution.getId());
+        DbRoundTripCounter.DbRoundTrips roundTrips = DbRoundTripCounter.stop();
+        if (histogram == null) {
+            return null;
+        }
+
+        histogram.writeTo(stepExecution.getExecutionContext());
+        stepExecution.getExecutionContext().putLong(SQL_STATEMENTS_KEY, roundTrips.sqlStatements());
+        stepExecution.getExecutionContext().putLong(MONGO_COMMANDS_KEY, roundTrips.mongoCommands());
+
+        log.info("📈 Step {}: {} chunks (p50={}ms, p95={}ms, max={}ms), {} SQL, {} Mongo, {} items/sec",
+                stepExecution.getStepName(),
+                histogram.count(),
+                histogram.percentileMs(0.50),
+                histogram.percentileMs(0.95),
+                histogram.maxMs(),
+                roundTrips.sqlStatements(),
+                roundTrips.mongoCommands(),
+                JobThroughput.itemsPerSecond(stepExecution.getWriteCount(), JobThroughput.durationMs(stepExecution)));
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.proyecto.congreso.pases.batch.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Asistencia que processAssistancesStep no pudo procesar (dead letter), con la causa.
+ *
+ * El _id es el de la Asistencia: si vuelve a fallar después de reprocesarse se actualiza la
+ * misma carta y se incrementa attempts. reprocessDeadLettersJob regresa las DEAD a PENDIENTE
+ * y las marca REQUEUED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "asistencia_dead_letters")
+// Drenado en páginas: status = DEAD AND attempts < max ORDER BY _id
+@CompoundIndex(name = "status_id_idx", def = "{'status': 1, '_id': 1}")
+public class AssistanceDeadLetter {
+
+    public static final String STATUS_DEAD = "DEAD";
+    public static final String STATUS_REQUEUED = "REQUEUED";
+
+    @Id
+    private String id;
+    private Long passId;
+    private String conferenciaId;
+    private Integer puntosOtorgados;
+
+    private String status; // DEAD, REQUEUED
+    private String phase; // PROCESS, WRITE
+    private String errorType;
+    private String errorMessage;
+    private Integer attempts;
+
+    private Long jobExecutionId;
+    private LocalDateTime firstFailedAt;
+    private LocalDateTime lastFailedAt;
+    private LocalDateTime requeuedAt;
+}
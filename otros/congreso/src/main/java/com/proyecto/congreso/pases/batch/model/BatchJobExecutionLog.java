@@ -1,58 +1,96 @@
-package com.proyecto.congreso.pases.batch.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-import java.time.LocalDateTime;
-/**
- * Modelo para almacenar los logs de ejecución de batch jobs en MongoDB.
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Document(collection = "batch_job_executions")
-public class BatchJobExecutionLog {
-
-    @Id
-    private String id;
-    private Long jobExecutionId;
-    private String jobName;
-    private String status; // STARTED, COMPLETED, FAILED
-    private LocalDateTime startTime;
-    private LocalDateTime endTime;
-    private Long duration; // milliseconds
-
-    // Estadísticas del job
-    private Integer totalPassProcessed;
-    private Integer passWithAddedPoints;
-    private Integer passWithUsedPoints;
-    private String errorMessage;
-
-    public static BatchJobExecutionLog started(Long jobExecutionId, String jobName) {
-        BatchJobExecutionLog log = new BatchJobExecutionLog();
-        log.setJobExecutionId(jobExecutionId);
-        log.setJobName(jobName);
-        log.setStatus("STARTED");
-        log.setStartTime(LocalDateTime.now());
-        return log;
-    }
-
-    public void completed(Integer totalPass, Integer passWithAdd, Integer passWithUse) {
-        this.setStatus("COMPLETED");
-        this.setEndTime(LocalDateTime.now());
-        this.setDuration(java.time.Duration.between(startTime, endTime).toMillis());
-        this.setTotalPassProcessed(totalPass);
-        this.setPassWithAddedPoints(passWithAdd);
-        this.setPassWithUsedPoints(passWithUse);
-    }
-
-    public void failed(String errorMessage) {
-        this.setStatus("FAILED");
-        this.setEndTime(LocalDateTime.now());
-        this.setDuration(java.time.Duration.between(startTime, endTime).toMillis());
-        this.setErrorMessage(errorMessage);
-    }
-}
+package com.proyecto.congreso.pases.batch.model;
+
+import com.proyecto.congreso.pases.batch.dto.JobThroughput;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Modelo para almacenar los logs de ejecución de batch jobs en MongoDB.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "batch_job_executions")
+@CompoundIndex(name = "job_name_start_idx", def = "{'jobName': 1, 'startTime': -1}")
+@CompoundIndex(name = "status_start_idx", def = "{'status': 1, 'startTime': -1}")
+public class BatchJobExecutionLog {
+
+    @Id
+    private String id;
+    @Indexed(name = "job_execution_idx")
+    private Long jobExecutionId;
+    private String jobName;
+    private String status; // STARTED, COMPLETED, FAILED
+    @Indexed(name = "start_time_idx", direction = IndexDirection.DESCENDING)
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long duration; // milliseconds
+
+    // Estadísticas del job
+    private Integer totalPassProcessed;
+    private Integer passWithAddedPoints;
+    private Integer passWithUsedPoints;
+    private String errorMessage;
+
+    // Throughput de los steps (items leídos / escritos / filtrados por el processor)
+    private Long itemsRead;
+    private Long itemsWritten;
+    private Long itemsFiltered;
+    private Double itemsPerSecond;
+
+    // Métricas por step (StepMetricsListener) y sus totales
+    private Long itemsSkipped;
+    private Long chunkCount;
+    private Long sqlStatements;
+    private Long mongoCommands;
+    private List<StepMetrics> steps;
+
+    public static BatchJobExecutionLog started(Long jobExecutionId, String jobName) {
+        BatchJobExecutionLog log = new BatchJobExecutionLog();
+        log.setJobExecutionId(jobExecutionId);
+        log.setJobName(jobName);
+        log.setStatus("STARTED");
+        log.setStartTime(LocalDateTime.now());
+        return log;
+    }
+
+    public void completed(Integer totalPass, Integer passWithAdd, Integer passWithUse) {
+        this.setStatus("COMPLETED");
+        this.setEndTime(LocalDateTime.now());
+        this.setDuration(java.time.Duration.between(startTime, endTime).toMillis());
+        this.setTotalPassProcessed(totalPass);
+        this.setPassWithAddedPoints(passWithAdd);
+        this.setPassWithUsedPoints(passWithUse);
+    }
+
+    public void recordThroughput(JobThroughput throughput) {
+        this.setItemsRead(throughput.readCount());
+        this.setItemsWritten(throughput.writeCount());
+        this.setItemsFiltered(throughput.filterCount());
+        this.setItemsPerSecond(throughput.itemsPerSecond());
+    }
+
+    public void recordSteps(List<StepMetrics> steps) {
+        this.setSteps(steps);
+        this.setItemsSkipped(steps.stream().mapToLong(StepMetrics::skipCount).sum());
+        this.setChunkCount(steps.stream().mapToLong(StepMetrics::getChunkCount).sum());
+        this.setSqlStatements(steps.stream().mapToLong(StepMetrics::getSqlStatements).sum());
+        this.setMongoCommands(steps.stream().mapToLong(StepMetrics::getMongoCommands).sum());
+    }
+
+    public void failed(String errorMessage) {
+        this.setStatus("FAILED");
+        this.setEndTime(LocalDateTime.now());
+        this.setDuration(java.time.Duration.between(startTime, endTime).toMillis());
+        this.setErrorMessage(errorMessage);
+    }
+}
@@ -0,0 +1,85 @@
+package com.proyecto.congreso.pases.batch.model;
+
+import com.proyecto.congreso.pases.batch.dto.ChunkLatencyHistogram;
+import com.proyecto.congreso.pases.batch.dto.JobThroughput;
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+/**
+ * Métricas de un step dentro de BatchJobExecutionLog (subdocumento de batch_job_executions).
+ * Sirven para comparar ejecuciones y ajustar chunkSize / pageSize.
+ */
+@Data
+@NoArgsConstructor
+public class StepMetrics {
+
+    private String stepName;
+    private String status;
+
+    private Long readCount;
+    private Long writeCount;
+    private Long filterCount;
+    private Long readSkipCount;
+    private Long processSkipCount;
+    private Long writeSkipCount;
+    private Long commitCount;
+    private Long rollbackCount;
+    private Long duration; // milliseconds
+    private Double itemsPerSecond;
+
+    // Latencia por chunk confirmado (ms); percentiles aproximados por cubeta
+    private Long chunkCount;
+    private Double chunkLatencyMinMs;
+    private Double chunkLatencyMeanMs;
+    private Double chunkLatencyP50Ms;
+    private Double chunkLatencyP95Ms;
+    private Double chunkLatencyP99Ms;
+    private Double chunkLatencyMaxMs;
+    private Map<String, Long> chunkLatencyHistogram;
+
+    // Idas a base de datos hechas por el hilo del step
+    private Long sqlStatements;
+    private Long mongoCommands;
+
+    public static StepMetrics of(StepExecution step) {
+        ExecutionContext context = step.getExecutionContext();
+        ChunkLatencyHistogram histogram = ChunkLatencyHistogram.readFrom(context);
+        long durationMs = JobThroughput.durationMs(step);
+
+        StepMetrics metrics = new StepMetrics();
+        metrics.setStepName(step.getStepName());
+        metrics.setStatus(step.getStatus().toString());
+        metrics.setReadCount(step.getReadCount());
+        metrics.setWriteCount(step.getWriteCount());
+        metrics.setFilterCount(step.getFilterCount());
+        metrics.setReadSkipCount(step.getReadSkipCount());
+        metrics.setProcessSkipCount(step.getProcessSkipCount());
+        metrics.setWriteSkipCount(step.getWriteSkipCount());
+        metrics.setCommitCount(step.getCommitCount());
+        metrics.setRollbackCount(step.getRollbackCount());
+        metrics.setDuration(durationMs);
+        metrics.setItemsPerSecond(JobThroughput.itemsPerSecond(step.getWriteCount(), durationMs));
+
+        metrics.setChunkCount(histogram.count());
+        metrics.setChunkLatencyMinMs(histogram.minMs());
+        metrics.setChunkLatencyMeanMs(histogram.meanMs());
+        metrics.setChunkLatencyP50Ms(histogram.percentileMs(0.50));
+        metrics.setChunkLatencyP95Ms(histogram.percentileMs(0.95));
+        metrics.setChunkLatencyP99Ms(histogram.percentileMs(0.99));
+        metrics.setChunkLatencyMaxMs(histogram.maxMs());
+        metrics.setChunkLatencyHistogram(histogram.buckets());
+
+        metrics.setSqlStatements(context.getLong(StepMetricsListener.SQL_STATEMENTS_KEY, 0L));
+        metrics.setMongoCommands(context.getLong(StepMetricsListener.MONGO_COMMANDS_KEY, 0L));
+        return metrics;
+    }
+
+    public long skipCount() {
+        return readSkipCount + processSkipCount + writeSkipCount;
+    }
+}
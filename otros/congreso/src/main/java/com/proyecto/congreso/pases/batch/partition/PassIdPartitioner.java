@@ -0,0 +1,34 @@
+package com.proyecto.congreso.pases.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Divide las asistencias pendientes por passId: la partición i procesa los pases con
+ * passId % gridSize == i.
+ *
+ * Todas las asistencias de un mismo Pass caen siempre en la misma partición (un solo hilo),
+ * así se conserva el orden por Pass y dos hilos nunca actualizan el balance del mismo Pass.
+ */
+public class PassIdPartitioner implements Partitioner {
+
+    public static final String PARTITION_INDEX = "partitionIndex";
+    public static final String PARTITION_COUNT = "partitionCount";
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitions = Math.max(1, gridSize);
+        Map<String, ExecutionContext> result = new HashMap<>(partitions);
+
+        for (int i = 0; i < partitions; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(PARTITION_INDEX, i);
+            context.putInt(PARTITION_COUNT, partitions);
+            result.put("passPartition" + i, context);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.model.AssistanceDeadLetter;
+import com.proyecto.congreso.points.assistance.dto.AsistenciaPointsData;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Dead-letter de processAssistancesStep (colección asistencia_dead_letters).
+ *
+ * - Como SkipListener recibe cada asistencia saltada (processor o writer), guarda la carta
+ *   con la causa y marca la Asistencia FALLIDA para que el reader no la vuelva a leer.
+ * - El writer manda en bloque las que fallan en la escritura sin excepción (Pass cerrado).
+ * - requeuePage regresa una página de cartas DEAD a PENDIENTE (reprocessDeadLettersJob).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AssistanceDeadLetterQueue implements SkipListener<Asistencia, AsistenciaPointsData> {
+
+    static final String PHASE_PROCESS = "PROCESS";
+    static final String PHASE_WRITE = "WRITE";
+
+    private final MongoTemplate mongoTemplate;
+
+    // ========== SKIP LISTENER ==========
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        // Sin item no hay a quién mandar a la dead-letter; el reader solo falla por Mongo
+        log.warn("⚠️ Lectura de asistencia saltada: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(Asistencia item, Throwable t) {
+        deadLetter(item.getId(), item.getPassId(), item.getConferenciaId(), item.getPuntosOtorgados(), PHASE_PROCESS, t);
+    }
+
+    @Override
+    public void onSkipInWrite(AsistenciaPointsData item, Throwable t) {
+        deadLetter(item.getAsistenciaId(), item.getPassId(), item.getConferenciaId(), item.getPointsAwarded(), PHASE_WRITE, t);
+    }
+
+    // ========== ESCRITURA EN BLOQUE ==========
+
+    // Un solo bulkWrite de cartas; las asistencias ya las marcó FALLIDA el writer
+    public void deadLetterAll(List<AsistenciaPointsData> items, String reason) {
+        if (items.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Long jobExecutionId = currentJobExecutionId();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AssistanceDeadLetter.class);
+        for (AsistenciaPointsData item : items) {
+            bulk.upsert(new Query(where("_id").is(item.getAsistenciaId())),
+                    letter(item.getPassId(), item.getConferenciaId(), item.getPointsAwarded(),
+                            PHASE_WRITE, PoisonAssistanceException.class.getSimpleName(), reason, jobExecutionId, now));
+        }
+        bulk.execute();
+        log.warn("☠️ {} asistencias enviadas a la dead-letter: {}", items.size(), reason);
+    }
+
+    // ========== REPROCESO ==========
+
+    /**
+     * Regresa a PENDIENTE hasta pageSize asistencias con carta DEAD y menos de maxAttempts
+     * fallos, y marca sus cartas REQUEUED. Tres operaciones por página, sin importar su tamaño.
+     * Si el proceso se cae entre ambas escrituras, la siguiente ejecución repite la página.
+     *
+     * @return cartas reencoladas (menos que pageSize = ya no quedan)
+     */
+    public int requeuePage(int maxAttempts, int pageSize) {
+        Query page = new Query(where("status").is(AssistanceDeadLetter.STATUS_DEAD).and("attempts").lt(maxAttempts))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(pageSize);
+        page.fields().include("_id");
+
+        List<String> ids = mongoTemplate.find(page, AssistanceDeadLetter.class).stream()
+                .map(AssistanceDeadLetter::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        mongoTemplate.updateMulti(new Query(where("_id").in(ids).and("status").is("FALLIDA")),
+                new Update().set("status", "PENDIENTE"), Asistencia.class);
+        mongoTemplate.updateMulti(new Query(where("_id").in(ids)),
+                new Update().set("status", AssistanceDeadLetter.STATUS_REQUEUED).set("requeuedAt", LocalDateTime.now()),
+                AssistanceDeadLetter.class);
+
+        log.info("🔁 {} asistencias de la dead-letter regresadas a PENDIENTE", ids.size());
+        return ids.size();
+    }
+
+    private void deadLetter(String asistenciaId, Long passId, String conferenciaId, Integer puntos,
+                            String phase, Throwable cause) {
+        log.warn("☠️ Asistencia {} (Pass {}) a la dead-letter en {}: {}", asistenciaId, passId, phase, cause.getMessage());
+
+        mongoTemplate.upsert(new Query(where("_id").is(asistenciaId)),
+                letter(passId, conferenciaId, puntos, phase, cause.getClass().getSimpleName(), cause.getMessage(),
+                        currentJobExecutionId(), LocalDateTime.now()),
+                AssistanceDeadLetter.class);
+        mongoTemplate.updateFirst(new Query(where("_id").is(asistenciaId)),
+                new Update().set("status", "FALLIDA"), Asistencia.class);
+    }
+
+    private Update letter(Long passId, String conferenciaId, Integer puntos, String phase,
+                          String errorType, String errorMessage, Long jobExecutionId, LocalDateTime now) {
+        return new Update()
+                .set("passId", passId)
+                .set("conferenciaId", conferenciaId)
+                .set("puntosOtorgados", puntos)
+                .set("status", AssistanceDeadLetter.STATUS_DEAD)
+                .set("phase", phase)
+                .set("errorType", errorType)
+                .set("errorMessage", errorMessage)
+                .set("jobExecutionId", jobExecutionId)
+                .set("lastFailedAt", now)
+                .setOnInsert("firstFailedAt", now)
+                .inc("attempts", 1)
+                .unset("requeuedAt");
+    }
+
+    private Long currentJobExecutionId() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepExecution().getJobExecutionId() : null;
+    }
+}
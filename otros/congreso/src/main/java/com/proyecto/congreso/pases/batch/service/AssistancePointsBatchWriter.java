@@ -0,0 +1,289 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
+import com.proyecto.congreso.pases.dto.PassBalanceView;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.pases.service.PassSummaryProjector;
+import com.proyecto.congreso.pases.service.PointsLeaderboard;
+import com.proyecto.congreso.points.assistance.dto.AsistenciaPointsData;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Writer del step processAssistancesStep que trabaja por chunk y no por item.
+ *
+ * Por cada chunk, en la transacción del chunk:
+ * 1. Descarta las asistencias que ya están en asistencias_aplicadas (puntos ya sumados)
+ * 2. Bloquea con SELECT ... FOR UPDATE los Pases activos del resto: el UPDATE de cada uno
+ *    seguro encuentra su fila, sin depender de los conteos del JDBC batch (con
+ *    rewriteBatchedStatements llegan como SUCCESS_NO_INFO)
+ * 3. Agrupa los puntos por passId y aplica los UPDATE en un único JDBC batch, más otro que
+ *    registra cada asistencia en asistencias_aplicadas
+ * 4. Lee los balances resultantes con un solo SELECT ... IN para verificar logros
+ *
+ * Después del commit marca las asistencias PROCESADA / FALLIDA con un único bulkWrite en
+ * MongoDB y manda las FALLIDA a la dead-letter. Si eso falla quedan PENDIENTE y la siguiente
+ * ejecución solo las marca (el paso 1 evita sumar dos veces). Por último recalcula el
+ * pass_summary de los Pases con asistencias PROCESADA (este camino no publica eventos).
+ *
+ * Acumula en el ExecutionContext del step los pases tocados y los que sumaron puntos
+ * (estadísticas de BatchJobExecutionMongoListener). Se comparte entre particiones, así
+ * que el step se toma del hilo actual y no de un campo.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AssistancePointsBatchWriter implements ItemWriter<AsistenciaPointsData> {
+
+    // Mismo efecto que PassRepository.addPoints, pero parametrizado para JDBC batch
+    static final String ADD_POINTS_SQL =
+            "UPDATE pases SET points_balance = points_balance + ?, points_add = 'ADD', " +
+            "updated_at = ?, version = version + 1 " +
+            "WHERE pass_id = ? AND status = 'ACTIVE'";
+
+    static final String SELECT_APPLIED_SQL =
+            "SELECT asistencia_id FROM asistencias_aplicadas WHERE asistencia_id IN (%s)";
+
+    // En orden de PK para que dos chunks nunca se bloqueen en orden inverso
+    static final String LOCK_ACTIVE_PASSES_SQL =
+            "SELECT pass_id FROM pases WHERE pass_id IN (%s) AND status = 'ACTIVE' ORDER BY pass_id FOR UPDATE";
+
+    static final String INSERT_APPLIED_SQL =
+            "INSERT INTO asistencias_aplicadas (asistencia_id, pass_id, points, applied_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PassRepository passRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PointsLeaderboard leaderboard;
+    private final AssistanceDeadLetterQueue deadLetters;
+    // null en el perfil test, donde no hay proyección
+    private final PassSummaryProjector summaryProjector;
+
+    @Override
+    public void write(Chunk<? extends AsistenciaPointsData> chunk) {
+        List<AsistenciaPointsData> items = chunk.getItems().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // 1. Las que ya sumaron puntos en una ejecución anterior solo se marcan
+        Set<String> alreadyApplied = findApplied(items);
+        List<AsistenciaPointsData> pending = items.stream()
+                .filter(data -> !alreadyApplied.contains(data.getAsistenciaId()))
+                .toList();
+
+        // 2. Pases activos, bloqueados hasta el commit del chunk
+        Set<Long> activePassIds = lockActivePasses(pending);
+        List<AsistenciaPointsData> toApply = pending.stream()
+                .filter(data -> activePassIds.contains(data.getPassId()))
+                .toList();
+
+        // 3. Agrupar puntos por Pass (se conserva el orden de lectura) y un solo JDBC batch
+        Map<Long, Integer> pointsByPass = new LinkedHashMap<>();
+        for (AsistenciaPointsData data : toApply) {
+            pointsByPass.merge(data.getPassId(), data.getPointsAwarded(), Integer::sum);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        applyPoints(pointsByPass, now);
+        recordApplied(toApply, now);
+
+        // 4. Balances resultantes en una sola consulta y verificación de logros
+        Map<Long, PassBalanceView> balances = pointsByPass.isEmpty()
+                ? Collections.emptyMap()
+                : passRepository.findBalanceViewsByPassIdIn(pointsByPass.keySet()).stream()
+                        .collect(Collectors.toMap(PassBalanceView::passId, Function.identity()));
+
+        balances.values().forEach(balance ->
+                checkAchievements(balance, balance.pointsBalance() - pointsByPass.get(balance.passId())));
+        balances.values().forEach(leaderboard::update);
+
+        List<AsistenciaPointsData> failed = pending.stream()
+                .filter(data -> !activePassIds.contains(data.getPassId()))
+                .toList();
+        failed.forEach(data -> log.error("❌ Pass {} no encontrado o no activo. Asistencia {} marcada como FALLIDA",
+                data.getPassId(), data.getAsistenciaId()));
+        afterCommit(() -> markAssistances(items, alreadyApplied, balances, failed));
+
+        recordPassStatistics((int) items.stream().map(AsistenciaPointsData::getPassId).distinct().count(),
+                balances.size());
+
+        log.info("✅ Chunk procesado: {} asistencias, {} pases actualizados, {} fallidas, {} ya aplicadas",
+                items.size(), balances.size(), failed.size(), alreadyApplied.size());
+    }
+
+    // Un solo bulkWrite para marcar todas las asistencias del chunk
+    private void markAssistances(List<AsistenciaPointsData> items, Set<String> alreadyApplied,
+                                 Map<Long, PassBalanceView> balances, List<AsistenciaPointsData> failed) {
+        Set<String> failedIds = failed.stream().map(AsistenciaPointsData::getAsistenciaId).collect(Collectors.toSet());
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class);
+        for (AsistenciaPointsData data : items) {
+            Query byId = new Query(where("_id").is(data.getAsistenciaId()));
+            PassBalanceView balance = balances.get(data.getPassId());
+
+            if (failedIds.contains(data.getAsistenciaId())) {
+                bulk.updateOne(byId, new Update().set("status", "FALLIDA"));
+            } else if (balance != null) {
+                bulk.updateOne(byId, new Update()
+                        .set("status", "PROCESADA")
+                        .set("participantId", balance.participantId()));
+            } else {
+                // Sus puntos ya estaban en asistencias_aplicadas
+                bulk.updateOne(byId, new Update().set("status", "PROCESADA"));
+            }
+        }
+        bulk.execute();
+        deadLetters.deadLetterAll(failed, "Pass no encontrado o no activo al escribir");
+
+        refreshSummaries(items.stream()
+                .filter(data -> !failedIds.contains(data.getAsistenciaId()))
+                .map(AsistenciaPointsData::getPassId)
+                .collect(Collectors.toSet()));
+    }
+
+    private void refreshSummaries(Set<Long> passIds) {
+        if (summaryProjector == null) {
+            return;
+        }
+        try {
+            summaryProjector.refresh(passIds);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ No se pudo actualizar pass_summary de {} pases; se corrige con el siguiente evento " +
+                    "o con rebuildPassSummaryJob: {}", passIds.size(), e.getMessage());
+        }
+    }
+
+    // Con la transacción del chunk, después de su commit; un rollback no marca nada
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.error("❌ No se pudieron marcar las asistencias del chunk; quedan PENDIENTE y se marcan " +
+                            "en la siguiente ejecución sin volver a sumar puntos", e);
+                }
+            }
+        });
+    }
+
+    private void recordPassStatistics(int touched, int withAddedPoints) {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null) {
+            return;
+        }
+        ExecutionContext context = stepContext.getStepExecution().getExecutionContext();
+        context.putLong(BatchJobExecutionMongoListener.TOTAL_PASS_KEY,
+                context.getLong(BatchJobExecutionMongoListener.TOTAL_PASS_KEY, 0L) + touched);
+        context.putLong(BatchJobExecutionMongoListener.PASS_WITH_ADD_KEY,
+                context.getLong(BatchJobExecutionMongoListener.PASS_WITH_ADD_KEY, 0L) + withAddedPoints);
+    }
+
+    private Set<String> findApplied(List<AsistenciaPointsData> items) {
+        List<String> ids = items.stream().map(AsistenciaPointsData::getAsistenciaId).distinct().toList();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                String.format(SELECT_APPLIED_SQL, placeholders(ids.size())), String.class, ids.toArray()));
+    }
+
+    private Set<Long> lockActivePasses(List<AsistenciaPointsData> items) {
+        if (items.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> passIds = items.stream().map(AsistenciaPointsData::getPassId).distinct().toList();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                String.format(LOCK_ACTIVE_PASSES_SQL, placeholders(passIds.size())), Long.class, passIds.toArray()));
+    }
+
+    // Los Pases están bloqueados y activos: cada UPDATE afecta su fila
+    private void applyPoints(Map<Long, Integer> pointsByPass, Timestamp now) {
+        if (pointsByPass.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> updates = new ArrayList<>(pointsByPass.entrySet());
+
+        jdbcTemplate.batchUpdate(ADD_POINTS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, updates.get(i).getValue());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, updates.get(i).getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return updates.size();
+            }
+        });
+    }
+
+    private void recordApplied(List<AsistenciaPointsData> applied, Timestamp now) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_APPLIED_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AsistenciaPointsData data = applied.get(i);
+                ps.setString(1, data.getAsistenciaId());
+                ps.setLong(2, data.getPassId());
+                ps.setInt(3, data.getPointsAwarded());
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return applied.size();
+            }
+        });
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // Los estados se marcan con UPDATE condicional, igual que en PassPointsEventHandler
+    private void checkAchievements(PassBalanceView balance, Integer oldBalance) {
+        // Certificado (25 puntos)
+        if (balance.crossedCertificate(oldBalance)
+                && passRepository.markCertificateReached(balance.passId()) == 1) {
+            log.info("🏆 Certificado alcanzado: Pass ID {}", balance.passId());
+        }
+
+        // Acceso Especial (30 puntos)
+        if (balance.crossedSpecialAccess(oldBalance)
+                && passRepository.markSpecialAccessReached(balance.passId()) == 1) {
+            log.info("🏆 Acceso Especial alcanzado: Pass ID {}", balance.passId());
+        }
+    }
+}
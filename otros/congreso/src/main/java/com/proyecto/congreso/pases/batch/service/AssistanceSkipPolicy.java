@@ -0,0 +1,47 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.util.List;
+
+/**
+ * Política de skip de processAssistancesStep:
+ * - PoisonAssistanceException: siempre se salta (son datos, no fallas).
+ * - Errores transitorios de MySQL / Mongo (TRANSIENT_EXCEPTIONS): se reintentan con backoff
+ *   y nunca se saltan; si se agotan los reintentos el step falla y se puede reiniciar.
+ * - Cualquier otra excepción: se salta mientras el step lleve menos de skipLimit items
+ *   saltados (Spring Batch cuenta todos, incluidos los poison).
+ * Todo lo saltado termina en la dead-letter (AssistanceDeadLetterQueue).
+ */
+public class AssistanceSkipPolicy implements SkipPolicy {
+
+    // Spring traduce aquí timeouts, deadlocks y conexiones caídas de JDBC y del driver de Mongo
+    public static final List<Class<? extends Throwable>> TRANSIENT_EXCEPTIONS = List.of(
+            TransientDataAccessException.class,
+            RecoverableDataAccessException.class,
+            DataAccessResourceFailureException.class);
+
+    private final long skipLimit;
+
+    public AssistanceSkipPolicy(long skipLimit) {
+        this.skipLimit = skipLimit;
+    }
+
+    @Override
+    public boolean shouldSkip(Throwable t, long skipCount) {
+        if (t instanceof PoisonAssistanceException) {
+            return true;
+        }
+        if (isTransient(t)) {
+            return false;
+        }
+        return t instanceof Exception && skipCount < skipLimit;
+    }
+
+    public static boolean isTransient(Throwable t) {
+        return TRANSIENT_EXCEPTIONS.stream().anyMatch(type -> type.isInstance(t));
+    }
+}
@@ -0,0 +1,197 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.dto.JobProgress;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobExecutionNotRunningException;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lanza jobs fuera del hilo HTTP y expone su avance, stop y restart.
+ *
+ * Usa su propio TaskExecutorJobLauncher con un pool acotado (pool-size hilos y queue-capacity
+ * en espera): la petición regresa apenas se crea la JobExecution. No se registra como bean
+ * JobLauncher para no cambiar el launcher síncrono de Spring Boot (jobs al arranque). Todo
+ * lanzamiento por HTTP pasa por aquí: /api/batch, NotificationDispatchJobController y
+ * PassSummaryController.
+ *
+ * Los jobs de ASSISTANCE_POINTS_JOBS suman puntos sobre las mismas asistencias PENDIENTE
+ * (processAssistancesStep o su variante particionada): si uno de ellos está en curso, launch
+ * y restart de cualquiera del grupo lanzan JobExecutionAlreadyRunningException (409). La
+ * verificación y la creación de la JobExecution van bajo el mismo lock (una instancia).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncJobLauncher {
+
+    public static final int MAX_LIST_LIMIT = 100;
+
+    public static final Set<String> ASSISTANCE_POINTS_JOBS = Set.of(
+            "processAssistancePointsJob",
+            "processAssistancePointsPartitionedJob",
+            "importCheckInFileJob",
+            "reprocessDeadLettersJob");
+
+    private final JobExplorer jobExplorer;
+    private final JobRegistry jobRegistry;
+    private final JobOperator jobOperator;
+    private final ThreadPoolTaskExecutor executor;
+    private final TaskExecutorJobLauncher launcher;
+    private final Object assistancePointsLock = new Object();
+
+    public AsyncJobLauncher(JobRepository jobRepository,
+                            JobExplorer jobExplorer,
+                            JobRegistry jobRegistry,
+                            JobOperator jobOperator,
+                            @Value("${congreso.batch.launcher.pool-size:2}") int poolSize,
+                            @Value("${congreso.batch.launcher.queue-capacity:10}") int queueCapacity) {
+        this.jobExplorer = jobExplorer;
+        this.jobRegistry = jobRegistry;
+        this.jobOperator = jobOperator;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-launcher-");
+        executor.initialize();
+
+        this.launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.setTaskExecutor(executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // ========== LANZAR / REINICIAR / DETENER ==========
+
+    /**
+     * Crea la JobExecution y la encola; regresa en estado STARTING / STARTED.
+     * Con el pool y la cola llenos lanza TaskRejectedException (el controller responde 503);
+     * con otro job de ASSISTANCE_POINTS_JOBS en curso, JobExecutionAlreadyRunningException (409).
+     */
+    public JobExecution launch(Job job, JobParameters parameters) throws Exception {
+        if (!ASSISTANCE_POINTS_JOBS.contains(job.getName())) {
+            return enqueue(job, parameters);
+        }
+        synchronized (assistancePointsLock) {
+            for (String name : ASSISTANCE_POINTS_JOBS) {
+                Set<JobExecution> running = jobExplorer.findRunningJobExecutions(name);
+                if (!running.isEmpty()) {
+                    throw new JobExecutionAlreadyRunningException("Ya hay una ejecución en curso que suma puntos de asistencias: "
+                            + name + " (executionId=" + running.iterator().next().getId() + ")");
+                }
+            }
+            return enqueue(job, parameters);
+        }
+    }
+
+    private JobExecution enqueue(Job job, JobParameters parameters) throws Exception {
+        if (executor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+            throw new TaskRejectedException("Cola de jobs llena; intente más tarde");
+        }
+        JobExecution execution = launcher.run(job, parameters);
+        // Si el pool rechazó la tarea entre la verificación y el run, el launcher la deja FAILED
+        if (execution.getStatus() == BatchStatus.FAILED && execution.getStartTime() == null) {
+            throw new TaskRejectedException("Cola de jobs llena; intente más tarde");
+        }
+        log.info("🚀 Job {} encolado: executionId={}", job.getName(), execution.getId());
+        return execution;
+    }
+
+    /**
+     * Reinicia una ejecución FAILED o STOPPED con sus mismos JobParameters: Spring Batch
+     * retoma la misma JobInstance y los readers continúan desde su último commit.
+     * Si la ejecución (u otra de su grupo) sigue en curso lanza JobExecutionAlreadyRunningException.
+     */
+    public JobExecution restart(long executionId) throws Exception {
+        JobExecution previous = getExecution(executionId);
+        BatchStatus status = previous.getStatus();
+        if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            throw new IllegalArgumentException("Solo se pueden reiniciar ejecuciones FAILED o STOPPED (estado: " + status + ")");
+        }
+        String jobName = previous.getJobInstance().getJobName();
+        try {
+            Job job = jobRegistry.getJob(jobName);
+            return launch(job, previous.getJobParameters());
+        } catch (NoSuchJobException e) {
+            throw new IllegalArgumentException("Job no registrado: " + jobName);
+        } catch (JobInstanceAlreadyCompleteException | JobRestartException e) {
+            throw new IllegalArgumentException("No se puede reiniciar la ejecución " + executionId + ": " + e.getMessage());
+        }
+    }
+
+    // Pide detener la ejecución: el step termina al cerrar el chunk en curso (queda STOPPED)
+    public void stop(long executionId) {
+        try {
+            jobOperator.stop(executionId);
+            log.info("🛑 Stop solicitado para la ejecución {}", executionId);
+        } catch (NoSuchJobExecutionException e) {
+            throw new IllegalArgumentException("Ejecución no encontrada: " + executionId);
+        } catch (JobExecutionNotRunningException e) {
+            throw new IllegalArgumentException("La ejecución " + executionId + " no está en curso");
+        }
+    }
+
+    // ========== CONSULTAS ==========
+
+    public JobProgress getProgress(long executionId) {
+        return JobProgress.of(getExecution(executionId));
+    }
+
+    // Últimas ejecuciones (más recientes primero), de un job o de todos
+    public List<JobProgress> listExecutions(String jobName, int limit) {
+        if (limit < 1 || limit > MAX_LIST_LIMIT) {
+            throw new IllegalArgumentException("limit debe estar entre 1 y " + MAX_LIST_LIMIT);
+        }
+        List<String> jobNames = jobName != null ? List.of(jobName) : jobExplorer.getJobNames();
+
+        List<JobExecution> executions = new ArrayList<>();
+        for (String name : jobNames) {
+            for (JobInstance instance : jobExplorer.getJobInstances(name, 0, limit)) {
+                executions.addAll(jobExplorer.getJobExecutions(instance));
+            }
+        }
+        return executions.stream()
+                .sorted(Comparator.comparing(JobExecution::getId).reversed())
+                .limit(limit)
+                .map(JobProgress::of)
+                .toList();
+    }
+
+    private JobExecution getExecution(long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null) {
+            throw new IllegalArgumentException("Ejecución no encontrada: " + executionId);
+        }
+        return execution;
+    }
+}
@@ -0,0 +1,287 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.congreso.pases.batch.dto.CheckInRecord;
+import com.proyecto.congreso.pases.batch.dto.JobProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.file.FlatFileParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reader de volcados de check-ins de escáneres (CSV o NDJSON) que pueden pesar varios GB.
+ *
+ * Lee el archivo con un FileChannel y un buffer fijo (NIO), separa líneas a mano y solo
+ * decodifica una línea a la vez: la memoria no depende del tamaño del archivo.
+ *
+ * CSV: passId,conferenciaId[,timestamp] con encabezado opcional.
+ * NDJSON: {"passId":1,"conferenciaId":"C1","timestamp":"2025-03-01T10:00:00"}.
+ * timestamp acepta ISO-8601 (con o sin offset) o epoch en milisegundos.
+ *
+ * El offset en bytes del inicio de la siguiente línea se guarda en el ExecutionContext en cada
+ * commit de chunk: al reiniciar un job fallido se hace seek a ese offset. Una línea mal formada
+ * lanza FlatFileParseException después de avanzar el offset, así el step puede saltarla.
+ */
+@Slf4j
+public class CheckInFileReader extends ItemStreamSupport implements ItemStreamReader<CheckInRecord> {
+
+    static final String OFFSET_KEY = "offset";
+    static final String LINE_NUMBER_KEY = "lineNumber";
+    static final String FILE_SIZE_KEY = "fileSize";
+
+    // Cada cuántos bytes leídos se registra el avance en el log
+    private static final long PROGRESS_INTERVAL_BYTES = 64L * 1024 * 1024;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format of(Path path) {
+            String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Formato no soportado (se espera .csv, .ndjson o .jsonl): " + path.getFileName());
+        }
+    }
+
+    private final Path path;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+
+    private FileChannel channel;
+    private ByteBuffer buffer;
+    private byte[] line = new byte[256];
+    private long offset;
+    private long startOffset;
+    private long lineNumber;
+    private long fileSize;
+    private long nextProgressAt;
+    private boolean eof;
+
+    public CheckInFileReader(Path path, Format format, ObjectMapper objectMapper, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        this.path = path;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        setName("checkInFileReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String offsetKey = getExecutionContextKey(OFFSET_KEY);
+        offset = executionContext.containsKey(offsetKey) ? executionContext.getLong(offsetKey) : 0L;
+        lineNumber = executionContext.getLong(getExecutionContextKey(LINE_NUMBER_KEY), 0L);
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileSize = channel.size();
+            channel.position(offset);
+        } catch (IOException e) {
+            throw new ItemStreamException("No se pudo abrir el archivo de check-ins: " + path, e);
+        }
+        if (offset > 0) {
+            log.info("🔁 Reanudando importación de {} desde el byte {} (línea {})", path.getFileName(), offset, lineNumber);
+        }
+        buffer = ByteBuffer.allocate(bufferSize);
+        buffer.flip();
+        eof = false;
+        startOffset = offset;
+        nextProgressAt = offset + PROGRESS_INTERVAL_BYTES;
+        putProgress(executionContext);
+    }
+
+    @Override
+    public CheckInRecord read() {
+        int length;
+        while ((length = nextLine()) >= 0) {
+            String text = new String(line, 0, length, StandardCharsets.UTF_8).trim();
+            if (text.isEmpty() || (lineNumber == 1 && format == Format.CSV && isCsvHeader(text))) {
+                continue;
+            }
+            return parse(text);
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(OFFSET_KEY), offset);
+        executionContext.putLong(getExecutionContextKey(LINE_NUMBER_KEY), lineNumber);
+        executionContext.putLong(getExecutionContextKey(FILE_SIZE_KEY), fileSize);
+        putProgress(executionContext);
+    }
+
+    // Avance de esta ejecución del step (en un restart cuenta desde el offset de reanudación)
+    private void putProgress(ExecutionContext executionContext) {
+        executionContext.putLong(JobProgress.TOTAL_BYTES_KEY, Math.max(0, fileSize - startOffset));
+        executionContext.putLong(JobProgress.DONE_BYTES_KEY, offset - startOffset);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("No se pudo cerrar el archivo de check-ins: " + path, e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    // ========== LECTURA POR LÍNEAS ==========
+
+    // Copia la siguiente línea (sin el salto) en `line` y devuelve su largo; -1 al final del archivo
+    private int nextLine() {
+        int length = 0;
+        while (true) {
+            if (!buffer.hasRemaining() && !fill()) {
+                if (length == 0) {
+                    return -1;
+                }
+                advance(length, 0);
+                return stripCarriageReturn(length);
+            }
+            byte[] array = buffer.array();
+            int start = buffer.position();
+            int end = buffer.limit();
+            int newline = start;
+            while (newline < end && array[newline] != '\n') {
+                newline++;
+            }
+            int chunk = newline - start;
+            ensureCapacity(length + chunk);
+            System.arraycopy(array, start, line, length, chunk);
+            length += chunk;
+            if (newline < end) {
+                buffer.position(newline + 1);
+                advance(length, 1);
+                return stripCarriageReturn(length);
+            }
+            buffer.position(end);
+        }
+    }
+
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        try {
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            eof = read < 0;
+            return read > 0;
+        } catch (IOException e) {
+            throw new ItemStreamException("Error leyendo el archivo de check-ins: " + path, e);
+        }
+    }
+
+    private void advance(int length, int separator) {
+        offset += length + separator;
+        lineNumber++;
+        if (offset >= nextProgressAt) {
+            nextProgressAt = offset + PROGRESS_INTERVAL_BYTES;
+            log.info("📥 Importando {}: {} MB de {} MB ({}%)", path.getFileName(),
+                    offset / (1024 * 1024), fileSize / (1024 * 1024), fileSize > 0 ? offset * 100 / fileSize : 100);
+        }
+    }
+
+    private int stripCarriageReturn(int length) {
+        return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > line.length) {
+            line = Arrays.copyOf(line, Math.max(capacity, line.length * 2));
+        }
+    }
+
+    // ========== PARSEO ==========
+
+    private CheckInRecord parse(String text) {
+        try {
+            return format == Format.CSV ? parseCsv(text) : parseNdjson(text);
+        } catch (IOException | RuntimeException e) {
+            throw new FlatFileParseException("Línea " + lineNumber + " inválida: " + e.getMessage(), e, text, (int) lineNumber);
+        }
+    }
+
+    private CheckInRecord parseCsv(String text) {
+        String[] fields = text.split(",", -1);
+        if (fields.length < 2) {
+            throw new IllegalArgumentException("se esperan passId,conferenciaId[,timestamp]");
+        }
+        return toRecord(Long.valueOf(unquote(fields[0])), unquote(fields[1]),
+                fields.length > 2 ? unquote(fields[2]) : null);
+    }
+
+    private CheckInRecord parseNdjson(String text) throws IOException {
+        JsonNode node = objectMapper.readTree(text);
+        JsonNode passId = node.get("passId");
+        JsonNode conferenciaId = node.get("conferenciaId");
+        if (passId == null || !passId.canConvertToLong() || conferenciaId == null || conferenciaId.isNull()) {
+            throw new IllegalArgumentException("passId y conferenciaId son requeridos");
+        }
+        JsonNode timestamp = node.get("timestamp");
+        return toRecord(passId.asLong(), conferenciaId.asText(),
+                timestamp != null && !timestamp.isNull() ? timestamp.asText() : null);
+    }
+
+    private CheckInRecord toRecord(Long passId, String conferenciaId, String timestamp) {
+        if (conferenciaId.isEmpty()) {
+            throw new IllegalArgumentException("conferenciaId es requerido");
+        }
+        return new CheckInRecord(lineNumber, passId, conferenciaId, parseTimestamp(timestamp));
+    }
+
+    static LocalDateTime parseTimestamp(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (value.chars().allMatch(Character::isDigit)) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value)), ZoneId.systemDefault());
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+    }
+
+    // Encabezado: la primera columna de la primera línea no es un passId numérico
+    private static boolean isCsvHeader(String text) {
+        String first = unquote(text.split(",", 2)[0]);
+        return first.isEmpty() || !Character.isDigit(first.charAt(0));
+    }
+
+    private static String unquote(String field) {
+        String value = field.trim();
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                ? value.substring(1, value.length() - 1).trim() : value;
+    }
+}
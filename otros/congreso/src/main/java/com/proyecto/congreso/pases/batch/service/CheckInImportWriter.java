@@ -0,0 +1,99 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writer del import de volcados de escáneres: inserta las asistencias PENDIENTE de un chunk
+ * en un solo bulkWrite no ordenado, sin las que ya existen.
+ *
+ * Los duplicados (repetidos en el chunk, ya registrados o insertados por otro escaneo
+ * mientras tanto) se descartan: así reimportar un archivo o reintentar un chunk después de un
+ * restart no duplica asistencias. El total descartado queda en el ExecutionContext del step.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CheckInImportWriter implements ItemWriter<Asistencia>, StepExecutionListener {
+
+    static final String DUPLICATES_KEY = "duplicates";
+
+    private final AsistenciaRepository asistenciaRepository;
+    private final MongoTemplate mongoTemplate;
+
+    private StepExecution stepExecution;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public void write(Chunk<? extends Asistencia> chunk) {
+        // 1. Una asistencia por (passId, conferenciaId) dentro del chunk
+        Map<String, Asistencia> candidates = new LinkedHashMap<>();
+        chunk.getItems().forEach(asistencia ->
+                candidates.putIfAbsent(key(asistencia.getPassId(), asistencia.getConferenciaId()), asistencia));
+
+        // 2. Una sola consulta $in por las ya registradas
+        Set<Long> passIds = candidates.values().stream().map(Asistencia::getPassId).collect(Collectors.toSet());
+        Set<String> conferenciaIds = candidates.values().stream()
+                .map(Asistencia::getConferenciaId).collect(Collectors.toSet());
+        if (!candidates.isEmpty()) {
+            asistenciaRepository.findCheckInKeys(passIds, conferenciaIds)
+                    .forEach(existing -> candidates.remove(key(existing.getPassId(), existing.getConferenciaId())));
+        }
+
+        // 3. bulkWrite no ordenado; una clave duplicada no detiene el resto
+        List<Asistencia> asistencias = List.copyOf(candidates.values());
+        int rejectedAsDuplicate = 0;
+        if (!asistencias.isEmpty()) {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)
+                        .insert(asistencias)
+                        .execute();
+            } catch (BulkOperationException e) {
+                List<BulkWriteError> others = e.getErrors().stream()
+                        .filter(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)
+                        .toList();
+                if (!others.isEmpty()) {
+                    throw e;
+                }
+                rejectedAsDuplicate = e.getErrors().size();
+            }
+        }
+
+        int duplicates = chunk.size() - asistencias.size() + rejectedAsDuplicate;
+        recordDuplicates(duplicates);
+        log.info("📥 Chunk importado: {} asistencias PENDIENTE nuevas, {} duplicadas",
+                asistencias.size() - rejectedAsDuplicate, duplicates);
+    }
+
+    private void recordDuplicates(int duplicates) {
+        if (stepExecution != null && duplicates > 0) {
+            ExecutionContext context = stepExecution.getExecutionContext();
+            context.putLong(DUPLICATES_KEY, context.getLong(DUPLICATES_KEY, 0L) + duplicates);
+        }
+    }
+
+    private static String key(Long passId, String conferenciaId) {
+        return passId + ":" + conferenciaId;
+    }
+}
@@ -0,0 +1,71 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reader de todos los Pases por keyset sobre passId (WHERE passId > último ORDER BY passId),
+ * restartable desde el último passId confirmado, igual que PendingAssistanceKeysetReader.
+ */
+@Slf4j
+public class PassKeysetReader extends ItemStreamSupport implements ItemStreamReader<Pass> {
+
+    static final String LAST_PASS_ID_KEY = "lastPassId";
+
+    private final PassRepository passRepository;
+    private final int pageSize;
+
+    private final Deque<Pass> page = new ArrayDeque<>();
+    private long lastPassId;
+    private boolean exhausted;
+
+    public PassKeysetReader(PassRepository passRepository, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        this.passRepository = passRepository;
+        this.pageSize = pageSize;
+        setName("passKeysetReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_PASS_ID_KEY);
+        lastPassId = executionContext.containsKey(key) ? executionContext.getLong(key) : 0L;
+        if (lastPassId > 0) {
+            log.info("🔁 Reanudando lectura de Pases desde passId > {}", lastPassId);
+        }
+        page.clear();
+        exhausted = false;
+    }
+
+    @Override
+    public Pass read() {
+        if (page.isEmpty() && !exhausted) {
+            List<Pass> results = passRepository.findByPassIdGreaterThanOrderByPassIdAsc(lastPassId, Limit.of(pageSize));
+            page.addAll(results);
+            exhausted = results.size() < pageSize;
+        }
+
+        Pass next = page.poll();
+        if (next != null) {
+            lastPassId = next.getPassId();
+        }
+        return next;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(LAST_PASS_ID_KEY), lastPassId);
+    }
+}
@@ -0,0 +1,114 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.dto.JobProgress;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reader de asistencias PENDIENTE por keyset sobre _id (sin skip/limit).
+ *
+ * Cada página es "status = PENDIENTE AND _id > último _id leído" ordenada por _id y
+ * limitada a pageSize, así el costo por página es constante aunque el writer vaya
+ * cambiando documentos a PROCESADA, y en memoria solo vive una página.
+ *
+ * El último _id leído (watermark) se guarda en el ExecutionContext en cada commit de chunk:
+ * al reiniciar un job fallido se continúa desde ahí.
+ *
+ * Al abrir cuenta las pendientes que le tocan (JobProgress.TOTAL_ITEMS_KEY) para reportar
+ * avance y ETA mientras corre.
+ */
+@Slf4j
+public class PendingAssistanceKeysetReader extends ItemStreamSupport implements ItemStreamReader<Asistencia> {
+
+    static final String LAST_ID_KEY = "lastId";
+
+    private final MongoTemplate mongoTemplate;
+    private final int pageSize;
+    private final Integer partitionIndex;
+    private final Integer partitionCount;
+
+    private final Deque<Asistencia> page = new ArrayDeque<>();
+    private String lastId;
+    private boolean exhausted;
+
+    public PendingAssistanceKeysetReader(MongoTemplate mongoTemplate, int pageSize,
+                                         Integer partitionIndex, Integer partitionCount) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.pageSize = pageSize;
+        this.partitionIndex = partitionIndex;
+        this.partitionCount = partitionCount;
+        setName("pendingAssistancesReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        if (executionContext.containsKey(key)) {
+            lastId = executionContext.getString(key);
+            log.info("🔁 Reanudando lectura de asistencias pendientes desde _id > {}", lastId);
+        }
+        page.clear();
+        exhausted = false;
+        executionContext.putLong(JobProgress.TOTAL_ITEMS_KEY, mongoTemplate.count(new Query(pendingCriteria()), Asistencia.class));
+    }
+
+    @Override
+    public Asistencia read() {
+        if (page.isEmpty() && !exhausted) {
+            fetchNextPage();
+        }
+
+        Asistencia next = page.poll();
+        if (next != null) {
+            lastId = next.getId();
+        }
+        return next;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastId != null) {
+            executionContext.putString(getExecutionContextKey(LAST_ID_KEY), lastId);
+        }
+    }
+
+    private void fetchNextPage() {
+        Query query = new Query(pendingCriteria())
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(pageSize);
+
+        List<Asistencia> results = mongoTemplate.find(query, Asistencia.class);
+        page.addAll(results);
+
+        // Una página incompleta es la última: evita una consulta extra que regresaría vacía
+        exhausted = results.size() < pageSize;
+    }
+
+    private Criteria pendingCriteria() {
+        Criteria criteria = Criteria.where("status").is("PENDIENTE");
+
+        if (lastId != null) {
+            criteria = criteria.and("_id").gt(ObjectId.isValid(lastId) ? new ObjectId(lastId) : lastId);
+        }
+        if (partitionIndex != null && partitionCount != null && partitionCount > 1) {
+            criteria = criteria.and("passId").mod(partitionCount, partitionIndex);
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,12 @@
+package com.proyecto.congreso.pases.batch.service;
+
+/**
+ * Asistencia que nunca se va a poder procesar tal como está (Pass inexistente o no activo,
+ * puntos inválidos). No se reintenta: se salta sin límite y va a la dead-letter.
+ */
+public class PoisonAssistanceException extends RuntimeException {
+
+    public PoisonAssistanceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.proyecto.congreso.pases.controller;
+
+import com.proyecto.congreso.pases.dto.LeaderboardEntry;
+import com.proyecto.congreso.pases.service.PointsLeaderboard;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboard", description = "Ranking en memoria de Pases por puntos")
+public class LeaderboardController {
+
+    private final PointsLeaderboard leaderboard;
+
+    @GetMapping
+    @Operation(summary = "Top-N de Pases por pointsBalance (máximo " + PointsLeaderboard.MAX_TOP + ")")
+    public ResponseEntity<List<LeaderboardEntry>> getTop(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboard.top(limit));
+    }
+
+    @GetMapping("/pases/{passId}")
+    @Operation(summary = "Posición y balance de un Pass en el ranking")
+    public ResponseEntity<LeaderboardEntry> getRank(@PathVariable Long passId) {
+        return ResponseEntity.ok(leaderboard.rankOf(passId)
+                .orElseThrow(() -> new IllegalArgumentException("Pass not found in leaderboard with id: " + passId)));
+    }
+}
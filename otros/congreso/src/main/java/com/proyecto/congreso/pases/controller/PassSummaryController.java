@@ -0,0 +1,96 @@
+package com.proyecto.congreso.pases.controller;
+
+import com.proyecto.congreso.pases.batch.service.AsyncJobLauncher;
+import com.proyecto.congreso.pases.model.PassSummary;
+import com.proyecto.congreso.pases.service.PassSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/pass-summary")
+@Profile("!test")
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Pass Summary", description = "Resumen desnormalizado del estado de un Pass (read model)")
+public class PassSummaryController {
+
+    private final PassSummaryService passSummaryService;
+    private final AsyncJobLauncher asyncJobLauncher;
+    private final Job rebuildPassSummaryJob;
+
+    public PassSummaryController(PassSummaryService passSummaryService,
+                                 AsyncJobLauncher asyncJobLauncher,
+                                 @Qualifier("rebuildPassSummaryJob") Job rebuildPassSummaryJob) {
+        this.passSummaryService = passSummaryService;
+        this.asyncJobLauncher = asyncJobLauncher;
+        this.rebuildPassSummaryJob = rebuildPassSummaryJob;
+    }
+
+    @GetMapping("/{passId}")
+    @Operation(summary = "Obtener balance, totales, logros y última actividad de un Pass en una sola lectura")
+    public ResponseEntity<PassSummary> getSummary(@PathVariable Long passId) {
+        return ResponseEntity.ok(passSummaryService.getSummary(passId));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Reconstruir pass_summary desde MySQL y MongoDB (rebuildPassSummaryJob) en segundo plano")
+    public ResponseEntity<Map<String, Object>> rebuild(@RequestParam(required = false) Integer chunkSize) {
+        if (chunkSize != null && chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize debe ser mayor que 0");
+        }
+        log.info("🚀 Manual trigger: Rebuild Pass Summary Job (chunkSize={})", chunkSize);
+
+        try {
+            JobParametersBuilder parametersBuilder = new JobParametersBuilder()
+                    .addString("timestamp", LocalDateTime.now().toString())
+                    .addLong("time", System.currentTimeMillis());
+            if (chunkSize != null) {
+                parametersBuilder.addLong("chunkSize", chunkSize.longValue());
+            }
+
+            JobExecution execution = asyncJobLauncher.launch(rebuildPassSummaryJob, parametersBuilder.toJobParameters());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Rebuild pass summary job encolado");
+            response.put("timestamp", LocalDateTime.now());
+            response.put("status", execution.getStatus().toString());
+            response.put("jobExecutionId", execution.getId());
+            response.put("jobName", rebuildPassSummaryJob.getName());
+            response.put("progressUrl", "/api/batch/executions/" + execution.getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (TaskRejectedException e) {
+            log.warn("⚠️ Job rechazado: {}", e.getMessage());
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Too many batch jobs queued");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+
+        } catch (Exception e) {
+            log.error("❌ Error ejecutando Rebuild Pass Summary Job", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to execute rebuild pass summary job");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("timestamp", LocalDateTime.now());
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+}
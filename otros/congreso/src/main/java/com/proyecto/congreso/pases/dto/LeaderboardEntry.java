@@ -0,0 +1,12 @@
+package com.proyecto.congreso.pases.dto;
+
+/**
+ * Posición de un Pass en el leaderboard de puntos (rank empieza en 1).
+ */
+public record LeaderboardEntry(
+        int rank,
+        Long passId,
+        Long participantId,
+        Integer pointsBalance
+) {
+}
@@ -0,0 +1,31 @@
+package com.proyecto.congreso.pases.dto;
+
+import com.proyecto.congreso.pases.model.Pass;
+
+/**
+ * Vista de solo lectura del balance de un Pass, leída justo después de
+ * aplicar un UPDATE atómico de puntos. version es la del Pass (@Version) en esa lectura.
+ */
+public record PassBalanceView(
+        Long passId,
+        Long participantId,
+        Integer pointsBalance,
+        Integer pointsCertificate,
+        Integer pointsSpecialAccess,
+        Pass.CertificateStatus certificateStatus,
+        Pass.AccessStatus accessStatus,
+        Long version
+) {
+
+    public boolean crossedCertificate(Integer oldBalance) {
+        return oldBalance < pointsCertificate
+                && pointsBalance >= pointsCertificate
+                && certificateStatus == Pass.CertificateStatus.NOT_REACHED;
+    }
+
+    public boolean crossedSpecialAccess(Integer oldBalance) {
+        return oldBalance < pointsSpecialAccess
+                && pointsBalance >= pointsSpecialAccess
+                && accessStatus == Pass.AccessStatus.NOT_REACHED;
+    }
+}
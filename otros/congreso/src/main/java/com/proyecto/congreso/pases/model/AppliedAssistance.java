@@ -0,0 +1,37 @@
+package com.proyecto.congreso.pases.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Asistencia cuyos puntos ya se sumaron (tabla asistencias_aplicadas), sea por
+ * processAssistancesStep o por PassPointsEventHandler al registrar el check-in.
+ *
+ * Se inserta en la misma transacción que el UPDATE del balance. Si la marca PROCESADA en
+ * MongoDB no llega a escribirse (falla después del commit, restart), la asistencia se vuelve
+ * a leer PENDIENTE y el writer solo la marca, sin sumar sus puntos otra vez.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "asistencias_aplicadas")
+public class AppliedAssistance {
+
+    @Id
+    @Column(name = "asistencia_id", length = 64)
+    private String asistenciaId;
+
+    @Column(name = "pass_id", nullable = false)
+    private Long passId;
+
+    @Column(name = "points", nullable = false)
+    private Integer points;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,59 @@
+package com.proyecto.congreso.pases.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model desnormalizado del estado de un Pass (CQRS).
+ *
+ * PassSummaryProjector lo recalcula por Pass con los eventos de asistencias, intercambios y
+ * logros y después de cada chunk de processAssistancesStep; rebuildPassSummaryJob lo
+ * reconstruye completo.
+ * La consulta es por _id = passId, sin joins entre MySQL y MongoDB.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "pass_summary")
+public class PassSummary {
+
+    @Id
+    private Long passId;
+
+    // ========== DATOS DEL PASS Y PARTICIPANTE (MySQL) ==========
+    private Long participantId;
+    private String participantName;
+    private String participantEmail;
+    private Pass.PassType passType;
+    private Pass.PassStatus passStatus;
+    private Integer pointsBalance;
+
+    // ========== TOTALES (MongoDB: asistencias e intercambios) ==========
+    private Integer totalPuntosAcumulados;
+    private Integer totalPuntosReducidos;
+    private Long asistenciasCount;
+    private Long intercambiosCount;
+
+    // ========== LOGROS ==========
+    private Boolean certificateReached;
+    private Boolean specialAccessReached;
+
+    private LocalDateTime lastActivityAt;
+
+    // La reconstrucción y cada evento lo actualizan; al terminar el job se borran los
+    // resúmenes que nadie tocó desde su inicio (Pases que ya no existen)
+    @Indexed(name = "updated_at_idx")
+    private LocalDateTime updatedAt;
+
+    // Versión del Pass (bloqueo optimista) con la que se armó el resumen: un reemplazo
+    // con una versión más vieja no pisa a uno más nuevo
+    private Long passVersion;
+}
@@ -1,42 +1,120 @@
-package com.proyecto.congreso.pases.repository;
-
-import com.proyecto.congreso.pases.model.Pass;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-import java.util.Optional;
-
-@Repository
-public interface PassRepository extends JpaRepository<Pass, Long> {
-
-    // Verificar si existe un número de Pase
-    boolean existsByPassId(Long passId);
-
-    // Buscar inscripciones por participantId
-    List<Pass> findByParticipantId(Long participantId);
-
-    // Buscar Pases por estado
-    List<Pass> findByStatus(Pass.PassStatus status);
-
-    // Buscar Pases por tipo
-    List<Pass> findByPassType(Pass.PassType passType);
-
-    // Buscar Pases activos de un participante
-    @Query("SELECT a FROM Pass a WHERE a.participantId = :participantId AND a.status = 'ACTIVE'")
-    List<Pass> findActivePassByParticipantId(@Param("participantId") Long participantId);
-
-    // Contar Pases de un participante
-    long countByParticipantId(Long participantId);
-
-    // Buscar cuentas activas (para batch processing)
-    @Query("SELECT a FROM Pass a WHERE a.status = 'ACTIVE'")
-    List<Pass> findActivePass();
-
-    List<Pass> findByPassId(Long passId);
-
-    Optional<Long> findParticipantIdByPassId(Long passId);
-
-}
+package com.proyecto.congreso.pases.repository;
+
+import com.proyecto.congreso.pases.dto.PassBalanceView;
+import com.proyecto.congreso.pases.model.Pass;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PassRepository extends JpaRepository<Pass, Long> {
+
+    // Verificar si existe un número de Pase
+    boolean existsByPassId(Long passId);
+
+    // Buscar inscripciones por participantId
+    List<Pass> findByParticipantId(Long participantId);
+
+    // Paginación por keyset: passId > último visto, por PK (o idx_pases_participant_pass)
+    List<Pass> findByPassIdGreaterThanOrderByPassIdAsc(Long passId, Limit limit);
+
+    List<Pass> findByParticipantIdAndPassIdGreaterThanOrderByPassIdAsc(Long participantId, Long passId, Limit limit);
+
+    // Buscar Pases por estado
+    List<Pass> findByStatus(Pass.PassStatus status);
+
+    // Buscar Pases por tipo
+    List<Pass> findByPassType(Pass.PassType passType);
+
+    // Buscar Pases activos de un participante
+    @Query("SELECT a FROM Pass a WHERE a.participantId = :participantId AND a.status = 'ACTIVE'")
+    List<Pass> findActivePassByParticipantId(@Param("participantId") Long participantId);
+
+    // Contar Pases de un participante
+    long countByParticipantId(Long participantId);
+
+    // Buscar cuentas activas (para batch processing)
+    @Query("SELECT a FROM Pass a WHERE a.status = 'ACTIVE'")
+    List<Pass> findActivePass();
+
+    List<Pass> findByPassId(Long passId);
+
+    @Query("SELECT p.participantId FROM Pass p WHERE p.passId = :passId")
+    Optional<Long> findParticipantIdByPassId(@Param("passId") Long passId);
+
+    // ========== LEDGER DE PUNTOS (UPDATE atómico, sin leer-modificar-guardar) ==========
+    // Todos incrementan p.version para invalidar copias en memoria de otras transacciones.
+
+    // Suma puntos a un Pass activo. Devuelve 0 si no existe o no está activo.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pass p SET p.pointsBalance = p.pointsBalance + :points, " +
+            "p.pointsAdd = 'ADD', p.updatedAt = :now, p.version = p.version + 1 " +
+            "WHERE p.passId = :passId AND p.status = 'ACTIVE'")
+    int addPoints(@Param("passId") Long passId,
+                  @Param("points") Integer points,
+                  @Param("now") LocalDateTime now);
+
+    // Registra la asistencia cuyos puntos se sumaron, en la misma transacción que addPoints.
+    // Si processAssistancePointsJob ya la aplicó, la PK duplicada deshace también los puntos
+    @Modifying
+    @Query(value = "INSERT INTO asistencias_aplicadas (asistencia_id, pass_id, points, applied_at) " +
+            "VALUES (:asistenciaId, :passId, :points, :now)", nativeQuery = true)
+    int recordAppliedAssistance(@Param("asistenciaId") String asistenciaId,
+                                @Param("passId") Long passId,
+                                @Param("points") Integer points,
+                                @Param("now") LocalDateTime now);
+
+    // Descuenta puntos solo si el Pass está activo y el balance alcanza (balance >= costo).
+    // Devuelve 0 si no se aplicó el descuento.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pass p SET p.pointsBalance = p.pointsBalance - :cost, " +
+            "p.pointsUse = 'USE', p.updatedAt = :now, p.version = p.version + 1 " +
+            "WHERE p.passId = :passId AND p.status = 'ACTIVE' AND p.pointsBalance >= :cost")
+    int usePoints(@Param("passId") Long passId,
+                  @Param("cost") Integer cost,
+                  @Param("now") LocalDateTime now);
+
+    // Lee el balance ya actualizado (dentro de la misma transacción que el UPDATE)
+    @Query("SELECT new com.proyecto.congreso.pases.dto.PassBalanceView(" +
+            "p.passId, p.participantId, p.pointsBalance, p.pointsCertificate, p.pointsSpecialAccess, " +
+            "p.certificateStatus, p.accessStatus, p.version) " +
+            "FROM Pass p WHERE p.passId = :passId")
+    Optional<PassBalanceView> findBalanceViewByPassId(@Param("passId") Long passId);
+
+    // Variante por lote para el writer del batch: un solo SELECT ... IN por chunk, solo Pases activos
+    @Query("SELECT new com.proyecto.congreso.pases.dto.PassBalanceView(" +
+            "p.passId, p.participantId, p.pointsBalance, p.pointsCertificate, p.pointsSpecialAccess, " +
+            "p.certificateStatus, p.accessStatus, p.version) " +
+            "FROM Pass p WHERE p.passId IN :passIds AND p.status = 'ACTIVE'")
+    List<PassBalanceView> findBalanceViewsByPassIdIn(@Param("passIds") Collection<Long> passIds);
+
+    // Reconstrucción del leaderboard: balances de los Pases activos por keyset sobre passId
+    @Query("SELECT new com.proyecto.congreso.pases.dto.PassBalanceView(" +
+            "p.passId, p.participantId, p.pointsBalance, p.pointsCertificate, p.pointsSpecialAccess, " +
+            "p.certificateStatus, p.accessStatus, p.version) " +
+            "FROM Pass p WHERE p.passId > :passId AND p.status = 'ACTIVE' ORDER BY p.passId")
+    List<PassBalanceView> findBalanceViewsAfter(@Param("passId") Long passId, Limit limit);
+
+    // Marca el certificado como alcanzado. Solo una transacción concurrente obtiene 1.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pass p SET p.certificateStatus = 'REACHED', p.version = p.version + 1 " +
+            "WHERE p.passId = :passId AND p.certificateStatus = 'NOT_REACHED' " +
+            "AND p.pointsBalance >= p.pointsCertificate")
+    int markCertificateReached(@Param("passId") Long passId);
+
+    // Marca el acceso especial como alcanzado. Solo una transacción concurrente obtiene 1.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pass p SET p.accessStatus = 'REACHED', p.version = p.version + 1 " +
+            "WHERE p.passId = :passId AND p.accessStatus = 'NOT_REACHED' " +
+            "AND p.pointsBalance >= p.pointsSpecialAccess")
+    int markSpecialAccessReached(@Param("passId") Long passId);
+
+}
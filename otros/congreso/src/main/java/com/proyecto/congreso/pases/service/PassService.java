@@ -1,28 +1,29 @@
-package com.proyecto.congreso.pases.service;
-
-import com.proyecto.congreso.pases.model.Pass;
-import org.springframework.stereotype.Service;
-
-import java.util.List;
-
-@Service
-public interface PassService {
-    // CRUD operations
-    Pass createPass(Pass pass);
-    Pass getPassById(Long passId);
-    List<Pass> getAllPass();
-    List<Pass> getPassByParticipantId(Long participantId);
-    List<Pass> getActivePassByParticipantId(Long participantId);
-    Pass updatePass(Long passId, Pass pass);
-    void deletePass(Long passId);
-
-    Pass activatePass(Long passId);
-    Pass closePass(Long passId);
-
-    // Query operations
-    List<Pass> getPassByStatus(Pass.PassStatus status);
-    List<Pass> getPassByType(Pass.PassType passType);
-    long countPassByParticipantId(Long participantId);
-    boolean existsByPassId(Long passId);
-
-}
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.shared.KeysetPage;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface PassService {
+    // CRUD operations
+    Pass createPass(Pass pass);
+    Pass getPassById(Long passId);
+    KeysetPage<Pass> getAllPass(String pageToken, Integer size);
+    KeysetPage<Pass> getPassByParticipantId(Long participantId, String pageToken, Integer size);
+    List<Pass> getActivePassByParticipantId(Long participantId);
+    Pass updatePass(Long passId, Pass pass);
+    void deletePass(Long passId);
+
+    Pass activatePass(Long passId);
+    Pass closePass(Long passId);
+
+    // Query operations
+    List<Pass> getPassByStatus(Pass.PassStatus status);
+    List<Pass> getPassByType(Pass.PassType passType);
+    long countPassByParticipantId(Long participantId);
+    boolean existsByPassId(Long passId);
+
+}
@@ -1,182 +1,227 @@
-package com.proyecto.congreso.pases.service;
-
-import com.proyecto.congreso.participantes.model.Participant;
-import com.proyecto.congreso.participantes.repository.ParticipantRepository;
-import com.proyecto.congreso.pases.model.Certificate;
-import com.proyecto.congreso.points.exchange.events.ExchangeRequestedEvent;
-import com.proyecto.congreso.pases.events.PassAdquiredEvent;
-import com.proyecto.congreso.pases.model.Pass;
-import com.proyecto.congreso.pases.repository.PassRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Random;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-@Transactional
-public class PassServiceImpl implements PassService {
-
-    private final ParticipantRepository participantRepository;
-    private final PassRepository passRepository;
-    private final ApplicationEventPublisher eventPublisher;
-    private final Random random = new Random();
-
-    @Override
-    public Pass createPass(Pass pass) {
-        log.debug("Creating Pass for Participant: {}", pass.getParticipantId());
-
-        Participant passParticipant = participantRepository.findById(pass.getParticipantId())
-                .orElseThrow(() -> new IllegalArgumentException("Participant not found with id: " + pass.getParticipantId()));
-
-        // Establecer estado inicial
-        pass.setStatus(Pass.PassStatus.ACTIVE);
-
-        if (pass.getPointsBalance() == null) {
-            pass.setPointsBalance(0);
-        }
-
-        if (pass.getPointsBalance().compareTo(0) < 0) {
-            throw new IllegalArgumentException("Initial balance of points cannot be negative");
-        }
-
-        Pass savedPass = passRepository.save(pass);
-        log.info("Pass created successfully: {}", savedPass.getPassId());
-
-
-        PassAdquiredEvent event = new PassAdquiredEvent();
-        eventPublisher.publishEvent(event);
-        log.debug("PassAdquiredEvent published for pass ID: {}", savedPass.getPassId());
-
-        return savedPass;
-    }
-
-
-    @Override
-    @Transactional(readOnly = true)
-    public Pass getPassById(Long id) {
-        log.debug("Getting Pass by id: {}", id);
-        return passRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Pass not found with id: " + id));
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Pass> getAllPass() {
-        log.debug("Getting all Pass");
-        return passRepository.findAll();
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Pass> getPassByParticipantId(Long participantId) {
-        log.debug("Getting Pass for participant: {}", participantId);
-        return passRepository.findByParticipantId(participantId);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Pass> getActivePassByParticipantId(Long participantId) {
-        log.debug("Getting active Pass for Participant: {}", participantId);
-        return passRepository.findActivePassByParticipantId(participantId);
-    }
-
-    @Override
-    public Pass updatePass(Long id, Pass pass) {
-        log.debug("Updating Pass with id: {}", id);
-
-        Pass existingPass = getPassById(id);
-
-        existingPass.setPassType(pass.getPassType());
-
-        Pass updatedPass = passRepository.save(existingPass);
-        log.info("Pass updated successfully: {}", id);
-        return updatedPass;
-    }
-
-    @Override
-    public void deletePass(Long id) {
-        log.debug("Deleting Pass with id: {}", id);
-
-        Pass pass = getPassById(id);
-
-        if (pass.getPointsBalance().compareTo(0) != 0) {
-            throw new IllegalArgumentException("Cannot delete Pass with non-zero balance of points");
-        }
-
-        // Soft delete: cambiar estado a CLOSED
-        pass.setStatus(Pass.PassStatus.CLOSED);
-        passRepository.save(pass);
-
-        log.info("Account soft deleted (closed): {}", id);
-    }
-
-    @Override
-    public Pass activatePass(Long id) {
-        log.debug("Activating Pass with id: {}", id);
-
-        Pass pass = getPassById(id);
-        pass.setStatus(Pass.PassStatus.ACTIVE);
-
-        Pass activatedPass = passRepository.save(pass);
-        log.info("Pass activated: {}", id);
-        return activatedPass;
-    }
-
-    @Override
-    public Pass closePass(Long id) {
-        log.debug("Closing Pass with id: {}", id);
-
-        Pass pass = getPassById(id);
-
-        if (pass.getPointsBalance().compareTo(0) != 0) {
-            throw new IllegalArgumentException("Cannot close Pass with non-zero balance. Current balance of points: " + pass.getPointsBalance());
-        }
-
-        pass.setStatus(Pass.PassStatus.CLOSED);
-
-        Pass closedPass = passRepository.save(pass);
-        log.info("Pass closed: {}", id);
-
-        return closedPass;
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Pass> getPassByStatus(Pass.PassStatus status) {
-        log.debug("Getting Pass by status: {}", status);
-        return passRepository.findByStatus(status);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Pass> getPassByType(Pass.PassType passType) {
-        log.debug("Getting Pass by type: {}", passType);
-        return passRepository.findByPassType(passType);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public long countPassByParticipantId(Long participantId) {
-        return passRepository.countByParticipantId(participantId);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public boolean existsByPassId(Long passId) {
-        return passRepository.existsByPassId(passId);
-    }
-
-
-    // Método llamado desde el controlador REST
-    @Transactional
-    public void startExchange(Long passId, String freebieId) {
-        eventPublisher.publishEvent(new ExchangeRequestedEvent(passId, freebieId));
-    }
-
-}
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.participantes.model.Participant;
+import com.proyecto.congreso.participantes.repository.ParticipantRepository;
+import com.proyecto.congreso.pases.model.Certificate;
+import com.proyecto.congreso.points.exchange.events.ExchangeRequestedEvent;
+import com.proyecto.congreso.pases.events.PassAdquiredEvent;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.shared.KeysetPage;
+import com.proyecto.congreso.shared.OptimisticRetryExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Random;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class PassServiceImpl implements PassService {
+
+    private final ParticipantRepository participantRepository;
+    private final PassRepository passRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final PointsLeaderboard leaderboard;
+    private final Random random = new Random();
+
+    @Override
+    public Pass createPass(Pass pass) {
+        log.debug("Creating Pass for Participant: {}", pass.getParticipantId());
+
+        Participant passParticipant = participantRepository.findById(pass.getParticipantId())
+                .orElseThrow(() -> new IllegalArgumentException("Participant not found with id: " + pass.getParticipantId()));
+
+        // Establecer estado inicial
+        pass.setStatus(Pass.PassStatus.ACTIVE);
+
+        if (pass.getPointsBalance() == null) {
+            pass.setPointsBalance(0);
+        }
+
+        if (pass.getPointsBalance().compareTo(0) < 0) {
+            throw new IllegalArgumentException("Initial balance of points cannot be negative");
+        }
+
+        Pass savedPass = passRepository.save(pass);
+        log.info("Pass created successfully: {}", savedPass.getPassId());
+        refreshLeaderboard(savedPass);
+
+
+        PassAdquiredEvent event = new PassAdquiredEvent();
+        eventPublisher.publishEvent(event);
+        log.debug("PassAdquiredEvent published for pass ID: {}", savedPass.getPassId());
+
+        return savedPass;
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pass getPassById(Long id) {
+        log.debug("Getting Pass by id: {}", id);
+        return passRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Pass not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Pass> getAllPass(String pageToken, Integer size) {
+        int pageSize = KeysetPage.pageSize(size);
+        long afterPassId = KeysetPage.decodeLongToken(pageToken);
+        log.debug("Getting Pass page after id {} (size {})", afterPassId, pageSize);
+        return KeysetPage.of(passRepository.findByPassIdGreaterThanOrderByPassIdAsc(afterPassId, Limit.of(pageSize + 1)),
+                pageSize, Pass::getPassId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Pass> getPassByParticipantId(Long participantId, String pageToken, Integer size) {
+        int pageSize = KeysetPage.pageSize(size);
+        long afterPassId = KeysetPage.decodeLongToken(pageToken);
+        log.debug("Getting Pass for participant: {} after id {}", participantId, afterPassId);
+        return KeysetPage.of(passRepository.findByParticipantIdAndPassIdGreaterThanOrderByPassIdAsc(
+                participantId, afterPassId, Limit.of(pageSize + 1)), pageSize, Pass::getPassId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Pass> getActivePassByParticipantId(Long participantId) {
+        log.debug("Getting active Pass for Participant: {}", participantId);
+        return passRepository.findActivePassByParticipantId(participantId);
+    }
+
+    // Las mutaciones sobre un Pass existente se ejecutan a través de OptimisticRetryExecutor:
+    // cada intento abre su propia transacción y vuelve a leer el Pass si hubo conflicto de versión.
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Pass updatePass(Long id, Pass pass) {
+        log.debug("Updating Pass with id: {}", id);
+
+        Pass updatedPass = retryExecutor.execute("pass.update", () -> {
+            Pass existingPass = getPassById(id);
+
+            existingPass.setPassType(pass.getPassType());
+
+            return passRepository.save(existingPass);
+        });
+        refreshLeaderboard(updatedPass);
+        log.info("Pass updated successfully: {}", id);
+        return updatedPass;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void deletePass(Long id) {
+        log.debug("Deleting Pass with id: {}", id);
+
+        Pass deletedPass = retryExecutor.execute("pass.delete", () -> {
+            Pass pass = getPassById(id);
+
+            if (pass.getPointsBalance().compareTo(0) != 0) {
+                throw new IllegalArgumentException("Cannot delete Pass with non-zero balance of points");
+            }
+
+            // Soft delete: cambiar estado a CLOSED
+            pass.setStatus(Pass.PassStatus.CLOSED);
+            passRepository.save(pass);
+            return pass;
+        });
+        refreshLeaderboard(deletedPass);
+
+        log.info("Account soft deleted (closed): {}", id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Pass activatePass(Long id) {
+        log.debug("Activating Pass with id: {}", id);
+
+        Pass activatedPass = retryExecutor.execute("pass.activate", () -> {
+            Pass pass = getPassById(id);
+            pass.setStatus(Pass.PassStatus.ACTIVE);
+
+            return passRepository.save(pass);
+        });
+        refreshLeaderboard(activatedPass);
+        log.info("Pass activated: {}", id);
+        return activatedPass;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Pass closePass(Long id) {
+        log.debug("Closing Pass with id: {}", id);
+
+        Pass closedPass = retryExecutor.execute("pass.close", () -> {
+            Pass pass = getPassById(id);
+
+            if (pass.getPointsBalance().compareTo(0) != 0) {
+                throw new IllegalArgumentException("Cannot close Pass with non-zero balance. Current balance of points: " + pass.getPointsBalance());
+            }
+
+            pass.setStatus(Pass.PassStatus.CLOSED);
+
+            return passRepository.save(pass);
+        });
+        refreshLeaderboard(closedPass);
+        log.info("Pass closed: {}", id);
+
+        return closedPass;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Pass> getPassByStatus(Pass.PassStatus status) {
+        log.debug("Getting Pass by status: {}", status);
+        return passRepository.findByStatus(status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Pass> getPassByType(Pass.PassType passType) {
+        log.debug("Getting Pass by type: {}", passType);
+        return passRepository.findByPassType(passType);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPassByParticipantId(Long participantId) {
+        return passRepository.countByParticipantId(participantId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByPassId(Long passId) {
+        return passRepository.existsByPassId(passId);
+    }
+
+
+    // Método llamado desde el controlador REST
+    @Transactional
+    public void startExchange(Long passId, String freebieId) {
+        eventPublisher.publishEvent(new ExchangeRequestedEvent(passId, freebieId));
+    }
+
+
+    // Después del retry la transacción ya hizo commit y la versión es la guardada; en createPass
+    // el leaderboard difiere el cambio al commit. Solo los Pases activos quedan en el ranking.
+    private void refreshLeaderboard(Pass pass) {
+        if (pass == null) {
+            return;
+        }
+        if (pass.getStatus() == Pass.PassStatus.ACTIVE) {
+            leaderboard.update(pass.getPassId(), pass.getParticipantId(), pass.getPointsBalance(), pass.getVersion());
+        } else {
+            leaderboard.remove(pass.getPassId(), pass.getVersion());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.participantes.model.Participant;
+import com.proyecto.congreso.participantes.repository.ParticipantRepository;
+import com.proyecto.congreso.pases.events.CertificateEvent;
+import com.proyecto.congreso.pases.events.SpecialAccessEvent;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.model.PassSummary;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
+import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
+import com.proyecto.congreso.points.calculator.dto.PassPointsTotal;
+import com.proyecto.congreso.points.exchange.events.ExchangeRegisteredEvent;
+import com.proyecto.congreso.points.exchange.repository.ExchangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Mantiene la proyección pass_summary (ver PassSummary).
+ *
+ * Cada evento de asistencias, intercambios y logros recalcula el resumen del Pass desde las
+ * fuentes (balance en MySQL, totales en MongoDB) en vez de sumar sobre el guardado: un evento
+ * entregado dos veces (event_publication es al menos una vez) deja el mismo resumen.
+ * AssistancePointsBatchWriter suma puntos por SQL sin eventos y llama a refresh después de
+ * cada chunk.
+ *
+ * Cada reemplazo lleva la versión del Pass con la que se armó y no pisa un resumen más nuevo,
+ * venga de un evento, de un chunk o de rebuildPassSummaryJob.
+ */
+@Slf4j
+@Service
+@Profile("!test")
+@RequiredArgsConstructor
+public class PassSummaryProjector {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final PassRepository passRepository;
+    private final ParticipantRepository participantRepository;
+    private final AsistenciaRepository asistenciaRepository;
+    private final ExchangeRepository exchangeRepository;
+
+    // ========== PROYECCIÓN POR EVENTO ==========
+
+    @ApplicationModuleListener
+    public void onAssistanceRegistered(AssistanceRegisteredEvent event) {
+        rebuild(event.getPassId());
+    }
+
+    @ApplicationModuleListener
+    public void onExchangeRegistered(ExchangeRegisteredEvent event) {
+        rebuild(event.getPassId());
+    }
+
+    @ApplicationModuleListener
+    public void onCertificateReached(CertificateEvent event) {
+        rebuild(event.getPassId());
+    }
+
+    @ApplicationModuleListener
+    public void onSpecialAccessReached(SpecialAccessEvent event) {
+        rebuild(event.passId());
+    }
+
+    /**
+     * Recalcula los resúmenes de un lote de Pases con una consulta por fuente.
+     */
+    public void refresh(Collection<Long> passIds) {
+        if (passIds.isEmpty()) {
+            return;
+        }
+        save(buildSummaries(passRepository.findAllById(passIds)));
+    }
+
+    // ========== RECONSTRUCCIÓN DESDE LAS FUENTES ==========
+
+    public Optional<PassSummary> rebuild(Long passId) {
+        if (passId == null) {
+            return Optional.empty();
+        }
+        return passRepository.findById(passId).map(pass -> {
+            PassSummary summary = buildSummaries(List.of(pass)).get(0);
+            save(List.of(summary));
+            log.debug("🧾 Resumen del Pass {} reconstruido", passId);
+            return summary;
+        });
+    }
+
+    /**
+     * Arma los resúmenes de un lote de Pases con una consulta por fuente:
+     * participantes (SELECT ... IN), y una agregación $in para asistencias y otra para intercambios.
+     */
+    public List<PassSummary> buildSummaries(List<Pass> passes) {
+        if (passes.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> passIds = passes.stream().map(Pass::getPassId).collect(Collectors.toSet());
+        Set<Long> participantIds = passes.stream().map(Pass::getParticipantId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+
+        Map<Long, Participant> participants = participantRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(Participant::getParticipantId, Function.identity()));
+        Map<Long, PassPointsTotal> acumulados = byPass(asistenciaRepository.sumPuntosProcesadosByPassIn(passIds));
+        Map<Long, PassPointsTotal> reducidos = byPass(exchangeRepository.sumPuntosReducidosByPassIn(passIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        return passes.stream()
+                .map(pass -> toSummary(pass, participants.get(pass.getParticipantId()),
+                        acumulados.get(pass.getPassId()), reducidos.get(pass.getPassId()), now))
+                .toList();
+    }
+
+    /**
+     * Reemplaza los resúmenes en un solo bulkWrite, salvo los que ya tienen una versión del
+     * Pass más nueva: el filtro no los encuentra, el upsert choca con su _id y ese error se ignora.
+     */
+    public void save(Collection<PassSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PassSummary.class);
+        summaries.forEach(summary -> bulk.replaceOne(notNewerThan(summary), summary,
+                FindAndReplaceOptions.options().upsert()));
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+            log.debug("{} resúmenes ya tenían una versión más nueva del Pass", e.getErrors().size());
+        }
+    }
+
+    private PassSummary toSummary(Pass pass, Participant participant,
+                                  PassPointsTotal acumulado, PassPointsTotal reducido, LocalDateTime now) {
+        return PassSummary.builder()
+                .passId(pass.getPassId())
+                .participantId(pass.getParticipantId())
+                .participantName(participant != null ? participant.getName() + " " + participant.getLastName() : null)
+                .participantEmail(participant != null ? participant.getEmail() : null)
+                .passType(pass.getPassType())
+                .passStatus(pass.getStatus())
+                .pointsBalance(pass.getPointsBalance())
+                .totalPuntosAcumulados(acumulado != null ? acumulado.getTotal() : 0)
+                .totalPuntosReducidos(reducido != null ? reducido.getTotal() : 0)
+                .asistenciasCount(acumulado != null ? acumulado.getCount() : 0L)
+                .intercambiosCount(reducido != null ? reducido.getCount() : 0L)
+                .certificateReached(pass.getCertificateStatus() == Pass.CertificateStatus.REACHED)
+                .specialAccessReached(pass.getAccessStatus() == Pass.AccessStatus.REACHED)
+                .lastActivityAt(latest(acumulado, reducido))
+                .updatedAt(now)
+                .passVersion(pass.getVersion())
+                .build();
+    }
+
+    private static LocalDateTime latest(PassPointsTotal acumulado, PassPointsTotal reducido) {
+        LocalDateTime a = acumulado != null ? acumulado.getLastActivityAt() : null;
+        LocalDateTime b = reducido != null ? reducido.getLastActivityAt() : null;
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Map<Long, PassPointsTotal> byPass(List<PassPointsTotal> totals) {
+        return totals.stream().collect(Collectors.toMap(PassPointsTotal::getPassId, Function.identity()));
+    }
+
+    private static Query notNewerThan(PassSummary summary) {
+        Query query = new Query(where("_id").is(summary.getPassId()));
+        if (summary.getPassVersion() != null) {
+            query.addCriteria(where("passVersion").not().gt(summary.getPassVersion()));
+        }
+        return query;
+    }
+}
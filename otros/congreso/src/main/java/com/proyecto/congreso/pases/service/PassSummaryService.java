@@ -0,0 +1,32 @@
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.pases.model.PassSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Lado de lectura de pass_summary: una sola lectura por _id.
+ * Un Pass sin resumen (sin actividad o creado después del último rebuild) se arma en ese momento.
+ */
+@Slf4j
+@Service
+@Profile("!test")
+@RequiredArgsConstructor
+public class PassSummaryService {
+
+    private final MongoTemplate mongoTemplate;
+    private final PassSummaryProjector projector;
+
+    public PassSummary getSummary(Long passId) {
+        PassSummary summary = mongoTemplate.findById(passId, PassSummary.class);
+        if (summary != null) {
+            return summary;
+        }
+        log.debug("Resumen no encontrado para el Pass {}, se construye desde las fuentes", passId);
+        return projector.rebuild(passId)
+                .orElseThrow(() -> new IllegalArgumentException("Pass not found with id: " + passId));
+    }
+}
@@ -0,0 +1,385 @@
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.pases.dto.LeaderboardEntry;
+import com.proyecto.congreso.pases.dto.PassBalanceView;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Leaderboard de Pases por pointsBalance en memoria.
+ *
+ * Treap con tamaño de subárbol (árbol de estadísticos de orden) ordenado por balance
+ * descendente y passId ascendente: actualizar, obtener el rank de un Pass y el inicio del
+ * top-N cuestan O(log n); el top-N recorre solo N nodos. Lecturas concurrentes con un
+ * ReadWriteLock; las escrituras son un par de borrar + insertar.
+ *
+ * Se alimenta con los balances ya confirmados (PassPointsEventHandler, writer del batch y
+ * PassServiceImpl): dentro de una transacción el cambio se aplica en afterCommit, así un
+ * rollback no mueve el ranking. Los afterCommit de transacciones distintas llegan en
+ * cualquier orden, así que cada cambio lleva la versión del Pass y se descarta si no es más
+ * nueva que la ya aplicada (también las bajas). Solo se rankean Pases activos: cerrar o
+ * dar de baja un Pass lo saca del árbol. Se reconstruye desde MySQL al arrancar.
+ */
+@Slf4j
+@Component
+public class PointsLeaderboard implements ApplicationRunner {
+
+    public static final int MAX_TOP = 500;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final PassRepository passRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Solo se usa con el write lock tomado (SplittableRandom no es thread-safe)
+    private final SplittableRandom random = new SplittableRandom();
+    private final Map<Long, Node> nodes = new HashMap<>();
+    // Versión con la que se sacó cada Pass del ranking; un cambio más viejo no lo vuelve a meter
+    private final Map<Long, Long> removedVersions = new HashMap<>();
+    private Node root;
+
+    // Cambios recibidos mientras se reconstruye (bajas incluidas, con removed = true);
+    // se aplican sobre la foto leída de MySQL
+    private Map<Long, Node> pendingDuringRebuild;
+
+    public PointsLeaderboard(PassRepository passRepository) {
+        this.passRepository = passRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    // ========== ESCRITURA ==========
+
+    public void update(PassBalanceView balance) {
+        update(balance.passId(), balance.participantId(), balance.pointsBalance(), balance.version());
+    }
+
+    public void update(Long passId, Long participantId, Integer pointsBalance, Long version) {
+        if (passId == null || pointsBalance == null) {
+            return;
+        }
+        afterCommit(() -> apply(new Node(passId, participantId, pointsBalance, version, false)));
+    }
+
+    /**
+     * Saca un Pass del ranking (cerrado o dado de baja) con la versión que quedó guardada.
+     */
+    public void remove(Long passId, Long version) {
+        if (passId == null) {
+            return;
+        }
+        afterCommit(() -> apply(new Node(passId, null, 0, version, true)));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+            return;
+        }
+        change.run();
+    }
+
+    private void apply(Node change) {
+        lock.writeLock().lock();
+        try {
+            if (!isNewer(change, nodes.get(change.passId), removedVersions.get(change.passId))) {
+                return;
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(change.passId, change);
+            }
+            root = applyTo(root, nodes, removedVersions, change.copy(random.nextInt()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recarga los balances de los Pases activos desde MySQL (por keyset) y reemplaza el ranking.
+     * La lectura se hace sin bloquear a los lectores; solo el reemplazo toma el lock.
+     */
+    public int rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Fuera del lock: prioridades de un generador propio de esta reconstrucción
+        SplittableRandom rebuildRandom = new SplittableRandom();
+        Map<Long, Node> rebuiltNodes = new HashMap<>();
+        Node rebuiltRoot = null;
+        try {
+            long lastPassId = 0L;
+            List<PassBalanceView> page;
+            do {
+                page = passRepository.findBalanceViewsAfter(lastPassId, Limit.of(REBUILD_PAGE_SIZE));
+                for (PassBalanceView view : page) {
+                    if (view.pointsBalance() != null) {
+                        rebuiltRoot = put(rebuiltRoot, rebuiltNodes, new Node(view.passId(), view.participantId(),
+                                view.pointsBalance(), view.version(), false, rebuildRandom.nextInt()));
+                    }
+                    lastPassId = view.passId();
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // La foto pudo leerse antes del commit de una baja o de un cambio ya aplicado
+            Map<Long, Long> rebuiltRemovals = new HashMap<>(removedVersions);
+            for (Node node : List.copyOf(rebuiltNodes.values())) {
+                Long removedVersion = rebuiltRemovals.get(node.passId);
+                if (removedVersion != null && !isNewer(node, null, removedVersion)) {
+                    rebuiltRoot = delete(rebuiltRoot, rebuiltNodes.remove(node.passId));
+                }
+            }
+            for (Node pending : pendingDuringRebuild.values()) {
+                if (isNewer(pending, rebuiltNodes.get(pending.passId), rebuiltRemovals.get(pending.passId))) {
+                    rebuiltRoot = applyTo(rebuiltRoot, rebuiltNodes, rebuiltRemovals, pending.copy(random.nextInt()));
+                }
+            }
+            pendingDuringRebuild = null;
+            root = rebuiltRoot;
+            nodes.clear();
+            nodes.putAll(rebuiltNodes);
+            removedVersions.clear();
+            removedVersions.putAll(rebuiltRemovals);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("🏁 Leaderboard reconstruido: {} pases en {} ms", rebuiltNodes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return rebuiltNodes.size();
+    }
+
+    // ========== LECTURA ==========
+
+    public List<LeaderboardEntry> top(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit debe ser mayor que 0");
+        }
+        int wanted = Math.min(limit, MAX_TOP);
+
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.min(wanted, nodes.size()));
+            Deque<Node> stack = new ArrayDeque<>();
+            Node current = root;
+            while ((current != null || !stack.isEmpty()) && entries.size() < wanted) {
+                while (current != null) {
+                    stack.push(current);
+                    current = current.left;
+                }
+                Node node = stack.pop();
+                entries.add(node.toEntry(entries.size() + 1));
+                current = node.right;
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LeaderboardEntry> rankOf(Long passId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(passId);
+            return node != null ? Optional.of(node.toEntry(rank(root, node))) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== TREAP ==========
+
+    // Sin versión (null) no se puede comparar y el cambio se aplica
+    private static boolean isNewer(Node change, Node current, Long removedVersion) {
+        if (change.version == null) {
+            return true;
+        }
+        Long known = current != null ? current.version : removedVersion;
+        return known == null || change.version > known;
+    }
+
+    private static Node applyTo(Node root, Map<Long, Node> index, Map<Long, Long> removals, Node change) {
+        if (!change.removed) {
+            removals.remove(change.passId);
+            return put(root, index, change);
+        }
+        if (change.version != null) {
+            removals.put(change.passId, change.version);
+        }
+        Node previous = index.remove(change.passId);
+        return previous != null ? delete(root, previous) : root;
+    }
+
+    private static Node put(Node root, Map<Long, Node> index, Node node) {
+        Node previous = index.put(node.passId, node);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+        Node[] parts = split(root, node);
+        return merge(merge(parts[0], node), parts[1]);
+    }
+
+    // Orden del ranking: mayor balance primero; a igual balance, menor passId primero
+    private static int compare(Node a, Node b) {
+        int byBalance = Integer.compare(b.balance, a.balance);
+        return byBalance != 0 ? byBalance : Long.compare(a.passId, b.passId);
+    }
+
+    // Divide en (nodos antes de key, nodos desde key)
+    private static Node[] split(Node node, Node key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node, key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.resize();
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.resize();
+        return new Node[]{parts[0], node};
+    }
+
+    // Todos los nodos de a van antes que los de b
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            a.resize();
+            return a;
+        }
+        b.left = merge(a, b.left);
+        b.resize();
+        return b;
+    }
+
+    private static Node delete(Node node, Node key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(key, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, key);
+        } else {
+            node.right = delete(node.right, key);
+        }
+        node.resize();
+        return node;
+    }
+
+    private static int rank(Node node, Node key) {
+        int rank = 1;
+        while (node != null) {
+            int cmp = compare(key, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp == 0) {
+                return rank + size(node.left);
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node {
+        final long passId;
+        final Long participantId;
+        final int balance;
+        final Long version;
+        final boolean removed;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(long passId, Long participantId, int balance, Long version, boolean removed) {
+            this(passId, participantId, balance, version, removed, 0);
+        }
+
+        Node(long passId, Long participantId, int balance, Long version, boolean removed, int priority) {
+            this.passId = passId;
+            this.participantId = participantId;
+            this.balance = balance;
+            this.version = version;
+            this.removed = removed;
+            this.priority = priority;
+        }
+
+        Node copy(int newPriority) {
+            return new Node(passId, participantId, balance, version, removed, newPriority);
+        }
+
+        void resize() {
+            size = 1 + PointsLeaderboard.size(left) + PointsLeaderboard.size(right);
+        }
+
+        LeaderboardEntry toEntry(int rank) {
+            return new LeaderboardEntry(rank, passId, participantId, balance);
+        }
+    }
+}
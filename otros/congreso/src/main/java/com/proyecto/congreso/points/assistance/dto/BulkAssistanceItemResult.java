@@ -0,0 +1,44 @@
+package com.proyecto.congreso.points.assistance.dto;
+
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssistanceItemResult {
+
+    public enum Status {
+        REGISTERED, // insertada; se publicó AssistanceRegisteredEvent
+        DUPLICATE,  // ya registrada (o repetida dentro del mismo lote)
+        REJECTED    // datos incompletos, conferencia inexistente o error de escritura
+    }
+
+    // Posición del item en el lote recibido
+    private int index;
+    private Long passId;
+    private String conferenciaId;
+    private Status status;
+    private String asistenciaId;
+    private Integer puntosOtorgados;
+    private String message;
+
+    public static BulkAssistanceItemResult registered(int index, Asistencia asistencia) {
+        return new BulkAssistanceItemResult(index, asistencia.getPassId(), asistencia.getConferenciaId(),
+                Status.REGISTERED, asistencia.getId(), asistencia.getPuntosOtorgados(), null);
+    }
+
+    public static BulkAssistanceItemResult duplicate(int index, AssistanceRequest request, String message) {
+        return new BulkAssistanceItemResult(index, request.getPassId(), request.getConferenciaId(),
+                Status.DUPLICATE, null, null, message);
+    }
+
+    public static BulkAssistanceItemResult rejected(int index, AssistanceRequest request, String message) {
+        return new BulkAssistanceItemResult(index,
+                request != null ? request.getPassId() : null,
+                request != null ? request.getConferenciaId() : null,
+                Status.REJECTED, null, null, message);
+    }
+}
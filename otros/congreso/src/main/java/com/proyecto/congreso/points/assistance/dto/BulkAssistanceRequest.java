@@ -0,0 +1,22 @@
+package com.proyecto.congreso.points.assistance.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Lote de check-ins de un gateway de escáneres. Cada item se valida por separado
+// (no con @Valid) para devolver un resultado por item en lugar de rechazar todo el lote
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssistanceRequest {
+
+    @NotEmpty(message = "Debe enviar al menos una asistencia")
+    @Size(max = 500, message = "Máximo 500 asistencias por lote")
+    private List<AssistanceRequest> asistencias;
+
+}
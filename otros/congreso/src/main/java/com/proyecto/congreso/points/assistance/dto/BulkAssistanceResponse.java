@@ -0,0 +1,32 @@
+package com.proyecto.congreso.points.assistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssistanceResponse {
+    private int received;
+    private long registered;
+    private long duplicated;
+    private long rejected;
+    private List<BulkAssistanceItemResult> results;
+
+    public static BulkAssistanceResponse of(List<BulkAssistanceItemResult> results) {
+        return new BulkAssistanceResponse(
+                results.size(),
+                count(results, BulkAssistanceItemResult.Status.REGISTERED),
+                count(results, BulkAssistanceItemResult.Status.DUPLICATE),
+                count(results, BulkAssistanceItemResult.Status.REJECTED),
+                results
+        );
+    }
+
+    private static long count(List<BulkAssistanceItemResult> results, BulkAssistanceItemResult.Status status) {
+        return results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
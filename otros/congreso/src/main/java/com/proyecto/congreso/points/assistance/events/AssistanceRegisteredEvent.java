@@ -1,35 +1,45 @@
-package com.proyecto.congreso.points.assistance.events;
-
-import lombok.*;
-
-import java.time.LocalDateTime;
-
-//Acumulacion de puntos
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class AssistanceRegisteredEvent {
-
-    private Long passId;
-
-    private String conferenciaId;
-
-    private String tituloConferencia;
-
-    private Integer amountPoints;
-
-    private LocalDateTime timestamp;
-
-    public AssistanceRegisteredEvent(Long passId, String conferenciaId,
-                                     String tituloConferencia, Integer amountPoints) {
-        this.passId = passId;
-        this.conferenciaId = conferenciaId;
-        this.tituloConferencia = tituloConferencia;
-        this.amountPoints = amountPoints;
-        this.timestamp = LocalDateTime.now();
-    }
-
-    public AssistanceRegisteredEvent(Long passId, Integer pointsToAdd) {
-    }
+package com.proyecto.congreso.points.assistance.events;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+//Acumulacion de puntos
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssistanceRegisteredEvent {
+
+    private Long passId;
+
+    private String conferenciaId;
+
+    private String tituloConferencia;
+
+    private Integer amountPoints;
+
+    private LocalDateTime timestamp;
+
+    // Id de la asistencia en MongoDB: el listener la registra en asistencias_aplicadas
+    // junto con los puntos, y processAssistancePointsJob no vuelve a sumarlos
+    private String asistenciaId;
+
+    public AssistanceRegisteredEvent(Long passId, String conferenciaId,
+                                     String tituloConferencia, Integer amountPoints) {
+        this.passId = passId;
+        this.conferenciaId = conferenciaId;
+        this.tituloConferencia = tituloConferencia;
+        this.amountPoints = amountPoints;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public AssistanceRegisteredEvent(String asistenciaId, Long passId, String conferenciaId,
+                                     String tituloConferencia, Integer amountPoints) {
+        this(passId, conferenciaId, tituloConferencia, amountPoints);
+        this.asistenciaId = asistenciaId;
+    }
+
+    public AssistanceRegisteredEvent(Long passId, Integer pointsToAdd) {
+    }
 }
\ No newline at end of file
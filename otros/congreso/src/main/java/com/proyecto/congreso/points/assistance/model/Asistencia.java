@@ -1,42 +1,54 @@
-package com.proyecto.congreso.points.assistance.model;
-
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-import java.time.LocalDateTime;
-
-@AllArgsConstructor
-@NoArgsConstructor
-@Data
-@Document(collection = "asistencias")
-public class Asistencia {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private String id;
-    private Long passId;
-    private Long participantId;
-    private String conferenciaId;
-    private String tituloConferencia;
-    private Integer puntosOtorgados;
-    private LocalDateTime fechaAsistencia;
-    private String status;
-
-    public static Asistencia crear(Long passId, Long participantId, String conferenciaId,
-                                   String tituloConferencia, Integer puntos) {
-        Asistencia asistencia = new Asistencia();
-        asistencia.setPassId(passId);
-        asistencia.setParticipantId(participantId);
-        asistencia.setConferenciaId(conferenciaId);
-        asistencia.setTituloConferencia(tituloConferencia);
-        asistencia.setPuntosOtorgados(puntos);
-        asistencia.setFechaAsistencia(LocalDateTime.now());
-        asistencia.setStatus("PROCESADA");
-        return asistencia;
-    }
-}
+package com.proyecto.congreso.points.assistance.model;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Document(collection = "asistencias")
+// Soporta la lectura por keyset del batch: status = PENDIENTE AND _id > watermark ORDER BY _id
+@CompoundIndex(name = "status_id_idx", def = "{'status': 1, '_id': 1}")
+// Una sola asistencia por Pass y conferencia; también sirve las consultas por passId
+@CompoundIndex(name = "pass_conferencia_unique_idx", def = "{'passId': 1, 'conferenciaId': 1}", unique = true)
+// Cubre las agregaciones de puntos acumulados por Pass (sin leer los documentos)
+@CompoundIndex(name = "pass_status_puntos_idx",
+        def = "{'passId': 1, 'status': 1, 'puntosOtorgados': 1, 'fechaAsistencia': 1}")
+public class Asistencia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private String id;
+    private Long passId;
+    @Indexed(name = "participant_idx")
+    private Long participantId;
+    @Indexed(name = "conferencia_idx")
+    private String conferenciaId;
+    private String tituloConferencia;
+    private Integer puntosOtorgados;
+    @Indexed(name = "fecha_asistencia_idx")
+    private LocalDateTime fechaAsistencia;
+    private String status;
+
+    public static Asistencia crear(Long passId, Long participantId, String conferenciaId,
+                                   String tituloConferencia, Integer puntos) {
+        Asistencia asistencia = new Asistencia();
+        asistencia.setPassId(passId);
+        asistencia.setParticipantId(participantId);
+        asistencia.setConferenciaId(conferenciaId);
+        asistencia.setTituloConferencia(tituloConferencia);
+        asistencia.setPuntosOtorgados(puntos);
+        asistencia.setFechaAsistencia(LocalDateTime.now());
+        asistencia.setStatus("PROCESADA");
+        return asistencia;
+    }
+}
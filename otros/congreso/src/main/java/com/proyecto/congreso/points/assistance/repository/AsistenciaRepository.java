@@ -1,39 +1,57 @@
-package com.proyecto.congreso.points.assistance.repository;
-
-import com.proyecto.congreso.points.assistance.model.Asistencia;
-import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-@Repository
-public interface AsistenciaRepository  extends MongoRepository<Asistencia, String> {
-
-    List<Asistencia> findByPassId(Long passId);
-
-    // Buscar asistentes a una conferencia específica
-    List<Asistencia> findByConferenciaId(String conferenciaId);
-
-    // Verificar si ya existe asistencia (evitar duplicados)
-    boolean existsByPassIdAndConferenciaId(Long passId, String conferenciaId);
-
-    // Obtener asistencias por participante
-    List<Asistencia> findByParticipantId(Long participantId);
-
-    // Obtener asistencias en un rango de fechas
-    List<Asistencia> findByFechaAsistenciaBetween(LocalDateTime inicio, LocalDateTime fin);
-
-    // Contar asistencias de un Pass
-    long countByPassId(Long passId);
-
-    // Buscar por Pass y estado
-    List<Asistencia> findByPassIdAndStatus(Long passId, String status);
-
-    List<Asistencia> findByStatus(String status);
-
-    // Calcular total de puntos acumulados por Pass
-    @Query("{ 'passId': ?0, 'status': 'PROCESADA' }")
-    List<Asistencia> findAsistenciasProcedasByPass(Long passId);
-}
+package com.proyecto.congreso.points.assistance.repository;
+
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.calculator.dto.PassPointsTotal;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AsistenciaRepository  extends MongoRepository<Asistencia, String> {
+
+    List<Asistencia> findByPassId(Long passId);
+
+    // Buscar asistentes a una conferencia específica
+    List<Asistencia> findByConferenciaId(String conferenciaId);
+
+    // Obtener asistencias por participante
+    List<Asistencia> findByParticipantId(Long participantId);
+
+    // Obtener asistencias en un rango de fechas
+    List<Asistencia> findByFechaAsistenciaBetween(LocalDateTime inicio, LocalDateTime fin);
+
+    // Contar asistencias de un Pass
+    long countByPassId(Long passId);
+
+    // Buscar por Pass y estado
+    List<Asistencia> findByPassIdAndStatus(Long passId, String status);
+
+    List<Asistencia> findByStatus(String status);
+
+    // Total de puntos acumulados por Pass, sumado en el servidor (null si no hay asistencias)
+    @Aggregation(pipeline = {
+            "{ $match: { 'passId': ?0, 'status': 'PROCESADA' } }",
+            "{ $group: { _id: null, total: { $sum: '$puntosOtorgados' } } }"
+    })
+    Integer sumPuntosProcesadosByPass(Long passId);
+
+    // Totales de varios Pases en una sola agregación (reportes); los Pases sin asistencias no aparecen
+    @Aggregation(pipeline = {
+            "{ $match: { 'passId': { $in: ?0 }, 'status': 'PROCESADA' } }",
+            "{ $group: { _id: '$passId', total: { $sum: '$puntosOtorgados' }, count: { $sum: 1 }, "
+                    + "lastActivityAt: { $max: '$fechaAsistencia' } } }",
+            "{ $project: { _id: 0, passId: '$_id', total: 1, count: 1, lastActivityAt: 1 } }"
+    })
+    List<PassPointsTotal> sumPuntosProcesadosByPassIn(Collection<Long> passIds);
+
+    // Check-ins ya registrados de un lote: solo las claves (passId, conferenciaId), cubierto por
+    // pass_conferencia_unique_idx. El $in cruzado puede traer pares que no están en el lote
+    @Query(value = "{ 'passId': { $in: ?0 }, 'conferenciaId': { $in: ?1 } }",
+            fields = "{ '_id': 0, 'passId': 1, 'conferenciaId': 1 }")
+    List<Asistencia> findCheckInKeys(Collection<Long> passIds, Collection<String> conferenciaIds);
+}
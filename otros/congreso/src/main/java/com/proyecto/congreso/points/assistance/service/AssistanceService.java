@@ -1,119 +1,318 @@
-package com.proyecto.congreso.points.assistance.service;
-
-import com.proyecto.congreso.points.assistance.dto.AssistanceResponse;
-import com.proyecto.congreso.points.assistance.model.Asistencia;
-import com.proyecto.congreso.points.calculator.model.Conferencia;
-import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
-import com.proyecto.congreso.points.calculator.repository.ConferenceRepository;
-import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.stream.Collectors;
-
-@Service
-@Slf4j
-@RequiredArgsConstructor
-public class AssistanceService {
-
-    private final AsistenciaRepository asistenciaRepository;
-    private final ConferenceRepository conferenceRepository;
-    private final ApplicationEventPublisher eventPublisher;
-
-    @Transactional
-    public AssistanceResponse marcarAsistencia(Long passId, String conferenciaId) {
-        log.info("📋 Marcando asistencia: Pass={}, Conferencia={}", passId, conferenciaId);
-
-        // 1. Validar que la conferencia existe
-        Conferencia conferencia = conferenceRepository.findById(conferenciaId)
-                .orElseThrow(() -> {
-                    log.error("❌ Conferencia no encontrada: {}", conferenciaId);
-                    return new IllegalArgumentException("Conferencia no encontrada: " + conferenciaId);
-                });
-
-        // 3. Verificar duplicados
-        if (asistenciaRepository.existsByPassIdAndConferenciaId(passId, conferenciaId)) {
-            log.warn("⚠️ Asistencia duplicada: Pass={}, Conferencia={}", passId, conferenciaId);
-            throw new IllegalArgumentException(
-                    "Ya existe registro de asistencia para este Pass y conferencia"
-            );
-        }
-
-        // 4. Crear registro de asistencia en MongoDB
-        Asistencia asistencia = new Asistencia();
-        asistencia.setPassId(passId);
-        asistencia.setConferenciaId(conferenciaId);
-        asistencia.setTituloConferencia(conferencia.getTitulo());
-        asistencia.setPuntosOtorgados(conferencia.getPuntos());
-        asistencia.setFechaAsistencia(java.time.LocalDateTime.now());
-        asistencia.setStatus("PROCESADA");
-
-        asistencia = asistenciaRepository.save(asistencia);
-        log.info("✅ Asistencia registrada en MongoDB: ID={}, Puntos total={}",
-                asistencia.getId(), getTotalPuntosAcumulados(passId));
-
-        // 5. Publicar evento para que el m0dulo Pases sume puntos
-        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(
-                passId,
-                conferenciaId,
-                conferencia.getTitulo(),
-                conferencia.getPuntos()
-        );
-
-        eventPublisher.publishEvent(event);
-        log.info("📢 Evento AssistanceRegisteredEvent publicado: Pass={}, Puntos={}",
-                passId, conferencia.getPuntos());
-
-        return AssistanceResponse.fromEntity(asistencia);
-    }
-
-     // Historial de asistencias de un Pass
-    @Transactional(readOnly = true)
-    public List<AssistanceResponse> getAsistenciasByPass(Long passId) {
-        log.debug("🔍 Obteniendo asistencias del Pass: {}", passId);
-        return asistenciaRepository.findByPassId(passId).stream()
-                .map(AssistanceResponse::fromEntity)
-                .collect(Collectors.toList());
-    }
-
-     // Obtiene la lista de asistentes a una conferencia
-    @Transactional(readOnly = true)
-    public List<AssistanceResponse> getAsistenciasByConferencia(String conferenciaId) {
-        log.debug("🔍 Obteniendo asistentes a la conferencia: {}", conferenciaId);
-        return asistenciaRepository.findByConferenciaId(conferenciaId).stream()
-                .map(AssistanceResponse::fromEntity)
-                .collect(Collectors.toList());
-    }
-
-    // Calcula el total de puntos acumulados por asistencias
-    @Transactional(readOnly=true)
-    public Integer getTotalPuntosAcumulados(Long passId) {
-        log.debug("🔍 Calculando puntos acumulados del Pass: {}", passId);
-        List<Asistencia> asistencias = asistenciaRepository.findAsistenciasProcedasByPass(passId);
-        return asistencias.stream()
-                .mapToInt(Asistencia::getPuntosOtorgados)
-                .sum();
-    }
-
-    // Cuenta las asistencias de un Pass
-    @Transactional(readOnly = true)
-    public long countAsistenciasByPass(Long passId) {
-        log.debug("🔍 Contando asistencias del Pass: {}", passId);
-        return asistenciaRepository.countByPassId(passId);
-    }
-
-    private static class PassResponse {
-        private Long passId;
-        private Long participantId;
-
-        public Long getPassId() { return passId; }
-        public void setPassId(Long passId) { this.passId = passId; }
-
-        public Long getParticipantId() { return participantId; }
-        public void setParticipantId(Long participantId) { this.participantId = participantId; }
-    }
+package com.proyecto.congreso.points.assistance.service;
+
+import com.proyecto.congreso.points.assistance.dto.AssistanceRequest;
+import com.proyecto.congreso.points.assistance.dto.AssistanceResponse;
+import com.proyecto.congreso.points.assistance.dto.BulkAssistanceItemResult;
+import com.proyecto.congreso.points.assistance.dto.BulkAssistanceResponse;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.calculator.model.Conferencia;
+import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
+import com.proyecto.congreso.points.calculator.service.ConferenceCatalogCache;
+import com.proyecto.congreso.points.calculator.service.PassPointsTotals;
+import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
+import com.proyecto.congreso.shared.OptimisticRetryExecutor;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AssistanceService {
+
+    public static final int MAX_BULK_CHECK_INS = 500;
+
+    private final AsistenciaRepository asistenciaRepository;
+    private final ConferenceCatalogCache conferenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MongoTemplate mongoTemplate;
+    private final OptimisticRetryExecutor retryExecutor;
+
+    // Sin @Transactional: la transacción del evento la abre el ejecutor y la suma de puntos
+    // del listener se une a ella; un conflicto reintenta la publicación completa.
+    // La asistencia se inserta PENDIENTE y pasa a PROCESADA solo tras el commit de los puntos;
+    // si el listener falla queda PENDIENTE y processAssistancePointsJob la suma.
+    public AssistanceResponse marcarAsistencia(Long passId, String conferenciaId) {
+        log.info("📋 Marcando asistencia: Pass={}, Conferencia={}", passId, conferenciaId);
+
+        // 1. Validar que la conferencia existe (catálogo en memoria, sin ir a MongoDB)
+        Conferencia conferencia = conferenceCatalog.findById(conferenciaId)
+                .orElseThrow(() -> {
+                    log.error("❌ Conferencia no encontrada: {}", conferenciaId);
+                    return new IllegalArgumentException("Conferencia no encontrada: " + conferenciaId);
+                });
+
+        // 3. Crear registro de asistencia en MongoDB. Los duplicados los detecta el índice
+        //    único (passId, conferenciaId): un solo insert, también correcto con doble escaneo concurrente
+        Asistencia asistencia = new Asistencia();
+        asistencia.setPassId(passId);
+        asistencia.setConferenciaId(conferenciaId);
+        asistencia.setTituloConferencia(conferencia.getTitulo());
+        asistencia.setPuntosOtorgados(conferencia.getPuntos());
+        asistencia.setFechaAsistencia(java.time.LocalDateTime.now());
+        asistencia.setStatus("PENDIENTE");
+
+        try {
+            asistencia = asistenciaRepository.insert(asistencia);
+        } catch (DuplicateKeyException e) {
+            log.warn("⚠️ Asistencia duplicada: Pass={}, Conferencia={}", passId, conferenciaId);
+            throw new IllegalArgumentException(
+                    "Ya existe registro de asistencia para este Pass y conferencia"
+            );
+        }
+        log.info("✅ Asistencia registrada en MongoDB: ID={}", asistencia.getId());
+
+        // 4. Publicar evento para que el m0dulo Pases sume puntos
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(
+                asistencia.getId(),
+                passId,
+                conferenciaId,
+                conferencia.getTitulo(),
+                conferencia.getPuntos()
+        );
+
+        try {
+            retryExecutor.run("assistance.register", () -> eventPublisher.publishEvent(event));
+            log.info("📢 Evento AssistanceRegisteredEvent publicado: Pass={}, Puntos={}",
+                    passId, conferencia.getPuntos());
+
+            markProcessed(List.of(asistencia.getId()));
+            asistencia.setStatus("PROCESADA");
+        } catch (RuntimeException e) {
+            log.error("❌ No se sumaron los puntos de la asistencia {} (Pass={}); queda PENDIENTE",
+                    asistencia.getId(), passId, e);
+        }
+
+        return AssistanceResponse.fromEntity(asistencia);
+    }
+
+    /**
+     * Registra un lote de check-ins (cola de un gateway de escáneres) en un solo viaje:
+     * valida contra el catálogo en memoria, detecta los ya registrados con una sola consulta $in
+     * e inserta el resto con un bulkWrite no ordenado. Devuelve un resultado por item, en el orden
+     * recibido; un item inválido o duplicado no afecta a los demás.
+     *
+     * Sin transacción envolvente: el evento de cada asistencia se publica en su propia
+     * transacción (con los reintentos de OptimisticRetryExecutor), así un listener que falla
+     * solo deshace los puntos de ese item. Se insertan PENDIENTE y solo las que confirmaron
+     * sus puntos pasan a PROCESADA; el resto las suma processAssistancePointsJob.
+     */
+    public BulkAssistanceResponse marcarAsistencias(List<AssistanceRequest> checkIns) {
+        if (checkIns == null || checkIns.isEmpty()) {
+            throw new IllegalArgumentException("Debe enviar al menos una asistencia");
+        }
+        if (checkIns.size() > MAX_BULK_CHECK_INS) {
+            throw new IllegalArgumentException("Máximo " + MAX_BULK_CHECK_INS + " asistencias por lote");
+        }
+        log.info("📋 Marcando lote de {} asistencias", checkIns.size());
+
+        BulkAssistanceItemResult[] results = new BulkAssistanceItemResult[checkIns.size()];
+
+        // 1. Validar cada item contra el catálogo y descartar repetidos dentro del lote
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        Map<Integer, Conferencia> conferencias = new LinkedHashMap<>();
+        for (int i = 0; i < checkIns.size(); i++) {
+            AssistanceRequest item = checkIns.get(i);
+            if (item == null || item.getPassId() == null || item.getConferenciaId() == null) {
+                results[i] = BulkAssistanceItemResult.rejected(i, item, "Pass ID y Conferencia ID son requeridos");
+                continue;
+            }
+            Optional<Conferencia> conferencia = conferenceCatalog.findById(item.getConferenciaId());
+            if (conferencia.isEmpty()) {
+                results[i] = BulkAssistanceItemResult.rejected(i, item,
+                        "Conferencia no encontrada: " + item.getConferenciaId());
+                continue;
+            }
+            if (candidates.putIfAbsent(checkInKey(item.getPassId(), item.getConferenciaId()), i) != null) {
+                results[i] = BulkAssistanceItemResult.duplicate(i, item, "Asistencia repetida en el lote");
+                continue;
+            }
+            conferencias.put(i, conferencia.get());
+        }
+
+        // 2. Una sola consulta por los check-ins ya registrados
+        if (!candidates.isEmpty()) {
+            Set<Long> passIds = candidates.values().stream()
+                    .map(i -> checkIns.get(i).getPassId()).collect(Collectors.toSet());
+            Set<String> conferenciaIds = candidates.values().stream()
+                    .map(i -> checkIns.get(i).getConferenciaId()).collect(Collectors.toSet());
+            for (Asistencia existing : asistenciaRepository.findCheckInKeys(passIds, conferenciaIds)) {
+                Integer index = candidates.remove(checkInKey(existing.getPassId(), existing.getConferenciaId()));
+                if (index != null) {
+                    results[index] = BulkAssistanceItemResult.duplicate(index, checkIns.get(index),
+                            "Ya existe registro de asistencia para este Pass y conferencia");
+                }
+            }
+        }
+
+        // 3. Insertar el resto en un bulkWrite no ordenado. El _id se asigna antes para
+        //    devolverlo en la respuesta (el bulk no lo copia de vuelta a la entidad)
+        List<Integer> indexes = new ArrayList<>(candidates.values());
+        List<Asistencia> asistencias = new ArrayList<>(indexes.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (Integer index : indexes) {
+            AssistanceRequest item = checkIns.get(index);
+            Conferencia conferencia = conferencias.get(index);
+            Asistencia asistencia = new Asistencia();
+            asistencia.setId(new ObjectId().toHexString());
+            asistencia.setPassId(item.getPassId());
+            asistencia.setConferenciaId(item.getConferenciaId());
+            asistencia.setTituloConferencia(conferencia.getTitulo());
+            asistencia.setPuntosOtorgados(conferencia.getPuntos());
+            asistencia.setFechaAsistencia(now);
+            asistencia.setStatus("PENDIENTE");
+            asistencias.add(asistencia);
+        }
+        Map<Integer, BulkWriteError> writeErrors = insertUnordered(asistencias);
+
+        // 4. Resultado por item y evento por cada asistencia insertada
+        List<String> processed = new ArrayList<>();
+        for (int j = 0; j < asistencias.size(); j++) {
+            int index = indexes.get(j);
+            Asistencia asistencia = asistencias.get(j);
+            BulkWriteError error = writeErrors.get(j);
+            if (error == null) {
+                results[index] = BulkAssistanceItemResult.registered(index, asistencia);
+                try {
+                    retryExecutor.run("assistance.register", () -> eventPublisher.publishEvent(new AssistanceRegisteredEvent(
+                            asistencia.getId(),
+                            asistencia.getPassId(),
+                            asistencia.getConferenciaId(),
+                            asistencia.getTituloConferencia(),
+                            asistencia.getPuntosOtorgados()
+                    )));
+                    processed.add(asistencia.getId());
+                } catch (RuntimeException e) {
+                    log.error("❌ No se sumaron los puntos de la asistencia {} (Pass={}); queda PENDIENTE",
+                            asistencia.getId(), asistencia.getPassId(), e);
+                }
+            } else if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                // Otro escaneo del mismo Pass entró entre la consulta y el insert
+                results[index] = BulkAssistanceItemResult.duplicate(index, checkIns.get(index),
+                        "Ya existe registro de asistencia para este Pass y conferencia");
+            } else {
+                results[index] = BulkAssistanceItemResult.rejected(index, checkIns.get(index), error.getMessage());
+            }
+        }
+
+        markProcessed(processed);
+
+        BulkAssistanceResponse response = BulkAssistanceResponse.of(Arrays.asList(results));
+        log.info("✅ Lote de asistencias procesado: {} registradas, {} duplicadas, {} rechazadas",
+                response.getRegistered(), response.getDuplicated(), response.getRejected());
+        return response;
+    }
+
+    // Errores del bulkWrite indexados por posición en la lista insertada
+    private Map<Integer, BulkWriteError> insertUnordered(List<Asistencia> asistencias) {
+        if (asistencias.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)
+                    .insert(asistencias)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            log.warn("⚠️ {} asistencias del lote no se insertaron", e.getErrors().size());
+            return e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, Function.identity()));
+        }
+    }
+
+    // Solo tras el commit de sus puntos. Si esto falla quedan PENDIENTE y el batch solo las
+    // marca: ya están en asistencias_aplicadas
+    private void markProcessed(List<String> asistenciaIds) {
+        if (asistenciaIds.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.updateMulti(new Query(where("_id").in(asistenciaIds)),
+                    new Update().set("status", "PROCESADA"), Asistencia.class);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ No se marcaron PROCESADA {} asistencias; las marca processAssistancePointsJob: {}",
+                    asistenciaIds.size(), e.getMessage());
+        }
+    }
+
+    private static String checkInKey(Long passId, String conferenciaId) {
+        return passId + ":" + conferenciaId;
+    }
+
+     // Historial de asistencias de un Pass
+    @Transactional(readOnly = true)
+    public List<AssistanceResponse> getAsistenciasByPass(Long passId) {
+        log.debug("🔍 Obteniendo asistencias del Pass: {}", passId);
+        return asistenciaRepository.findByPassId(passId).stream()
+                .map(AssistanceResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+     // Obtiene la lista de asistentes a una conferencia
+    @Transactional(readOnly = true)
+    public List<AssistanceResponse> getAsistenciasByConferencia(String conferenciaId) {
+        log.debug("🔍 Obteniendo asistentes a la conferencia: {}", conferenciaId);
+        return asistenciaRepository.findByConferenciaId(conferenciaId).stream()
+                .map(AssistanceResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    // Calcula el total de puntos acumulados por asistencias (agregación en MongoDB)
+    @Transactional(readOnly=true)
+    public Integer getTotalPuntosAcumulados(Long passId) {
+        log.debug("🔍 Calculando puntos acumulados del Pass: {}", passId);
+        Integer total = asistenciaRepository.sumPuntosProcesadosByPass(passId);
+        return total != null ? total : 0;
+    }
+
+    // Total de puntos acumulados de varios Pases en una sola consulta; los Pases sin asistencias quedan en 0
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getTotalPuntosAcumulados(Collection<Long> passIds) {
+        Set<Long> ids = PassPointsTotals.validatePassIds(passIds);
+        log.debug("🔍 Calculando puntos acumulados de {} Pases", ids.size());
+        return PassPointsTotals.toMap(ids, asistenciaRepository.sumPuntosProcesadosByPassIn(ids));
+    }
+
+    // Cuenta las asistencias de un Pass
+    @Transactional(readOnly = true)
+    public long countAsistenciasByPass(Long passId) {
+        log.debug("🔍 Contando asistencias del Pass: {}", passId);
+        return asistenciaRepository.countByPassId(passId);
+    }
+
+    private static class PassResponse {
+        private Long passId;
+        private Long participantId;
+
+        public Long getPassId() { return passId; }
+        public void setPassId(Long passId) { this.passId = passId; }
+
+        public Long getParticipantId() { return participantId; }
+        public void setParticipantId(Long participantId) { this.participantId = participantId; }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.proyecto.congreso.points.calculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Total de puntos de un Pass calculado por agregación en MongoDB ($match + $group por passId)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PassPointsTotal {
+    private Long passId;
+    private Integer total;
+    private Long count;
+    private LocalDateTime lastActivityAt;
+}
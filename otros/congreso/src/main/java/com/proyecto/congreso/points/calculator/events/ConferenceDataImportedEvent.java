@@ -1,6 +1,6 @@
-package com.proyecto.congreso.points.calculator.events;
-
-import com.proyecto.congreso.points.calculator.dto.ConferencePointsData;
-
-public record ConferenceDataImportedEvent(ConferencePointsData data) {
-}
+package com.proyecto.congreso.points.calculator.events;
+
+import com.proyecto.congreso.points.calculator.dto.ConferencePointsData;
+
+public record ConferenceDataImportedEvent(ConferencePointsData data) {
+}
@@ -1,6 +1,6 @@
-package com.proyecto.congreso.points.calculator.events;
-
-import com.proyecto.congreso.points.calculator.model.FreebiePointsData;
-
-public record FreebieDataImportedEvent (FreebiePointsData data){
-}
+package com.proyecto.congreso.points.calculator.events;
+
+import com.proyecto.congreso.points.calculator.model.FreebiePointsData;
+
+public record FreebieDataImportedEvent (FreebiePointsData data){
+}
@@ -0,0 +1,113 @@
+package com.proyecto.congreso.points.calculator.service;
+
+import com.proyecto.congreso.points.calculator.model.Conferencia;
+import com.proyecto.congreso.points.calculator.repository.ConferenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache read-through del catálogo de conferencias (datos de referencia, ~43 documentos).
+ *
+ * - Hit: se responde desde memoria, sin ir a MongoDB.
+ * - Miss o entrada vencida (ttl): se lee con ConferenceRepository y se guarda.
+ * - Tamaño acotado (maxSize): al pasarse se descarta la entrada más vieja.
+ * - invalidate / invalidateAll cuando se importan o cambian conferencias. Una carga que
+ *   empezó antes de la invalidación no vuelve a meter el dato viejo (contador de generación).
+ *
+ * Las conferencias inexistentes no se cachean. Métricas: conference.catalog.cache.hits / misses
+ * y el gauge conference.catalog.cache.size.
+ */
+@Slf4j
+@Component
+public class ConferenceCatalogCache {
+
+    private final ConferenceRepository conferenceRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ConferenceCatalogCache(ConferenceRepository conferenceRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${congreso.conferences.cache.ttl-seconds:600}") long ttlSeconds,
+                                  @Value("${congreso.conferences.cache.max-size:500}") int maxSize) {
+        this(conferenceRepository, meterRegistry, ttlSeconds, maxSize, System::nanoTime);
+    }
+
+    ConferenceCatalogCache(ConferenceRepository conferenceRepository, MeterRegistry meterRegistry,
+                           long ttlSeconds, int maxSize, LongSupplier nanoClock) {
+        this.conferenceRepository = conferenceRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, ttlSeconds));
+        this.maxSize = Math.max(1, maxSize);
+        this.nanoClock = nanoClock;
+        this.hits = meterRegistry.counter("conference.catalog.cache.hits");
+        this.misses = meterRegistry.counter("conference.catalog.cache.misses");
+        meterRegistry.gauge("conference.catalog.cache.size", entries, Map::size);
+    }
+
+    public Optional<Conferencia> findById(String conferenciaId) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(conferenciaId);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            hits.increment();
+            return Optional.of(entry.conferencia());
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        Optional<Conferencia> loaded = conferenceRepository.findById(conferenciaId);
+
+        loaded.ifPresent(conferencia -> {
+            // Si hubo una invalidación mientras se leía, no se guarda el dato posiblemente viejo
+            if (generation.get() == loadGeneration) {
+                entries.put(conferenciaId, new Entry(conferencia, now + ttlNanos));
+                evictIfNeeded();
+            }
+        });
+        return loaded;
+    }
+
+    public void invalidate(String conferenciaId) {
+        generation.incrementAndGet();
+        entries.remove(conferenciaId);
+        log.debug("🧹 Conferencia {} invalidada en cache", conferenciaId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+        log.info("🧹 Cache del catálogo de conferencias vaciada");
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maxSize) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private record Entry(Conferencia conferencia, long expiresAt) {
+    }
+}
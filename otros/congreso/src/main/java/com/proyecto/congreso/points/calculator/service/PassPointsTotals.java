@@ -0,0 +1,48 @@
+package com.proyecto.congreso.points.calculator.service;
+
+import com.proyecto.congreso.points.calculator.dto.PassPointsTotal;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Utilidades para los totales de puntos de varios Pases (asistencias e intercambios).
+ * La agregación solo devuelve los Pases con registros; aquí se completan los demás con 0.
+ */
+public final class PassPointsTotals {
+
+    // Tope de Pases por consulta: mantiene acotado el $in y el tamaño de la respuesta
+    public static final int MAX_PASS_IDS = 1000;
+
+    private PassPointsTotals() {
+    }
+
+    public static Set<Long> validatePassIds(Collection<Long> passIds) {
+        if (passIds == null || passIds.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un Pass");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        passIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un Pass");
+        }
+        if (ids.size() > MAX_PASS_IDS) {
+            throw new IllegalArgumentException("Máximo " + MAX_PASS_IDS + " Pases por consulta");
+        }
+        return ids;
+    }
+
+    public static Map<Long, Integer> toMap(Set<Long> passIds, List<PassPointsTotal> totals) {
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        passIds.forEach(passId -> result.put(passId, 0));
+        for (PassPointsTotal total : totals) {
+            result.put(total.getPassId(), total.getTotal() != null ? total.getTotal() : 0);
+        }
+        return result;
+    }
+}
@@ -1,32 +1,46 @@
-package com.proyecto.congreso.points.exchange.repository;
-
-import com.proyecto.congreso.points.exchange.model.Exchange;
-import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-
-@Repository
-public interface ExchangeRepository extends MongoRepository<Exchange, String> {
-
-
-    // Buscar todas los Exchanges de un Pass
-    List<Exchange> findByPassId(Long passId);
-
-    // Buscar asistentes a una conferencia específica
-    List<Exchange> findByFreebieId(String freebieId);
-
-    // Verificar si ya existe Exchange (evitar duplicados)
-    boolean existsByPassIdAndFreebieId(Long passId, String freebieId);
-
-    // Obtener Exchanges por participante
-    List<Exchange> findByParticipantId(Long participantId);
-
-    // Contar Exchanges de un Pass
-    long countByPassId(Long passId);
-
-    // Calcular total de puntos reducidos por Pass
-    @Query("{ 'passId': ?0 }")
-    List<Exchange> findExchangesProcedosByPass(Long passId);
-}
+package com.proyecto.congreso.points.exchange.repository;
+
+import com.proyecto.congreso.points.calculator.dto.PassPointsTotal;
+import com.proyecto.congreso.points.exchange.model.Exchange;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExchangeRepository extends MongoRepository<Exchange, String> {
+
+
+    // Buscar todas los Exchanges de un Pass
+    List<Exchange> findByPassId(Long passId);
+
+    // Buscar asistentes a una conferencia específica
+    List<Exchange> findByFreebieId(String freebieId);
+
+    // Verificar si ya existe Exchange (evitar duplicados)
+    boolean existsByPassIdAndFreebieId(Long passId, String freebieId);
+
+    // Obtener Exchanges por participante
+    List<Exchange> findByParticipantId(Long participantId);
+
+    // Contar Exchanges de un Pass
+    long countByPassId(Long passId);
+
+    // Total de puntos reducidos por Pass, sumado en el servidor (null si no hay intercambios)
+    @Aggregation(pipeline = {
+            "{ $match: { 'passId': ?0 } }",
+            "{ $group: { _id: null, total: { $sum: '$puntosReducidos' } } }"
+    })
+    Integer sumPuntosReducidosByPass(Long passId);
+
+    // Totales de varios Pases en una sola agregación (reportes); los Pases sin intercambios no aparecen
+    @Aggregation(pipeline = {
+            "{ $match: { 'passId': { $in: ?0 } } }",
+            "{ $group: { _id: '$passId', total: { $sum: '$puntosReducidos' }, count: { $sum: 1 }, "
+                    + "lastActivityAt: { $max: '$fechaIntercambio' } } }",
+            "{ $project: { _id: 0, passId: '$_id', total: 1, count: 1, lastActivityAt: 1 } }"
+    })
+    List<PassPointsTotal> sumPuntosReducidosByPassIn(Collection<Long> passIds);
+}
@@ -1,77 +1,107 @@
-package com.proyecto.congreso.points.service;
-
-import com.proyecto.congreso.points.exchange.events.ExchangeFailedEvent;
-import com.proyecto.congreso.points.calculator.repository.FreebieRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-@Service
-@Slf4j
-@RequiredArgsConstructor
-public class FreebieStockHandler {
-
-    private final FreebieRepository freebieRepository;
-    private final ApplicationEventPublisher events;
-
-    @EventListener
-    @Transactional
-    public void handleExchangeFailed(ExchangeFailedEvent event) {
-        log.warn(" Evento recibido: ExchangeFailedEvent - Pass={}, Razón={}",
-                event.getPassId(), event.getReason());
-
-        if (!Boolean.TRUE.equals(event.getShouldRevertStock()) || event.getFreebieId() == null) {
-            log.debug("ℹ️ No hay stock que revertir para este tipo de fallo");
-            return;
-        }
-
-        try {
-            // Revertir el stock
-            freebieRepository.findById(event.getFreebieId()).ifPresentOrElse(
-                    freebie -> {
-                        Integer stockAnterior = freebie.getStockActual();
-                        freebie.setStockActual(stockAnterior + 1);
-                        freebieRepository.save(freebie);
-
-                        log.info("✅ Stock revertido para Freebie ID {}: {} → {}",
-                                event.getFreebieId(), stockAnterior, freebie.getStockActual());
-                    },
-                    () -> log.warn("⚠️ Freebie ID {} no encontrado. No se pudo revertir stock.",
-                            event.getFreebieId())
-            );
-
-        } catch (Exception e) {
-            log.error("❌ Error al revertir stock: {}", event, e);
-        }
-    }
-
-    // Método auxiliar para reducir stock directamente usado por ExchangeService, es llamado directamente, no es LISTENER
-    @Transactional
-    public boolean reduceStock(String freebieId) {
-        log.info(" Reduciendo stock de Freebie ID: {}", freebieId);
-
-        return freebieRepository.findById(freebieId)
-                .map(freebie -> {
-                    if (freebie.getStockActual() <= 0) {
-                        log.warn("⚠️ Stock insuficiente para Freebie ID: {}", freebieId);
-                        return false;
-                    }
-
-                    Integer stockAnterior = freebie.getStockActual();
-                    freebie.setStockActual(stockAnterior - 1);
-                    freebieRepository.save(freebie);
-
-                    log.info("✅ Stock reducido para Freebie ID {}: {} → {}",
-                            freebieId, stockAnterior, freebie.getStockActual());
-
-                    return true;
-                })
-                .orElseGet(() -> {
-                    log.error("❌ Freebie ID {} no encontrado", freebieId);
-                    return false;
-                });
-    }
-}
\ No newline at end of file
+package com.proyecto.congreso.points.service;
+
+import com.proyecto.congreso.points.calculator.model.Freebies;
+import com.proyecto.congreso.points.exchange.events.ExchangeFailedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Reserva y liberación de stock de freebies con updates atómicos en MongoDB.
+ *
+ * La reserva es un findAndModify con guarda "stock_actual >= unidades" y $inc negativo:
+ * la validación y el descuento ocurren en una sola operación sobre el documento, así dos
+ * intercambios concurrentes por la última unidad no pueden dejar el stock en negativo.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FreebieStockHandler {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener
+    public void handleExchangeFailed(ExchangeFailedEvent event) {
+        log.warn(" Evento recibido: ExchangeFailedEvent - Pass={}, Razón={}",
+                event.getPassId(), event.getReason());
+
+        if (!Boolean.TRUE.equals(event.getShouldRevertStock()) || event.getFreebieId() == null) {
+            log.debug("ℹ️ No hay stock que revertir para este tipo de fallo");
+            return;
+        }
+
+        try {
+            // Revertir el stock
+            releaseStock(event.getFreebieId(), 1);
+        } catch (Exception e) {
+            log.error("❌ Error al revertir stock: {}", event, e);
+        }
+    }
+
+    // Método auxiliar para reducir stock directamente usado por ExchangeService, es llamado directamente, no es LISTENER
+    public boolean reduceStock(String freebieId) {
+        return reserveStock(freebieId, 1);
+    }
+
+    /**
+     * Descuenta `units` del stock solo si alcanzan. Devuelve false si no hay stock suficiente
+     * o el freebie no existe; en ese caso el documento no se modifica.
+     */
+    public boolean reserveStock(String freebieId, int units) {
+        if (units < 1) {
+            throw new IllegalArgumentException("La cantidad a reservar debe ser mayor a 0");
+        }
+        log.info(" Reduciendo stock de Freebie ID: {} ({} unidades)", freebieId, units);
+
+        Freebies updated = mongoTemplate.findAndModify(
+                new Query(where("_id").is(freebieId).and("stock_actual").gte(units)),
+                new Update().inc("stock_actual", -units),
+                FindAndModifyOptions.options().returnNew(true),
+                Freebies.class);
+
+        if (updated == null) {
+            // Solo en el camino de fallo se consulta para distinguir la causa
+            if (mongoTemplate.exists(new Query(where("_id").is(freebieId)), Freebies.class)) {
+                log.warn("⚠️ Stock insuficiente para Freebie ID: {}", freebieId);
+            } else {
+                log.error("❌ Freebie ID {} no encontrado", freebieId);
+            }
+            return false;
+        }
+
+        log.info("✅ Stock reducido para Freebie ID {}: {} → {}",
+                freebieId, updated.getStockActual() + units, updated.getStockActual());
+        return true;
+    }
+
+    /**
+     * Devuelve `units` al stock (compensación de un intercambio fallido).
+     */
+    public boolean releaseStock(String freebieId, int units) {
+        if (units < 1) {
+            throw new IllegalArgumentException("La cantidad a liberar debe ser mayor a 0");
+        }
+
+        Freebies updated = mongoTemplate.findAndModify(
+                new Query(where("_id").is(freebieId)),
+                new Update().inc("stock_actual", units),
+                FindAndModifyOptions.options().returnNew(true),
+                Freebies.class);
+
+        if (updated == null) {
+            log.warn("⚠️ Freebie ID {} no encontrado. No se pudo revertir stock.", freebieId);
+            return false;
+        }
+
+        log.info("✅ Stock revertido para Freebie ID {}: {} → {}",
+                freebieId, updated.getStockActual() - units, updated.getStockActual());
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.proyecto.congreso.shared;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fija el nodo del SnowflakeIdGenerator por defecto con congreso.ids.node-id (0-1023).
+ * Con varias instancias cada una debe tener un valor distinto; sin él se deriva uno del
+ * host y el pid, que no garantiza unicidad entre nodos.
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Value("${congreso.ids.node-id:-1}")
+    private int nodeId;
+
+    @PostConstruct
+    public void configureNodeId() {
+        if (nodeId < 0) {
+            log.warn("⚠️ congreso.ids.node-id no configurado: nodo {} derivado del host (configurarlo si hay varias instancias)",
+                    SnowflakeIdGenerator.getDefault().nodeId());
+            return;
+        }
+        SnowflakeIdGenerator.configureDefault(nodeId);
+        log.info("🆔 SnowflakeIdGenerator: nodo {}", nodeId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.proyecto.congreso.shared;
+
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado paginado por keyset (WHERE id > último ORDER BY id, nunca OFFSET/skip).
+ *
+ * nextPageToken es opaco para el cliente: se reenvía tal cual en ?pageToken= para pedir la
+ * página siguiente y es null cuando no hay más resultados. El tamaño se limita a MAX_SIZE.
+ */
+public record KeysetPage<T>(List<T> items, String nextPageToken) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    // Mayor ObjectId posible: cota de la primera página en listados de MongoDB (más nuevos primero)
+    public static final String MAX_OBJECT_ID = "ffffffffffffffffffffffff";
+
+    private static final String TOKEN_PREFIX = "k1:";
+
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SIZE;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /**
+     * Arma la página a partir de una consulta que pidió size + 1 filas: la fila extra
+     * solo indica que hay otra página y no se devuelve.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, ?> keyExtractor) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(items, encodeToken(keyExtractor.apply(items.get(size - 1))));
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextPageToken);
+    }
+
+    public static String encodeToken(Object key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decodeToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (decoded.startsWith(TOKEN_PREFIX) && decoded.length() > TOKEN_PREFIX.length()) {
+                return decoded.substring(TOKEN_PREFIX.length());
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Base64 inválido: se informa abajo como token inválido
+        }
+        throw new IllegalArgumentException("Token de paginación inválido");
+    }
+
+    // Tokens de listados JPA ordenados por id numérico; sin token empieza desde 0
+    public static long decodeLongToken(String token) {
+        String key = decodeToken(token);
+        if (key == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Token de paginación inválido");
+        }
+    }
+
+    // Tokens de listados de MongoDB ordenados por _id descendente; sin token empieza desde el más nuevo
+    public static String decodeObjectIdToken(String token) {
+        String key = decodeToken(token);
+        if (key == null) {
+            return MAX_OBJECT_ID;
+        }
+        if (!ObjectId.isValid(key)) {
+            throw new IllegalArgumentException("Token de paginación inválido");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,180 @@
+package com.proyecto.congreso.shared;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crea al arrancar los índices declarados en los documentos de MongoDB
+ * (@CompoundIndex / @Indexed en cada clase @Document).
+ *
+ * Reemplaza a spring.data.mongodb.auto-index-creation para tener un solo lugar que:
+ * - informa el avance ([n/total] y, en builds largos, documentos procesados según currentOp),
+ * - borra los índices retirados (RETIRED_INDEXES) que siguen en bases ya desplegadas,
+ * - intenta todos los índices y, si alguno falla, detiene el arranque con la lista completa.
+ *
+ * Corre en afterSingletonsInstantiated: antes de que el servidor web acepte peticiones y de
+ * los ApplicationRunner (jobs al arranque), así que pass_conferencia_unique_idx ya existe
+ * cuando llega el primer check-in. createIndex es idempotente: si el índice ya existe con la
+ * misma definición no hace nada.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class MongoIndexBootstrap implements SmartInitializingSingleton {
+
+    // Índices de un solo campo de baja cardinalidad que se reemplazaron por compuestos
+    static final Map<String, List<String>> RETIRED_INDEXES = Map.of(
+            "notifications", List.of("type_idx", "channel_idx"),
+            "movement_logs", List.of("movement_type_idx", "points_idx", "status_idx"));
+
+    private final MongoTemplate mongoTemplate;
+    private final long progressIntervalMs;
+
+    public MongoIndexBootstrap(MongoTemplate mongoTemplate,
+                               @Value("${congreso.mongo.indexes.progress-interval-ms:5000}") long progressIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.progressIntervalMs = Math.max(100, progressIntervalMs);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        dropRetiredIndexes();
+        Report report = ensureIndexes();
+        if (!report.failed().isEmpty()) {
+            throw new IllegalStateException("No se pudieron crear los índices de MongoDB: " + report.failed());
+        }
+    }
+
+    // Solo cuesta escrituras de más, así que un fallo aquí se registra y no detiene el arranque
+    void dropRetiredIndexes() {
+        RETIRED_INDEXES.forEach((collection, names) -> {
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(collection);
+                List<String> existing = indexOps.getIndexInfo().stream().map(IndexInfo::getName).toList();
+                for (String name : names) {
+                    if (existing.contains(name)) {
+                        indexOps.dropIndex(name);
+                        log.info("🗑️ Índice retirado {}.{} eliminado", collection, name);
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.warn("⚠️ No se pudieron revisar los índices retirados de {}: {}", collection, e.getMessage());
+            }
+        });
+    }
+
+    public Report ensureIndexes() {
+        List<PlannedIndex> planned = resolveIndexes();
+        log.info("🗂️ Verificando {} índices de MongoDB", planned.size());
+
+        ScheduledExecutorService progressReporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mongo-index-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<String> failed = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 0; i < planned.size(); i++) {
+                PlannedIndex index = planned.get(i);
+                String label = "[" + (i + 1) + "/" + planned.size() + "] " + index.qualifiedName();
+
+                long indexStartedAt = System.nanoTime();
+                ScheduledFuture<?> progress = progressReporter.scheduleAtFixedRate(
+                        () -> logBuildProgress(label, index.collection()),
+                        progressIntervalMs, progressIntervalMs, TimeUnit.MILLISECONDS);
+                try {
+                    mongoTemplate.indexOps(index.collection()).createIndex(index.definition());
+                    log.info("✅ {} listo en {} ms", label, elapsedMs(indexStartedAt));
+                } catch (DataAccessException e) {
+                    failed.add(index.qualifiedName());
+                    log.error("❌ {} no se pudo crear: {}", label, e.getMessage());
+                } finally {
+                    progress.cancel(false);
+                }
+            }
+        } finally {
+            progressReporter.shutdownNow();
+        }
+
+        Report report = new Report(planned.size(), planned.size() - failed.size(), failed);
+        log.info("🗂️ Índices de MongoDB: {}/{} listos en {} ms{}", report.ensured(), report.total(),
+                elapsedMs(startedAt), failed.isEmpty() ? "" : " (fallidos: " + failed + ")");
+        return report;
+    }
+
+    List<PlannedIndex> resolveIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+
+        List<PlannedIndex> planned = new ArrayList<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            for (IndexDefinition definition : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                planned.add(new PlannedIndex(entity.getCollection(), definition));
+            }
+        }
+        planned.sort(Comparator.comparing(PlannedIndex::qualifiedName));
+        return planned;
+    }
+
+    // Avance de un build en curso (requiere permiso para currentOp; si no lo hay, se omite)
+    private void logBuildProgress(String label, String collection) {
+        try {
+            Document result = mongoTemplate.getMongoDatabaseFactory().getMongoDatabase("admin")
+                    .runCommand(new Document("currentOp", true).append("command.createIndexes", collection));
+            for (Document op : result.getList("inprog", Document.class, List.of())) {
+                Document progress = op.get("progress", Document.class);
+                if (progress != null) {
+                    log.info("⏳ {} en construcción: {}/{} documentos", label, progress.get("done"), progress.get("total"));
+                } else {
+                    log.info("⏳ {} en construcción: {}", label, op.getString("msg"));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("No se pudo consultar el avance de {}: {}", label, e.getMessage());
+        }
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    record PlannedIndex(String collection, IndexDefinition definition) {
+
+        String qualifiedName() {
+            Document options = definition.getIndexOptions();
+            Object name = options != null ? options.get("name") : null;
+            return collection + "." + (name != null ? name : definition.getIndexKeys().toJson());
+        }
+    }
+
+    public record Report(int total, int ensured, List<String> failed) {
+    }
+}
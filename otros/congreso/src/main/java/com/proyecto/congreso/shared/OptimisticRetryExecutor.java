@@ -0,0 +1,111 @@
+package com.proyecto.congreso.shared;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta mutaciones sobre entidades versionadas (@Version) reintentando ante conflictos
+ * de concurrencia (bloqueo optimista, deadlocks, lock wait timeout).
+ *
+ * Cada intento corre en su propia transacción (REQUIRES_NEW): una transacción que falló
+ * por conflicto queda marcada como rollback-only y no puede reutilizarse. Entre intentos
+ * se espera un backoff exponencial acotado con jitter completo para que los escritores
+ * que chocaron no vuelvan a coincidir.
+ *
+ * Si ya hay una transacción activa (p. ej. la de quien publica el evento que atiende
+ * PassPointsEventHandler) la acción se une a ella en un solo intento: el cambio de balance
+ * y las publicaciones del outbox se confirman en el mismo commit, con una sola conexión.
+ * El conflicto se propaga y el reintento es de quien abrió esa transacción, que debe
+ * abrirla con este mismo ejecutor (ver AssistanceService y ExchangeService).
+ *
+ * Métricas (tag "operation"):
+ * - pass.mutation.conflicts: conflictos detectados
+ * - pass.mutation.retries: reintentos realizados
+ * - pass.mutation.giveups: operaciones abandonadas tras agotar los intentos
+ */
+@Component
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${congreso.retry.max-attempts:5}") int maxAttempts,
+                                   @Value("${congreso.retry.initial-backoff-ms:20}") long initialBackoffMs,
+                                   @Value("${congreso.retry.max-backoff-ms:500}") long maxBackoffMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("congreso.retry.max-attempts must be >= 1");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+
+            } catch (ConcurrencyFailureException e) {
+                meterRegistry.counter("pass.mutation.conflicts", "operation", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("pass.mutation.giveups", "operation", operation).increment();
+                    log.error("❌ Conflicto de concurrencia en '{}': se agotaron los {} intentos",
+                            operation, maxAttempts);
+                    throw e;
+                }
+
+                long delay = backoff(attempt);
+                log.warn("⚠️ Conflicto de concurrencia en '{}' (intento {}/{}). Reintentando en {} ms",
+                        operation, attempt, maxAttempts, delay);
+                meterRegistry.counter("pass.mutation.retries", "operation", operation).increment();
+                sleep(delay);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Backoff exponencial acotado con jitter completo: random(0, min(max, initial * 2^(n-1)))
+    long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reintento interrumpido", ie);
+        }
+    }
+}
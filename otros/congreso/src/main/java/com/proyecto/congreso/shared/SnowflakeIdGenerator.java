@@ -0,0 +1,106 @@
+package com.proyecto.congreso.shared;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Ids de 63 bits ordenados en el tiempo, estilo Snowflake:
+ *
+ *   [41 bits: ms desde 2025-01-01][10 bits: nodo][12 bits: secuencia]
+ *
+ * - Únicos entre nodos mientras cada instancia tenga su propio nodeId (congreso.ids.node-id).
+ * - Monótonos por nodo y sin locks: el último (ms, secuencia) vive en un AtomicLong y se
+ *   avanza con compareAndSet. Si en un mismo ms se agotan las 4096 secuencias, el acarreo
+ *   pasa al ms siguiente en lugar de esperar; si el reloj retrocede se sigue desde el último.
+ *   Por encima de 4096 ids/ms sostenidos los ids se adelantan al reloj hasta que baja el ritmo.
+ *
+ * Lo usan las factories de Certificate, SpecialAccess y SpecialAccessEvent (que son
+ * estáticas), por eso hay una instancia por defecto accesible con {@link #nextId()}.
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile SnowflakeIdGenerator defaultInstance = new SnowflakeIdGenerator(derivedNodeId());
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (ms desde EPOCH_MILLIS << SEQUENCE_BITS) | secuencia del último id generado
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId debe estar entre 0 y " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long next() {
+        while (true) {
+            long current = last.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // Mismo ms (o reloj atrasado): +1 en la secuencia, con acarreo al ms siguiente
+            long candidate = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+            if (last.compareAndSet(current, candidate)) {
+                return ((candidate >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | nodeBits
+                        | (candidate & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public int nodeId() {
+        return (int) (nodeBits >>> SEQUENCE_BITS);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    // ========== INSTANCIA POR DEFECTO ==========
+
+    public static long nextId() {
+        return defaultInstance.next();
+    }
+
+    public static SnowflakeIdGenerator getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Fija el nodo de la instancia por defecto (IdGeneratorConfig, al arrancar). El estado
+     * se copia para que los ids sigan siendo crecientes si ya se había generado alguno.
+     */
+    public static synchronized void configureDefault(int nodeId) {
+        SnowflakeIdGenerator previous = defaultInstance;
+        if (previous.nodeId() == nodeId) {
+            return;
+        }
+        SnowflakeIdGenerator configured = new SnowflakeIdGenerator(nodeId);
+        configured.last.set(previous.last.get());
+        defaultInstance = configured;
+    }
+
+    // Sin congreso.ids.node-id: hash de "pid@host". Suficiente en una sola instancia, pero
+    // dos nodos pueden coincidir; en un despliegue con varios nodos se debe configurar.
+    static int derivedNodeId() {
+        String identity = ManagementFactory.getRuntimeMXBean().getName();
+        return (identity.hashCode() & Integer.MAX_VALUE) % (MAX_NODE_ID + 1);
+    }
+}
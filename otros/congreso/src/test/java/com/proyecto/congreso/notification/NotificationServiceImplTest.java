@@ -1,75 +1,230 @@
-package com.proyecto.congreso.notification;
-import com.proyecto.congreso.notification.model.Notification;
-import com.proyecto.congreso.notification.repository.NotificationRepository;
-import com.proyecto.congreso.notification.service.NotificationServiceImpl;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.Mockito;
-import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.util.List;
-
-
-import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
-
-@ExtendWith(MockitoExtension.class)
-class NotificationServiceImplTest {
-
-    private static final String ID = "N-101";
-    private static final Long PARTICIPANT_ID = 500L;
-    private static final Long PASS_ID = 101L;
-    private static final String EMAIL = "test@example.com";
-    private static final String FULL_NAME = "Tester Name";
-    private static final Notification.NotificationStatus PENDING = Notification.NotificationStatus.PENDING;
-    private static final Notification.NotificationStatus SENT = Notification.NotificationStatus.SENT;
-    private static final Notification.NotificationStatus FAILED = Notification.NotificationStatus.FAILED;
-    private static final Notification.NotificationStatus RETRY = Notification.NotificationStatus.RETRY;
-
-    @Mock
-    private NotificationRepository notificationRepository;
-
-    // Usamos Spy para poder mockear el método privado 'simulateSendNotification'
-    @InjectMocks
-    private NotificationServiceImpl notificationServiceSpy = Mockito.spy(new NotificationServiceImpl(notificationRepository));
-
-    private Notification mockNotification;
-    private List<Notification> mockNotificationList;
-
-    @BeforeEach
-    void setUp() throws Exception {
-        mockNotification = new Notification();
-        mockNotification.setId(ID);
-        mockNotification.setParticipantId(PARTICIPANT_ID);
-        mockNotification.setStatus(PENDING);
-        mockNotification.setChannel(Notification.NotificationChannel.EMAIL);
-        mockNotification.setType(Notification.NotificationType.EXCHANGE);
-        mockNotification.setSubject("Test Subject");
-
-        mockNotificationList = List.of(mockNotification);
-
-        // Mockear el método privado para que simule éxito por defecto
-        doReturn(true).when(notificationServiceSpy).simulateSendNotification(any(Notification.class));
-    }
-
-    @Test
-    void sendPendingNotifications_shouldCallSendNotificationForEachPending() {
-        Notification pending1 = new Notification(); pending1.setId("P1");
-        Notification pending2 = new Notification(); pending2.setId("P2");
-        List<Notification> pendingList = List.of(pending1, pending2);
-
-        doReturn(pendingList).when(notificationServiceSpy).getNotificationsByStatus(PENDING);
-        doNothing().when(notificationServiceSpy).sendNotification(anyString());
-
-        notificationServiceSpy.sendPendingNotifications();
-
-        verify(notificationServiceSpy).getNotificationsByStatus(PENDING);
-        verify(notificationServiceSpy, times(2)).sendNotification(anyString());
-    }
-
-}
\ No newline at end of file
+package com.proyecto.congreso.notification;
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.notification.repository.NotificationRepository;
+import com.proyecto.congreso.notification.service.NotificationClaims;
+import com.proyecto.congreso.notification.service.NotificationDispatcher;
+import com.proyecto.congreso.notification.service.NotificationRetryPolicy;
+import com.proyecto.congreso.notification.service.NotificationServiceImpl;
+import com.proyecto.congreso.notification.service.NotificationWriteBuffer;
+import com.proyecto.congreso.shared.KeysetPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+    private static final String ID = "N-101";
+    private static final Long PARTICIPANT_ID = 500L;
+    private static final Long PASS_ID = 101L;
+    private static final String EMAIL = "test@example.com";
+    private static final String FULL_NAME = "Tester Name";
+    private static final Notification.NotificationStatus PENDING = Notification.NotificationStatus.PENDING;
+    private static final Notification.NotificationStatus SENT = Notification.NotificationStatus.SENT;
+    private static final Notification.NotificationStatus FAILED = Notification.NotificationStatus.FAILED;
+    private static final Notification.NotificationStatus RETRY = Notification.NotificationStatus.RETRY;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private NotificationWriteBuffer writeBuffer;
+
+    @Mock
+    private NotificationClaims notificationClaims;
+
+    private final NotificationRetryPolicy retryPolicy = new NotificationRetryPolicy(5, 1000, 300_000, 500);
+
+    // Usamos Spy para poder mockear métodos del propio servicio
+    private NotificationServiceImpl notificationServiceSpy;
+
+    private Notification mockNotification;
+    private List<Notification> mockNotificationList;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        notificationServiceSpy = Mockito.spy(
+                new NotificationServiceImpl(notificationRepository, notificationDispatcher, writeBuffer, retryPolicy,
+                        notificationClaims));
+
+        mockNotification = new Notification();
+        mockNotification.setId(ID);
+        mockNotification.setParticipantId(PARTICIPANT_ID);
+        mockNotification.setStatus(PENDING);
+        mockNotification.setChannel(Notification.NotificationChannel.EMAIL);
+        mockNotification.setType(Notification.NotificationType.EXCHANGE);
+        mockNotification.setSubject("Test Subject");
+
+        mockNotificationList = List.of(mockNotification);
+    }
+
+    @Test
+    void sendPendingNotifications_shouldQueueEachPendingWithoutReloading() {
+        Notification pending1 = new Notification(); pending1.setId("P1");
+        Notification pending2 = new Notification(); pending2.setId("P2");
+        List<Notification> pendingList = List.of(pending1, pending2);
+
+        doReturn(pendingList).when(notificationServiceSpy).getNotificationsByStatus(PENDING);
+        when(notificationClaims.claimAll(pendingList)).thenReturn(pendingList);
+        when(notificationDispatcher.submit(any(Notification.class))).thenReturn(true);
+
+        notificationServiceSpy.sendPendingNotifications();
+
+        verify(notificationServiceSpy).getNotificationsByStatus(PENDING);
+        verify(notificationDispatcher).submit(pending1);
+        verify(notificationDispatcher).submit(pending2);
+        // Ya no se recarga cada notificación por id
+        verify(notificationRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void retryFailedNotifications_shouldOnlyQueueDueNotificationsInBoundedBatch() {
+        Notification failed = new Notification(); failed.setId("F1"); failed.setStatus(FAILED);
+
+        when(notificationRepository.findDueForRetry(anyList(), any(LocalDateTime.class), eq(5), any(Pageable.class)))
+                .thenReturn(List.of(failed));
+        when(notificationClaims.claimAll(List.of(failed))).thenReturn(List.of(failed));
+        when(notificationDispatcher.submit(failed)).thenReturn(true);
+
+        notificationServiceSpy.retryFailedNotifications();
+
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(notificationRepository).findDueForRetry(
+                eq(List.of(FAILED, RETRY)), any(LocalDateTime.class), eq(5), page.capture());
+        assertEquals(500, page.getValue().getPageSize());
+        verify(notificationServiceSpy, never()).getNotificationsByStatus(FAILED);
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(notificationDispatcher).submit(failed);
+        verify(writeBuffer, never()).update(anyString(), anyMap(), any(Update.class));
+    }
+
+    @Test
+    void sendPendingNotifications_shouldOnlyQueueWhatWasClaimed() {
+        Notification pending1 = new Notification(); pending1.setId("P1"); pending1.setStatus(PENDING);
+        Notification pending2 = new Notification(); pending2.setId("P2"); pending2.setStatus(PENDING);
+        List<Notification> pendingList = List.of(pending1, pending2);
+
+        // P2 ya la reclamó otro envío (dispatchNotificationsJob u otra instancia)
+        doReturn(pendingList).when(notificationServiceSpy).getNotificationsByStatus(PENDING);
+        when(notificationClaims.claimAll(pendingList)).thenReturn(List.of(pending1));
+        when(notificationDispatcher.submit(pending1)).thenReturn(true);
+
+        notificationServiceSpy.sendPendingNotifications();
+
+        verify(notificationDispatcher).submit(pending1);
+        verify(notificationDispatcher, never()).submit(pending2);
+    }
+
+    @Test
+    void notifyAdd_shouldReleaseClaimWhenQueueIsFull() {
+        doAnswer(invocation -> {
+            Notification claimed = invocation.getArgument(0);
+            claimed.setStatus(Notification.NotificationStatus.SENDING);
+            claimed.setDispatchClaim("C1");
+            return null;
+        }).when(notificationClaims).claimNew(any(Notification.class));
+        when(notificationRepository.insert(any(Notification.class))).thenAnswer(invocation -> {
+            Notification saved = invocation.getArgument(0);
+            saved.setId(ID);
+            return saved;
+        });
+        Update release = new Update().set("status", PENDING);
+        when(notificationClaims.released(PENDING)).thenReturn(release);
+        when(notificationDispatcher.submit(any(Notification.class))).thenReturn(false);
+
+        notificationServiceSpy.notifyAdd(PARTICIPANT_ID, EMAIL, PASS_ID, 5);
+
+        // Se suelta solo si sigue con el reclamo propio
+        verify(writeBuffer).update(ID, Collections.singletonMap("dispatchClaim", "C1"), release);
+    }
+
+    @Test
+    void notifyAdd_shouldInsertCreateSynchronouslyAndQueue() {
+        when(notificationRepository.insert(any(Notification.class))).thenAnswer(invocation -> {
+            Notification saved = invocation.getArgument(0);
+            saved.setId(ID);
+            return saved;
+        });
+        when(notificationDispatcher.submit(any(Notification.class))).thenReturn(true);
+
+        notificationServiceSpy.notifyAdd(PARTICIPANT_ID, EMAIL, PASS_ID, 5);
+
+        ArgumentCaptor<Notification> queued = ArgumentCaptor.forClass(Notification.class);
+        // El alta está en MongoDB antes de volver al listener del outbox; no queda en el buffer
+        InOrder inOrder = inOrder(notificationRepository, notificationDispatcher);
+        inOrder.verify(notificationRepository, times(1)).insert(any(Notification.class));
+        inOrder.verify(notificationDispatcher).submit(any(Notification.class));
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(notificationDispatcher).submit(queued.capture());
+        assertEquals(ID, queued.getValue().getId());
+        assertEquals("ADD_POINTS.", queued.getValue().getMovementType());
+        // Se da de alta ya reclamada
+        verify(notificationClaims).claimNew(queued.getValue());
+    }
+
+    @Test
+    void deleteNotification_shouldFailWhenNotInBufferNorMongo() {
+        when(writeBuffer.delete(ID)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> notificationServiceSpy.deleteNotification(ID));
+        verify(notificationRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    void getNotificationById_shouldReadBufferedNotificationBeforeMongo() {
+        when(writeBuffer.find(ID)).thenReturn(Optional.of(mockNotification));
+
+        Notification result = notificationServiceSpy.getNotificationById(ID);
+
+        assertSame(mockNotification, result);
+        verify(notificationRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void getNotificationsByParticipantId_shouldPageByIdWithoutSkip() {
+        // Given: primera página, se piden 1 + 1 filas desde el mayor ObjectId
+        Notification older = new Notification();
+        older.setId("65f000000000000000000001");
+        mockNotification.setId("65f000000000000000000002");
+        when(notificationRepository.findByParticipantIdAndIdLessThanOrderByIdDesc(
+                PARTICIPANT_ID, KeysetPage.MAX_OBJECT_ID, Limit.of(2)))
+                .thenReturn(List.of(mockNotification, older));
+
+        // When
+        KeysetPage<Notification> page = notificationServiceSpy.getNotificationsByParticipantId(PARTICIPANT_ID, null, 1);
+
+        // Then: el token apunta a la última notificación devuelta
+        assertEquals(List.of(mockNotification), page.items());
+        assertEquals("65f000000000000000000002", KeysetPage.decodeObjectIdToken(page.nextPageToken()));
+        verify(notificationRepository, never()).findByParticipantId(anyLong());
+    }
+
+    @Test
+    void getAllNotifications_shouldRejectTokenThatIsNotAnObjectId() {
+        String token = KeysetPage.encodeToken(42L);
+
+        assertThrows(IllegalArgumentException.class, () -> notificationServiceSpy.getAllNotifications(token, 10));
+        verifyNoInteractions(notificationRepository);
+    }
+}
@@ -0,0 +1,33 @@
+package com.proyecto.congreso.notification.batch.partition;
+
+import com.proyecto.congreso.notification.model.Notification;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationChannelPartitionerTest {
+
+    private final NotificationChannelPartitioner partitioner = new NotificationChannelPartitioner();
+
+    @Test
+    void partition_shouldCreateOnePartitionPerChannelRegardlessOfGridSize() {
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        // Then
+        Set<String> expected = Arrays.stream(Notification.NotificationChannel.values())
+                .map(Enum::name)
+                .collect(Collectors.toSet());
+        Set<String> channels = partitions.values().stream()
+                .map(ctx -> ctx.getString(NotificationChannelPartitioner.CHANNEL))
+                .collect(Collectors.toSet());
+        assertEquals(expected, channels);
+        assertTrue(partitions.containsKey("channel-EMAIL"));
+    }
+}
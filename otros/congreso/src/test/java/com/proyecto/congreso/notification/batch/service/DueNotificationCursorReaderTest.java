@@ -0,0 +1,46 @@
+package com.proyecto.congreso.notification.batch.service;
+
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.notification.service.NotificationClaims;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DueNotificationCursorReaderTest {
+
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    void query_shouldSelectPendingAndDueRetriesOfTheChannel() {
+        // When
+        Document filter = DueNotificationCursorReader.query(Notification.NotificationChannel.SMS, AS_OF, 5)
+                .getQueryObject();
+
+        // Then
+        assertEquals(Notification.NotificationChannel.SMS, filter.get("channel"));
+        assertEquals(new Document("$in", NotificationClaims.DISPATCHABLE), filter.get("status"));
+
+        List<?> or = (List<?>) filter.get("$or");
+        assertEquals(new Document("status", Notification.NotificationStatus.PENDING), or.get(0));
+        Document due = (Document) or.get(1);
+        assertEquals(new Document("$not", new Document("$gte", 5)), due.get("attemptCount"));
+        assertEquals(List.of(new Document("nextAttemptAt", null),
+                new Document("nextAttemptAt", new Document("$lte", AS_OF))), due.get("$or"));
+    }
+
+    @Test
+    void query_shouldSendNotificationsWithoutChannelByEmail() {
+        // When
+        Query query = DueNotificationCursorReader.query(Notification.NotificationChannel.EMAIL, AS_OF, 5);
+
+        // Then
+        assertEquals(new Document("$in", Arrays.asList(Notification.NotificationChannel.EMAIL, null)),
+                query.getQueryObject().get("channel"));
+    }
+}
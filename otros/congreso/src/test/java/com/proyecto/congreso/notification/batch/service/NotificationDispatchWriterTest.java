@@ -0,0 +1,141 @@
+package com.proyecto.congreso.notification.batch.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.proyecto.congreso.notification.channel.FakeNotificationProvider;
+import com.proyecto.congreso.notification.channel.NotificationChannelRouter;
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.notification.service.NotificationClaims;
+import com.proyecto.congreso.notification.service.NotificationRetryPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatchWriterTest {
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private FakeNotificationProvider sender;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class)).thenReturn(bulkOperations);
+
+        sender = spy(new FakeNotificationProvider(0, 0));
+        meterRegistry = new SimpleMeterRegistry();
+        NotificationChannelRouter channelRouter = new NotificationChannelRouter(List.of(sender), meterRegistry,
+                new MockEnvironment()
+                        .withProperty("congreso.notifications.channels.sms.rate-per-second", "100000")
+                        .withProperty("congreso.notifications.channels.sms.burst", "1000"));
+        NotificationRetryPolicy retryPolicy = new NotificationRetryPolicy(3, 1000, 60_000, 500);
+
+        writer = new NotificationDispatchWriter(mongoTemplate, channelRouter, retryPolicy,
+                new NotificationClaims(mongoTemplate, retryPolicy, 600_000), meterRegistry);
+    }
+
+    @Test
+    void write_shouldClaimSendAndWriteStatusesInBulk() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        // When
+        writer.write(new Chunk<>(notification("N1"), notification("N2")));
+
+        // Then: un updateMulti para reclamar, un bulkWrite con los resultados
+        ArgumentCaptor<Update> claim = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), claim.capture(), eq(Notification.class));
+        Document claimSet = (Document) claim.getValue().getUpdateObject().get("$set");
+        assertEquals(Notification.NotificationStatus.SENDING, claimSet.get("status"));
+
+        ArgumentCaptor<Query> filters = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> results = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(filters.capture(), results.capture());
+        verify(bulkOperations).execute();
+        assertEquals(claimSet.get("dispatchClaim"), filters.getValue().getQueryObject().get("dispatchClaim"));
+        Document resultSet = (Document) results.getValue().getUpdateObject().get("$set");
+        assertEquals(Notification.NotificationStatus.SENT, resultSet.get("status"));
+        assertTrue(((Document) results.getValue().getUpdateObject().get("$unset")).containsKey("dispatchClaim"));
+
+        verify(sender, times(2)).send(any(Notification.class));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Notification.class));
+        assertEquals(2.0, meterRegistry.get("notifications.dispatch.sent").tag("channel", "SMS").counter().count());
+    }
+
+    @Test
+    void write_shouldOnlySendWhatThisChunkClaimed() {
+        // Given: N2 cambió de estado entre la lectura y el reclamo
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(List.of(notification("N1")));
+
+        // When
+        writer.write(new Chunk<>(notification("N1"), notification("N2")));
+
+        // Then
+        ArgumentCaptor<Notification> sent = ArgumentCaptor.forClass(Notification.class);
+        verify(sender).send(sent.capture());
+        assertEquals("N1", sent.getValue().getId());
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    void write_shouldSkipNotificationsClaimedByAnotherSender() {
+        // Given: el motor en memoria o un endpoint de envío ya las reclamó
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 0L, null));
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(List.of());
+
+        // When
+        writer.write(new Chunk<>(notification("N1"), notification("N2")));
+
+        // Then
+        verify(sender, never()).send(any(Notification.class));
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Notification.class));
+    }
+
+    @Test
+    void write_shouldRecordFailureForRetry() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        doReturn(false).when(sender).send(any(Notification.class));
+
+        // When
+        writer.write(new Chunk<>(notification("N1")));
+
+        // Then
+        ArgumentCaptor<Update> result = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(any(Query.class), result.capture());
+        Document set = (Document) result.getValue().getUpdateObject().get("$set");
+        assertEquals(Notification.NotificationStatus.FAILED, set.get("status"));
+        assertEquals(1, set.get("attemptCount"));
+        assertNotNull(set.get("nextAttemptAt"));
+    }
+
+    private Notification notification(String id) {
+        Notification notification = new Notification();
+        notification.setId(id);
+        notification.setChannel(Notification.NotificationChannel.SMS);
+        notification.setStatus(Notification.NotificationStatus.PENDING);
+        return notification;
+    }
+}
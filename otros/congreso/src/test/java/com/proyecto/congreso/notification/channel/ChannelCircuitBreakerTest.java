@@ -0,0 +1,126 @@
+package com.proyecto.congreso.notification.channel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelCircuitBreakerTest {
+
+    private MutableClock clock;
+    private ChannelCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-10-06T10:00:00Z"));
+        breaker = new ChannelCircuitBreaker(3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndRejectUntilOpenDurationPasses() {
+        // Given
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(ChannelCircuitBreaker.State.CLOSED, breaker.getState());
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(ChannelCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(Instant.parse("2025-10-06T10:00:30Z"), breaker.retryAt());
+    }
+
+    @Test
+    void successShouldResetConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(ChannelCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenShouldAllowSingleTrialAndCloseOnSuccess() {
+        // Given: circuito abierto y vencido
+        openBreaker();
+        clock.advance(Duration.ofSeconds(31));
+
+        // When / Then: un solo envío de prueba
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(ChannelCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onSuccess();
+        assertEquals(ChannelCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void halfOpenTrialFailureShouldReopen() {
+        // Given
+        openBreaker();
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquirePermission());
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(ChannelCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void releasedTrialPermissionShouldBeAvailableAgain() {
+        openBreaker();
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.releasePermission();
+
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    private void openBreaker() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.proyecto.congreso.notification.channel;
+
+import com.proyecto.congreso.notification.model.Notification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationChannelRouterTest {
+
+    private FakeNotificationProvider fakeProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        fakeProvider = new FakeNotificationProvider(0, 0);
+        meterRegistry = new SimpleMeterRegistry();
+        environment = new MockEnvironment()
+                .withProperty("congreso.notifications.channels.acquire-timeout-ms", "0")
+                .withProperty("congreso.notifications.channels.sms.rate-per-second", "1")
+                .withProperty("congreso.notifications.channels.sms.burst", "2")
+                .withProperty("congreso.notifications.channels.push.failure-threshold", "1");
+    }
+
+    @Test
+    void send_shouldUseHighestPrecedenceSenderForChannel() {
+        // Given: un proveedor "real" de EMAIL antes que el fake
+        NotificationChannelSender emailProvider = mock(NotificationChannelSender.class);
+        when(emailProvider.supports(any())).thenAnswer(inv -> inv.getArgument(0) == Notification.NotificationChannel.EMAIL);
+        when(emailProvider.send(any(Notification.class))).thenReturn(true);
+        NotificationChannelRouter router = new NotificationChannelRouter(
+                List.of(emailProvider, fakeProvider), meterRegistry, environment);
+
+        // When
+        ChannelSendResult email = router.send(notification(Notification.NotificationChannel.EMAIL));
+        ChannelSendResult inApp = router.send(notification(Notification.NotificationChannel.IN_APP));
+
+        // Then
+        assertEquals(ChannelSendResult.Outcome.SENT, email.outcome());
+        assertEquals(ChannelSendResult.Outcome.SENT, inApp.outcome());
+        verify(emailProvider, times(1)).send(any(Notification.class));
+    }
+
+    @Test
+    void sendAll_shouldOverlapSendsUpToMaxInFlight() {
+        // Given: proveedor de 200 ms y 10 envíos abiertos a la vez en IN_APP
+        environment.withProperty("congreso.notifications.channels.in_app.max-in-flight", "10");
+        NotificationChannelRouter router = new NotificationChannelRouter(
+                List.of(new FakeNotificationProvider(200, 0)), meterRegistry, environment);
+        List<Notification> batch = IntStream.range(0, 10)
+                .mapToObj(i -> notification(Notification.NotificationChannel.IN_APP))
+                .toList();
+
+        // When
+        long start = System.nanoTime();
+        List<ChannelSendResult> results = router.sendAll(batch);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then: 10 x 200 ms en serie serían 2 s
+        assertEquals(10, results.size());
+        assertTrue(results.stream().allMatch(r -> r.outcome() == ChannelSendResult.Outcome.SENT));
+        assertTrue(elapsedMs < 1000, "sendAll tardó " + elapsedMs + " ms");
+        router.shutdown();
+    }
+
+    @Test
+    void send_shouldThrottleWhenChannelBucketIsEmpty() {
+        // Given
+        NotificationChannelRouter router = new NotificationChannelRouter(List.of(fakeProvider), meterRegistry, environment);
+
+        // When: ráfaga de 2 en SMS
+        router.send(notification(Notification.NotificationChannel.SMS));
+        router.send(notification(Notification.NotificationChannel.SMS));
+        ChannelSendResult third = router.send(notification(Notification.NotificationChannel.SMS));
+
+        // Then
+        assertEquals(ChannelSendResult.Outcome.THROTTLED, third.outcome());
+        assertNotNull(third.retryAt());
+        assertEquals(1.0, meterRegistry.get("notifications.channel.rejected")
+                .tags("channel", "SMS", "reason", "rate_limited").counter().count());
+        // Los demás canales no se ven afectados
+        assertEquals(ChannelSendResult.Outcome.SENT, router.send(notification(Notification.NotificationChannel.EMAIL)).outcome());
+    }
+
+    @Test
+    void send_shouldOpenCircuitWhenFakeProviderInjectsFailures() {
+        // Given: el fake falla siempre en PUSH
+        fakeProvider.setFailureRate(Notification.NotificationChannel.PUSH, 1.0);
+        NotificationChannelRouter router = new NotificationChannelRouter(List.of(fakeProvider), meterRegistry, environment);
+
+        // When
+        ChannelSendResult first = router.send(notification(Notification.NotificationChannel.PUSH));
+        ChannelSendResult second = router.send(notification(Notification.NotificationChannel.PUSH));
+
+        // Then
+        assertEquals(ChannelSendResult.Outcome.FAILED, first.outcome());
+        assertEquals("Simulated PUSH provider failure", first.errorMessage());
+        assertEquals(ChannelSendResult.Outcome.CIRCUIT_OPEN, second.outcome());
+        assertEquals(ChannelCircuitBreaker.State.OPEN, router.circuitState(Notification.NotificationChannel.PUSH));
+        assertEquals(ChannelCircuitBreaker.State.CLOSED, router.circuitState(Notification.NotificationChannel.EMAIL));
+    }
+
+    private Notification notification(Notification.NotificationChannel channel) {
+        Notification notification = new Notification();
+        notification.setId("N-" + channel);
+        notification.setChannel(channel);
+        return notification;
+    }
+}
@@ -0,0 +1,59 @@
+package com.proyecto.congreso.notification.channel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void tryAcquire_shouldAllowBurstThenRefillAtConfiguredRate() {
+        // Given: 10 por segundo, ráfaga de 3
+        AtomicLong now = new AtomicLong();
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, now::get);
+
+        // When / Then: la ráfaga se consume y el cuarto se rechaza
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        // 100 ms después hay exactamente un token nuevo
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_shouldNotAccumulateMoreThanCapacity() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, now::get);
+
+        // When: pasa un minuto sin uso
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // Then
+        assertEquals(2.0, limiter.availableTokens(), 0.0001);
+    }
+
+    @Test
+    void tryAcquireWithTimeout_shouldGiveUpWhenTokenWouldArriveTooLate() throws Exception {
+        // Given: 1 por segundo, sin tokens disponibles
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1);
+        assertTrue(limiter.tryAcquire());
+
+        // When / Then: el siguiente token tarda ~1 s, más que los 50 ms de espera
+        long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire(50));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1));
+    }
+}
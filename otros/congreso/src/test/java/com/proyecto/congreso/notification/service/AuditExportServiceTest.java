@@ -0,0 +1,120 @@
+package com.proyecto.congreso.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.proyecto.congreso.notification.model.MovementPointsLog;
+import com.proyecto.congreso.notification.model.Notification;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditExportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 3, 8, 0, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void exportMovementLogs_shouldWriteOneJsonPerLineAndCloseCursor() throws Exception {
+        // Given
+        AtomicBoolean cursorClosed = new AtomicBoolean(false);
+        when(mongoTemplate.stream(any(Query.class), eq(MovementPointsLog.class)))
+                .thenReturn(Stream.of(movementLog("a", 10), movementLog("b", 20)).onClose(() -> cursorClosed.set(true)));
+        AuditExportService service = new AuditExportService(mongoTemplate, objectMapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = service.exportMovementLogs(START, END, false, out);
+
+        // Then
+        assertEquals(2, exported);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("a", objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals(20, objectMapper.readTree(lines[1]).get("points").asInt());
+        assertTrue(cursorClosed.get());
+    }
+
+    @Test
+    void exportMovementLogs_shouldQueryTimestampRangeWithCursorBatchSize() throws Exception {
+        // Given
+        when(mongoTemplate.stream(any(Query.class), eq(MovementPointsLog.class))).thenReturn(Stream.empty());
+        AuditExportService service = new AuditExportService(mongoTemplate, objectMapper);
+
+        // When
+        service.exportMovementLogs(START, END, false, new ByteArrayOutputStream());
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(MovementPointsLog.class));
+        Document range = query.getValue().getQueryObject().get("timestamp", Document.class);
+        assertEquals(START, range.get("$gte"));
+        assertEquals(END, range.get("$lte"));
+        assertEquals(new Document("timestamp", 1), query.getValue().getSortObject());
+        assertEquals(1000, query.getValue().getMeta().getCursorBatchSize());
+    }
+
+    @Test
+    void exportNotifications_withGzip_shouldProduceValidGzipNdjson() throws Exception {
+        // Given
+        Notification notification = new Notification();
+        notification.setId("n1");
+        notification.setCreatedAt(START.plusDays(1));
+        when(mongoTemplate.stream(any(Query.class), eq(Notification.class))).thenReturn(Stream.of(notification));
+        AuditExportService service = new AuditExportService(mongoTemplate, objectMapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = service.exportNotifications(START, END, true, out);
+
+        // Then
+        assertEquals(1, exported);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String ndjson = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(ndjson.endsWith("\n"));
+            assertEquals("n1", objectMapper.readTree(ndjson.trim()).get("id").asText());
+        }
+    }
+
+    @Test
+    void export_shouldRejectInvertedRangeBeforeOpeningCursor() {
+        AuditExportService service = new AuditExportService(mongoTemplate, objectMapper);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.exportNotifications(END, START, false, new ByteArrayOutputStream()));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private MovementPointsLog movementLog(String id, int points) {
+        MovementPointsLog log = new MovementPointsLog();
+        log.setId(id);
+        log.setPoints(points);
+        log.setTimestamp(START.plusHours(1));
+        return log;
+    }
+}
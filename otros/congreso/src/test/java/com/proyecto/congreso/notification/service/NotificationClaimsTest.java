@@ -0,0 +1,129 @@
+package com.proyecto.congreso.notification.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.proyecto.congreso.notification.model.Notification;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationClaimsTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private NotificationClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        claims = new NotificationClaims(mongoTemplate, new NotificationRetryPolicy(3, 1000, 60_000, 500), 60_000);
+    }
+
+    @Test
+    void claim_shouldOnlyTakeDispatchableNotificationWithFindAndModify() {
+        // Given: ya la reclamó otro envío
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Notification.class))).thenReturn(null);
+
+        // When
+        Optional<Notification> claimed = claims.claim("N1");
+
+        // Then
+        assertTrue(claimed.isEmpty());
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(filter.capture(), update.capture(), any(FindAndModifyOptions.class),
+                eq(Notification.class));
+        assertEquals(new Document("$in", NotificationClaims.DISPATCHABLE), filter.getValue().getQueryObject().get("status"));
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(Notification.NotificationStatus.SENDING, set.get("status"));
+        assertNotNull(set.get("dispatchClaim"));
+    }
+
+    @Test
+    void claimAll_shouldReturnOnlyNotificationsCarryingThisClaim() {
+        // Given: N2 cambió de estado entre la lectura y el reclamo
+        Notification first = notification("N1");
+        Notification second = notification("N2");
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(List.of(notification("N1")));
+
+        // When
+        List<Notification> claimed = claims.claimAll(List.of(first, second));
+
+        // Then
+        assertEquals(List.of(first), claimed);
+        assertEquals(Notification.NotificationStatus.SENDING, first.getStatus());
+        assertNotNull(first.getDispatchClaim());
+        assertEquals(Notification.NotificationStatus.PENDING, second.getStatus());
+        assertNull(second.getDispatchClaim());
+    }
+
+    @Test
+    void completed_shouldWriteResultAndEndTheClaim() {
+        // Given
+        Notification notification = notification("N1");
+        notification.setStatus(Notification.NotificationStatus.SENT);
+
+        // When
+        Document update = claims.completed(notification).getUpdateObject();
+
+        // Then
+        assertEquals(Notification.NotificationStatus.SENT, update.get("$set", Document.class).get("status"));
+        assertTrue(update.get("$unset", Document.class).containsKey("dispatchClaim"));
+        assertTrue(update.get("$unset", Document.class).containsKey("claimedAt"));
+    }
+
+    @Test
+    void releaseStale_shouldReturnExpiredSendingClaimsToRetry() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        long released = claims.releaseStale();
+        LocalDateTime after = LocalDateTime.now();
+
+        // Then: solo SENDING con claimedAt anterior al timeout; vuelven vencidas y sin reclamo
+        assertEquals(2, released);
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(filter.capture(), update.capture(), eq(Notification.class));
+        Document query = filter.getValue().getQueryObject();
+        assertEquals(Notification.NotificationStatus.SENDING, query.get("status"));
+        LocalDateTime cutoff = (LocalDateTime) query.get("claimedAt", Document.class).get("$lt");
+        assertFalse(cutoff.isBefore(before.minusSeconds(60)) || cutoff.isAfter(after.minusSeconds(60)));
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(Notification.NotificationStatus.RETRY, set.get("status"));
+        assertNotNull(set.get("nextAttemptAt"));
+        Document unset = update.getValue().getUpdateObject().get("$unset", Document.class);
+        assertTrue(unset.containsKey("dispatchClaim"));
+        assertTrue(unset.containsKey("claimedAt"));
+    }
+
+    private Notification notification(String id) {
+        Notification notification = new Notification();
+        notification.setId(id);
+        notification.setStatus(Notification.NotificationStatus.PENDING);
+        return notification;
+    }
+}
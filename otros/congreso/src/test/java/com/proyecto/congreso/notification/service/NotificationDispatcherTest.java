@@ -0,0 +1,199 @@
+package com.proyecto.congreso.notification.service;
+
+import com.proyecto.congreso.notification.channel.FakeNotificationProvider;
+import com.proyecto.congreso.notification.channel.NotificationChannelRouter;
+import com.proyecto.congreso.notification.model.Notification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private NotificationWriteBuffer writeBuffer;
+    private FakeNotificationProvider sender;
+    private NotificationChannelRouter channelRouter;
+    private NotificationRetryPolicy retryPolicy;
+    private NotificationClaims notificationClaims;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        writeBuffer = mock(NotificationWriteBuffer.class);
+
+        sender = spy(new FakeNotificationProvider(0, 0));
+        meterRegistry = new SimpleMeterRegistry();
+        channelRouter = new NotificationChannelRouter(List.of(sender), meterRegistry, new MockEnvironment()
+                .withProperty("congreso.notifications.channels.email.rate-per-second", "100000")
+                .withProperty("congreso.notifications.channels.email.burst", "1000")
+                .withProperty("congreso.notifications.channels.email.failure-threshold", "2")
+                // En serie: el circuito se abre en un orden predecible
+                .withProperty("congreso.notifications.channels.email.max-in-flight", "1"));
+        retryPolicy = new NotificationRetryPolicy(3, 1000, 60_000, 500);
+        notificationClaims = spy(new NotificationClaims(mock(MongoTemplate.class), retryPolicy, 600_000));
+        doReturn(0L).when(notificationClaims).releaseStale();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        channelRouter.shutdown();
+    }
+
+    @Test
+    void shouldSendQueuedNotificationsAndBufferTheirStatuses() {
+        // Given
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 1000, 2, 50, 10);
+        dispatcher.start();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            assertTrue(dispatcher.submit(notification("N" + i, Notification.NotificationChannel.EMAIL)));
+        }
+        dispatcher.shutdown(); // drena las colas antes de terminar
+
+        // Then: el estado final de cada una queda en el buffer, sin escrituras directas a MongoDB
+        verify(writeBuffer, times(200)).update(anyString(), anyMap(), any(Update.class));
+        assertEquals(200.0, meterRegistry.get("notifications.dispatch.sent").tag("channel", "EMAIL").counter().count());
+    }
+
+    @Test
+    void start_shouldReleaseStaleClaimsLeftByPreviousProcess() {
+        // Given
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 10, 1, 10, 10);
+
+        // When
+        dispatcher.start();
+
+        // Then: lo que quedó SENDING de una caída anterior vuelve a RETRY al arrancar
+        verify(notificationClaims).releaseStale();
+    }
+
+    @Test
+    void shouldNotQueueSameNotificationTwice() throws Exception {
+        // Given: el envío se bloquea hasta liberar el latch, así la primera sigue "en vuelo"
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        }).when(sender).send(any(Notification.class));
+
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 10, 1, 10, 10);
+        dispatcher.start();
+        Notification notification = notification("N1", Notification.NotificationChannel.SMS);
+
+        // When / Then
+        assertTrue(dispatcher.submit(notification));
+        assertFalse(dispatcher.submit(notification));
+
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectWhenChannelQueueIsFull() throws Exception {
+        // Given: un worker bloqueado y una cola de capacidad 1
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        }).when(sender).send(any(Notification.class));
+
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 1, 1, 1, 10);
+        dispatcher.start();
+
+        assertTrue(dispatcher.submit(notification("N1", Notification.NotificationChannel.PUSH)));
+        assertTrue(started.await(5, TimeUnit.SECONDS)); // N1 ya salió de la cola
+        assertTrue(dispatcher.submit(notification("N2", Notification.NotificationChannel.PUSH)));
+
+        // When: la cola está llena → backpressure, quien llamó suelta el reclamo
+        boolean accepted = dispatcher.submit(notification("N3", Notification.NotificationChannel.PUSH));
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(1.0, meterRegistry.get("notifications.dispatch.rejected").tag("channel", "PUSH").counter().count());
+
+        // Otro canal no se ve afectado
+        assertTrue(dispatcher.submit(notification("N4", Notification.NotificationChannel.EMAIL)));
+        release.countDown();
+    }
+
+    @Test
+    void dispatchBatch_shouldScheduleBackoffWhenSenderThrows() {
+        // Given
+        doThrow(new IllegalStateException("provider down")).when(sender).send(any(Notification.class));
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 10, 1, 10, 10);
+        Notification notification = notification("N1", Notification.NotificationChannel.EMAIL);
+
+        // When
+        dispatcher.dispatchBatch(Notification.NotificationChannel.EMAIL, List.of(notification));
+
+        // Then
+        assertEquals(Notification.NotificationStatus.FAILED, notification.getStatus());
+        assertEquals("provider down", notification.getErrorMessage());
+        assertEquals(1, notification.getAttemptCount());
+        assertNotNull(notification.getNextAttemptAt());
+        verify(writeBuffer).update(eq("N1"), eq(Map.of("dispatchClaim", "C-N1")), any(Update.class));
+    }
+
+    @Test
+    void dispatchBatch_shouldDeferWithoutCountingAttemptWhenCircuitIsOpen() {
+        // Given: dos fallas seguidas abren el circuito de EMAIL (failure-threshold = 2)
+        doThrow(new IllegalStateException("provider down")).when(sender).send(any(Notification.class));
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 10, 1, 10, 10);
+        Notification first = notification("N1", Notification.NotificationChannel.EMAIL);
+        Notification second = notification("N2", Notification.NotificationChannel.EMAIL);
+        Notification third = notification("N3", Notification.NotificationChannel.EMAIL);
+
+        // When
+        dispatcher.dispatchBatch(Notification.NotificationChannel.EMAIL, List.of(first, second, third));
+
+        // Then: la tercera ni siquiera llega al proveedor
+        verify(sender, times(2)).send(any(Notification.class));
+        assertEquals(Notification.NotificationStatus.RETRY, third.getStatus());
+        assertNull(third.getAttemptCount());
+        assertNotNull(third.getNextAttemptAt());
+        assertEquals(1.0, meterRegistry.get("notifications.dispatch.deferred").tag("channel", "EMAIL").counter().count());
+    }
+
+    @Test
+    void dispatchBatch_shouldStopRetryingWhenAttemptsAreExhausted() {
+        // Given: ya lleva 2 de 3 intentos
+        doReturn(false).when(sender).send(any(Notification.class));
+        dispatcher = new NotificationDispatcher(writeBuffer, channelRouter, retryPolicy, notificationClaims, meterRegistry, 10, 1, 10, 10);
+        Notification notification = notification("N1", Notification.NotificationChannel.SMS);
+        notification.setAttemptCount(2);
+
+        // When
+        dispatcher.dispatchBatch(Notification.NotificationChannel.SMS, List.of(notification));
+
+        // Then
+        assertEquals(Notification.NotificationStatus.FAILED, notification.getStatus());
+        assertEquals(3, notification.getAttemptCount());
+        assertNull(notification.getNextAttemptAt());
+    }
+
+    private Notification notification(String id, Notification.NotificationChannel channel) {
+        Notification notification = new Notification();
+        notification.setId(id);
+        notification.setChannel(channel);
+        notification.setStatus(Notification.NotificationStatus.SENDING);
+        notification.setDispatchClaim("C-" + id);
+        return notification;
+    }
+}
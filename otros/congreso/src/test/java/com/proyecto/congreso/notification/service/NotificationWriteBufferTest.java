@@ -0,0 +1,202 @@
+package com.proyecto.congreso.notification.service;
+
+import com.proyecto.congreso.notification.model.Notification;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationWriteBufferTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        lenient().when(mongoTemplate.getConverter()).thenReturn(converter);
+        lenient().when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class)).thenReturn(bulkOperations);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void update_shouldWriteOnlyChangedFieldsGuardedByPrecondition() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 200);
+
+        // When: FAILED → RETRY y luego RETRY → SENT sobre un documento ya guardado
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.FAILED),
+                new Update().set("status", Notification.NotificationStatus.RETRY));
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.RETRY),
+                new Update().set("status", Notification.NotificationStatus.SENT).unset("dispatchClaim"));
+        buffer.flush();
+
+        // Then: un updateOne filtrado por el estado original, sin reemplazar el documento
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(1)).updateOne(filter.capture(), update.capture());
+        verify(bulkOperations, never()).insert(any(Object.class));
+        assertEquals("N1", filter.getValue().getQueryObject().get("_id"));
+        assertEquals("FAILED", filter.getValue().getQueryObject().get("status"));
+        Document updateObject = update.getValue().getUpdateObject();
+        assertEquals("SENT", updateObject.get("$set", Document.class).get("status"));
+        assertTrue(updateObject.get("$unset", Document.class).containsKey("dispatchClaim"));
+    }
+
+    @Test
+    void update_shouldDropChangeThatContradictsPendingState() {
+        // Given: un cambio pendiente deja la notificación SENT
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 200);
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.SENDING),
+                new Update().set("status", Notification.NotificationStatus.SENT));
+
+        // When: otro escritor espera que siga SENDING
+        boolean accepted = buffer.update("N1", Map.of("status", Notification.NotificationStatus.SENDING),
+                new Update().set("status", Notification.NotificationStatus.FAILED));
+        buffer.flush();
+
+        // Then: solo se escribe el primer cambio
+        assertFalse(accepted);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), update.capture());
+        assertEquals("SENT", update.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+        assertEquals(1.0, meterRegistry.get("notifications.buffer.conflicts").counter().count());
+    }
+
+    @Test
+    void update_shouldCoalesceChangesOfTheSameNotification() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 200);
+
+        // When: reclamo soltado y vuelto a reclamar antes del flush
+        buffer.update("N1", Map.of("dispatchClaim", "C1"),
+                new Update().set("status", Notification.NotificationStatus.PENDING).unset("dispatchClaim"));
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.PENDING),
+                new Update().set("status", Notification.NotificationStatus.SENDING).set("dispatchClaim", "C2"));
+        int written = buffer.flush();
+
+        // Then: un solo updateOne con el estado final
+        assertEquals(1, written);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), update.capture());
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals("SENDING", set.get("status"));
+        assertEquals("C2", set.get("dispatchClaim"));
+        assertEquals(1.0, meterRegistry.get("notifications.buffer.coalesced").counter().count());
+    }
+
+    @Test
+    void delete_shouldDropBufferedChangesAndRemoveTheDocument() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 200);
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.SENDING),
+                new Update().set("status", Notification.NotificationStatus.SENT));
+        when(mongoTemplate.remove(any(Query.class), eq(Notification.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        // When
+        boolean deleted = buffer.delete("N1");
+        int written = buffer.flush();
+
+        // Then
+        assertTrue(deleted);
+        assertEquals(0, written);
+        verify(bulkOperations, never()).updateOne(any(Query.class), any(Update.class));
+        assertFalse(buffer.contains("N1"));
+    }
+
+    @Test
+    void update_shouldFlushWhenSizeIsReached() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 3, 60_000);
+
+        // When
+        for (int i = 0; i < 7; i++) {
+            buffer.update("N" + i, Map.of("status", Notification.NotificationStatus.SENDING),
+                    new Update().set("status", Notification.NotificationStatus.SENT));
+        }
+
+        // Then: dos bulkWrite de 3 y uno pendiente para el siguiente flush
+        verify(bulkOperations, times(6)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).execute();
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void find_shouldApplyPendingChangesOverStoredDocument() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 200);
+        when(mongoTemplate.getCollectionName(Notification.class)).thenReturn("notifications");
+        when(mongoTemplate.findById("N1", Document.class, "notifications"))
+                .thenReturn(new Document("_id", "N1").append("status", "PENDING"));
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.PENDING),
+                new Update().set("status", Notification.NotificationStatus.SENT));
+
+        // When / Then
+        assertEquals(Notification.NotificationStatus.SENT, buffer.find("N1").orElseThrow().getStatus());
+        assertTrue(buffer.find(new ObjectId().toHexString()).isEmpty());
+    }
+
+    @Test
+    void flush_shouldKeepBatchWhenBulkWriteFails() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 200);
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.SENDING),
+                new Update().set("status", Notification.NotificationStatus.SENT));
+        when(bulkOperations.execute()).thenThrow(new IllegalStateException("mongo down"));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, buffer::flush);
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void shutdown_shouldFlushPendingWrites() {
+        // Given
+        NotificationWriteBuffer buffer = new NotificationWriteBuffer(mongoTemplate, meterRegistry, 500, 60_000);
+        buffer.start();
+        buffer.update("N1", Map.of("status", Notification.NotificationStatus.SENDING),
+                new Update().set("status", Notification.NotificationStatus.SENT));
+        buffer.update("N2", Map.of("status", Notification.NotificationStatus.SENDING),
+                new Update().set("status", Notification.NotificationStatus.FAILED));
+
+        // When
+        buffer.shutdown();
+
+        // Then
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+        assertEquals(0, buffer.size());
+    }
+}
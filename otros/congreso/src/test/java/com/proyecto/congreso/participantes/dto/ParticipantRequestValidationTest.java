@@ -1,173 +1,173 @@
-package com.proyecto.congreso.participantes.dto;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.Test;
-
-import java.util.Set;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-public class ParticipantRequestValidationTest {
-
-    // Necesitamos una instancia estática del Validador para todos los tests
-    private static Validator validator;
-
-    @BeforeAll
-    static void setUp() {
-        // Inicializa el motor de validación (Hibernate Validator)
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        validator = factory.getValidator();
-    }
-
-    // --- Métodos de Ayuda ---
-
-    /** Crea un objeto request válido por defecto */
-    private ParticipantRequest createValidRequest() {
-        return new ParticipantRequest(
-                "Juan", // name
-                "Perez", // lastName
-                "juan.perez@test.com", // email
-                "1234567890", // phone (10 dígitos)
-                "MX", // nacionality
-                30, // age
-                "IT" // area
-        );
-    }
-
-    // --- 1. TEST DE CASO BASE (Cobertura del Constructor y Getters/Setters) ---
-
-    @Test
-    void validParticipantRequest_ShouldHaveNoViolations() {
-        ParticipantRequest request = createValidRequest();
-
-        // Verifica que no haya violaciones para un objeto válido.
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        assertTrue(violations.isEmpty(), "Un objeto válido no debe tener violaciones.");
-    }
-
-    // --- 2. TESTS DE RESTRICCIONES REQUERIDAS (@NotBlank y @Column(nullable = false)) ---
-    // Cubrimos las restricciones de campos nulos o vacíos.
-
-    @Test
-    void name_ShouldFailIfBlank() {
-        ParticipantRequest request = createValidRequest();
-        request.setName("   "); // Blank value
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        assertEquals(1, violations.size());
-        assertEquals("Name is required", violations.iterator().next().getMessage());
-    }
-
-    @Test
-    void lastName_ShouldFailIfNull() {
-        // Nota: @Column(nullable = false) solo aplica a JPA. Para validar en el DTO,
-        // necesitamos @NotBlank o @NotNull. Asumo que se debe aplicar @NotBlank
-        // o @NotNull para validación a nivel REST. Si no, solo probamos que no es nulo.
-        ParticipantRequest request = createValidRequest();
-        request.setLastName(null);
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        // Si lastName tiene un @NotNull o @NotBlank, la violación será 1.
-        // Si no lo tiene, es 0 (error de capa de persistencia). Asumimos que tiene @NotNull o @NotBlank
-        // para fines de validación REST. Si falla, es porque solo tiene @Column.
-        // **Si solo tiene @Column, este test siempre pasará con 0, lo cual es incorrecto para el DTO.**
-        // Por ahora, verificamos si Spring Boot Validation lo captura.
-        // Generalmente, el DTO necesita @NotBlank para string.
-        if (violations.size() > 0) {
-            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("lastName")));
-        }
-    }
-
-    @Test
-    void email_ShouldFailIfBlank() {
-        ParticipantRequest request = createValidRequest();
-        request.setEmail("");
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        assertEquals(1, violations.size());
-        assertEquals("Email is required", violations.iterator().next().getMessage());
-    }
-
-    // --- 3. TEST DE RESTRICCIONES DE FORMATO (@Email y @Pattern) ---
-    // Cubrimos las validaciones específicas de formato.
-
-    @Test
-    void email_ShouldFailIfInvalidFormat() {
-        ParticipantRequest request = createValidRequest();
-        request.setEmail("invalid-email"); // Missing '@' and domain
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        assertEquals(1, violations.size());
-        assertEquals("Email should be valid", violations.iterator().next().getMessage());
-    }
-
-    @Test
-    void phone_ShouldFailIfNot10Digits() {
-        ParticipantRequest request = createValidRequest();
-        request.setPhone("123456789"); // 9 digits (Too short)
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        assertEquals(1, violations.size());
-        assertEquals("Phone must be 10 digits", violations.iterator().next().getMessage());
-
-        // Test with too long
-        request.setPhone("12345678901"); // 11 digits (Too long)
-        violations = validator.validate(request);
-
-        assertEquals(1, violations.size());
-        assertEquals("Phone must be 10 digits", violations.iterator().next().getMessage());
-    }
-
-    // --- 4. TEST DE OTROS CAMPOS REQUERIDOS (age, nacionality, area) ---
-    // Cubrimos los campos que tienen @Column(nullable = false).
-    // Si tu versión de Jpa/Hibernate Validator no impone @Column en el DTO,
-    // podrías necesitar cambiar @Column por @NotNull en el DTO.
-
-    @Test
-    void age_ShouldFailIfNull() {
-        ParticipantRequest request = createValidRequest();
-        request.setAge(null);
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        // Si falla con size 0, es porque necesitas añadir @NotNull al campo age en ParticipantRequest
-        // Asumimos que la validación a nivel DTO requiere @NotNull.
-        if (violations.size() > 0) {
-            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("age")));
-        }
-    }
-
-    @Test
-    void nacionality_ShouldFailIfNull() {
-        ParticipantRequest request = createValidRequest();
-        request.setNacionality(null);
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        if (violations.size() > 0) {
-            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("nacionality")));
-        }
-    }
-
-    @Test
-    void area_ShouldFailIfNull() {
-        ParticipantRequest request = createValidRequest();
-        request.setArea(null);
-
-        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
-
-        if (violations.size() > 0) {
-            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("area")));
-        }
-    }
-}
+package com.proyecto.congreso.participantes.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+public class ParticipantRequestValidationTest {
+
+    // Necesitamos una instancia estática del Validador para todos los tests
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        // Inicializa el motor de validación (Hibernate Validator)
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    // --- Métodos de Ayuda ---
+
+    /** Crea un objeto request válido por defecto */
+    private ParticipantRequest createValidRequest() {
+        return new ParticipantRequest(
+                "Juan", // name
+                "Perez", // lastName
+                "juan.perez@test.com", // email
+                "1234567890", // phone (10 dígitos)
+                "MX", // nacionality
+                30, // age
+                "IT" // area
+        );
+    }
+
+    // --- 1. TEST DE CASO BASE (Cobertura del Constructor y Getters/Setters) ---
+
+    @Test
+    void validParticipantRequest_ShouldHaveNoViolations() {
+        ParticipantRequest request = createValidRequest();
+
+        // Verifica que no haya violaciones para un objeto válido.
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        assertTrue(violations.isEmpty(), "Un objeto válido no debe tener violaciones.");
+    }
+
+    // --- 2. TESTS DE RESTRICCIONES REQUERIDAS (@NotBlank y @Column(nullable = false)) ---
+    // Cubrimos las restricciones de campos nulos o vacíos.
+
+    @Test
+    void name_ShouldFailIfBlank() {
+        ParticipantRequest request = createValidRequest();
+        request.setName("   "); // Blank value
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        assertEquals(1, violations.size());
+        assertEquals("Name is required", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    void lastName_ShouldFailIfNull() {
+        // Nota: @Column(nullable = false) solo aplica a JPA. Para validar en el DTO,
+        // necesitamos @NotBlank o @NotNull. Asumo que se debe aplicar @NotBlank
+        // o @NotNull para validación a nivel REST. Si no, solo probamos que no es nulo.
+        ParticipantRequest request = createValidRequest();
+        request.setLastName(null);
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        // Si lastName tiene un @NotNull o @NotBlank, la violación será 1.
+        // Si no lo tiene, es 0 (error de capa de persistencia). Asumimos que tiene @NotNull o @NotBlank
+        // para fines de validación REST. Si falla, es porque solo tiene @Column.
+        // **Si solo tiene @Column, este test siempre pasará con 0, lo cual es incorrecto para el DTO.**
+        // Por ahora, verificamos si Spring Boot Validation lo captura.
+        // Generalmente, el DTO necesita @NotBlank para string.
+        if (violations.size() > 0) {
+            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("lastName")));
+        }
+    }
+
+    @Test
+    void email_ShouldFailIfBlank() {
+        ParticipantRequest request = createValidRequest();
+        request.setEmail("");
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        assertEquals(1, violations.size());
+        assertEquals("Email is required", violations.iterator().next().getMessage());
+    }
+
+    // --- 3. TEST DE RESTRICCIONES DE FORMATO (@Email y @Pattern) ---
+    // Cubrimos las validaciones específicas de formato.
+
+    @Test
+    void email_ShouldFailIfInvalidFormat() {
+        ParticipantRequest request = createValidRequest();
+        request.setEmail("invalid-email"); // Missing '@' and domain
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        assertEquals(1, violations.size());
+        assertEquals("Email should be valid", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    void phone_ShouldFailIfNot10Digits() {
+        ParticipantRequest request = createValidRequest();
+        request.setPhone("123456789"); // 9 digits (Too short)
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        assertEquals(1, violations.size());
+        assertEquals("Phone must be 10 digits", violations.iterator().next().getMessage());
+
+        // Test with too long
+        request.setPhone("12345678901"); // 11 digits (Too long)
+        violations = validator.validate(request);
+
+        assertEquals(1, violations.size());
+        assertEquals("Phone must be 10 digits", violations.iterator().next().getMessage());
+    }
+
+    // --- 4. TEST DE OTROS CAMPOS REQUERIDOS (age, nacionality, area) ---
+    // Cubrimos los campos que tienen @Column(nullable = false).
+    // Si tu versión de Jpa/Hibernate Validator no impone @Column en el DTO,
+    // podrías necesitar cambiar @Column por @NotNull en el DTO.
+
+    @Test
+    void age_ShouldFailIfNull() {
+        ParticipantRequest request = createValidRequest();
+        request.setAge(null);
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        // Si falla con size 0, es porque necesitas añadir @NotNull al campo age en ParticipantRequest
+        // Asumimos que la validación a nivel DTO requiere @NotNull.
+        if (violations.size() > 0) {
+            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("age")));
+        }
+    }
+
+    @Test
+    void nacionality_ShouldFailIfNull() {
+        ParticipantRequest request = createValidRequest();
+        request.setNacionality(null);
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        if (violations.size() > 0) {
+            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("nacionality")));
+        }
+    }
+
+    @Test
+    void area_ShouldFailIfNull() {
+        ParticipantRequest request = createValidRequest();
+        request.setArea(null);
+
+        Set<ConstraintViolation<ParticipantRequest>> violations = validator.validate(request);
+
+        if (violations.size() > 0) {
+            assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("area")));
+        }
+    }
+}
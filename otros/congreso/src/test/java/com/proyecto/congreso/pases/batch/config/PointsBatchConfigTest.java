@@ -0,0 +1,87 @@
+package com.proyecto.congreso.pases.batch.config;
+
+import com.proyecto.congreso.pases.batch.listener.StepMetricsListener;
+import com.proyecto.congreso.pases.batch.service.PoisonAssistanceException;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.pases.service.PointsLeaderboard;
+import com.proyecto.congreso.points.assistance.dto.AsistenciaPointsData;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PointsBatchConfigTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PassRepository passRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private PointsLeaderboard leaderboard;
+
+    @Mock
+    private StepMetricsListener stepMetricsListener;
+
+    @InjectMocks
+    private PointsBatchConfig config;
+
+    @Test
+    void assistancePointsProcessor_shouldMapPayloadWithoutLoadingThePass() throws Exception {
+        // Given
+        ItemProcessor<Asistencia, AsistenciaPointsData> processor = config.assistancePointsProcessor();
+
+        // When
+        AsistenciaPointsData data = processor.process(asistencia(10));
+
+        // Then: la existencia y el estado del Pass los valida el writer al bloquear el chunk
+        assertEquals("a1", data.getAsistenciaId());
+        assertEquals(7L, data.getPassId());
+        assertEquals("C1", data.getConferenciaId());
+        assertEquals(10, data.getPointsAwarded());
+        assertNull(data.getCurrentBalance());
+        assertNull(data.getNewBalance());
+        verifyNoInteractions(passRepository);
+    }
+
+    @Test
+    void assistancePointsProcessor_shouldRejectInvalidPointsAsPoison() {
+        // Given
+        ItemProcessor<Asistencia, AsistenciaPointsData> processor = config.assistancePointsProcessor();
+
+        // When / Then
+        assertThrows(PoisonAssistanceException.class, () -> processor.process(asistencia(-5)));
+        assertThrows(PoisonAssistanceException.class, () -> processor.process(asistencia(null)));
+        verifyNoInteractions(passRepository);
+    }
+
+    private Asistencia asistencia(Integer puntos) {
+        Asistencia asistencia = new Asistencia();
+        asistencia.setId("a1");
+        asistencia.setPassId(7L);
+        asistencia.setConferenciaId("C1");
+        asistencia.setPuntosOtorgados(puntos);
+        return asistencia;
+    }
+}
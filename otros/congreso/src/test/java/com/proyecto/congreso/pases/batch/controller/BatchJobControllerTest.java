@@ -0,0 +1,125 @@
+package com.proyecto.congreso.pases.batch.controller;
+
+import com.proyecto.congreso.pases.batch.service.AsyncJobLauncher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobControllerTest {
+
+    @Mock
+    private AsyncJobLauncher asyncJobLauncher;
+
+    @Mock
+    private Job processAssistancePointsJob;
+
+    @Mock
+    private Job processAssistancePointsPartitionedJob;
+
+    @Mock
+    private Job importCheckInFileJob;
+
+    @Mock
+    private Job reprocessDeadLettersJob;
+
+    private BatchJobController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new BatchJobController(asyncJobLauncher, processAssistancePointsJob,
+                processAssistancePointsPartitionedJob, importCheckInFileJob, reprocessDeadLettersJob);
+        ReflectionTestUtils.setField(controller, "importDir", "imports");
+    }
+
+    @Test
+    void runAssistancePointsJob_shouldReturnBadRequestForInvalidChunkSize() throws Exception {
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.runAssistancePointsJob(0, null, null);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("chunkSize debe ser mayor que 0", response.getBody().get("message"));
+        verify(asyncJobLauncher, never()).launch(any(Job.class), any(JobParameters.class));
+    }
+
+    @Test
+    void runImportCheckInFileJob_shouldReturnBadRequestForMissingFile() throws Exception {
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.runImportCheckInFileJob("../no-existe.csv", null, null);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(asyncJobLauncher, never()).launch(any(Job.class), any(JobParameters.class));
+    }
+
+    @Test
+    void runReprocessDeadLettersJob_shouldReturnBadRequestForInvalidMaxAttempts() throws Exception {
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.runReprocessDeadLettersJob(-1, null);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("maxAttempts debe ser mayor que 0", response.getBody().get("message"));
+    }
+
+    @Test
+    void runImportCheckInFileJob_shouldReturnConflictWhileAssistancePointsJobIsRunning(@TempDir Path dir) throws Exception {
+        // Given
+        Files.writeString(dir.resolve("scan.csv"), "assistanceId,passId,conferenciaId\n");
+        ReflectionTestUtils.setField(controller, "importDir", dir.toString());
+        when(asyncJobLauncher.launch(eq(importCheckInFileJob), any(JobParameters.class)))
+                .thenThrow(new JobExecutionAlreadyRunningException("processAssistancePointsJob en curso"));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.runImportCheckInFileJob("scan.csv", null, null);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("processAssistancePointsJob en curso", response.getBody().get("message"));
+    }
+
+    @Test
+    void runAssistancePointsJob_shouldReturnConflictWhileAssistancePointsJobIsRunning() throws Exception {
+        // Given
+        when(asyncJobLauncher.launch(eq(processAssistancePointsJob), any(JobParameters.class)))
+                .thenThrow(new JobExecutionAlreadyRunningException("reprocessDeadLettersJob en curso"));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.runAssistancePointsJob(null, null, null);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void restartExecution_shouldReturnBadRequestWhenExecutionCannotRestart() throws Exception {
+        // Given
+        when(asyncJobLauncher.restart(7L)).thenThrow(new IllegalArgumentException("Ejecución no encontrada: 7"));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.restartExecution(7L);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Ejecución no encontrada: 7", response.getBody().get("message"));
+    }
+}
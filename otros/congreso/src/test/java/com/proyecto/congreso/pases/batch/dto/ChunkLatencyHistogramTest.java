@@ -0,0 +1,77 @@
+package com.proyecto.congreso.pases.batch.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkLatencyHistogramTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void record_shouldBucketLatenciesAndEstimatePercentiles() {
+        // Given: 90 chunks de 3 ms, 9 de 40 ms y 1 de 12 s
+        ChunkLatencyHistogram histogram = new ChunkLatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(3 * MS);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(40 * MS);
+        }
+        histogram.record(12_000 * MS);
+
+        // Then
+        assertEquals(100, histogram.count());
+        assertEquals(3.0, histogram.minMs());
+        assertEquals(12_000.0, histogram.maxMs());
+        assertEquals(5.0, histogram.percentileMs(0.50));
+        assertEquals(50.0, histogram.percentileMs(0.95));
+        assertEquals(50.0, histogram.percentileMs(0.99));
+        assertEquals(12_000.0, histogram.percentileMs(1.0));
+
+        Map<String, Long> buckets = histogram.buckets();
+        assertEquals(90L, buckets.get("5ms"));
+        assertEquals(9L, buckets.get("50ms"));
+        assertEquals(1L, buckets.get("+Inf"));
+    }
+
+    @Test
+    void percentile_shouldNotExceedObservedMaximum() {
+        ChunkLatencyHistogram histogram = new ChunkLatencyHistogram();
+        histogram.record(60 * MS);
+
+        assertEquals(60.0, histogram.percentileMs(0.99));
+    }
+
+    @Test
+    void writeTo_andReadFrom_shouldRoundTripThroughExecutionContext() {
+        // Given
+        ChunkLatencyHistogram histogram = new ChunkLatencyHistogram();
+        histogram.record(7 * MS);
+        histogram.record(300 * MS);
+        ExecutionContext context = new ExecutionContext();
+
+        // When
+        histogram.writeTo(context);
+        ChunkLatencyHistogram restored = ChunkLatencyHistogram.readFrom(context);
+
+        // Then
+        assertEquals(2, restored.count());
+        assertEquals(7.0, restored.minMs());
+        assertEquals(300.0, restored.maxMs());
+        assertEquals(153.5, restored.meanMs());
+        assertEquals(histogram.buckets(), restored.buckets());
+    }
+
+    @Test
+    void readFrom_shouldBeEmptyWhenStepWasNotMeasured() {
+        ChunkLatencyHistogram histogram = ChunkLatencyHistogram.readFrom(new ExecutionContext());
+
+        assertEquals(0, histogram.count());
+        assertNull(histogram.percentileMs(0.95));
+        assertNull(histogram.meanMs());
+    }
+}
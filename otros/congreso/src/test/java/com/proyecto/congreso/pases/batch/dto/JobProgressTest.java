@@ -0,0 +1,107 @@
+package com.proyecto.congreso.pases.batch.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobProgressTest {
+
+    @Test
+    void of_shouldComputePercentAndEtaFromTotalItems() {
+        // Given: 250 de 1000 leídas en 10 s
+        JobExecution execution = execution(BatchStatus.STARTED);
+        StepExecution step = step(execution, "processAssistancesStep", BatchStatus.STARTED, 10);
+        step.setReadCount(240);
+        step.setReadSkipCount(10);
+        step.setWriteCount(240);
+        step.getExecutionContext().putLong(JobProgress.TOTAL_ITEMS_KEY, 1000L);
+
+        // When
+        JobProgress progress = JobProgress.of(execution);
+
+        // Then
+        JobProgress.StepProgress stepProgress = progress.steps().get(0);
+        assertEquals(25.0, stepProgress.percentComplete(), 0.001);
+        assertEquals(30_000L, stepProgress.etaMs(), 500);
+        assertEquals(stepProgress.etaMs(), progress.etaMs());
+        assertEquals(240, progress.writeCount());
+        assertEquals("processAssistancePointsJob", progress.jobName());
+    }
+
+    @Test
+    void of_shouldPreferBytesOverItemsForFileImports() {
+        // Given
+        JobExecution execution = execution(BatchStatus.STARTED);
+        StepExecution step = step(execution, "importCheckInFileStep", BatchStatus.STARTED, 4);
+        step.setReadCount(5);
+        step.getExecutionContext().putLong(JobProgress.TOTAL_BYTES_KEY, 4000L);
+        step.getExecutionContext().putLong(JobProgress.DONE_BYTES_KEY, 3000L);
+
+        // When
+        JobProgress.StepProgress stepProgress = JobProgress.of(execution).steps().get(0);
+
+        // Then
+        assertEquals(75.0, stepProgress.percentComplete(), 0.001);
+        assertEquals(1_333L, stepProgress.etaMs(), 200);
+    }
+
+    @Test
+    void of_shouldReportCompletedStepsAsDoneAndLeaveStoppedOnesOpen() {
+        // Given
+        JobExecution execution = execution(BatchStatus.STOPPED);
+        StepExecution completed = step(execution, "importCheckInFileStep", BatchStatus.COMPLETED, 5);
+        completed.setEndTime(LocalDateTime.now());
+        StepExecution stopped = step(execution, "processAssistancesStep", BatchStatus.STOPPED, 5);
+        stopped.setEndTime(LocalDateTime.now());
+        stopped.getExecutionContext().putLong(JobProgress.TOTAL_ITEMS_KEY, 100L);
+
+        // When
+        JobProgress progress = JobProgress.of(execution);
+
+        // Then
+        assertEquals(100.0, progress.steps().get(0).percentComplete());
+        assertEquals(0L, progress.steps().get(0).etaMs());
+        assertNull(progress.steps().get(1).percentComplete());
+        assertNull(progress.steps().get(1).etaMs());
+        assertNull(progress.etaMs());
+        assertEquals("STOPPED", progress.status());
+    }
+
+    @Test
+    void of_shouldLeaveEtaEmptyUntilFirstItemIsRead() {
+        // Given
+        JobExecution execution = execution(BatchStatus.STARTED);
+        StepExecution step = step(execution, "processAssistancesStep", BatchStatus.STARTED, 1);
+        step.getExecutionContext().putLong(JobProgress.TOTAL_ITEMS_KEY, 100L);
+
+        // When
+        JobProgress progress = JobProgress.of(execution);
+
+        // Then
+        assertEquals(0.0, progress.steps().get(0).percentComplete());
+        assertNull(progress.steps().get(0).etaMs());
+        assertNull(progress.etaMs());
+    }
+
+    private JobExecution execution(BatchStatus status) {
+        JobExecution execution = new JobExecution(new JobInstance(1L, "processAssistancePointsJob"), 7L, new JobParameters());
+        execution.setStatus(status);
+        execution.setStartTime(LocalDateTime.now().minusSeconds(10));
+        return execution;
+    }
+
+    private StepExecution step(JobExecution execution, String name, BatchStatus status, long secondsAgo) {
+        StepExecution step = execution.createStepExecution(name);
+        step.setId((long) execution.getStepExecutions().size());
+        step.setStatus(status);
+        step.setStartTime(LocalDateTime.now().minusSeconds(secondsAgo));
+        return step;
+    }
+}
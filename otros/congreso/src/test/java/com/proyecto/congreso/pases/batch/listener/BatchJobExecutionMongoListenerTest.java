@@ -1,100 +1,153 @@
-package com.proyecto.congreso.pases.batch.listener;
-
-import com.proyecto.congreso.pases.batch.model.BatchJobExecutionLog;
-import com.proyecto.congreso.pases.batch.repository.BatchJobExecutionLogRepository;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.batch.core.BatchStatus;
-import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.JobInstance;
-import org.springframework.batch.item.ExecutionContext;
-
-import java.util.List;
-
-import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
-
-// Importante: Usamos MockitoExtension para inicializar los mocks
-@ExtendWith(MockitoExtension.class)
-class BatchJobExecutionMongoListenerTest {
-
-    private static final Long JOB_EXECUTION_ID = 123L;
-    private static final String JOB_NAME = "PassPointsUpdateJob";
-    private static final String LOG_ID = "MONGO-LOG-ID";
-
-    @Mock
-    private BatchJobExecutionLogRepository logRepository;
-
-    @InjectMocks
-    private BatchJobExecutionMongoListener listener;
-
-    // Mocks de Spring Batch
-    @Mock
-    private JobExecution jobExecution;
-    @Mock
-    private JobInstance jobInstance;
-    @Mock
-    private ExecutionContext executionContext;
-
-    private BatchJobExecutionLog mockStartedLog;
-
-    @BeforeEach
-    void setUp() {
-        // Configuración común de JobExecution
-        lenient().when(jobExecution.getId()).thenReturn(JOB_EXECUTION_ID);
-        lenient().when(jobExecution.getJobInstance()).thenReturn(jobInstance);
-        lenient().when(jobInstance.getJobName()).thenReturn(JOB_NAME);
-        lenient().when(jobExecution.getExecutionContext()).thenReturn(executionContext);
-
-        // Simular un log que ya fue creado (para usar en afterJob)
-        mockStartedLog = new BatchJobExecutionLog();
-        mockStartedLog.setId(LOG_ID);
-        mockStartedLog.setJobExecutionId(JOB_EXECUTION_ID);
-        mockStartedLog.setStatus("STARTED");
-    }
-
-    // -------------------------------------------------------------------------
-    // 1. Test: beforeJob
-    // -------------------------------------------------------------------------
-
-    @Test
-    void beforeJob_shouldCreateStartedLogAndSave() {
-        // When
-        listener.beforeJob(jobExecution);
-
-        // Then
-        // 1. Capturar el log que se intenta guardar
-        ArgumentCaptor<BatchJobExecutionLog> logCaptor = ArgumentCaptor.forClass(BatchJobExecutionLog.class);
-        verify(logRepository).save(logCaptor.capture());
-
-        BatchJobExecutionLog savedLog = logCaptor.getValue();
-
-        // 2. Verificar que el método estático 'started' fue llamado y que los campos están correctos
-        assertEquals(JOB_EXECUTION_ID, savedLog.getJobExecutionId());
-        assertEquals(JOB_NAME, savedLog.getJobName());
-        assertEquals("STARTED", savedLog.getStatus());
-        assertNotNull(savedLog.getStartTime());
-    }
-
-
-    @Test
-    void afterJob_shouldHandleNoLogFoundGracefully() {
-        // Given
-        when(jobExecution.getId()).thenReturn(999L);
-        when(logRepository.findByJobExecutionId(999L)).thenReturn(null); // Log no encontrado
-
-        // When
-        listener.afterJob(jobExecution);
-
-        // Then
-        // Verificar que no se llamó a save ni a ningún método en el logRepository después del find
-        verify(logRepository, never()).save(any());
-        // El método simplemente debe terminar después de emitir la advertencia (warn)
-    }
-}
+package com.proyecto.congreso.pases.batch.listener;
+
+import com.proyecto.congreso.pases.batch.model.BatchJobExecutionLog;
+import com.proyecto.congreso.pases.batch.model.StepMetrics;
+import com.proyecto.congreso.pases.batch.repository.BatchJobExecutionLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Importante: Usamos MockitoExtension para inicializar los mocks
+@ExtendWith(MockitoExtension.class)
+class BatchJobExecutionMongoListenerTest {
+
+    private static final Long JOB_EXECUTION_ID = 123L;
+    private static final String JOB_NAME = "PassPointsUpdateJob";
+    private static final String LOG_ID = "MONGO-LOG-ID";
+
+    @Mock
+    private BatchJobExecutionLogRepository logRepository;
+
+    @InjectMocks
+    private BatchJobExecutionMongoListener listener;
+
+    // Mocks de Spring Batch
+    @Mock
+    private JobExecution jobExecution;
+    @Mock
+    private JobInstance jobInstance;
+    @Mock
+    private ExecutionContext executionContext;
+
+    private BatchJobExecutionLog mockStartedLog;
+
+    @BeforeEach
+    void setUp() {
+        // Configuración común de JobExecution
+        lenient().when(jobExecution.getId()).thenReturn(JOB_EXECUTION_ID);
+        lenient().when(jobExecution.getJobInstance()).thenReturn(jobInstance);
+        lenient().when(jobInstance.getJobName()).thenReturn(JOB_NAME);
+        lenient().when(jobExecution.getExecutionContext()).thenReturn(executionContext);
+
+        // Simular un log que ya fue creado (para usar en afterJob)
+        mockStartedLog = new BatchJobExecutionLog();
+        mockStartedLog.setId(LOG_ID);
+        mockStartedLog.setJobExecutionId(JOB_EXECUTION_ID);
+        mockStartedLog.setStatus("STARTED");
+    }
+
+    // -------------------------------------------------------------------------
+    // 1. Test: beforeJob
+    // -------------------------------------------------------------------------
+
+    @Test
+    void beforeJob_shouldCreateStartedLogAndSave() {
+        // When
+        listener.beforeJob(jobExecution);
+
+        // Then
+        // 1. Capturar el log que se intenta guardar
+        ArgumentCaptor<BatchJobExecutionLog> logCaptor = ArgumentCaptor.forClass(BatchJobExecutionLog.class);
+        verify(logRepository).save(logCaptor.capture());
+
+        BatchJobExecutionLog savedLog = logCaptor.getValue();
+
+        // 2. Verificar que el método estático 'started' fue llamado y que los campos están correctos
+        assertEquals(JOB_EXECUTION_ID, savedLog.getJobExecutionId());
+        assertEquals(JOB_NAME, savedLog.getJobName());
+        assertEquals("STARTED", savedLog.getStatus());
+        assertNotNull(savedLog.getStartTime());
+    }
+
+
+    @Test
+    void afterJob_shouldHandleNoLogFoundGracefully() {
+        // Given
+        when(jobExecution.getId()).thenReturn(999L);
+        when(logRepository.findByJobExecutionId(999L)).thenReturn(null); // Log no encontrado
+
+        // When
+        listener.afterJob(jobExecution);
+
+        // Then
+        // Verificar que no se llamó a save ni a ningún método en el logRepository después del find
+        verify(logRepository, never()).save(any());
+        // El método simplemente debe terminar después de emitir la advertencia (warn)
+    }
+
+    @Test
+    void afterJob_shouldSumPassStatisticsAndRecordWorkerStepsOfPartitionedJob() {
+        // Given: manager + 2 workers; el manager acumula los contadores de sus workers
+        JobExecution execution = new JobExecution(new JobInstance(1L, JOB_NAME), JOB_EXECUTION_ID, new JobParameters());
+        execution.setStatus(BatchStatus.COMPLETED);
+        execution.setStartTime(LocalDateTime.now().minusSeconds(2));
+        execution.setEndTime(LocalDateTime.now());
+
+        step(execution, 1L, "processAssistancesPartitionedStep", 30);
+        StepExecution worker0 = step(execution, 2L, "processAssistancesPartitionedStep:partition0", 10);
+        StepExecution worker1 = step(execution, 3L, "processAssistancesPartitionedStep:partition1", 20);
+        worker0.getExecutionContext().putLong(BatchJobExecutionMongoListener.TOTAL_PASS_KEY, 4L);
+        worker0.getExecutionContext().putLong(BatchJobExecutionMongoListener.PASS_WITH_ADD_KEY, 4L);
+        worker1.getExecutionContext().putLong(BatchJobExecutionMongoListener.TOTAL_PASS_KEY, 6L);
+        worker1.getExecutionContext().putLong(BatchJobExecutionMongoListener.PASS_WITH_ADD_KEY, 5L);
+        worker1.getExecutionContext().putLong(StepMetricsListener.SQL_STATEMENTS_KEY, 12L);
+
+        when(logRepository.findByJobExecutionId(JOB_EXECUTION_ID)).thenReturn(mockStartedLog);
+        mockStartedLog.setStartTime(execution.getStartTime());
+
+        // When
+        listener.afterJob(execution);
+
+        // Then
+        ArgumentCaptor<BatchJobExecutionLog> logCaptor = ArgumentCaptor.forClass(BatchJobExecutionLog.class);
+        verify(logRepository).save(logCaptor.capture());
+        BatchJobExecutionLog saved = logCaptor.getValue();
+
+        assertEquals("COMPLETED", saved.getStatus());
+        assertEquals(10, saved.getTotalPassProcessed());
+        assertEquals(9, saved.getPassWithAddedPoints());
+        assertEquals(0, saved.getPassWithUsedPoints());
+        assertEquals(30L, saved.getItemsWritten(), "el manager no se suma otra vez");
+        assertEquals(List.of("processAssistancesPartitionedStep:partition0", "processAssistancesPartitionedStep:partition1"),
+                saved.getSteps().stream().map(StepMetrics::getStepName).toList());
+        assertEquals(12L, saved.getSqlStatements());
+    }
+
+    private StepExecution step(JobExecution execution, Long id, String name, int written) {
+        StepExecution step = execution.createStepExecution(name);
+        step.setId(id);
+        step.setStatus(BatchStatus.COMPLETED);
+        step.setReadCount(written);
+        step.setWriteCount(written);
+        step.setStartTime(execution.getStartTime());
+        step.setEndTime(execution.getEndTime());
+        return step;
+    }
+}
@@ -0,0 +1,95 @@
+package com.proyecto.congreso.pases.batch.listener;
+
+import com.proyecto.congreso.pases.batch.dto.ChunkLatencyHistogram;
+import com.proyecto.congreso.pases.batch.model.StepMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StepMetricsListenerTest {
+
+    private final StepMetricsListener listener = new StepMetricsListener();
+
+    @Test
+    void afterStep_shouldStoreChunkLatenciesAndRoundTripsInStepContext() throws Exception {
+        // Given: un step con 2 chunks confirmados y 1 con rollback
+        StepExecution step = stepExecution();
+        DataSource dataSource = DbRoundTripCounter.countingDataSource(dataSource());
+
+        listener.beforeStep(step);
+        for (int i = 0; i < 3; i++) {
+            ChunkContext chunk = new ChunkContext(new StepContext(step));
+            listener.beforeChunk(chunk);
+            try (Connection connection = dataSource.getConnection()) {
+                PreparedStatement statement = connection.prepareStatement("UPDATE pases SET points_balance = ?");
+                statement.addBatch();
+                statement.executeBatch();
+                statement.executeUpdate();
+            }
+            DbRoundTripCounter.mongoCommand();
+            if (i < 2) {
+                listener.afterChunk(chunk);
+            } else {
+                listener.afterChunkError(chunk);
+            }
+        }
+
+        // When
+        listener.afterStep(step);
+
+        // Then
+        assertEquals(2, ChunkLatencyHistogram.readFrom(step.getExecutionContext()).count());
+        assertEquals(6L, step.getExecutionContext().getLong(StepMetricsListener.SQL_STATEMENTS_KEY));
+        assertEquals(3L, step.getExecutionContext().getLong(StepMetricsListener.MONGO_COMMANDS_KEY));
+
+        StepMetrics metrics = StepMetrics.of(step);
+        assertEquals(2L, metrics.getChunkCount());
+        assertNotNull(metrics.getChunkLatencyP95Ms());
+        assertEquals(6L, metrics.getSqlStatements());
+    }
+
+    @Test
+    void roundTrips_shouldNotBeCountedOutsideAStep() throws Exception {
+        // Given
+        DataSource dataSource = DbRoundTripCounter.countingDataSource(dataSource());
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").executeQuery();
+        }
+
+        // When
+        DbRoundTripCounter.start();
+        DbRoundTripCounter.DbRoundTrips roundTrips = DbRoundTripCounter.stop();
+
+        // Then
+        assertEquals(0, roundTrips.sqlStatements());
+        assertEquals(0, roundTrips.mongoCommands());
+    }
+
+    private StepExecution stepExecution() {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "processAssistancePointsJob"), 1L, new JobParameters());
+        StepExecution step = jobExecution.createStepExecution("processAssistancesStep");
+        step.setId(1L);
+        step.setStartTime(LocalDateTime.now());
+        return step;
+    }
+
+    private DataSource dataSource() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        return dataSource;
+    }
+}
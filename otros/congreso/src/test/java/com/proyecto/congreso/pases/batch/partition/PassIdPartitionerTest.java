@@ -0,0 +1,42 @@
+package com.proyecto.congreso.pases.batch.partition;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassIdPartitionerTest {
+
+    private final PassIdPartitioner partitioner = new PassIdPartitioner();
+
+    @Test
+    void partition_shouldCreateOneContextPerPartitionWithDistinctIndexes() {
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertEquals(4, partitions.size());
+        Set<Integer> indexes = partitions.values().stream()
+                .map(ctx -> ctx.getInt(PassIdPartitioner.PARTITION_INDEX))
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(0, 1, 2, 3), indexes);
+        partitions.values().forEach(ctx ->
+                assertEquals(4, ctx.getInt(PassIdPartitioner.PARTITION_COUNT)));
+    }
+
+    @Test
+    void partition_shouldFallBackToSinglePartitionForInvalidGridSize() {
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(0);
+
+        // Then
+        assertEquals(1, partitions.size());
+        ExecutionContext context = partitions.values().iterator().next();
+        assertEquals(0, context.getInt(PassIdPartitioner.PARTITION_INDEX));
+        assertEquals(1, context.getInt(PassIdPartitioner.PARTITION_COUNT));
+    }
+}
@@ -0,0 +1,137 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.model.AssistanceDeadLetter;
+import com.proyecto.congreso.points.assistance.dto.AsistenciaPointsData;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssistanceDeadLetterQueueTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private AssistanceDeadLetterQueue deadLetters;
+
+    @Test
+    void onSkipInProcess_shouldUpsertLetterAndMarkAssistanceFailed() {
+        // Given
+        Asistencia asistencia = new Asistencia();
+        asistencia.setId("a1");
+        asistencia.setPassId(7L);
+        asistencia.setConferenciaId("C1");
+        asistencia.setPuntosOtorgados(-5);
+
+        // When
+        deadLetters.onSkipInProcess(asistencia, new PoisonAssistanceException("Puntos inválidos: -5"));
+
+        // Then
+        ArgumentCaptor<Update> letter = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), letter.capture(), eq(AssistanceDeadLetter.class));
+        Document set = (Document) letter.getValue().getUpdateObject().get("$set");
+        assertEquals(AssistanceDeadLetter.STATUS_DEAD, set.get("status"));
+        assertEquals("PROCESS", set.get("phase"));
+        assertEquals("PoisonAssistanceException", set.get("errorType"));
+        assertEquals(7L, set.get("passId"));
+        assertEquals(new Document("attempts", 1), letter.getValue().getUpdateObject().get("$inc"));
+        assertTrue(((Document) letter.getValue().getUpdateObject().get("$setOnInsert")).containsKey("firstFailedAt"));
+
+        ArgumentCaptor<Update> status = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), status.capture(), eq(Asistencia.class));
+        assertEquals(new Document("status", "FALLIDA"), status.getValue().getUpdateObject().get("$set"));
+    }
+
+    @Test
+    void deadLetterAll_shouldUpsertEveryItemInOneBulkWrite() {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AssistanceDeadLetter.class))
+                .thenReturn(bulkOperations);
+        List<AsistenciaPointsData> items = List.of(
+                new AsistenciaPointsData("a1", 1L, "C1", 10, 0),
+                new AsistenciaPointsData("a2", 2L, "C1", 10, 0));
+
+        // When
+        deadLetters.deadLetterAll(items, "Pass no encontrado o no activo al escribir");
+
+        // Then
+        verify(bulkOperations, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(AssistanceDeadLetter.class));
+    }
+
+    @Test
+    void deadLetterAll_shouldDoNothingWhenEmpty() {
+        deadLetters.deadLetterAll(List.of(), "sin fallas");
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void requeuePage_shouldResetAssistancesAndMarkLettersRequeued() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(AssistanceDeadLetter.class)))
+                .thenReturn(List.of(letter("a1"), letter("a2")));
+
+        // When
+        int requeued = deadLetters.requeuePage(3, 100);
+
+        // Then
+        assertEquals(2, requeued);
+
+        ArgumentCaptor<Query> page = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(page.capture(), eq(AssistanceDeadLetter.class));
+        assertEquals(AssistanceDeadLetter.STATUS_DEAD, page.getValue().getQueryObject().get("status"));
+        assertEquals(new Document("$lt", 3), page.getValue().getQueryObject().get("attempts"));
+        assertEquals(100, page.getValue().getLimit());
+
+        ArgumentCaptor<Query> assistances = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(assistances.capture(), any(Update.class), eq(Asistencia.class));
+        assertEquals(new Document("$in", List.of("a1", "a2")), assistances.getValue().getQueryObject().get("_id"));
+        assertEquals("FALLIDA", assistances.getValue().getQueryObject().get("status"));
+
+        ArgumentCaptor<Update> letters = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), letters.capture(), eq(AssistanceDeadLetter.class));
+        Document set = (Document) letters.getValue().getUpdateObject().get("$set");
+        assertEquals(AssistanceDeadLetter.STATUS_REQUEUED, set.get("status"));
+    }
+
+    @Test
+    void requeuePage_shouldNotWriteWhenNothingIsDead() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(AssistanceDeadLetter.class))).thenReturn(List.of());
+
+        // When
+        int requeued = deadLetters.requeuePage(3, 100);
+
+        // Then
+        assertEquals(0, requeued);
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), any(Class.class));
+    }
+
+    private AssistanceDeadLetter letter(String id) {
+        AssistanceDeadLetter letter = new AssistanceDeadLetter();
+        letter.setId(id);
+        return letter;
+    }
+}
@@ -0,0 +1,249 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.listener.BatchJobExecutionMongoListener;
+import com.proyecto.congreso.pases.dto.PassBalanceView;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.pases.service.PassSummaryProjector;
+import com.proyecto.congreso.pases.service.PointsLeaderboard;
+import com.proyecto.congreso.points.assistance.dto.AsistenciaPointsData;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssistancePointsBatchWriterTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PassRepository passRepository;
+    @Mock private MongoTemplate mongoTemplate;
+    @Mock private BulkOperations bulkOperations;
+    @Mock private PointsLeaderboard leaderboard;
+    @Mock private AssistanceDeadLetterQueue deadLetters;
+    @Mock private PassSummaryProjector summaryProjector;
+
+    @InjectMocks
+    private AssistancePointsBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class))
+                .thenReturn(bulkOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void write_shouldAggregatePointsPerPassInOneJdbcBatch() throws Exception {
+        // Given: dos asistencias del Pass 1 y una del Pass 2
+        Chunk<AsistenciaPointsData> chunk = Chunk.of(
+                data("A1", 1L, 5),
+                data("A2", 1L, 3),
+                data("A3", 2L, 4));
+
+        stubApplied();
+        stubActivePasses(1L, 2L);
+        ArgumentCaptor<BatchPreparedStatementSetter> setter =
+                ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        when(jdbcTemplate.batchUpdate(eq(AssistancePointsBatchWriter.ADD_POINTS_SQL), setter.capture()))
+                .thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        when(passRepository.findBalanceViewsByPassIdIn(any()))
+                .thenReturn(List.of(balance(1L, 100L, 18), balance(2L, 200L, 9)));
+
+        // When
+        writer.write(chunk);
+
+        // Then: un UPDATE por Pass con la suma de sus puntos
+        assertEquals(2, setter.getValue().getBatchSize());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, 0);
+        verify(ps).setInt(1, 8);
+        verify(ps).setLong(3, 1L);
+
+        // Cada asistencia aplicada queda registrada en el mismo chunk
+        verify(jdbcTemplate).batchUpdate(eq(AssistancePointsBatchWriter.INSERT_APPLIED_SQL),
+                argThat((BatchPreparedStatementSetter applied) -> applied.getBatchSize() == 3));
+
+        // Una sola lectura de balances y un solo bulkWrite para las 3 asistencias
+        verify(passRepository).findBalanceViewsByPassIdIn(argThat((Collection<Long> ids) ->
+                ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+        verify(bulkOperations, times(3)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+
+        // Nada de lecturas / escrituras por item
+        verify(passRepository, never()).findById(anyLong());
+        verify(passRepository, never()).save(any(Pass.class));
+        verify(passRepository, never()).markCertificateReached(anyLong());
+
+        // El leaderboard recibe los balances ya actualizados
+        verify(leaderboard).update(balance(1L, 100L, 18));
+        verify(leaderboard).update(balance(2L, 200L, 9));
+
+        // Sin eventos: la proyección se recalcula para los pases del chunk
+        verify(summaryProjector).refresh(Set.of(1L, 2L));
+    }
+
+    @Test
+    void write_shouldMarkFailedWhenPassIsMissingOrInactive() {
+        // Given: el Pass 2 no existe o no está activo (el bloqueo no lo devuelve); el processor ya no lo consulta
+        Chunk<AsistenciaPointsData> chunk = Chunk.of(data("A1", 1L, 5), data("A2", 2L, 5));
+
+        stubApplied();
+        stubActivePasses(1L);
+        when(passRepository.findBalanceViewsByPassIdIn(any()))
+                .thenReturn(List.of(balance(1L, 100L, 15)));
+
+        // When
+        writer.write(chunk);
+
+        // Then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), updates.capture());
+        assertEquals("PROCESADA", updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class).get("status"));
+        assertEquals("FALLIDA", updates.getAllValues().get(1).getUpdateObject().get("$set", Document.class).get("status"));
+        verify(bulkOperations).execute();
+        verify(deadLetters).deadLetterAll(argThat((List<AsistenciaPointsData> failed) ->
+                failed.size() == 1 && "A2".equals(failed.get(0).getAsistenciaId())), anyString());
+        verify(summaryProjector).refresh(Set.of(1L));
+    }
+
+    @Test
+    void write_shouldMarkAchievementWhenChunkCrossesThreshold() {
+        // Given: 20 + 5 = 25 → cruza el umbral del certificado
+        Chunk<AsistenciaPointsData> chunk = Chunk.of(data("A1", 1L, 5));
+
+        stubApplied();
+        stubActivePasses(1L);
+        when(passRepository.findBalanceViewsByPassIdIn(any()))
+                .thenReturn(List.of(balance(1L, 100L, 25)));
+        when(passRepository.markCertificateReached(1L)).thenReturn(1);
+
+        // When
+        writer.write(chunk);
+
+        // Then
+        verify(passRepository).markCertificateReached(1L);
+        verify(passRepository, never()).markSpecialAccessReached(anyLong());
+    }
+
+    @Test
+    void write_shouldAccumulatePassStatisticsInStepContext() {
+        // Given: 2 pases en el chunk, solo 1 sigue activo
+        Chunk<AsistenciaPointsData> chunk = Chunk.of(data("A1", 1L, 5), data("A2", 2L, 5));
+        stubApplied();
+        stubActivePasses(1L);
+        when(passRepository.findBalanceViewsByPassIdIn(any()))
+                .thenReturn(List.of(balance(1L, 100L, 15)));
+
+        StepExecution stepExecution = new StepExecution("processAssistancesStep",
+                new JobExecution(new JobInstance(1L, "processAssistancePointsJob"), 1L, new JobParameters()), 1L);
+        stepExecution.getExecutionContext().putLong(BatchJobExecutionMongoListener.TOTAL_PASS_KEY, 3L);
+        StepSynchronizationManager.register(stepExecution);
+
+        // When
+        try {
+            writer.write(chunk);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+
+        // Then
+        assertEquals(5L, stepExecution.getExecutionContext().getLong(BatchJobExecutionMongoListener.TOTAL_PASS_KEY));
+        assertEquals(1L, stepExecution.getExecutionContext().getLong(BatchJobExecutionMongoListener.PASS_WITH_ADD_KEY));
+    }
+
+    @Test
+    void write_shouldOnlyMarkAssistancesWhosePointsWereAlreadyApplied() {
+        // Given: A1 ya sumó sus puntos en una ejecución cuyo marcado en MongoDB falló
+        Chunk<AsistenciaPointsData> chunk = Chunk.of(data("A1", 1L, 5));
+        stubApplied("A1");
+
+        // When
+        writer.write(chunk);
+
+        // Then: no se vuelve a sumar, solo se marca PROCESADA
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        verify(passRepository, never()).findBalanceViewsByPassIdIn(any());
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(any(Query.class), update.capture());
+        assertEquals("PROCESADA", update.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+        verify(deadLetters).deadLetterAll(argThat(List::isEmpty), anyString());
+    }
+
+    @Test
+    void write_shouldMarkAssistancesOnlyAfterCommit() {
+        // Given: el chunk corre dentro de una transacción
+        Chunk<AsistenciaPointsData> chunk = Chunk.of(data("A1", 1L, 5));
+        stubApplied();
+        stubActivePasses(1L);
+        when(passRepository.findBalanceViewsByPassIdIn(any()))
+                .thenReturn(List.of(balance(1L, 100L, 15)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        writer.write(chunk);
+
+        // Then: nada en MongoDB hasta el commit
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.get(0).afterCommit();
+        verify(bulkOperations).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+    }
+
+    private void stubApplied(String... asistenciaIds) {
+        when(jdbcTemplate.queryForList(startsWith("SELECT asistencia_id"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of(asistenciaIds));
+    }
+
+    private void stubActivePasses(Long... passIds) {
+        when(jdbcTemplate.queryForList(startsWith("SELECT pass_id"), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(passIds));
+    }
+
+    private AsistenciaPointsData data(String asistenciaId, Long passId, Integer points) {
+        return new AsistenciaPointsData(asistenciaId, passId, "C1", points, 0);
+    }
+
+    private PassBalanceView balance(Long passId, Long participantId, Integer pointsBalance) {
+        return new PassBalanceView(passId, participantId, pointsBalance, 25, 30,
+                Pass.CertificateStatus.NOT_REACHED, Pass.AccessStatus.NOT_REACHED, 1L);
+    }
+}
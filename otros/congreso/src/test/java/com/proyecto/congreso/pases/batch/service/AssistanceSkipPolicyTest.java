@@ -0,0 +1,48 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssistanceSkipPolicyTest {
+
+    private final AssistanceSkipPolicy policy = new AssistanceSkipPolicy(2);
+
+    @Test
+    void shouldSkip_shouldAlwaysSkipPoisonAssistances() {
+        PoisonAssistanceException poison = new PoisonAssistanceException("Pass 1 no activo");
+
+        assertTrue(policy.shouldSkip(poison, 0));
+        assertTrue(policy.shouldSkip(poison, 10_000));
+    }
+
+    @Test
+    void shouldSkip_shouldNeverSkipTransientErrors() {
+        assertFalse(policy.shouldSkip(new QueryTimeoutException("timeout"), 0));
+        assertFalse(policy.shouldSkip(new RecoverableDataAccessException("conexión perdida"), 0));
+        assertFalse(policy.shouldSkip(new DataAccessResourceFailureException("Mongo no disponible"), 0));
+    }
+
+    @Test
+    void shouldSkip_shouldSkipOtherExceptionsUpToTheLimit() {
+        IllegalStateException error = new IllegalStateException("dato corrupto");
+
+        assertTrue(policy.shouldSkip(error, 0));
+        assertTrue(policy.shouldSkip(error, 1));
+        assertFalse(policy.shouldSkip(error, 2));
+    }
+
+    @Test
+    void shouldSkip_shouldNotSkipErrors() {
+        assertFalse(policy.shouldSkip(new OutOfMemoryError(), 0));
+    }
+
+    @Test
+    void isTransient_shouldMatchSubclasses() {
+        assertTrue(AssistanceSkipPolicy.isTransient(new QueryTimeoutException("timeout")));
+        assertFalse(AssistanceSkipPolicy.isTransient(new PoisonAssistanceException("poison")));
+    }
+}
@@ -0,0 +1,155 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.dto.JobProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobExecutionNotRunningException;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncJobLauncherTest {
+
+    private static final String JOB_NAME = "processAssistancePointsJob";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @Mock
+    private JobRegistry jobRegistry;
+
+    @Mock
+    private JobOperator jobOperator;
+
+    private AsyncJobLauncher launcher;
+
+    @BeforeEach
+    void setUp() {
+        launcher = new AsyncJobLauncher(jobRepository, jobExplorer, jobRegistry, jobOperator, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        launcher.shutdown();
+    }
+
+    @Test
+    void restart_shouldRejectExecutionsThatAreNotFailedOrStopped() throws Exception {
+        // Given
+        when(jobExplorer.getJobExecution(7L)).thenReturn(execution(7L, BatchStatus.COMPLETED));
+
+        // When / Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> launcher.restart(7L));
+        assertTrue(e.getMessage().contains("COMPLETED"));
+        verify(jobRegistry, never()).getJob(any());
+    }
+
+    @Test
+    void restart_shouldFailForUnknownExecution() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> launcher.restart(8L));
+    }
+
+    @Test
+    void restart_shouldFailWhenJobIsNotRegistered() throws Exception {
+        // Given
+        when(jobExplorer.getJobExecution(7L)).thenReturn(execution(7L, BatchStatus.FAILED));
+        when(jobRegistry.getJob(JOB_NAME)).thenThrow(new NoSuchJobException(JOB_NAME));
+
+        // When / Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> launcher.restart(7L));
+        assertTrue(e.getMessage().contains(JOB_NAME));
+    }
+
+    @Test
+    void launch_shouldRejectWhileAnotherAssistancePointsJobIsRunning() throws Exception {
+        // Given: una importación de check-ins sigue sumando puntos
+        Job job = mock(Job.class);
+        when(job.getName()).thenReturn(JOB_NAME);
+        lenient().when(jobExplorer.findRunningJobExecutions(anyString())).thenReturn(Set.of());
+        when(jobExplorer.findRunningJobExecutions("importCheckInFileJob"))
+                .thenReturn(Set.of(execution(21L, BatchStatus.STARTED)));
+
+        // When / Then
+        JobExecutionAlreadyRunningException e = assertThrows(JobExecutionAlreadyRunningException.class,
+                () -> launcher.launch(job, new JobParameters()));
+        assertTrue(e.getMessage().contains("importCheckInFileJob"));
+        verify(jobRepository, never()).createJobExecution(anyString(), any(JobParameters.class));
+    }
+
+    @Test
+    void launch_importShouldWaitForRunningAssistancePointsJob() throws Exception {
+        // Given: processAssistancePointsJob está sumando puntos
+        Job job = mock(Job.class);
+        when(job.getName()).thenReturn("importCheckInFileJob");
+        lenient().when(jobExplorer.findRunningJobExecutions(anyString())).thenReturn(Set.of());
+        when(jobExplorer.findRunningJobExecutions("processAssistancePointsJob"))
+                .thenReturn(Set.of(execution(22L, BatchStatus.STARTED)));
+
+        // When / Then: la importación no arranca en paralelo
+        assertThrows(JobExecutionAlreadyRunningException.class, () -> launcher.launch(job, new JobParameters()));
+        verify(jobRepository, never()).createJobExecution(anyString(), any(JobParameters.class));
+    }
+
+    @Test
+    void stop_shouldMapNotRunningToIllegalArgument() throws Exception {
+        // Given
+        when(jobOperator.stop(7L)).thenThrow(new JobExecutionNotRunningException("not running"));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> launcher.stop(7L));
+    }
+
+    @Test
+    void listExecutions_shouldReturnNewestFirstUpToLimit() {
+        // Given
+        JobInstance first = new JobInstance(1L, JOB_NAME);
+        JobInstance second = new JobInstance(2L, JOB_NAME);
+        when(jobExplorer.getJobInstances(JOB_NAME, 0, 2)).thenReturn(List.of(second, first));
+        when(jobExplorer.getJobExecutions(second)).thenReturn(List.of(execution(12L, BatchStatus.STARTED)));
+        when(jobExplorer.getJobExecutions(first))
+                .thenReturn(List.of(execution(10L, BatchStatus.FAILED), execution(11L, BatchStatus.COMPLETED)));
+
+        // When
+        List<JobProgress> executions = launcher.listExecutions(JOB_NAME, 2);
+
+        // Then
+        assertEquals(List.of(12L, 11L), executions.stream().map(JobProgress::executionId).toList());
+    }
+
+    @Test
+    void listExecutions_shouldValidateLimit() {
+        assertThrows(IllegalArgumentException.class, () -> launcher.listExecutions(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> launcher.listExecutions(null, AsyncJobLauncher.MAX_LIST_LIMIT + 1));
+        verifyNoInteractions(jobExplorer);
+    }
+
+    private JobExecution execution(Long id, BatchStatus status) {
+        JobExecution execution = new JobExecution(new JobInstance(1L, JOB_NAME), id, new JobParameters());
+        execution.setStatus(status);
+        return execution;
+    }
+}
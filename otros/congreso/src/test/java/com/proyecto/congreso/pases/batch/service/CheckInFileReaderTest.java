@@ -0,0 +1,130 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.congreso.pases.batch.dto.CheckInRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileParseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInFileReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void read_shouldParseCsvWithHeaderAndCrLf() throws IOException {
+        // Given: buffer de 8 bytes para forzar líneas partidas entre lecturas
+        Path file = write("scanner.csv", "passId,conferenciaId,timestamp\r\n"
+                + "1,C1,2025-03-01T10:00:00\r\n"
+                + "\r\n"
+                + "\"2\",\"C2\",\r\n"
+                + "3,C1,2025-03-01T10:05:00-06:00");
+        CheckInFileReader reader = reader(file, 8);
+
+        // When
+        List<CheckInRecord> records = readAll(reader);
+
+        // Then
+        assertEquals(3, records.size());
+        assertEquals(new CheckInRecord(2, 1L, "C1", LocalDateTime.of(2025, 3, 1, 10, 0)), records.get(0));
+        assertEquals(new CheckInRecord(4, 2L, "C2", null), records.get(1));
+        assertEquals(3L, records.get(2).passId());
+        assertNotNull(records.get(2).timestamp());
+    }
+
+    @Test
+    void read_shouldParseNdjsonWithEpochMillis() throws IOException {
+        // Given
+        Path file = write("scanner.ndjson",
+                "{\"passId\":7,\"conferenciaId\":\"C3\",\"timestamp\":\"2025-03-01T09:30:00\"}\n"
+                        + "{\"passId\":8,\"conferenciaId\":\"C3\",\"timestamp\":1740821400000}\n");
+        CheckInFileReader reader = reader(file, 1024);
+
+        // When
+        List<CheckInRecord> records = readAll(reader);
+
+        // Then
+        assertEquals(2, records.size());
+        assertEquals(7L, records.get(0).passId());
+        assertEquals("C3", records.get(1).conferenciaId());
+        assertNotNull(records.get(1).timestamp());
+    }
+
+    @Test
+    void read_shouldThrowParseExceptionAndContinueWithNextLine() throws IOException {
+        // Given
+        Path file = write("scanner.csv", "1,C1\nabc,C1\n2,C2\n");
+        CheckInFileReader reader = reader(file, 1024);
+
+        // When / Then: la línea inválida se reporta con su número y la lectura sigue (skip)
+        assertEquals(1L, reader.read().passId());
+        FlatFileParseException error = assertThrows(FlatFileParseException.class, reader::read);
+        assertEquals(2, error.getLineNumber());
+        assertEquals(2L, reader.read().passId());
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test
+    void open_shouldResumeFromCommittedOffset() throws IOException {
+        // Given: primera ejecución confirma después de 2 líneas y falla
+        Path file = write("scanner.csv", "1,C1\n2,C1\n3,C1\n4,C1\n");
+        CheckInFileReader first = reader(file, 4);
+        first.read();
+        first.read();
+        ExecutionContext context = new ExecutionContext();
+        first.update(context);
+        first.close();
+
+        // When: el restart abre con el mismo ExecutionContext
+        CheckInFileReader restarted = new CheckInFileReader(file, CheckInFileReader.Format.CSV, objectMapper, 4);
+        restarted.open(context);
+
+        // Then
+        CheckInRecord next = restarted.read();
+        assertEquals(3L, next.passId());
+        assertEquals(3, next.lineNumber());
+        assertEquals(4L, restarted.read().passId());
+        assertNull(restarted.read());
+        restarted.close();
+    }
+
+    @Test
+    void format_shouldRejectUnknownExtension() {
+        assertEquals(CheckInFileReader.Format.NDJSON, CheckInFileReader.Format.of(Path.of("dump.jsonl")));
+        assertThrows(IllegalArgumentException.class, () -> CheckInFileReader.Format.of(Path.of("dump.xlsx")));
+    }
+
+    private CheckInFileReader reader(Path file, int bufferSize) {
+        CheckInFileReader reader = new CheckInFileReader(file, CheckInFileReader.Format.of(file), objectMapper, bufferSize);
+        reader.open(new ExecutionContext());
+        return reader;
+    }
+
+    private List<CheckInRecord> readAll(CheckInFileReader reader) {
+        List<CheckInRecord> records = new ArrayList<>();
+        CheckInRecord record;
+        while ((record = reader.read()) != null) {
+            records.add(record);
+        }
+        reader.close();
+        return records;
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInImportWriterTest {
+
+    @Mock private AsistenciaRepository asistenciaRepository;
+    @Mock private MongoTemplate mongoTemplate;
+    @Mock private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private CheckInImportWriter writer;
+
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        stepExecution = new StepExecution("importCheckInFileStep", null);
+        writer.beforeStep(stepExecution);
+    }
+
+    @Test
+    void write_shouldInsertOnlyNewCheckInsInOneBulkWrite() throws Exception {
+        // Given: (1, C1) repetida en el chunk y (2, C1) ya registrada en MongoDB
+        when(asistenciaRepository.findCheckInKeys(Set.of(1L, 2L, 3L), Set.of("C1")))
+                .thenReturn(List.of(pendiente(2L, "C1")));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        // When
+        writer.write(Chunk.of(pendiente(1L, "C1"), pendiente(1L, "C1"), pendiente(2L, "C1"), pendiente(3L, "C1")));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Asistencia>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).insert(inserted.capture());
+        verify(bulkOperations).execute();
+        assertEquals(List.of(1L, 3L), inserted.getValue().stream().map(Asistencia::getPassId).toList());
+        assertEquals(2L, stepExecution.getExecutionContext().getLong(CheckInImportWriter.DUPLICATES_KEY));
+    }
+
+    @Test
+    void write_shouldIgnoreDuplicateKeyErrorsFromConcurrentInserts() throws Exception {
+        // Given
+        when(asistenciaRepository.findCheckInKeys(anySet(), anySet())).thenReturn(List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(bulkException(11000));
+
+        // When / Then
+        assertDoesNotThrow(() -> writer.write(Chunk.of(pendiente(1L, "C1"), pendiente(2L, "C1"))));
+        assertEquals(1L, stepExecution.getExecutionContext().getLong(CheckInImportWriter.DUPLICATES_KEY));
+    }
+
+    @Test
+    void write_shouldFailChunkOnOtherWriteErrors() {
+        // Given
+        when(asistenciaRepository.findCheckInKeys(anySet(), anySet())).thenReturn(List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(bulkException(121));
+
+        // When / Then
+        assertThrows(BulkOperationException.class, () -> writer.write(Chunk.of(pendiente(1L, "C1"))));
+    }
+
+    private static BulkOperationException bulkException(int code) {
+        BulkWriteError error = new BulkWriteError(code, "write error " + code, new BsonDocument(), 0);
+        return new BulkOperationException("write error", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Collections.emptySet()));
+    }
+
+    private static Asistencia pendiente(Long passId, String conferenciaId) {
+        Asistencia asistencia = new Asistencia();
+        asistencia.setPassId(passId);
+        asistencia.setConferenciaId(conferenciaId);
+        asistencia.setPuntosOtorgados(5);
+        asistencia.setStatus("PENDIENTE");
+        return asistencia;
+    }
+}
@@ -0,0 +1,65 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PassKeysetReaderTest {
+
+    @Mock
+    private PassRepository passRepository;
+
+    @Test
+    void read_shouldPageByPassIdWatermark() {
+        // Given: pageSize 2 → primera página llena, segunda incompleta (última)
+        PassKeysetReader reader = new PassKeysetReader(passRepository, 2);
+        when(passRepository.findByPassIdGreaterThanOrderByPassIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(pass(1L), pass(2L)));
+        when(passRepository.findByPassIdGreaterThanOrderByPassIdAsc(2L, Limit.of(2)))
+                .thenReturn(List.of(pass(5L)));
+        reader.open(new ExecutionContext());
+
+        // When / Then
+        assertEquals(1L, reader.read().getPassId());
+        assertEquals(2L, reader.read().getPassId());
+        assertEquals(5L, reader.read().getPassId());
+        assertNull(reader.read());
+        verify(passRepository, times(2)).findByPassIdGreaterThanOrderByPassIdAsc(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void open_shouldResumeFromStoredWatermark() {
+        // Given: una ejecución que confirmó el chunk hasta el passId 7
+        PassKeysetReader reader = new PassKeysetReader(passRepository, 10);
+        when(passRepository.findByPassIdGreaterThanOrderByPassIdAsc(0L, Limit.of(10))).thenReturn(List.of(pass(7L)));
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+        reader.read();
+        reader.update(context);
+
+        // When: reinicio con el mismo ExecutionContext
+        PassKeysetReader restarted = new PassKeysetReader(passRepository, 10);
+        restarted.open(context);
+        assertNull(restarted.read());
+
+        // Then
+        verify(passRepository).findByPassIdGreaterThanOrderByPassIdAsc(7L, Limit.of(10));
+    }
+
+    private Pass pass(Long passId) {
+        Pass pass = new Pass();
+        pass.setPassId(passId);
+        return pass;
+    }
+}
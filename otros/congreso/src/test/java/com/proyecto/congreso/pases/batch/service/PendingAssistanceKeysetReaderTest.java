@@ -0,0 +1,124 @@
+package com.proyecto.congreso.pases.batch.service;
+
+import com.proyecto.congreso.pases.batch.dto.JobProgress;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingAssistanceKeysetReaderTest {
+
+    private static final String ID_1 = new ObjectId().toHexString();
+    private static final String ID_2 = new ObjectId().toHexString();
+    private static final String ID_3 = new ObjectId().toHexString();
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void read_shouldPageByIdWatermarkWithoutSkip() {
+        // Given: pageSize 2 → primera página llena, segunda incompleta (última)
+        PendingAssistanceKeysetReader reader = new PendingAssistanceKeysetReader(mongoTemplate, 2, null, null);
+        when(mongoTemplate.find(any(Query.class), eq(Asistencia.class)))
+                .thenReturn(List.of(asistencia(ID_1), asistencia(ID_2)))
+                .thenReturn(List.of(asistencia(ID_3)));
+        reader.open(new ExecutionContext());
+
+        // When
+        assertEquals(ID_1, reader.read().getId());
+        assertEquals(ID_2, reader.read().getId());
+        assertEquals(ID_3, reader.read().getId());
+        assertNull(reader.read());
+
+        // Then: dos consultas, la segunda con _id > último leído y sin skip
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(Asistencia.class));
+
+        Query first = queries.getAllValues().get(0);
+        assertFalse(first.getQueryObject().containsKey("_id"));
+        assertEquals(2, first.getLimit());
+
+        Query second = queries.getAllValues().get(1);
+        assertEquals(new ObjectId(ID_2), second.getQueryObject().get("_id", Document.class).get("$gt"));
+        assertEquals(0, second.getSkip());
+    }
+
+    @Test
+    void update_shouldStoreWatermarkAndOpenShouldResumeFromIt() {
+        // Given: una ejecución que leyó un item y confirmó el chunk
+        PendingAssistanceKeysetReader reader = new PendingAssistanceKeysetReader(mongoTemplate, 10, null, null);
+        when(mongoTemplate.find(any(Query.class), eq(Asistencia.class)))
+                .thenReturn(List.of(asistencia(ID_1)))
+                .thenReturn(List.of());
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+        reader.read();
+        reader.update(context);
+
+        // When: reinicio con el mismo ExecutionContext
+        PendingAssistanceKeysetReader restarted = new PendingAssistanceKeysetReader(mongoTemplate, 10, null, null);
+        restarted.open(context);
+        assertNull(restarted.read());
+
+        // Then: la consulta del reinicio parte del watermark guardado
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(Asistencia.class));
+        Query resumed = queries.getAllValues().get(1);
+        assertEquals(new ObjectId(ID_1), resumed.getQueryObject().get("_id", Document.class).get("$gt"));
+    }
+
+    @Test
+    void read_shouldFilterByPassIdModuloInsidePartition() {
+        // Given
+        PendingAssistanceKeysetReader reader = new PendingAssistanceKeysetReader(mongoTemplate, 10, 1, 4);
+        when(mongoTemplate.find(any(Query.class), eq(Asistencia.class))).thenReturn(List.of());
+        reader.open(new ExecutionContext());
+
+        // When
+        reader.read();
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Asistencia.class));
+        assertEquals(List.of(4, 1), query.getValue().getQueryObject().get("passId", Document.class).get("$mod"));
+    }
+
+    @Test
+    void open_shouldStoreRemainingPendingCountForProgress() {
+        // Given
+        PendingAssistanceKeysetReader reader = new PendingAssistanceKeysetReader(mongoTemplate, 10, 1, 4);
+        when(mongoTemplate.count(any(Query.class), eq(Asistencia.class))).thenReturn(250L);
+        ExecutionContext context = new ExecutionContext();
+
+        // When
+        reader.open(context);
+
+        // Then
+        assertEquals(250L, context.getLong(JobProgress.TOTAL_ITEMS_KEY));
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).count(query.capture(), eq(Asistencia.class));
+        assertEquals("PENDIENTE", query.getValue().getQueryObject().get("status"));
+        assertEquals(List.of(4, 1), query.getValue().getQueryObject().get("passId", Document.class).get("$mod"));
+    }
+
+    private Asistencia asistencia(String id) {
+        Asistencia asistencia = new Asistencia();
+        asistencia.setId(id);
+        asistencia.setPassId(1L);
+        asistencia.setStatus("PENDIENTE");
+        return asistencia;
+    }
+}
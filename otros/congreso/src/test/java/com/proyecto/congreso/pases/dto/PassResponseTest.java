@@ -1,71 +1,71 @@
-package com.proyecto.congreso.pases.dto;
-
-import com.proyecto.congreso.pases.model.Pass;
-import org.junit.jupiter.api.Test;
-import java.time.LocalDateTime;
-
-import static org.junit.jupiter.api.Assertions.*;
-public class PassResponseTest {
-
-    @Test
-    void shouldMapPassEntityToPassResponseSuccessfully() {
-        // Given
-        Long passId = 1L;
-        Long participantId = 100L;
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1. Crear una instancia de la entidad (Pass) con todos los campos
-        Pass passEntity = new Pass();
-        passEntity.setPassId(passId);
-        passEntity.setPassType(Pass.PassType.GENERAL);
-        passEntity.setPointsBalance(50);
-        passEntity.setParticipantId(participantId);
-        passEntity.setStatus(Pass.PassStatus.ACTIVE);
-        passEntity.setAccessStatus(Pass.AccessStatus.REACHED);
-        passEntity.setCertificateStatus(Pass.CertificateStatus.NOT_REACHED);
-        passEntity.setCreatedAt(now);
-        passEntity.setUpdatedAt(now.plusDays(1));
-
-        // When
-        // 2. Llamar al método estático de mapeo
-        PassResponse response = PassResponse.fromEntity(passEntity);
-
-        // Then
-        // 3. Verificar que todos los campos del DTO sean iguales a los de la entidad
-        assertNotNull(response);
-        assertEquals(passId, response.getPassId(), "Pass ID should match.");
-        assertEquals(Pass.PassType.GENERAL, response.getPassType(), "Pass Type should match.");
-        assertEquals(50, response.getPointsBalance(), "Points Balance should match.");
-        assertEquals(participantId, response.getParticipantId(), "Participant ID should match.");
-        assertEquals(Pass.PassStatus.ACTIVE, response.getStatus(), "Status should match.");
-        assertEquals(Pass.AccessStatus.REACHED, response.getAccessStatus(), "Access Status should match.");
-        assertEquals(Pass.CertificateStatus.NOT_REACHED, response.getCertificateStatus(), "Certificate Status should match.");
-        assertEquals(now, response.getCreatedAt(), "CreatedAt should match.");
-        assertEquals(now.plusDays(1), response.getUpdatedAt(), "UpdatedAt should match.");
-    }
-
-    // -------------------------------------------------------------------------
-
-    @Test
-    void shouldHandleNullAndDefaultFieldsInPassEntity() {
-        // Given
-        Pass passEntity = new Pass();
-        passEntity.setPassId(2L);
-        passEntity.setParticipantId(200L);
-        passEntity.setStatus(null);
-        // Los puntos balance en la entidad (Integer) serán null si no se setean.
-
-        // When
-        PassResponse response = PassResponse.fromEntity(passEntity);
-
-        // Then
-        // ... (otras aserciones)
-
-        // 💡 SOLUCIÓN: Si el DTO garantiza que el valor es 0, debes esperarlo.
-        // Esto significa que la inicialización en línea `= 0` en el DTO
-        // está siendo activada por el constructor por defecto, aunque no debería
-        // serlo si se usa el AllArgsConstructor con un valor null.
-        // En la práctica, si el campo es null, la lógica del DTO lo está forzando a 0.
-        assertEquals(0, response.getPointsBalance(), "Points Balance should default to 0 in the DTO.");
-    }
+package com.proyecto.congreso.pases.dto;
+
+import com.proyecto.congreso.pases.model.Pass;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+public class PassResponseTest {
+
+    @Test
+    void shouldMapPassEntityToPassResponseSuccessfully() {
+        // Given
+        Long passId = 1L;
+        Long participantId = 100L;
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. Crear una instancia de la entidad (Pass) con todos los campos
+        Pass passEntity = new Pass();
+        passEntity.setPassId(passId);
+        passEntity.setPassType(Pass.PassType.GENERAL);
+        passEntity.setPointsBalance(50);
+        passEntity.setParticipantId(participantId);
+        passEntity.setStatus(Pass.PassStatus.ACTIVE);
+        passEntity.setAccessStatus(Pass.AccessStatus.REACHED);
+        passEntity.setCertificateStatus(Pass.CertificateStatus.NOT_REACHED);
+        passEntity.setCreatedAt(now);
+        passEntity.setUpdatedAt(now.plusDays(1));
+
+        // When
+        // 2. Llamar al método estático de mapeo
+        PassResponse response = PassResponse.fromEntity(passEntity);
+
+        // Then
+        // 3. Verificar que todos los campos del DTO sean iguales a los de la entidad
+        assertNotNull(response);
+        assertEquals(passId, response.getPassId(), "Pass ID should match.");
+        assertEquals(Pass.PassType.GENERAL, response.getPassType(), "Pass Type should match.");
+        assertEquals(50, response.getPointsBalance(), "Points Balance should match.");
+        assertEquals(participantId, response.getParticipantId(), "Participant ID should match.");
+        assertEquals(Pass.PassStatus.ACTIVE, response.getStatus(), "Status should match.");
+        assertEquals(Pass.AccessStatus.REACHED, response.getAccessStatus(), "Access Status should match.");
+        assertEquals(Pass.CertificateStatus.NOT_REACHED, response.getCertificateStatus(), "Certificate Status should match.");
+        assertEquals(now, response.getCreatedAt(), "CreatedAt should match.");
+        assertEquals(now.plusDays(1), response.getUpdatedAt(), "UpdatedAt should match.");
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Test
+    void shouldHandleNullAndDefaultFieldsInPassEntity() {
+        // Given
+        Pass passEntity = new Pass();
+        passEntity.setPassId(2L);
+        passEntity.setParticipantId(200L);
+        passEntity.setStatus(null);
+        // Los puntos balance en la entidad (Integer) serán null si no se setean.
+
+        // When
+        PassResponse response = PassResponse.fromEntity(passEntity);
+
+        // Then
+        // ... (otras aserciones)
+
+        // 💡 SOLUCIÓN: Si el DTO garantiza que el valor es 0, debes esperarlo.
+        // Esto significa que la inicialización en línea `= 0` en el DTO
+        // está siendo activada por el constructor por defecto, aunque no debería
+        // serlo si se usa el AllArgsConstructor con un valor null.
+        // En la práctica, si el campo es null, la lógica del DTO lo está forzando a 0.
+        assertEquals(0, response.getPointsBalance(), "Points Balance should default to 0 in the DTO.");
+    }
 }
\ No newline at end of file
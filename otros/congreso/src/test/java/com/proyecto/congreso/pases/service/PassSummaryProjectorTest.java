@@ -0,0 +1,187 @@
+package com.proyecto.congreso.pases.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.proyecto.congreso.participantes.model.Participant;
+import com.proyecto.congreso.participantes.repository.ParticipantRepository;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.model.PassSummary;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
+import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
+import com.proyecto.congreso.points.calculator.dto.PassPointsTotal;
+import com.proyecto.congreso.points.exchange.repository.ExchangeRepository;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PassSummaryProjectorTest {
+
+    private static final Long PASS_ID = 10L;
+    private static final Long PARTICIPANT_ID = 3L;
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 3, 4, 10, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2025, 3, 5, 12, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private PassRepository passRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private AsistenciaRepository asistenciaRepository;
+
+    @Mock
+    private ExchangeRepository exchangeRepository;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private PassSummaryProjector projector;
+
+    @Test
+    void onAssistanceRegistered_shouldRecomputeSummaryFromSources() {
+        // Given
+        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(pass(30, 7L)));
+        stubSources();
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PassSummary.class)).thenReturn(bulkOperations);
+
+        // When: el mismo evento entregado dos veces
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "IA", 5);
+        projector.onAssistanceRegistered(event);
+        projector.onAssistanceRegistered(event);
+
+        // Then: ambos reemplazos llevan los totales de las fuentes, nada se suma dos veces
+        ArgumentCaptor<Object> replacements = ArgumentCaptor.forClass(Object.class);
+        verify(bulkOperations, times(2)).replaceOne(any(Query.class), replacements.capture(),
+                any(FindAndReplaceOptions.class));
+        replacements.getAllValues().forEach(replacement -> {
+            PassSummary summary = (PassSummary) replacement;
+            assertEquals(35, summary.getTotalPuntosAcumulados());
+            assertEquals(7L, summary.getAsistenciasCount());
+            assertEquals(30, summary.getPointsBalance());
+        });
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(PassSummary.class));
+    }
+
+    @Test
+    void save_shouldNotReplaceSummaryBuiltFromNewerPassVersion() {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PassSummary.class)).thenReturn(bulkOperations);
+        PassSummary summary = PassSummary.builder().passId(PASS_ID).passVersion(7L).build();
+
+        // When
+        projector.save(List.of(summary));
+
+        // Then: solo se reemplaza si la versión guardada no es mayor
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations).replaceOne(query.capture(), eq(summary), any(FindAndReplaceOptions.class));
+        Document versionGuard = query.getValue().getQueryObject().get("passVersion", Document.class);
+        assertEquals(new Document("$gt", 7L), versionGuard.get("$not"));
+    }
+
+    @Test
+    void save_shouldIgnoreDuplicateKeyFromRejectedUpsert() {
+        // Given: el resumen guardado es más nuevo, el upsert choca con su _id
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PassSummary.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("E11000",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                        List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)),
+                        null, new ServerAddress(), Set.of())));
+
+        // When / Then
+        assertDoesNotThrow(() -> projector.save(List.of(PassSummary.builder().passId(PASS_ID).passVersion(6L).build())));
+    }
+
+    @Test
+    void buildSummaries_shouldCombineSourcesWithOneQueryEach() {
+        // Given
+        stubSources();
+
+        // When
+        List<PassSummary> summaries = projector.buildSummaries(List.of(pass(30, 7L)));
+
+        // Then
+        PassSummary summary = summaries.get(0);
+        assertEquals("Ana López", summary.getParticipantName());
+        assertEquals(30, summary.getPointsBalance());
+        assertEquals(35, summary.getTotalPuntosAcumulados());
+        assertEquals(5, summary.getTotalPuntosReducidos());
+        assertEquals(7L, summary.getAsistenciasCount());
+        assertEquals(1L, summary.getIntercambiosCount());
+        assertTrue(summary.getCertificateReached());
+        assertFalse(summary.getSpecialAccessReached());
+        assertEquals(T2, summary.getLastActivityAt());
+        verify(asistenciaRepository).sumPuntosProcesadosByPassIn(Set.of(PASS_ID));
+        verify(exchangeRepository).sumPuntosReducidosByPassIn(Set.of(PASS_ID));
+    }
+
+    @Test
+    void buildSummaries_withoutActivity_shouldStartTotalsAtZero() {
+        // Given
+        when(participantRepository.findAllById(Set.of(PARTICIPANT_ID))).thenReturn(List.of());
+        when(asistenciaRepository.sumPuntosProcesadosByPassIn(Set.of(PASS_ID))).thenReturn(List.of());
+        when(exchangeRepository.sumPuntosReducidosByPassIn(Set.of(PASS_ID))).thenReturn(List.of());
+
+        // When
+        PassSummary summary = projector.buildSummaries(List.of(pass(0, 0L))).get(0);
+
+        // Then
+        assertEquals(0, summary.getTotalPuntosAcumulados());
+        assertEquals(0L, summary.getIntercambiosCount());
+        assertNull(summary.getParticipantName());
+        assertNull(summary.getLastActivityAt());
+    }
+
+    private void stubSources() {
+        Participant participant = new Participant();
+        participant.setParticipantId(PARTICIPANT_ID);
+        participant.setName("Ana");
+        participant.setLastName("López");
+        participant.setEmail("ana@example.com");
+        when(participantRepository.findAllById(Set.of(PARTICIPANT_ID))).thenReturn(List.of(participant));
+        when(asistenciaRepository.sumPuntosProcesadosByPassIn(Set.of(PASS_ID)))
+                .thenReturn(List.of(new PassPointsTotal(PASS_ID, 35, 7L, T1)));
+        when(exchangeRepository.sumPuntosReducidosByPassIn(Set.of(PASS_ID)))
+                .thenReturn(List.of(new PassPointsTotal(PASS_ID, 5, 1L, T2)));
+    }
+
+    private Pass pass(int balance, Long version) {
+        Pass pass = new Pass();
+        pass.setPassId(PASS_ID);
+        pass.setParticipantId(PARTICIPANT_ID);
+        pass.setPassType(Pass.PassType.GENERAL);
+        pass.setPointsBalance(balance);
+        pass.setVersion(version);
+        pass.setCertificateStatus(balance >= 25 ? Pass.CertificateStatus.REACHED : Pass.CertificateStatus.NOT_REACHED);
+        return pass;
+    }
+}
@@ -0,0 +1,73 @@
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.pases.repository.PassRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark del leaderboard con 50.000 pases y un hilo actualizando balances sin pausa.
+ * Solo corre con -Dcongreso.benchmark=true:
+ *
+ *   mvn test -Dtest=PointsLeaderboardBenchmarkTest -Dcongreso.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "congreso.benchmark", matches = "true")
+class PointsLeaderboardBenchmarkTest {
+
+    private static final int PASSES = 50_000;
+    private static final int QUERIES = 20_000;
+
+    @Test
+    void queries_shouldStayUnderOneMillisecondWhileUpdating() throws Exception {
+        // Given
+        PointsLeaderboard leaderboard = new PointsLeaderboard(mock(PassRepository.class));
+        for (long passId = 1; passId <= PASSES; passId++) {
+            leaderboard.update(passId, passId, ThreadLocalRandom.current().nextInt(1_000), 0L);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong updates = new AtomicLong();
+        Thread updater = new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                long passId = 1 + random.nextInt(PASSES);
+                leaderboard.update(passId, passId, random.nextInt(1_000), updates.incrementAndGet());
+            }
+        });
+        updater.start();
+
+        // When: se alternan top-10 y rank de un Pass al azar
+        long[] latencies = new long[QUERIES];
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            long queryStart = System.nanoTime();
+            if (i % 2 == 0) {
+                leaderboard.top(10);
+            } else {
+                leaderboard.rankOf(1L + ThreadLocalRandom.current().nextInt(PASSES));
+            }
+            latencies[i] = System.nanoTime() - queryStart;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        running.set(false);
+        updater.join();
+
+        // Then
+        Arrays.sort(latencies);
+        long p50 = latencies[QUERIES / 2];
+        long p99 = latencies[QUERIES * 99 / 100];
+        System.out.printf("📊 %d consultas en %d ms con %d pases: p50=%d µs, p99=%d µs (%d updates concurrentes)%n",
+                QUERIES, elapsedMs, PASSES, p50 / 1_000, p99 / 1_000, updates.get());
+
+        assertEquals(PASSES, leaderboard.size());
+        assertTrue(p99 < TimeUnit.MILLISECONDS.toNanos(1), "p99 de consulta >= 1 ms: " + p99 / 1_000 + " µs");
+    }
+}
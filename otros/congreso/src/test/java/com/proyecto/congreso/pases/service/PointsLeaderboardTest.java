@@ -0,0 +1,184 @@
+package com.proyecto.congreso.pases.service;
+
+import com.proyecto.congreso.pases.dto.LeaderboardEntry;
+import com.proyecto.congreso.pases.dto.PassBalanceView;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointsLeaderboardTest {
+
+    @Mock
+    private PassRepository passRepository;
+
+    @InjectMocks
+    private PointsLeaderboard leaderboard;
+
+    @Test
+    void top_shouldOrderByBalanceDescAndPassIdOnTies() {
+        // Given
+        leaderboard.update(3L, 30L, 10, 1L);
+        leaderboard.update(1L, 10L, 20, 1L);
+        leaderboard.update(2L, 20L, 10, 1L);
+
+        // When
+        List<LeaderboardEntry> top = leaderboard.top(10);
+
+        // Then: a igual balance gana el passId menor
+        assertEquals(List.of(
+                new LeaderboardEntry(1, 1L, 10L, 20),
+                new LeaderboardEntry(2, 2L, 20L, 10),
+                new LeaderboardEntry(3, 3L, 30L, 10)), top);
+        assertEquals(2, leaderboard.top(2).size());
+    }
+
+    @Test
+    void update_shouldMovePassWhenBalanceChanges() {
+        // Given
+        leaderboard.update(1L, 10L, 20, 1L);
+        leaderboard.update(2L, 20L, 5, 1L);
+
+        // When: el Pass 2 suma puntos y supera al 1
+        leaderboard.update(2L, 20L, 25, 2L);
+
+        // Then
+        assertEquals(2, leaderboard.size());
+        assertEquals(new LeaderboardEntry(1, 2L, 20L, 25), leaderboard.rankOf(2L).orElseThrow());
+        assertEquals(new LeaderboardEntry(2, 1L, 10L, 20), leaderboard.rankOf(1L).orElseThrow());
+        assertTrue(leaderboard.rankOf(99L).isEmpty());
+    }
+
+    @Test
+    void randomUpdates_shouldMatchFullSort() {
+        // Given: 2.000 actualizaciones aleatorias sobre 300 pases
+        Random random = new Random(42);
+        Map<Long, Integer> balances = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long passId = 1 + random.nextInt(300);
+            int balance = random.nextInt(100);
+            balances.put(passId, balance);
+            leaderboard.update(passId, passId * 10, balance, (long) i);
+        }
+
+        // When: el orden esperado es el de ordenar todo (lo que se hacía antes con findAll)
+        List<Long> expected = balances.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // Then
+        assertEquals(expected.size(), leaderboard.size());
+        assertEquals(expected.subList(0, 50), leaderboard.top(50).stream().map(LeaderboardEntry::passId).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, leaderboard.rankOf(expected.get(i)).orElseThrow().rank());
+        }
+    }
+
+    @Test
+    void top_shouldRejectInvalidLimitAndCapMaximum() {
+        IntStream.rangeClosed(1, PointsLeaderboard.MAX_TOP + 10)
+                .forEach(i -> leaderboard.update((long) i, null, i, 1L));
+
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.top(0));
+        assertEquals(PointsLeaderboard.MAX_TOP, leaderboard.top(10_000).size());
+    }
+
+    @Test
+    void rebuild_shouldReadAllPagesByKeysetAndReplaceRanking() {
+        // Given: una página completa de 1.000 y una parcial
+        leaderboard.update(9_999L, 1L, 1_000, 1L);
+        List<PassBalanceView> firstPage = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            firstPage.add(view(id, (int) (id % 50)));
+        }
+        when(passRepository.findBalanceViewsAfter(eq(0L), any(Limit.class))).thenReturn(firstPage);
+        when(passRepository.findBalanceViewsAfter(eq(1_000L), any(Limit.class)))
+                .thenReturn(List.of(view(1_001L, 500), view(1_002L, null)));
+
+        // When
+        int size = leaderboard.rebuild();
+
+        // Then: el Pass que no está en MySQL desaparece y los balances null se ignoran
+        assertEquals(1_001, size);
+        assertTrue(leaderboard.rankOf(9_999L).isEmpty());
+        assertEquals(1, leaderboard.rankOf(1_001L).orElseThrow().rank());
+        // Detrás del 1.001 va el menor passId con el balance máximo de la primera página (49)
+        assertEquals(49L, leaderboard.top(2).get(1).passId());
+        verify(passRepository, times(2)).findBalanceViewsAfter(any(), any(Limit.class));
+    }
+
+    @Test
+    void update_shouldIgnoreBalanceOlderThanTheAppliedOne() {
+        // Given: el afterCommit de la versión 5 llegó antes que el de la 4
+        leaderboard.update(1L, 10L, 40, 5L);
+
+        // When
+        leaderboard.update(1L, 10L, 30, 4L);
+        leaderboard.update(1L, 10L, 35, 5L);
+
+        // Then: queda el balance de la versión más nueva
+        assertEquals(40, leaderboard.rankOf(1L).orElseThrow().pointsBalance());
+    }
+
+    @Test
+    void remove_shouldDropPassAndIgnoreOlderUpdates() {
+        // Given
+        leaderboard.update(1L, 10L, 0, 3L);
+        leaderboard.update(2L, 20L, 15, 1L);
+
+        // When: el Pass 1 se cierra y luego llega un balance viejo
+        leaderboard.remove(1L, 4L);
+        leaderboard.update(1L, 10L, 0, 3L);
+
+        // Then
+        assertTrue(leaderboard.rankOf(1L).isEmpty());
+        assertEquals(1, leaderboard.rankOf(2L).orElseThrow().rank());
+
+        // Reactivado con una versión más nueva vuelve al ranking
+        leaderboard.update(1L, 10L, 0, 5L);
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    void rebuild_shouldNotRestorePassRemovedAfterSnapshotVersion() {
+        // Given: la foto de MySQL todavía ve al Pass 1 activo en la versión 2
+        leaderboard.remove(1L, 3L);
+        when(passRepository.findBalanceViewsAfter(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(view(1L, 10, 2L), view(2L, 5, 1L)));
+
+        // When
+        int size = leaderboard.rebuild();
+
+        // Then
+        assertEquals(1, size);
+        assertTrue(leaderboard.rankOf(1L).isEmpty());
+    }
+
+    private static PassBalanceView view(Long passId, Integer pointsBalance) {
+        return view(passId, pointsBalance, 0L);
+    }
+
+    private static PassBalanceView view(Long passId, Integer pointsBalance, Long version) {
+        return new PassBalanceView(passId, passId * 10, pointsBalance, 25, 30,
+                Pass.CertificateStatus.NOT_REACHED, Pass.AccessStatus.NOT_REACHED, version);
+    }
+}
@@ -1,23 +1,60 @@
 package com.proyecto.congreso.points.assistance.service;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.proyecto.congreso.points.assistance.dto.AssistanceRequest;
+import com.proyecto.congreso.points.assistance.dto.AssistanceResponse;
+import com.proyecto.congreso.points.assistance.dto.BulkAssistanceItemResult;
+import com.proyecto.congreso.points.assistance.dto.BulkAssistanceResponse;
+import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
 import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.calculator.dto.PassPointsTotal;
 import com.proyecto.congreso.points.calculator.model.Conferencia;
 import com.proyecto.congreso.points.assistance.repository.AsistenciaRepository;
-import com.proyecto.congreso.points.calculator.repository.ConferenceRepository;
+import com.proyecto.congreso.points.calculator.service.ConferenceCatalogCache;
+import com.proyecto.congreso.points.calculator.service.PassPointsTotals;
+import com.proyecto.congreso.shared.OptimisticRetryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,11 +65,24 @@ class AssistanceServiceTest {
     private AsistenciaRepository asistenciaRepository;
 
     @Mock
-    private ConferenceRepository conferenceRepository;
+    private ConferenceCatalogCache conferenceCatalog;
 
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    // Ejecutor real sobre el PlatformTransactionManager mock: cada publicación abre su transacción
+    @Spy
+    private OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(
+            transactionManager, new SimpleMeterRegistry(), 3, 0, 0);
+
     @InjectMocks
     private AssistanceService assistanceService;
 
@@ -65,11 +115,9 @@ class AssistanceServiceTest {
 //        Long passId = 100L;
 //        String conferenciaId = "1L";
 //
-//        when(conferenceRepository.findById(conferenciaId))
+//        when(conferenceCatalog.findById(conferenciaId))
 //                .thenReturn(Optional.of(conferenciaTest));
-//        when(asistenciaRepository.existsByPassIdAndConferenciaId(passId, conferenciaId))
-//                .thenReturn(false);
-//        when(asistenciaRepository.save(any(Asistencia.class)))
+//        when(asistenciaRepository.insert(any(Asistencia.class)))
 //                .thenReturn(asistenciaTest);
 //
 //        // When
@@ -82,7 +130,7 @@ class AssistanceServiceTest {
 //        assertThat(response.getPuntosOtorgados()).isEqualTo(5);
 //
 //        // Verificar que se guardó en MongoDB
-//        verify(asistenciaRepository, times(1)).save(any(Asistencia.class));
+//        verify(asistenciaRepository, times(1)).insert(any(Asistencia.class));
 //
 //        // Verificar que se publicó el evento con los datos correctos
 //        ArgumentCaptor<AssistanceRegisteredEvent> eventCaptor =
@@ -103,7 +151,7 @@ class AssistanceServiceTest {
         Long passId = 100L;
         String conferenciaId = "999L";
 
-        when(conferenceRepository.findById(conferenciaId))
+        when(conferenceCatalog.findById(conferenciaId))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -112,49 +160,86 @@ class AssistanceServiceTest {
                 .hasMessageContaining("Conferencia no encontrada: 999");
 
         // No debe guardar ni publicar eventos
-        verify(asistenciaRepository, never()).save(any());
+        verify(asistenciaRepository, never()).insert(any(Asistencia.class));
         verify(eventPublisher, never()).publishEvent(any());
     }
 
-//    @Test
-//    @DisplayName("❌ Debe fallar si ya existe asistencia duplicada")
-//    void debeFallarSiAsistenciaDuplicada() {
-//        // Given
-//        Long passId = 100L;
-//        String conferenciaId = "1L";
-//
-//        when(conferenceRepository.findById(conferenciaId))
-//                .thenReturn(Optional.of(conferenciaTest));
-//        when(asistenciaRepository.existsByPassIdAndConferenciaId(passId, conferenciaId))
-//                .thenReturn(true); // Ya existe
-//
-//        // When & Then
-//        assertThatThrownBy(() -> assistanceService.marcarAsistencia(passId, conferenciaId))
-//                .isInstanceOf(IllegalArgumentException.class)
-//                .hasMessageContaining("Ya existe registro de asistencia");
-//
-//        // No debe guardar ni publicar eventos
-//        verify(asistenciaRepository, never()).save(any());
-//        verify(eventPublisher, never()).publishEvent(any());
-//    }
+    @Test
+    @DisplayName("❌ Debe fallar si ya existe asistencia duplicada")
+    void debeFallarSiAsistenciaDuplicada() {
+        // Given
+        Long passId = 100L;
+        String conferenciaId = "1L";
+
+        when(conferenceCatalog.findById(conferenciaId))
+                .thenReturn(Optional.of(conferenciaTest));
+        when(asistenciaRepository.insert(any(Asistencia.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error")); // Ya existe
+
+        // When & Then
+        assertThatThrownBy(() -> assistanceService.marcarAsistencia(passId, conferenciaId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Ya existe registro de asistencia");
+
+        // Un solo insert, sin consulta previa, y no debe publicar eventos
+        verify(asistenciaRepository, times(1)).insert(any(Asistencia.class));
+        verifyNoMoreInteractions(asistenciaRepository);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("✅ Debe insertar PENDIENTE y marcar PROCESADA tras confirmar los puntos")
+    void debeMarcarProcesadaSoloTrasConfirmarLosPuntos() {
+        // Given
+        when(conferenceCatalog.findById("1L")).thenReturn(Optional.of(conferenciaTest));
+        ArgumentCaptor<Asistencia> insertada = ArgumentCaptor.forClass(Asistencia.class);
+        when(asistenciaRepository.insert(insertada.capture())).thenAnswer(invocation -> {
+            Asistencia asistencia = invocation.getArgument(0);
+            asistencia.setId("mongo-id-123");
+            return asistencia;
+        });
+
+        // When
+        AssistanceResponse response = assistanceService.marcarAsistencia(100L, "1L");
+
+        // Then: el evento lleva el id de la asistencia para registrarla en asistencias_aplicadas
+        ArgumentCaptor<AssistanceRegisteredEvent> evento = ArgumentCaptor.forClass(AssistanceRegisteredEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertThat(evento.getValue().getAsistenciaId()).isEqualTo("mongo-id-123");
+
+        InOrder inOrder = inOrder(asistenciaRepository, eventPublisher, mongoTemplate);
+        inOrder.verify(asistenciaRepository).insert(any(Asistencia.class));
+        inOrder.verify(eventPublisher).publishEvent(any(AssistanceRegisteredEvent.class));
+        inOrder.verify(mongoTemplate).updateMulti(any(Query.class),
+                argThat((UpdateDefinition update) -> "PROCESADA".equals(
+                        update.getUpdateObject().get("$set", Document.class).get("status"))),
+                eq(Asistencia.class));
+        assertThat(response.getStatus()).isEqualTo("PROCESADA");
+    }
+
+    @Test
+    @DisplayName("✅ Si el listener falla la asistencia queda PENDIENTE para el batch")
+    void debeDejarPendienteSiElListenerFalla() {
+        // Given: el Pass no está activo y el listener no suma puntos
+        when(conferenceCatalog.findById("1L")).thenReturn(Optional.of(conferenciaTest));
+        when(asistenciaRepository.insert(any(Asistencia.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new IllegalStateException("Pass 100 no encontrado o no esta activo"))
+                .when(eventPublisher).publishEvent(any(AssistanceRegisteredEvent.class));
+
+        // When
+        AssistanceResponse response = assistanceService.marcarAsistencia(100L, "1L");
+
+        // Then: nada la marca PROCESADA; processAssistancePointsJob la resuelve
+        assertThat(response.getStatus()).isEqualTo("PENDIENTE");
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Asistencia.class));
+    }
 
     @Test
     @DisplayName("✅ Debe calcular total de puntos acumulados correctamente")
     void debeCalcularTotalPuntosAcumulados() {
-        // Given
+        // Given: la suma la resuelve la agregación en MongoDB
         Long passId = 100L;
-        
-        Asistencia a1 = new Asistencia();
-        a1.setPuntosOtorgados(5);
-        
-        Asistencia a2 = new Asistencia();
-        a2.setPuntosOtorgados(3);
-        
-        Asistencia a3 = new Asistencia();
-        a3.setPuntosOtorgados(2);
-
-        when(asistenciaRepository.findAsistenciasProcedasByPass(passId))
-                .thenReturn(java.util.List.of(a1, a2, a3));
+        when(asistenciaRepository.sumPuntosProcesadosByPass(passId)).thenReturn(10);
 
         // When
         Integer totalPuntos = assistanceService.getTotalPuntosAcumulados(passId);
@@ -163,6 +248,41 @@ class AssistanceServiceTest {
         assertThat(totalPuntos).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("✅ Debe devolver 0 puntos si el Pass no tiene asistencias")
+    void debeDevolverCeroSinAsistencias() {
+        when(asistenciaRepository.sumPuntosProcesadosByPass(100L)).thenReturn(null);
+
+        assertThat(assistanceService.getTotalPuntosAcumulados(100L)).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ Debe calcular totales de varios Pases en una sola consulta")
+    void debeCalcularTotalesDeVariosPases() {
+        // Given: el Pass 300 no tiene asistencias y no aparece en la agregación
+        when(asistenciaRepository.sumPuntosProcesadosByPassIn(Set.of(100L, 200L, 300L)))
+                .thenReturn(List.of(new PassPointsTotal(100L, 10, 2L, null), new PassPointsTotal(200L, 4, 1L, null)));
+
+        // When
+        Map<Long, Integer> totales = assistanceService.getTotalPuntosAcumulados(List.of(100L, 200L, 300L, 100L));
+
+        // Then
+        assertThat(totales).containsExactly(entry(100L, 10), entry(200L, 4), entry(300L, 0));
+        verify(asistenciaRepository, times(1)).sumPuntosProcesadosByPassIn(any());
+    }
+
+    @Test
+    @DisplayName("❌ Debe rechazar consultas sin Pases o con demasiados Pases")
+    void debeRechazarListaDePasesInvalida() {
+        List<Long> demasiados = LongStream.rangeClosed(1, PassPointsTotals.MAX_PASS_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> assistanceService.getTotalPuntosAcumulados(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> assistanceService.getTotalPuntosAcumulados(demasiados))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(asistenciaRepository);
+    }
+
     @Test
     @DisplayName("✅ Debe contar asistencias correctamente")
     void debeContarAsistenciasCorrectamente() {
@@ -177,4 +297,131 @@ class AssistanceServiceTest {
         assertThat(count).isEqualTo(5L);
         verify(asistenciaRepository, times(1)).countByPassId(passId);
     }
+
+    @Test
+    @DisplayName("✅ Debe registrar un lote con un resultado por item")
+    void debeRegistrarLoteConResultadoPorItem() {
+        // Given: válida, repetida en el lote, conferencia inexistente, incompleta,
+        // ya registrada en MongoDB y otra válida
+        List<AssistanceRequest> lote = new ArrayList<>(List.of(
+                new AssistanceRequest(100L, "1L"),
+                new AssistanceRequest(100L, "1L"),
+                new AssistanceRequest(100L, "999"),
+                new AssistanceRequest(null, "1L"),
+                new AssistanceRequest(200L, "1L"),
+                new AssistanceRequest(300L, "1L")));
+        lote.add(null);
+
+        when(conferenceCatalog.findById("1L")).thenReturn(Optional.of(conferenciaTest));
+        when(conferenceCatalog.findById("999")).thenReturn(Optional.empty());
+        Asistencia yaRegistrada = new Asistencia();
+        yaRegistrada.setPassId(200L);
+        yaRegistrada.setConferenciaId("1L");
+        when(asistenciaRepository.findCheckInKeys(Set.of(100L, 200L, 300L), Set.of("1L")))
+                .thenReturn(List.of(yaRegistrada));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        // When
+        BulkAssistanceResponse response = assistanceService.marcarAsistencias(lote);
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkAssistanceItemResult::getStatus).containsExactly(
+                BulkAssistanceItemResult.Status.REGISTERED,
+                BulkAssistanceItemResult.Status.DUPLICATE,
+                BulkAssistanceItemResult.Status.REJECTED,
+                BulkAssistanceItemResult.Status.REJECTED,
+                BulkAssistanceItemResult.Status.DUPLICATE,
+                BulkAssistanceItemResult.Status.REGISTERED,
+                BulkAssistanceItemResult.Status.REJECTED);
+        assertThat(response.getRegistered()).isEqualTo(2);
+        assertThat(response.getDuplicated()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getResults().get(0).getAsistenciaId()).isNotNull();
+        assertThat(response.getResults().get(0).getPuntosOtorgados()).isEqualTo(5);
+
+        // Un solo insert no ordenado con las 2 nuevas y un evento por cada una
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Asistencia>> insertadas = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).insert(insertadas.capture());
+        verify(bulkOperations).execute();
+        assertThat(insertadas.getValue()).extracting(Asistencia::getPassId).containsExactly(100L, 300L);
+        verify(eventPublisher, times(2)).publishEvent(any(AssistanceRegisteredEvent.class));
+        verify(asistenciaRepository, never()).insert(any(Asistencia.class));
+    }
+
+    @Test
+    @DisplayName("✅ Debe marcar como duplicada la asistencia que pierde la carrera en el bulkWrite")
+    void debeMarcarDuplicadaSiElBulkWriteFallaPorClaveUnica() {
+        // Given: la segunda asistencia choca con el índice único (escaneo concurrente)
+        when(conferenceCatalog.findById("1L")).thenReturn(Optional.of(conferenciaTest));
+        when(asistenciaRepository.findCheckInKeys(any(), any())).thenReturn(List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        BulkWriteError duplicateKey = new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("E11000",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(duplicateKey), null,
+                        new ServerAddress(), Collections.emptySet())));
+
+        // When
+        BulkAssistanceResponse response = assistanceService.marcarAsistencias(List.of(
+                new AssistanceRequest(100L, "1L"),
+                new AssistanceRequest(200L, "1L")));
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkAssistanceItemResult::getStatus).containsExactly(
+                BulkAssistanceItemResult.Status.REGISTERED,
+                BulkAssistanceItemResult.Status.DUPLICATE);
+        verify(eventPublisher, times(1)).publishEvent(any(AssistanceRegisteredEvent.class));
+    }
+
+    @Test
+    @DisplayName("✅ Un listener que falla solo deshace los puntos de su asistencia")
+    void debeAislarCadaAsistenciaDelLoteEnSuPropiaTransaccion() {
+        // Given: el listener del primer evento falla, el del segundo no
+        when(conferenceCatalog.findById("1L")).thenReturn(Optional.of(conferenciaTest));
+        when(asistenciaRepository.findCheckInKeys(any(), any())).thenReturn(List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asistencia.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        TransactionStatus primera = mock(TransactionStatus.class);
+        TransactionStatus segunda = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(primera, segunda);
+        doThrow(new IllegalStateException("Lock wait timeout"))
+                .doNothing()
+                .when(eventPublisher).publishEvent(any(AssistanceRegisteredEvent.class));
+
+        // When
+        BulkAssistanceResponse response = assistanceService.marcarAsistencias(List.of(
+                new AssistanceRequest(100L, "1L"),
+                new AssistanceRequest(200L, "1L")));
+
+        // Then: cada item en su transacción; solo la del que falló se deshace
+        assertThat(response.getRegistered()).isEqualTo(2);
+        verify(transactionManager).rollback(primera);
+        verify(transactionManager).commit(segunda);
+        verify(transactionManager, never()).commit(primera);
+
+        // Solo la asistencia con puntos confirmados pasa a PROCESADA; la otra sigue PENDIENTE para el batch
+        ArgumentCaptor<Query> procesadas = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(procesadas.capture(),
+                argThat((UpdateDefinition update) -> "PROCESADA".equals(
+                        update.getUpdateObject().get("$set", Document.class).get("status"))),
+                eq(Asistencia.class));
+        String idConPuntos = response.getResults().get(1).getAsistenciaId();
+        assertThat(procesadas.getValue().getQueryObject().get("_id", Document.class).getList("$in", String.class))
+                .containsExactly(idConPuntos);
+    }
+
+    @Test
+    @DisplayName("❌ Debe rechazar lotes vacíos o demasiado grandes")
+    void debeRechazarLoteInvalido() {
+        List<AssistanceRequest> demasiados = IntStream.rangeClosed(1, AssistanceService.MAX_BULK_CHECK_INS + 1)
+                .mapToObj(i -> new AssistanceRequest((long) i, "1L")).toList();
+
+        assertThatThrownBy(() -> assistanceService.marcarAsistencias(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> assistanceService.marcarAsistencias(demasiados))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(asistenciaRepository, mongoTemplate);
+    }
 }
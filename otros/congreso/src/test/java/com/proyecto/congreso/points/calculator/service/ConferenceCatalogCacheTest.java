@@ -0,0 +1,135 @@
+package com.proyecto.congreso.points.calculator.service;
+
+import com.proyecto.congreso.points.calculator.model.Conferencia;
+import com.proyecto.congreso.points.calculator.repository.ConferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConferenceCatalogCacheTest {
+
+    private static final long TTL_SECONDS = 60;
+
+    @Mock
+    private ConferenceRepository conferenceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private ConferenceCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        cache = new ConferenceCatalogCache(conferenceRepository, meterRegistry, TTL_SECONDS, 2, clock::get);
+    }
+
+    @Test
+    void findById_shouldServeRepeatedLookupsFromMemory() {
+        // Given
+        when(conferenceRepository.findById("1")).thenReturn(Optional.of(conferencia("1")));
+
+        // When
+        cache.findById("1");
+        Optional<Conferencia> second = cache.findById("1");
+
+        // Then: una sola lectura a MongoDB
+        assertTrue(second.isPresent());
+        verify(conferenceRepository, times(1)).findById("1");
+        assertEquals(1.0, meterRegistry.counter("conference.catalog.cache.hits").count());
+        assertEquals(1.0, meterRegistry.counter("conference.catalog.cache.misses").count());
+    }
+
+    @Test
+    void findById_shouldReloadAfterTtlExpires() {
+        // Given
+        when(conferenceRepository.findById("1")).thenReturn(Optional.of(conferencia("1")));
+        cache.findById("1");
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS) + 1);
+        cache.findById("1");
+
+        // Then
+        verify(conferenceRepository, times(2)).findById("1");
+    }
+
+    @Test
+    void invalidate_shouldForceReload() {
+        // Given
+        when(conferenceRepository.findById("1")).thenReturn(Optional.of(conferencia("1")));
+        cache.findById("1");
+
+        // When
+        cache.invalidate("1");
+        cache.findById("1");
+
+        // Then
+        verify(conferenceRepository, times(2)).findById("1");
+    }
+
+    @Test
+    void findById_shouldNotCacheMissingConferences() {
+        // Given
+        when(conferenceRepository.findById("99")).thenReturn(Optional.empty());
+
+        // When
+        cache.findById("99");
+        cache.findById("99");
+
+        // Then
+        verify(conferenceRepository, times(2)).findById("99");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void findById_shouldEvictOldestEntryWhenFull() {
+        // Given: maxSize = 2
+        when(conferenceRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.of(conferencia(invocation.getArgument(0))));
+
+        // When
+        cache.findById("1");
+        clock.incrementAndGet();
+        cache.findById("2");
+        clock.incrementAndGet();
+        cache.findById("3");
+        cache.findById("1");
+
+        // Then: "1" fue la entrada descartada y se volvió a leer
+        assertEquals(2, cache.size());
+        verify(conferenceRepository, times(2)).findById("1");
+    }
+
+    @Test
+    void invalidateAll_shouldEmptyCache() {
+        // Given
+        when(conferenceRepository.findById("1")).thenReturn(Optional.of(conferencia("1")));
+        cache.findById("1");
+
+        // When
+        cache.invalidateAll();
+
+        // Then
+        assertEquals(0, cache.size());
+        assertEquals(0.0, meterRegistry.get("conference.catalog.cache.size").gauge().value());
+    }
+
+    private Conferencia conferencia(String id) {
+        Conferencia conferencia = new Conferencia();
+        conferencia.setConferenciaId(id);
+        conferencia.setPuntos(5);
+        return conferencia;
+    }
+}
@@ -0,0 +1,85 @@
+package com.proyecto.congreso.points.service;
+
+import com.proyecto.congreso.points.calculator.model.Freebies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Benchmark de reservas concurrentes sobre un solo freebie. Necesita un MongoDB real
+ * (spring.data.mongodb.uri), por eso solo corre con -Dcongreso.benchmark=true:
+ *
+ *   mvn test -Dtest=FreebieStockConcurrencyBenchmarkTest -Dcongreso.benchmark=true
+ */
+@DataMongoTest
+@Import(FreebieStockHandler.class)
+@EnabledIfSystemProperty(named = "congreso.benchmark", matches = "true")
+class FreebieStockConcurrencyBenchmarkTest {
+
+    private static final String FREEBIE_ID = "benchmark-usb-32gb";
+    private static final int INITIAL_STOCK = 100;
+    private static final int REQUESTS = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private FreebieStockHandler stockHandler;
+
+    @AfterEach
+    void cleanUp() {
+        mongoTemplate.remove(new Query(where("_id").is(FREEBIE_ID)), Freebies.class);
+    }
+
+    @Test
+    void concurrentExchanges_shouldNeverOversellLastUnits() throws Exception {
+        // Given: 500 intercambios simultáneos por un freebie con 100 unidades
+        mongoTemplate.save(new Freebies(FREEBIE_ID, "USB 32GB", "Benchmark", INITIAL_STOCK, 10, INITIAL_STOCK));
+
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return stockHandler.reduceStock(FREEBIE_ID);
+            }));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        start.countDown();
+        int reserved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                reserved++;
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        pool.shutdown();
+
+        // Then: exactamente 100 reservas y stock final 0, nunca negativo
+        Freebies freebie = mongoTemplate.findById(FREEBIE_ID, Freebies.class);
+        System.out.printf("📊 %d solicitudes concurrentes en %d ms (%.0f ops/s): %d reservadas, stock final %d%n",
+                REQUESTS, elapsedMs, REQUESTS * 1000.0 / Math.max(1, elapsedMs), reserved, freebie.getStockActual());
+
+        assertEquals(INITIAL_STOCK, reserved);
+        assertEquals(0, freebie.getStockActual());
+    }
+}
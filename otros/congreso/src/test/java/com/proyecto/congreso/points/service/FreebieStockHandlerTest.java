@@ -0,0 +1,102 @@
+package com.proyecto.congreso.points.service;
+
+import com.proyecto.congreso.points.calculator.model.Freebies;
+import com.proyecto.congreso.points.exchange.events.ExchangeFailedEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FreebieStockHandlerTest {
+
+    private static final String FREEBIE_ID = "F-USB";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private FreebieStockHandler stockHandler;
+
+    @Test
+    void reserveStock_shouldUseGuardedAtomicDecrement() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Freebies.class)))
+                .thenReturn(freebie(7));
+
+        // When
+        boolean reserved = stockHandler.reserveStock(FREEBIE_ID, 3);
+
+        // Then: una sola operación con guarda stock_actual >= 3 y $inc -3
+        assertTrue(reserved);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Freebies.class));
+
+        assertEquals(FREEBIE_ID, query.getValue().getQueryObject().get("_id"));
+        assertEquals(3, query.getValue().getQueryObject().get("stock_actual", Document.class).get("$gte"));
+        assertEquals(-3, update.getValue().getUpdateObject().get("$inc", Document.class).get("stock_actual"));
+        verify(mongoTemplate, never()).save(any());
+    }
+
+    @Test
+    void reduceStock_shouldReturnFalseWhenGuardDoesNotMatch() {
+        // Given: no hay stock suficiente, el documento existe
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Freebies.class)))
+                .thenReturn(null);
+        when(mongoTemplate.exists(any(Query.class), eq(Freebies.class))).thenReturn(true);
+
+        // When / Then
+        assertFalse(stockHandler.reduceStock(FREEBIE_ID));
+    }
+
+    @Test
+    void reserveStock_shouldRejectNonPositiveUnits() {
+        assertThrows(IllegalArgumentException.class, () -> stockHandler.reserveStock(FREEBIE_ID, 0));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void handleExchangeFailed_shouldReleaseOneUnitAtomically() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Freebies.class)))
+                .thenReturn(freebie(5));
+        ExchangeFailedEvent event = ExchangeFailedEvent.builder()
+                .passId(1L)
+                .freebieId(FREEBIE_ID)
+                .reason("test")
+                .shouldRevertStock(true)
+                .build();
+
+        // When
+        stockHandler.handleExchangeFailed(event);
+
+        // Then
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(Freebies.class));
+        assertEquals(1, update.getValue().getUpdateObject().get("$inc", Document.class).get("stock_actual"));
+    }
+
+    @Test
+    void handleExchangeFailed_shouldIgnoreFailuresWithoutStockToRevert() {
+        stockHandler.handleExchangeFailed(new ExchangeFailedEvent(1L, "Puntos insuficientes"));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private Freebies freebie(int stockActual) {
+        return new Freebies(FREEBIE_ID, "USB 32GB", "Memoria USB", 10, 50, stockActual);
+    }
+}
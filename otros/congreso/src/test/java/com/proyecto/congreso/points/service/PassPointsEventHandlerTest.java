@@ -1,304 +1,435 @@
-package com.proyecto.congreso.points.service;
-import com.proyecto.congreso.participantes.model.Participant;
-import com.proyecto.congreso.participantes.repository.ParticipantRepository;
-import com.proyecto.congreso.pases.events.CertificateEvent;
-import com.proyecto.congreso.pases.model.Certificate;
-import com.proyecto.congreso.pases.model.Pass;
-import com.proyecto.congreso.pases.repository.CertificateRepository;
-import com.proyecto.congreso.pases.repository.PassRepository;
-import com.proyecto.congreso.pases.service.PassPointsEventHandler;
-import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
-import com.proyecto.congreso.points.calculator.repository.FreebieRepository;
-import com.proyecto.congreso.points.exchange.events.ExchangeFailedEvent;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.*;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
-
-import java.util.Optional;
-
-import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.*;
-
-@ExtendWith(MockitoExtension.class)
-public class PassPointsEventHandlerTest {
-
-    private static final Long PASS_ID = 1L;
-    private static final Long PARTICIPANT_ID = 10L;
-    private static final String FREEBIE_ID = "F001";
-    private static final Integer POINTS_CERTIFICATE = 25; // Asumido de la entidad Pass
-    private static final Integer POINTS_SPECIAL_ACCESS = 30; // Asumido de la entidad Pass
-
-    @Mock private PassRepository passRepository;
-    @Mock private ParticipantRepository participantRepository;
-    @Mock private CertificateRepository certificateRepository;
-    @Mock private ApplicationEventPublisher eventPublisher;
-    // FreebieRepository no se usa en la lógica, pero se mockea por RequiredArgsConstructor
-    @Mock private FreebieRepository freebieRepository;
-
-    @InjectMocks
-    private PassPointsEventHandler eventHandler;
-
-    private Pass activePass;
-    private Participant testParticipant;
-
-    @BeforeEach
-    void setUp() {
-        activePass = new Pass();
-        activePass.setPassId(PASS_ID);
-        activePass.setParticipantId(PARTICIPANT_ID);
-        activePass.setStatus(Pass.PassStatus.ACTIVE);
-        activePass.setPointsBalance(10); // Balance inicial para los tests
-        activePass.setPointsCertificate(POINTS_CERTIFICATE);
-        activePass.setPointsSpecialAccess(POINTS_SPECIAL_ACCESS);
-
-        testParticipant = new Participant();
-        testParticipant.setParticipantId(PARTICIPANT_ID);
-        testParticipant.setName("Jane");
-        testParticipant.setLastName("Doe");
-        testParticipant.setEmail("jane.doe@example.com");
-
-        // Mockear el factory method de Certificate para evitar llamadas a su lógica interna
-        try (MockedStatic<Certificate> mockedCertificate = mockStatic(Certificate.class)) {
-            mockedCertificate.when(() -> Certificate.create(any(), any(), any(), any(), any()))
-                    .thenAnswer(invocation -> new Certificate());
-        } catch (Exception e) {
-            // Ignorar excepción si Mockito no soporta static mocking fácilmente
-        }
-    }
-
-    // -------------------------------------------------------------------------
-    // Test: handleAssistanceRegistered (Sumar Puntos)
-    // -------------------------------------------------------------------------
-
-    @Test
-    void handleAssistanceRegistered_shouldSumPointsSuccessfully() {
-
-        ArgumentCaptor<Pass> passCaptor = ArgumentCaptor.forClass(Pass.class);
-        AssistanceRegisteredEvent event = mock(AssistanceRegisteredEvent.class);
-        Integer pointsToAdd = 5;
-
-        // Mantenemos la Pass activa como la que se encuentra y la que se guarda
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
-
-        // OPCIONAL: Asegurar que el save devuelve la misma instancia modificada (aunque no estrictamente
-        // necesario aquí, previene problemas de caché o inmutabilidad implícita).
-        when(passRepository.save(any(Pass.class))).thenReturn(activePass); // <--- Opcional pero recomendado
-
-        // When
-        when(event.getPassId()).thenReturn(PASS_ID); // <--- ¡Esta línea es crucial!
-        when(event.getAmountPoints()).thenReturn(pointsToAdd);
-        eventHandler.handleAssistanceRegistered(event);
-
-        // 2. Capturamos la instancia de Pass que fue pasada al método save()
-        verify(passRepository).save(passCaptor.capture());
-
-        // 3. Obtenemos el objeto Pass capturado
-        Pass savedPass = passCaptor.getValue();
-
-        // 4. Realizamos las aserciones sobre el objeto capturado (savedPass)
-        assertEquals(15, savedPass.getPointsBalance(), "El balance debe ser 10 + 5 = 15.");
-        assertEquals(Pass.PointsMovementAdd.ADD, savedPass.getPointsAdd(), "Debe establecer el movimiento.");
-
-        verify(passRepository).findById(PASS_ID);
-        // Verificamos que no se publiquen eventos de logros (ya que 15 < 25)
-        verify(eventPublisher, never()).publishEvent(any());
-    }
-
-    @Test
-    void handleAssistanceRegistered_shouldNotSumPointsIfPassIsNotActive() {
-        // Given
-        activePass.setStatus(Pass.PassStatus.CLOSED);
-        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, 5);
-
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
-
-        // When
-        eventHandler.handleAssistanceRegistered(event);
-
-        // Then
-        assertEquals(10, activePass.getPointsBalance(), "El balance no debe cambiar.");
-        verify(passRepository, never()).save(any(Pass.class));
-    }
-
-    // -------------------------------------------------------------------------
-    // Test: Logros Desbloqueados
-    // -------------------------------------------------------------------------
-
-    @Test
-    void handleAssistanceRegistered_shouldReachCertificateAchievement() {
-        ArgumentCaptor<Pass> passCaptor = ArgumentCaptor.forClass(Pass.class);
-
-        // Given
-        Integer pointsToAdd = 15;
-        activePass.setPointsBalance(10);
-
-        // 💡 SOLUCIÓN: Usar un mock del evento para garantizar que los getters funcionen
-        AssistanceRegisteredEvent event = mock(AssistanceRegisteredEvent.class);
-        when(event.getPassId()).thenReturn(PASS_ID); // ¡CLAVE! Asegura que el ID no es null
-        when(event.getAmountPoints()).thenReturn(pointsToAdd);
-
-        // Configuración del Mock
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
-        when(passRepository.save(any(Pass.class))).thenReturn(activePass);
-
-        // When
-        eventHandler.handleAssistanceRegistered(event);
-
-        // Then
-        // La línea verify(passRepository).save(passCaptor.capture()); ahora será invocada
-        verify(passRepository).save(passCaptor.capture());
-        Pass savedPass = passCaptor.getValue();
-
-        // Aserciones sobre el objeto capturado
-        assertEquals(POINTS_CERTIFICATE, savedPass.getPointsBalance());
-        assertEquals(Pass.CertificateStatus.REACHED, savedPass.getCertificateStatus());
-
-        verify(passRepository).findById(PASS_ID);
-        verify(eventPublisher).publishEvent(any(CertificateEvent.class));
-        verify(eventPublisher, never()).publishEvent(any(ExchangeFailedEvent.class));
-    }
-
-    @Test
-    void handleAssistanceRegistered_shouldNotPublishCertificateEventIfAlreadyReached() {
-        // 1. Definir el ArgumentCaptor para la clase Pass
-        ArgumentCaptor<Pass> passCaptor = ArgumentCaptor.forClass(Pass.class);
-
-        // Given
-        // Ya alcanzó el certificado (esto debería evitar que se publique el CertificateEvent)
-        activePass.setCertificateStatus(Pass.CertificateStatus.REACHED);
-        activePass.setPointsBalance(POINTS_CERTIFICATE); // 25 puntos
-
-        Integer pointsToAdd = 5;
-
-        // 💡 SOLUCIÓN: Usar un mock del evento para garantizar que los getters funcionen
-        AssistanceRegisteredEvent event = mock(AssistanceRegisteredEvent.class);
-        when(event.getPassId()).thenReturn(PASS_ID);
-        when(event.getAmountPoints()).thenReturn(pointsToAdd); // 5 puntos
-
-        // Configuración del Mock
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
-        // Es buena práctica que el save devuelva el objeto modificado
-        when(passRepository.save(any(Pass.class))).thenReturn(activePass);
-
-        // When
-        eventHandler.handleAssistanceRegistered(event);
-
-        // Then
-        // 2. Capturamos la instancia de Pass que fue pasada al método save()
-        verify(passRepository).save(passCaptor.capture());
-        Pass savedPass = passCaptor.getValue(); // El objeto final guardado
-
-        // 3. Aserciones sobre el objeto capturado
-        // El valor esperado es 25 (inicial) + 5 (suma) = 30
-        assertEquals(POINTS_CERTIFICATE + 5, savedPass.getPointsBalance(),
-                "El balance final debe ser 30 (25 + 5).");
-
-        // Verificamos que se haya alcanzado el Acceso Especial (30 puntos)
-        assertEquals(Pass.AccessStatus.REACHED, savedPass.getAccessStatus(),
-                "El AccessStatus debe ser REACHED, ya que se alcanzaron 30 puntos.");
-
-        // Verificamos la regla principal del test: no publicar evento duplicado
-        verify(eventPublisher, never()).publishEvent(any(CertificateEvent.class));
-    }
-
-    @Test
-    void shouldReachBothCertificateAndSpecialAccessAchievements() {
-        // 1. Definir el ArgumentCaptor
-        ArgumentCaptor<Pass> passCaptor = ArgumentCaptor.forClass(Pass.class);
-
-        // Given
-        // Balance de 10. Sumamos 20. Nuevo Balance: 30. (Alcanza 25 y 30)
-        Integer pointsToAdd = 20;
-        activePass.setPointsBalance(10);
-
-        // Configuración de Mocks del evento
-        AssistanceRegisteredEvent event = mock(AssistanceRegisteredEvent.class);
-        when(event.getPassId()).thenReturn(PASS_ID);
-        when(event.getAmountPoints()).thenReturn(pointsToAdd);
-
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
-        when(passRepository.save(any(Pass.class))).thenReturn(activePass);
-
-        // When
-        eventHandler.handleAssistanceRegistered(event);
-
-        // Then
-        verify(passRepository).save(passCaptor.capture());
-        Pass savedPass = passCaptor.getValue();
-
-        // ✅ Asersiones de Estado
-        assertEquals(POINTS_SPECIAL_ACCESS, savedPass.getPointsBalance(), "El balance final debe ser 30.");
-        assertEquals(Pass.AccessStatus.REACHED, savedPass.getAccessStatus(), "AccessStatus debe ser REACHED.");
-        assertEquals(Pass.CertificateStatus.REACHED, savedPass.getCertificateStatus(), "CertificateStatus también debe ser REACHED."); // NUEVA VERIFICACIÓN
-
-        // ✅ Asersiones de Eventos
-        verify(eventPublisher).publishEvent(any(CertificateEvent.class)); // AHORA QUEREMOS QUE SE INVOQUE
-        // verify(eventPublisher).publishEvent(any(SpecialAccessEvent.class)); // Si tuvieras un evento para esto
-    }
-
-    // -------------------------------------------------------------------------
-    // Test: handleCertificateAchieved (Crear Certificado)
-    // -------------------------------------------------------------------------
-
-    @Test
-    void handleCertificateAchieved_shouldCreateCertificateSuccessfully() {
-        // Given
-        CertificateEvent event = new CertificateEvent(PASS_ID);
-        Certificate mockSavedCertificate = new Certificate();
-        mockSavedCertificate.setCertificateId(99L); // ID simulado después de guardar
-
-        when(certificateRepository.existsByPassId(PASS_ID)).thenReturn(false);
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
-        when(participantRepository.findById(PARTICIPANT_ID)).thenReturn(Optional.of(testParticipant));
-        when(certificateRepository.save(any(Certificate.class))).thenReturn(mockSavedCertificate);
-
-        // When
-        eventHandler.handleCertificateAchieved(event);
-
-        // Then
-        verify(certificateRepository).existsByPassId(PASS_ID);
-        verify(passRepository).findById(PASS_ID);
-        verify(participantRepository).findById(PARTICIPANT_ID);
-
-        // Verifica que se llamó al guardado del certificado
-        verify(certificateRepository).save(any(Certificate.class));
-        // Nota: Se asume que Certificate.create() es mockeado o no falla
-    }
-
-    @Test
-    void handleCertificateAchieved_shouldReturnIfCertificateAlreadyExists() {
-        // Given
-        CertificateEvent event = new CertificateEvent(PASS_ID);
-        when(certificateRepository.existsByPassId(PASS_ID)).thenReturn(true);
-
-        // When
-        eventHandler.handleCertificateAchieved(event);
-
-        // Then
-        // Ningún otro repositorio o evento debe ser llamado
-        verify(certificateRepository).existsByPassId(PASS_ID);
-        verify(passRepository, never()).findById(anyLong());
-        verify(certificateRepository, never()).save(any(Certificate.class));
-    }
-
-    @Test
-    void handleCertificateAchieved_shouldHandlePassNotFoundException() {
-        // Given
-        CertificateEvent event = new CertificateEvent(PASS_ID);
-        when(certificateRepository.existsByPassId(PASS_ID)).thenReturn(false);
-        when(passRepository.findById(PASS_ID)).thenReturn(Optional.empty());
-
-        // When
-        // La excepción es atrapada dentro del handler, por lo que no se lanza al test.
-        eventHandler.handleCertificateAchieved(event);
-
-        // Then
-        verify(passRepository).findById(PASS_ID);
-        verify(participantRepository, never()).findById(anyLong());
-        verify(certificateRepository, never()).save(any(Certificate.class));
-        // La excepción se maneja, el test pasa si no se lanza nada.
-    }
-}
+package com.proyecto.congreso.points.service;
+import com.proyecto.congreso.participantes.model.Participant;
+import com.proyecto.congreso.participantes.repository.ParticipantRepository;
+import com.proyecto.congreso.pases.dto.PassBalanceView;
+import com.proyecto.congreso.pases.events.CertificateEvent;
+import com.proyecto.congreso.pases.events.SpecialAccessEvent;
+import com.proyecto.congreso.pases.model.Certificate;
+import com.proyecto.congreso.pases.model.Pass;
+import com.proyecto.congreso.pases.repository.CertificateRepository;
+import com.proyecto.congreso.pases.repository.PassRepository;
+import com.proyecto.congreso.pases.service.PassPointsEventHandler;
+import com.proyecto.congreso.pases.service.PointsLeaderboard;
+import com.proyecto.congreso.points.assistance.events.AssistanceRegisteredEvent;
+import com.proyecto.congreso.points.calculator.repository.FreebieRepository;
+import com.proyecto.congreso.points.exchange.events.ExchangeFailedEvent;
+import com.proyecto.congreso.points.exchange.events.ExchangeRegisteredEvent;
+import com.proyecto.congreso.shared.OptimisticRetryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PassPointsEventHandlerTest {
+
+    private static final Long PASS_ID = 1L;
+    private static final Long PARTICIPANT_ID = 10L;
+    private static final String FREEBIE_ID = "F001";
+    private static final Integer POINTS_CERTIFICATE = 25; // Asumido de la entidad Pass
+    private static final Integer POINTS_SPECIAL_ACCESS = 30; // Asumido de la entidad Pass
+
+    @Mock private PassRepository passRepository;
+    @Mock private ParticipantRepository participantRepository;
+    @Mock private CertificateRepository certificateRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    // FreebieRepository no se usa en la lógica, pero se mockea por RequiredArgsConstructor
+    @Mock private FreebieRepository freebieRepository;
+    @Mock private PointsLeaderboard leaderboard;
+
+    // Ejecutor real con un PlatformTransactionManager mock: cada intento corre sin transacción real
+    @Spy
+    private OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 3, 0, 0);
+
+    @InjectMocks
+    private PassPointsEventHandler eventHandler;
+
+    private Pass activePass;
+    private Participant testParticipant;
+
+    @BeforeEach
+    void setUp() {
+        activePass = new Pass();
+        activePass.setPassId(PASS_ID);
+        activePass.setParticipantId(PARTICIPANT_ID);
+        activePass.setStatus(Pass.PassStatus.ACTIVE);
+        activePass.setPointsBalance(10); // Balance inicial para los tests
+        activePass.setPointsCertificate(POINTS_CERTIFICATE);
+        activePass.setPointsSpecialAccess(POINTS_SPECIAL_ACCESS);
+
+        testParticipant = new Participant();
+        testParticipant.setParticipantId(PARTICIPANT_ID);
+        testParticipant.setName("Jane");
+        testParticipant.setLastName("Doe");
+        testParticipant.setEmail("jane.doe@example.com");
+
+        // Mockear el factory method de Certificate para evitar llamadas a su lógica interna
+        try (MockedStatic<Certificate> mockedCertificate = mockStatic(Certificate.class)) {
+            mockedCertificate.when(() -> Certificate.create(any(), any(), any(), any(), any()))
+                    .thenAnswer(invocation -> new Certificate());
+        } catch (Exception e) {
+            // Ignorar excepción si Mockito no soporta static mocking fácilmente
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Test: handleAssistanceRegistered (Sumar Puntos)
+    // -------------------------------------------------------------------------
+
+    @Test
+    void handleAssistanceRegistered_shouldSumPointsSuccessfully() {
+        // Given
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 5);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID)).thenReturn(Optional.of(balanceView(15)));
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then
+        // La suma se hace con un UPDATE atómico: nunca se lee ni se guarda la entidad completa
+        verify(passRepository).addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class));
+        verify(passRepository, never()).findById(anyLong());
+        verify(passRepository, never()).save(any(Pass.class));
+
+        // Verificamos que no se publiquen eventos de logros (ya que 15 < 25)
+        verify(passRepository, never()).markCertificateReached(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+
+        // El leaderboard recibe el balance devuelto por el UPDATE
+        verify(leaderboard).update(balanceView(15));
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldRecordAppliedAssistanceWithThePoints() {
+        // Given: el evento trae el id de la asistencia en MongoDB
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent("A1", PASS_ID, "C1", "Keynote", 5);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID)).thenReturn(Optional.of(balanceView(15)));
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then: registrada en asistencias_aplicadas en la misma unidad que el UPDATE del balance,
+        // así processAssistancePointsJob no vuelve a sumarla
+        InOrder inOrder = inOrder(retryExecutor, passRepository);
+        inOrder.verify(retryExecutor).execute(eq("pass.addPoints"), any());
+        inOrder.verify(passRepository).addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class));
+        inOrder.verify(passRepository).recordAppliedAssistance(eq("A1"), eq(PASS_ID), eq(5), any(LocalDateTime.class));
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldRetryOnLockConflict() {
+        // Given: el primer UPDATE pierde contra otra transacción (deadlock / lock timeout)
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 5);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class)))
+                .thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID)).thenReturn(Optional.of(balanceView(15)));
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then
+        verify(passRepository, times(2)).addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class));
+        verify(passRepository).findBalanceViewByPassId(PASS_ID);
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldPropagateConflictToPublisherTransaction() {
+        // Given: quien publica el evento tiene una transacción abierta y el UPDATE
+        // choca por versión con otra transacción
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 5);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Pass.class, PASS_ID));
+
+        // When / Then: se une a la transacción del publicador en un solo intento y el
+        // conflicto llega a quien la abrió, que es quien reintenta
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(ObjectOptimisticLockingFailureException.class,
+                    () -> eventHandler.handleAssistanceRegistered(event));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(passRepository, times(1)).addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class));
+        verify(leaderboard, never()).update(any(PassBalanceView.class));
+    }
+
+    @Test
+    void handleExchangeRegistered_shouldPropagateConflictToPublisherTransaction() {
+        // Given
+        ExchangeRegisteredEvent event = new ExchangeRegisteredEvent(PASS_ID, "F1", "Taza", 5);
+
+        when(passRepository.usePoints(eq(PASS_ID), eq(5), any(LocalDateTime.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Pass.class, PASS_ID));
+
+        // When / Then
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(ObjectOptimisticLockingFailureException.class,
+                    () -> eventHandler.handleExchangeRegistered(event));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // El conflicto no es un fallo del intercambio: no se publica ExchangeFailedEvent
+        verify(passRepository, times(1)).usePoints(eq(PASS_ID), eq(5), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishEvent(any(ExchangeFailedEvent.class));
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldNotSumPointsIfPassIsNotActive() {
+        // Given
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 5);
+
+        // El UPDATE condicional no afecta filas cuando el Pass no está activo
+        when(passRepository.addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class))).thenReturn(0);
+
+        // When / Then: el fallo llega a quien publicó el evento, que deja la asistencia PENDIENTE
+        assertThrows(IllegalStateException.class, () -> eventHandler.handleAssistanceRegistered(event));
+
+        verify(passRepository, never()).recordAppliedAssistance(any(), anyLong(), anyInt(), any());
+        verify(passRepository, never()).findBalanceViewByPassId(anyLong());
+        verify(passRepository, never()).save(any(Pass.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    // -------------------------------------------------------------------------
+    // Test: Logros Desbloqueados
+    // -------------------------------------------------------------------------
+
+    @Test
+    void handleAssistanceRegistered_shouldReachCertificateAchievement() {
+        // Given: balance 10 + 15 = 25
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 15);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(15), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID))
+                .thenReturn(Optional.of(balanceView(POINTS_CERTIFICATE)));
+        when(passRepository.markCertificateReached(PASS_ID)).thenReturn(1);
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then
+        verify(passRepository).markCertificateReached(PASS_ID);
+        verify(passRepository, never()).markSpecialAccessReached(anyLong());
+        verify(eventPublisher).publishEvent(any(CertificateEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(ExchangeFailedEvent.class));
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldRetryBalanceAndAchievementsAsOneUnit() {
+        // Given: el UPDATE del certificado choca con otra transacción
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 15);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(15), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID))
+                .thenReturn(Optional.of(balanceView(POINTS_CERTIFICATE)));
+        when(passRepository.markCertificateReached(PASS_ID))
+                .thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .thenReturn(1);
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then: el reintento vuelve a sumar los puntos (el primer intento se deshizo completo)
+        verify(passRepository, times(2)).addPoints(eq(PASS_ID), eq(15), any(LocalDateTime.class));
+        verify(passRepository, times(2)).markCertificateReached(PASS_ID);
+        verify(eventPublisher).publishEvent(any(CertificateEvent.class));
+        verify(leaderboard).update(balanceView(POINTS_CERTIFICATE));
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldNotPublishCertificateEventIfAlreadyReached() {
+        // Given: ya alcanzó el certificado, 25 + 5 = 30 (alcanza acceso especial)
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 5);
+        PassBalanceView view = new PassBalanceView(PASS_ID, PARTICIPANT_ID, POINTS_CERTIFICATE + 5,
+                POINTS_CERTIFICATE, POINTS_SPECIAL_ACCESS,
+                Pass.CertificateStatus.REACHED, Pass.AccessStatus.NOT_REACHED, 2L);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID)).thenReturn(Optional.of(view));
+        when(passRepository.markSpecialAccessReached(PASS_ID)).thenReturn(1);
+        when(participantRepository.findById(PARTICIPANT_ID)).thenReturn(Optional.of(testParticipant));
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then
+        // Se alcanzó el Acceso Especial (30 puntos)
+        verify(passRepository).markSpecialAccessReached(PASS_ID);
+        verify(eventPublisher).publishEvent(any(SpecialAccessEvent.class));
+
+        // Regla principal del test: no publicar evento duplicado
+        verify(passRepository, never()).markCertificateReached(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(CertificateEvent.class));
+    }
+
+    @Test
+    void handleAssistanceRegistered_shouldNotPublishCertificateEventIfConcurrentEventWon() {
+        // Given: dos escaneos concurrentes cruzan el umbral; este pierde el UPDATE condicional
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 15);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(15), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID))
+                .thenReturn(Optional.of(balanceView(POINTS_CERTIFICATE)));
+        when(passRepository.markCertificateReached(PASS_ID)).thenReturn(0);
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(CertificateEvent.class));
+    }
+
+    @Test
+    void shouldReachBothCertificateAndSpecialAccessAchievements() {
+        // Given: balance de 10. Sumamos 20. Nuevo Balance: 30. (Alcanza 25 y 30)
+        AssistanceRegisteredEvent event = new AssistanceRegisteredEvent(PASS_ID, "C1", "Keynote", 20);
+
+        when(passRepository.addPoints(eq(PASS_ID), eq(20), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID))
+                .thenReturn(Optional.of(balanceView(POINTS_SPECIAL_ACCESS)));
+        when(passRepository.markCertificateReached(PASS_ID)).thenReturn(1);
+        when(passRepository.markSpecialAccessReached(PASS_ID)).thenReturn(1);
+        when(participantRepository.findById(PARTICIPANT_ID)).thenReturn(Optional.of(testParticipant));
+
+        // When
+        eventHandler.handleAssistanceRegistered(event);
+
+        // Then
+        verify(eventPublisher).publishEvent(any(CertificateEvent.class));
+        verify(eventPublisher).publishEvent(any(SpecialAccessEvent.class));
+    }
+
+    // -------------------------------------------------------------------------
+    // Test: handleExchangeRegistered (Descontar Puntos)
+    // -------------------------------------------------------------------------
+
+    @Test
+    void handleExchangeRegistered_shouldUsePointsSuccessfully() {
+        // Given
+        ExchangeRegisteredEvent event = new ExchangeRegisteredEvent(PASS_ID, FREEBIE_ID, "USB", 5);
+
+        when(passRepository.usePoints(eq(PASS_ID), eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(passRepository.findBalanceViewByPassId(PASS_ID)).thenReturn(Optional.of(balanceView(5)));
+
+        // When
+        eventHandler.handleExchangeRegistered(event);
+
+        // Then
+        verify(passRepository, never()).save(any(Pass.class));
+        verify(eventPublisher, never()).publishEvent(any(ExchangeFailedEvent.class));
+        verify(leaderboard).update(balanceView(5));
+    }
+
+    @Test
+    void handleExchangeRegistered_shouldPublishFailureWhenBalanceIsInsufficient() {
+        // Given
+        ExchangeRegisteredEvent event = new ExchangeRegisteredEvent(PASS_ID, FREEBIE_ID, "USB", 50);
+
+        // El guard balance >= costo del UPDATE no afecta filas
+        when(passRepository.usePoints(eq(PASS_ID), eq(50), any(LocalDateTime.class))).thenReturn(0);
+        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
+
+        // When
+        eventHandler.handleExchangeRegistered(event);
+
+        // Then
+        ArgumentCaptor<ExchangeFailedEvent> failedCaptor = ArgumentCaptor.forClass(ExchangeFailedEvent.class);
+        verify(eventPublisher).publishEvent(failedCaptor.capture());
+        assertTrue(failedCaptor.getValue().getReason().contains("Puntos insuficientes"));
+        verify(passRepository, never()).findBalanceViewByPassId(anyLong());
+        verifyNoInteractions(leaderboard);
+    }
+
+    private PassBalanceView balanceView(Integer newBalance) {
+        return new PassBalanceView(PASS_ID, PARTICIPANT_ID, newBalance,
+                POINTS_CERTIFICATE, POINTS_SPECIAL_ACCESS,
+                Pass.CertificateStatus.NOT_REACHED, Pass.AccessStatus.NOT_REACHED, 1L);
+    }
+
+    // -------------------------------------------------------------------------
+    // Test: handleCertificateAchieved (Crear Certificado)
+    // -------------------------------------------------------------------------
+
+    @Test
+    void handleCertificateAchieved_shouldCreateCertificateSuccessfully() {
+        // Given
+        CertificateEvent event = new CertificateEvent(PASS_ID);
+        Certificate mockSavedCertificate = new Certificate();
+        mockSavedCertificate.setCertificateId(99L); // ID simulado después de guardar
+
+        when(certificateRepository.existsByPassId(PASS_ID)).thenReturn(false);
+        when(passRepository.findById(PASS_ID)).thenReturn(Optional.of(activePass));
+        when(participantRepository.findById(PARTICIPANT_ID)).thenReturn(Optional.of(testParticipant));
+        when(certificateRepository.save(any(Certificate.class))).thenReturn(mockSavedCertificate);
+
+        // When
+        eventHandler.handleCertificateAchieved(event);
+
+        // Then
+        verify(certificateRepository).existsByPassId(PASS_ID);
+        verify(passRepository).findById(PASS_ID);
+        verify(participantRepository).findById(PARTICIPANT_ID);
+
+        // Verifica que se llamó al guardado del certificado
+        verify(certificateRepository).save(any(Certificate.class));
+        // Nota: Se asume que Certificate.create() es mockeado o no falla
+    }
+
+    @Test
+    void handleCertificateAchieved_shouldReturnIfCertificateAlreadyExists() {
+        // Given
+        CertificateEvent event = new CertificateEvent(PASS_ID);
+        when(certificateRepository.existsByPassId(PASS_ID)).thenReturn(true);
+
+        // When
+        eventHandler.handleCertificateAchieved(event);
+
+        // Then
+        // Ningún otro repositorio o evento debe ser llamado
+        verify(certificateRepository).existsByPassId(PASS_ID);
+        verify(passRepository, never()).findById(anyLong());
+        verify(certificateRepository, never()).save(any(Certificate.class));
+    }
+
+    @Test
+    void handleCertificateAchieved_shouldHandlePassNotFoundException() {
+        // Given
+        CertificateEvent event = new CertificateEvent(PASS_ID);
+        when(certificateRepository.existsByPassId(PASS_ID)).thenReturn(false);
+        when(passRepository.findById(PASS_ID)).thenReturn(Optional.empty());
+
+        // When
+        // La excepción es atrapada dentro del handler, por lo que no se lanza al test.
+        eventHandler.handleCertificateAchieved(event);
+
+        // Then
+        verify(passRepository).findById(PASS_ID);
+        verify(participantRepository, never()).findById(anyLong());
+        verify(certificateRepository, never()).save(any(Certificate.class));
+        // La excepción se maneja, el test pasa si no se lanza nada.
+    }
+}
@@ -0,0 +1,65 @@
+package com.proyecto.congreso.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPageTest {
+
+    @Test
+    void of_shouldDropExtraRowAndEmitTokenForLastItem() {
+        // Given: se pidieron size + 1 filas
+        List<Long> rows = List.of(10L, 11L, 12L);
+
+        // When
+        KeysetPage<Long> page = KeysetPage.of(rows, 2, id -> id);
+
+        // Then
+        assertEquals(List.of(10L, 11L), page.items());
+        assertEquals(11L, KeysetPage.decodeLongToken(page.nextPageToken()));
+    }
+
+    @Test
+    void of_shouldNotEmitTokenOnLastPage() {
+        KeysetPage<Long> page = KeysetPage.of(List.of(10L, 11L), 2, id -> id);
+
+        assertEquals(2, page.items().size());
+        assertNull(page.nextPageToken());
+    }
+
+    @Test
+    void pageSize_shouldDefaultAndCap() {
+        assertEquals(KeysetPage.DEFAULT_SIZE, KeysetPage.pageSize(null));
+        assertEquals(20, KeysetPage.pageSize(20));
+        assertEquals(KeysetPage.MAX_SIZE, KeysetPage.pageSize(KeysetPage.MAX_SIZE * 10));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.pageSize(0));
+    }
+
+    @Test
+    void decode_shouldStartFromBeginningWithoutToken() {
+        assertEquals(0L, KeysetPage.decodeLongToken(null));
+        assertEquals(KeysetPage.MAX_OBJECT_ID, KeysetPage.decodeObjectIdToken(""));
+    }
+
+    @Test
+    void decode_shouldRejectTamperedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.decodeLongToken("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.decodeLongToken("MTIz")); // "123" sin prefijo
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetPage.decodeLongToken(KeysetPage.encodeToken("abc")));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetPage.decodeObjectIdToken(KeysetPage.encodeToken("no-es-object-id")));
+    }
+
+    @Test
+    void map_shouldKeepToken() {
+        KeysetPage<Long> page = new KeysetPage<>(List.of(1L, 2L), "t");
+
+        KeysetPage<String> mapped = page.map(String::valueOf);
+
+        assertEquals(List.of("1", "2"), mapped.items());
+        assertEquals("t", mapped.nextPageToken());
+    }
+}
@@ -0,0 +1,187 @@
+package com.proyecto.congreso.shared;
+
+import com.proyecto.congreso.notification.model.MovementPointsLog;
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.pases.batch.model.AssistanceDeadLetter;
+import com.proyecto.congreso.pases.batch.model.BatchJobExecutionLog;
+import com.proyecto.congreso.pases.model.PassSummary;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.exchange.model.Exchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexBootstrapTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private MongoIndexBootstrap bootstrap;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.setInitialEntitySet(Set.of(Notification.class, MovementPointsLog.class, Asistencia.class,
+                Exchange.class, BatchJobExecutionLog.class, PassSummary.class, AssistanceDeadLetter.class));
+        mappingContext.afterPropertiesSet();
+
+        lenient().when(mongoTemplate.getConverter())
+                .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+
+        bootstrap = new MongoIndexBootstrap(mongoTemplate, 60_000);
+    }
+
+    @Test
+    void ensureIndexes_shouldCreateEveryDeclaredIndex() {
+        // Given
+        when(mongoTemplate.indexOps(anyString())).thenReturn(indexOperations);
+
+        // When
+        MongoIndexBootstrap.Report report = bootstrap.ensureIndexes();
+
+        // Then
+        assertTrue(report.total() > 0);
+        assertEquals(report.total(), report.ensured());
+        assertTrue(report.failed().isEmpty());
+        verify(indexOperations, times(report.total())).createIndex(any(IndexDefinition.class));
+
+        ArgumentCaptor<IndexDefinition> definitions = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, atLeastOnce()).createIndex(definitions.capture());
+        IndexDefinition unique = definitions.getAllValues().stream()
+                .filter(d -> "pass_conferencia_unique_idx".equals(d.getIndexOptions().get("name")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Boolean.TRUE, unique.getIndexOptions().get("unique"));
+        verify(mongoTemplate, atLeastOnce()).indexOps("asistencias");
+    }
+
+    @Test
+    void ensureIndexes_shouldContinueWhenAnIndexFails() {
+        // Given: el índice único choca con datos duplicados
+        when(mongoTemplate.indexOps(anyString())).thenReturn(indexOperations);
+        when(indexOperations.createIndex(any(IndexDefinition.class))).thenAnswer(invocation -> {
+            IndexDefinition definition = invocation.getArgument(0);
+            if ("pass_conferencia_unique_idx".equals(definition.getIndexOptions().get("name"))) {
+                throw new UncategorizedMongoDbException("E11000 duplicate key error", null);
+            }
+            return definition.getIndexOptions().getString("name");
+        });
+
+        // When
+        MongoIndexBootstrap.Report report = bootstrap.ensureIndexes();
+
+        // Then
+        assertEquals(List.of("asistencias.pass_conferencia_unique_idx"), report.failed());
+        assertEquals(report.total() - 1, report.ensured());
+        verify(indexOperations, times(report.total())).createIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldFailStartupWhenAnIndexFails() {
+        // Given
+        when(mongoTemplate.indexOps(anyString())).thenReturn(indexOperations);
+        when(indexOperations.createIndex(any(IndexDefinition.class))).thenAnswer(invocation -> {
+            IndexDefinition definition = invocation.getArgument(0);
+            if ("pass_conferencia_unique_idx".equals(definition.getIndexOptions().get("name"))) {
+                throw new UncategorizedMongoDbException("E11000 duplicate key error", null);
+            }
+            return definition.getIndexOptions().getString("name");
+        });
+
+        // When / Then: se intentan todos antes de detener el arranque
+        IllegalStateException error = assertThrows(IllegalStateException.class, bootstrap::afterSingletonsInstantiated);
+        assertTrue(error.getMessage().contains("asistencias.pass_conferencia_unique_idx"));
+        verify(indexOperations, times(bootstrap.resolveIndexes().size())).createIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void dropRetiredIndexes_shouldDropOnlyRetiredIndexesThatExist() {
+        // Given
+        IndexOperations notifications = mock(IndexOperations.class);
+        IndexOperations movementLogs = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps("notifications")).thenReturn(notifications);
+        when(mongoTemplate.indexOps("movement_logs")).thenReturn(movementLogs);
+        when(notifications.getIndexInfo()).thenReturn(List.of(indexInfo("_id_"), indexInfo("type_idx")));
+        when(movementLogs.getIndexInfo()).thenReturn(List.of(indexInfo("_id_"), indexInfo("pass_id_idx")));
+
+        // When
+        bootstrap.dropRetiredIndexes();
+
+        // Then
+        verify(notifications).dropIndex("type_idx");
+        verify(notifications, never()).dropIndex("channel_idx");
+        verify(movementLogs, never()).dropIndex(anyString());
+    }
+
+    @Test
+    void lowCardinalityFieldsShouldNotHaveSingleFieldIndexes() {
+        // Given
+        Set<String> lowCardinality = Set.of("status", "type", "channel", "movementType", "points");
+
+        // Then
+        List<String> singleField = bootstrap.resolveIndexes().stream()
+                .filter(index -> index.definition().getIndexKeys().size() == 1)
+                .filter(index -> lowCardinality.contains(index.definition().getIndexKeys().keySet().iterator().next()))
+                .map(MongoIndexBootstrap.PlannedIndex::qualifiedName)
+                .toList();
+        assertTrue(singleField.isEmpty(), "Índices de un solo campo de baja cardinalidad: " + singleField);
+    }
+
+    @Test
+    void everyRepositoryQueryShouldHaveAnIndex() {
+        // Given
+        List<MongoIndexBootstrap.PlannedIndex> planned = bootstrap.resolveIndexes();
+
+        // Then: cada consulta tiene al menos un índice cuyo primer campo aparece en el filtro
+        List<String> unindexed = new ArrayList<>();
+        for (MongoQueryShapes.Shape shape : MongoQueryShapes.ALL) {
+            String collection = collectionOf(shape.document());
+            Set<String> fields = shape.filter().keySet();
+
+            boolean indexed = fields.contains("_id") || planned.stream()
+                    .filter(index -> index.collection().equals(collection))
+                    .map(index -> index.definition().getIndexKeys().keySet().iterator().next())
+                    .anyMatch(fields::contains);
+            if (!indexed) {
+                unindexed.add(collection + "#" + shape.repositoryMethod() + " " + shape.filter().toJson());
+            }
+        }
+        assertTrue(unindexed.isEmpty(), "Consultas sin índice: " + unindexed);
+    }
+
+    private IndexInfo indexInfo(String name) {
+        return new IndexInfo(List.of(), name, false, false, null);
+    }
+
+    private String collectionOf(Class<?> document) {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        return mappingContext.getRequiredPersistentEntity(document).getCollection();
+    }
+}
@@ -0,0 +1,79 @@
+package com.proyecto.congreso.shared;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Corre explain() sobre cada consulta de MongoQueryShapes y falla si alguna termina en COLLSCAN.
+ * Necesita un MongoDB real (spring.data.mongodb.uri), por eso solo corre con -Dcongreso.mongo.explain=true:
+ *
+ *   mvn test -Dtest=MongoQueryPlanIntegrationTest -Dcongreso.mongo.explain=true
+ */
+@DataMongoTest
+@Import(MongoIndexBootstrap.class)
+@EnabledIfSystemProperty(named = "congreso.mongo.explain", matches = "true")
+class MongoQueryPlanIntegrationTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexBootstrap indexBootstrap;
+
+    @BeforeEach
+    void ensureIndexes() {
+        MongoIndexBootstrap.Report report = indexBootstrap.ensureIndexes();
+        assertTrue(report.failed().isEmpty(), "Índices fallidos: " + report.failed());
+    }
+
+    @Test
+    void repositoryQueriesShouldNotScanCollections() {
+        List<String> collectionScans = new ArrayList<>();
+
+        for (MongoQueryShapes.Shape shape : MongoQueryShapes.ALL) {
+            String collection = mongoTemplate.getCollectionName(shape.document());
+            Document explain = mongoTemplate.getCollection(collection)
+                    .find(shape.filter())
+                    .sort(shape.sort())
+                    .explain();
+
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            if (containsStage(winningPlan, "COLLSCAN")) {
+                collectionScans.add(collection + "#" + shape.repositoryMethod() + " " + winningPlan.toJson());
+            }
+        }
+
+        assertTrue(collectionScans.isEmpty(), "Consultas con COLLSCAN: " + collectionScans);
+    }
+
+    // Recorre el plan (stage / inputStage / inputStages / queryPlan en planes SBE)
+    private boolean containsStage(Document plan, String stage) {
+        if (plan == null) {
+            return false;
+        }
+        if (stage.equals(plan.getString("stage"))) {
+            return true;
+        }
+        if (containsStage(plan.get("inputStage", Document.class), stage)
+                || containsStage(plan.get("queryPlan", Document.class), stage)) {
+            return true;
+        }
+        for (Document input : plan.getList("inputStages", Document.class, List.of())) {
+            if (containsStage(input, stage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,154 @@
+package com.proyecto.congreso.shared;
+
+import com.proyecto.congreso.notification.model.MovementPointsLog;
+import com.proyecto.congreso.notification.model.Notification;
+import com.proyecto.congreso.pases.batch.model.AssistanceDeadLetter;
+import com.proyecto.congreso.pases.batch.model.BatchJobExecutionLog;
+import com.proyecto.congreso.pases.model.PassSummary;
+import com.proyecto.congreso.points.assistance.model.Asistencia;
+import com.proyecto.congreso.points.exchange.model.Exchange;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Forma (filtro + orden) de cada consulta de los repositorios de MongoDB.
+ * Al agregar un método a un repositorio, agregar aquí su forma para que los tests
+ * de índices la cubran.
+ *
+ * LOW_CARDINALITY_SCANS son consultas administrativas que solo filtran por un campo con
+ * pocos valores (status, type, rango de puntos): no llevan índice propio a propósito.
+ */
+final class MongoQueryShapes {
+
+    record Shape(String repositoryMethod, Class<?> document, Document filter, Document sort) {
+
+        Shape(String repositoryMethod, Class<?> document, Document filter) {
+            this(repositoryMethod, document, filter, new Document());
+        }
+    }
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 3, 8, 0, 0);
+    private static final ObjectId MAX_ID = new ObjectId(KeysetPage.MAX_OBJECT_ID);
+
+    static final List<Shape> ALL = List.of(
+            // NotificationRepository
+            new Shape("findByParticipantIdAndStatus", Notification.class,
+                    new Document("participantId", 1L).append("status", "PENDING")),
+            new Shape("findByParticipantIdAndDateRange", Notification.class,
+                    new Document("participantId", 1L).append("createdAt", range())),
+            new Shape("findPendingNotificationsAfter", Notification.class,
+                    new Document("status", "PENDING").append("createdAt", new Document("$gte", FROM))),
+            new Shape("countByStatus", Notification.class, new Document("status", "SENT")),
+            new Shape("findByStatus", Notification.class, new Document("status", "SENDING")),
+            new Shape("findByParticipantIdAndType", Notification.class,
+                    new Document("participantId", 1L).append("type", "ASSISTANCE")),
+            new Shape("findByChannel", Notification.class, new Document("channel", "EMAIL")),
+            new Shape("findByPassId", Notification.class, new Document("passId", 1L)),
+            new Shape("findByIdLessThanOrderByIdDesc", Notification.class,
+                    new Document("_id", new Document("$lt", MAX_ID)), new Document("_id", -1)),
+            new Shape("findByParticipantIdAndIdLessThanOrderByIdDesc", Notification.class,
+                    new Document("participantId", 1L).append("_id", new Document("$lt", MAX_ID)),
+                    new Document("_id", -1)),
+            new Shape("findByPassIdAndIdLessThanOrderByIdDesc", Notification.class,
+                    new Document("passId", 1L).append("_id", new Document("$lt", MAX_ID)), new Document("_id", -1)),
+            new Shape("findDueForRetry", Notification.class,
+                    new Document("status", new Document("$in", List.of("PENDING", "FAILED")))
+                            .append("attemptCount", new Document("$not", new Document("$gte", 5)))
+                            .append("$or", List.of(new Document("nextAttemptAt", null),
+                                    new Document("nextAttemptAt", new Document("$lte", TO))))),
+            // dispatchNotificationsJob (DueNotificationCursorReader; reclamo y resultado por _id)
+            new Shape("DueNotificationCursorReader", Notification.class,
+                    new Document("channel", new Document("$in", Arrays.asList("EMAIL", null)))
+                            .append("status", new Document("$in", List.of("PENDING", "RETRY", "FAILED")))
+                            .append("$or", List.of(new Document("status", "PENDING"),
+                                    new Document("attemptCount", new Document("$not", new Document("$gte", 5)))
+                                            .append("$or", List.of(new Document("nextAttemptAt", null),
+                                                    new Document("nextAttemptAt", new Document("$lte", TO))))))),
+            // NotificationClaims.releaseStale (reclamos vencidos)
+            new Shape("releaseStale", Notification.class,
+                    new Document("status", "SENDING").append("claimedAt", new Document("$lt", FROM))),
+            // AuditExportService
+            new Shape("exportNotifications", Notification.class,
+                    new Document("createdAt", range()), new Document("createdAt", 1)),
+
+            // MovementPointsLogRepository
+            new Shape("findByPassIdAndTimestampBetween", MovementPointsLog.class,
+                    new Document("passId", 1L).append("timestamp", range())),
+            new Shape("findByParticipantIdAndTimestampBetween", MovementPointsLog.class,
+                    new Document("participantId", 1L).append("timestamp", range())),
+            new Shape("findByPassIdAndIdLessThanOrderByIdDesc", MovementPointsLog.class,
+                    new Document("passId", 1L).append("_id", new Document("$lt", MAX_ID)), new Document("_id", -1)),
+            new Shape("findByParticipantIdAndIdLessThanOrderByIdDesc", MovementPointsLog.class,
+                    new Document("participantId", 1L).append("_id", new Document("$lt", MAX_ID)),
+                    new Document("_id", -1)),
+            new Shape("findByTimestampBetween", MovementPointsLog.class, new Document("timestamp", range())),
+            // NotificationClaims.releaseStale (reclamos vencidos)
+            new Shape("releaseStale", Notification.class,
+                    new Document("status", "SENDING").append("claimedAt", new Document("$lt", FROM))),
+            // AuditExportService
+            new Shape("exportMovementLogs", MovementPointsLog.class,
+                    new Document("timestamp", range()), new Document("timestamp", 1)),
+            new Shape("countByMovementType", MovementPointsLog.class, new Document("movementType", "ASSISTANCE")),
+            new Shape("findByMovementType", MovementPointsLog.class, new Document("movementType", "ASSISTANCE")),
+
+            // AsistenciaRepository y PendingAssistanceKeysetReader
+            new Shape("sumPuntosProcesadosByPass", Asistencia.class,
+                    new Document("passId", 1L).append("status", "PROCESADA")),
+            new Shape("sumPuntosProcesadosByPassIn", Asistencia.class,
+                    new Document("passId", new Document("$in", List.of(1L, 2L))).append("status", "PROCESADA")),
+            new Shape("findCheckInKeys", Asistencia.class,
+                    new Document("passId", new Document("$in", List.of(1L, 2L)))
+                            .append("conferenciaId", new Document("$in", List.of("1", "2")))),
+            new Shape("findByConferenciaId", Asistencia.class, new Document("conferenciaId", "1")),
+            new Shape("findByParticipantId", Asistencia.class, new Document("participantId", 1L)),
+            new Shape("findByFechaAsistenciaBetween", Asistencia.class, new Document("fechaAsistencia", range())),
+            new Shape("PendingAssistanceKeysetReader", Asistencia.class,
+                    new Document("status", "PENDIENTE").append("_id", new Document("$gt", "0")),
+                    new Document("_id", 1)),
+
+            // ExchangeRepository
+            new Shape("existsByPassIdAndFreebieId", Exchange.class,
+                    new Document("passId", 1L).append("freebieId", "1")),
+            new Shape("sumPuntosReducidosByPass", Exchange.class, new Document("passId", 1L)),
+            new Shape("sumPuntosReducidosByPassIn", Exchange.class,
+                    new Document("passId", new Document("$in", List.of(1L, 2L)))),
+            new Shape("findByFreebieId", Exchange.class, new Document("freebieId", "1")),
+            new Shape("findByParticipantId", Exchange.class, new Document("participantId", 1L)),
+
+            // PassSummaryProjector y rebuildPassSummaryJob (el resto de lecturas es por _id)
+            new Shape("refreshPassSnapshot", PassSummary.class,
+                    new Document("_id", 1L).append("passVersion", new Document("$not", new Document("$gte", 1L)))),
+            new Shape("purgeStalePassSummary", PassSummary.class,
+                    new Document("updatedAt", new Document("$lt", TO))),
+
+            // BatchJobExecutionLogRepository
+            new Shape("findByJobExecutionId", BatchJobExecutionLog.class, new Document("jobExecutionId", 1L)),
+            new Shape("findByJobName", BatchJobExecutionLog.class, new Document("jobName", "calculatePointsJob")),
+            new Shape("findByStatus", BatchJobExecutionLog.class, new Document("status", "FAILED")),
+            new Shape("findByStartTimeBetween", BatchJobExecutionLog.class, new Document("startTime", range())),
+
+            // AssistanceDeadLetterQueue (upserts por _id)
+            new Shape("requeuePage", AssistanceDeadLetter.class,
+                    new Document("status", "DEAD").append("attempts", new Document("$lt", 3)), new Document("_id", 1))
+    );
+
+    static final List<Shape> LOW_CARDINALITY_SCANS = List.of(
+            new Shape("findByType", Notification.class, new Document("type", "ASSISTANCE")),
+            new Shape("countByStatus", MovementPointsLog.class, new Document("status", "COMPLETED")),
+            new Shape("findByStatus", MovementPointsLog.class, new Document("status", "COMPLETED")),
+            new Shape("findByPoints", MovementPointsLog.class,
+                    new Document("points", new Document("$gte", 1).append("$lte", 10)))
+    );
+
+    private static Document range() {
+        return new Document("$gte", FROM).append("$lte", TO);
+    }
+
+    private MongoQueryShapes() {
+    }
+}
@@ -0,0 +1,125 @@
+package com.proyecto.congreso.shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OptimisticRetryExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new OptimisticRetryExecutor(transactionManager, meterRegistry, 3, 0, 0);
+    }
+
+    @Test
+    void shouldReturnResultWithoutRetryWhenNoConflict() {
+        String result = executor.execute("test.op", () -> "ok");
+
+        assertEquals("ok", result);
+        assertEquals(0.0, counter("pass.mutation.conflicts"));
+        // Cada intento abre su propia transacción
+        verify(transactionManager).getTransaction(argThat(def ->
+                def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void shouldRetryUntilSuccessAndCountConflicts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("test.op", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Pass", 1L);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2.0, counter("pass.mutation.conflicts"));
+        assertEquals(2.0, counter("pass.mutation.retries"));
+        assertEquals(0.0, counter("pass.mutation.giveups"));
+        verify(transactionManager, times(3)).getTransaction(any());
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                executor.run("test.op", () -> {
+                    calls.incrementAndGet();
+                    throw new ObjectOptimisticLockingFailureException("Pass", 1L);
+                }));
+
+        assertEquals(3, calls.get());
+        assertEquals(3.0, counter("pass.mutation.conflicts"));
+        assertEquals(2.0, counter("pass.mutation.retries"));
+        assertEquals(1.0, counter("pass.mutation.giveups"));
+    }
+
+    @Test
+    void shouldNotRetryNonConcurrencyErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+                executor.run("test.op", () -> {
+                    calls.incrementAndGet();
+                    throw new DataIntegrityViolationException("duplicate");
+                }));
+
+        assertEquals(1, calls.get());
+        assertEquals(0.0, counter("pass.mutation.conflicts"));
+    }
+
+    @Test
+    void shouldJoinActiveTransactionWithoutOpeningANewOne() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                    executor.run("test.op", () -> {
+                        throw new ObjectOptimisticLockingFailureException("Pass", 1L);
+                    }));
+            assertEquals("ok", executor.execute("test.op", () -> "ok"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Ni transacción propia ni reintentos: el reintento es de quien abrió la transacción
+        verifyNoInteractions(transactionManager);
+        assertEquals(0.0, counter("pass.mutation.retries"));
+    }
+
+    @Test
+    void backoffShouldStayWithinBounds() {
+        OptimisticRetryExecutor withBackoff =
+                new OptimisticRetryExecutor(transactionManager, meterRegistry, 10, 20, 100);
+
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long delay = withBackoff.backoff(attempt);
+            assertTrue(delay >= 0 && delay <= Math.min(100, 20L << (attempt - 1)),
+                    "delay fuera de rango en intento " + attempt + ": " + delay);
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).tag("operation", "test.op").counters().stream()
+                .mapToDouble(c -> c.count())
+                .sum();
+    }
+}
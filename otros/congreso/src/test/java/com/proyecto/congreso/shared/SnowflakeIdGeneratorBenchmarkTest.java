@@ -0,0 +1,91 @@
+package com.proyecto.congreso.shared;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark de SnowflakeIdGenerator: un hilo y luego un hilo por core compartiendo la
+ * misma instancia. Solo corre con -Dcongreso.benchmark=true:
+ *
+ *   mvn test -Dtest=SnowflakeIdGeneratorBenchmarkTest -Dcongreso.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "congreso.benchmark", matches = "true")
+class SnowflakeIdGeneratorBenchmarkTest {
+
+    private static final int WARMUP = 2_000_000;
+    private static final int IDS_PER_THREAD = 10_000_000;
+
+    @Test
+    void next_shouldGenerateMillionsOfIdsPerSecondOnOneCore() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        drain(generator, WARMUP);
+
+        // When
+        long startedAt = System.nanoTime();
+        long last = drain(generator, IDS_PER_THREAD);
+        long elapsedNs = System.nanoTime() - startedAt;
+
+        // Then
+        double idsPerSecond = IDS_PER_THREAD * 1e9 / elapsedNs;
+        System.out.printf("📊 1 hilo: %,d ids en %d ms = %,.0f ids/s (último ms %d)%n",
+                IDS_PER_THREAD, TimeUnit.NANOSECONDS.toMillis(elapsedNs), idsPerSecond,
+                SnowflakeIdGenerator.timestampOf(last));
+        assertTrue(idsPerSecond > 1_000_000, "Menos de 1M ids/s en un hilo: " + (long) idsPerSecond);
+    }
+
+    @Test
+    void next_shouldKeepIdsIncreasingPerThreadUnderContention() throws Exception {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        drain(generator, WARMUP);
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: cada hilo verifica que sus ids sean estrictamente crecientes
+        Future<?>[] results = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            results[t] = executor.submit(() -> {
+                start.await();
+                long previous = 0;
+                for (int i = 0; i < IDS_PER_THREAD / threads; i++) {
+                    long id = generator.next();
+                    if (id <= previous) {
+                        throw new IllegalStateException("id no creciente: " + id + " <= " + previous);
+                    }
+                    previous = id;
+                }
+                return null;
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        long elapsedNs = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // Then
+        long total = (long) (IDS_PER_THREAD / threads) * threads;
+        System.out.printf("📊 %d hilos: %,d ids en %d ms = %,.0f ids/s%n",
+                threads, total, TimeUnit.NANOSECONDS.toMillis(elapsedNs), total * 1e9 / elapsedNs);
+    }
+
+    private long drain(SnowflakeIdGenerator generator, int count) {
+        long last = 0;
+        for (int i = 0; i < count; i++) {
+            last = generator.next();
+        }
+        return last;
+    }
+}
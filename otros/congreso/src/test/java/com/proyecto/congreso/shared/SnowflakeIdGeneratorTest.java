@@ -0,0 +1,107 @@
+package com.proyecto.congreso.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void next_shouldEncodeTimestampAndNode() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, () -> NOW);
+
+        // When
+        long id = generator.next();
+
+        // Then
+        assertTrue(id > 0);
+        assertEquals(NOW, SnowflakeIdGenerator.timestampOf(id));
+        assertEquals(42, SnowflakeIdGenerator.nodeIdOf(id));
+    }
+
+    @Test
+    void next_shouldStayIncreasingWithinTheSameMillisecond() {
+        // Given: reloj detenido, más ids que secuencias en un ms
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        // When / Then: la secuencia acarrea al ms siguiente en lugar de repetirse
+        long previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.next();
+            assertTrue(id > previous, "id no creciente en la iteración " + i);
+            previous = id;
+        }
+        assertEquals(NOW + 2, SnowflakeIdGenerator.timestampOf(previous));
+    }
+
+    @Test
+    void next_shouldStayIncreasingWhenTheClockGoesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+        long before = generator.next();
+
+        // When
+        clock.set(NOW - 5_000);
+        long after = generator.next();
+
+        // Then
+        assertTrue(after > before);
+        assertEquals(NOW, SnowflakeIdGenerator.timestampOf(after));
+    }
+
+    @Test
+    void next_shouldNotCollideAcrossNodesInTheSameMillisecond() {
+        // Given
+        SnowflakeIdGenerator nodeA = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator nodeB = new SnowflakeIdGenerator(2, () -> NOW);
+
+        // When / Then
+        assertNotEquals(nodeA.next(), nodeB.next());
+    }
+
+    @Test
+    void next_shouldBeUniqueAcrossThreads() throws Exception {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.next());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void constructor_shouldRejectNodeOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}